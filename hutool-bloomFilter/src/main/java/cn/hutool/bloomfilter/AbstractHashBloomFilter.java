@@ -0,0 +1,176 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 基于双重哈希的布隆过滤器抽象实现<br>
+ * 与{@link BitSetBloomFilter}每个Hash函数单独计算不同，此类对每个元素只计算一次128位的MurmurHash，
+ * 得到h1和h2两个64位值，第i个Hash值通过{@code h1 + i * h2}得出（Kirsch-Mitzenmacher方法），在误判率上与独立Hash函数等价。<br>
+ * 除字符串外，支持直接使用{@code byte[]}和{@code long}作为元素，避免构建字符串的开销。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public abstract class AbstractHashBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * long元素计算第二个Hash值时使用的扰动值
+	 */
+	private static final long LONG_SEED = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * 字符串使用UTF-8编码后加入
+	 *
+	 * @param str 字符串
+	 * @return 是否加入成功，如果存在就返回{@code false} .如果不存在返回{@code true}
+	 */
+	@Override
+	public boolean add(String str) {
+		return add(StrUtil.utf8Bytes(str));
+	}
+
+	/**
+	 * 字符串使用UTF-8编码后判断
+	 *
+	 * @param str 字符串
+	 * @return 是否可能包含，存在误判
+	 */
+	@Override
+	public boolean contains(String str) {
+		return contains(StrUtil.utf8Bytes(str));
+	}
+
+	/**
+	 * 加入bytes元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否加入成功，如果存在就返回{@code false} .如果不存在返回{@code true}
+	 */
+	public boolean add(byte[] bytes) {
+		final long[] hash = hash(bytes);
+		return addHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 是否可能包含bytes元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否可能包含，存在误判
+	 */
+	public boolean contains(byte[] bytes) {
+		final long[] hash = hash(bytes);
+		return containsHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 加入long元素，不转换为bytes，直接通过混淆函数计算Hash
+	 *
+	 * @param value 元素
+	 * @return 是否加入成功，如果存在就返回{@code false} .如果不存在返回{@code true}
+	 */
+	public boolean add(long value) {
+		final long[] hash = hash(value);
+		return addHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 是否可能包含long元素
+	 *
+	 * @param value 元素
+	 * @return 是否可能包含，存在误判
+	 */
+	public boolean contains(long value) {
+		final long[] hash = hash(value);
+		return containsHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 通过两个Hash值加入元素
+	 *
+	 * @param hash1 第一个Hash值
+	 * @param hash2 第二个Hash值
+	 * @return 是否加入成功，如果存在就返回{@code false} .如果不存在返回{@code true}
+	 */
+	protected abstract boolean addHash(long hash1, long hash2);
+
+	/**
+	 * 通过两个Hash值判断元素是否可能存在
+	 *
+	 * @param hash1 第一个Hash值
+	 * @param hash2 第二个Hash值
+	 * @return 是否可能包含，存在误判
+	 */
+	protected abstract boolean containsHash(long hash1, long hash2);
+
+	/**
+	 * 计算bytes元素的两个Hash值，即128位MurmurHash的高低64位
+	 *
+	 * @param bytes 元素
+	 * @return 两个Hash值
+	 */
+	protected static long[] hash(byte[] bytes) {
+		return MurmurHash.hash128(bytes);
+	}
+
+	/**
+	 * 计算long元素的两个Hash值，使用MurmurHash3的64位混淆函数
+	 *
+	 * @param value 元素
+	 * @return 两个Hash值
+	 */
+	protected static long[] hash(long value) {
+		return new long[]{mix64(value), mix64(value ^ LONG_SEED)};
+	}
+
+	/**
+	 * 计算第i个Hash对应的位置
+	 *
+	 * @param hash1 第一个Hash值
+	 * @param hash2 第二个Hash值
+	 * @param i     Hash序号
+	 * @param size  位数
+	 * @return 位置，范围为[0, size)
+	 */
+	protected static long index(long hash1, long hash2, int i, long size) {
+		return ((hash1 + i * hash2) & Long.MAX_VALUE) % size;
+	}
+
+	/**
+	 * 根据预计元素个数和误判率计算最优的位数，即：{@code -n * ln(p) / (ln2)^2}
+	 *
+	 * @param n   预计元素个数
+	 * @param fpp 误判率，范围(0, 1)
+	 * @return 位数
+	 */
+	public static long optimalNumOfBits(long n, double fpp) {
+		Assert.isTrue(n > 0, "Expected insertions must be > 0");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)");
+		return (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+	}
+
+	/**
+	 * 根据预计元素个数和位数计算最优的Hash函数个数，即：{@code m / n * ln2}
+	 *
+	 * @param n 预计元素个数
+	 * @param m 位数
+	 * @return Hash函数个数，最少为1
+	 */
+	public static int optimalNumOfHashFunctions(long n, long m) {
+		return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
+
+	/**
+	 * MurmurHash3的64位混淆函数
+	 *
+	 * @param z 值
+	 * @return 混淆后的值
+	 */
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return z ^ (z >>> 33);
+	}
+}
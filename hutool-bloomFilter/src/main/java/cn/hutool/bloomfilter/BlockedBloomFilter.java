@@ -0,0 +1,120 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 分块布隆过滤器（Blocked Bloom Filter）<br>
+ * 位数组划分为512位（8个long，即一个64字节缓存行）的块，每个元素的所有位都落在同一个块内：
+ * <ul>
+ *     <li>第一个Hash值决定块的位置，第二个Hash值决定块内的各个位</li>
+ *     <li>每次加入或查询只访问一个缓存行，避免普通布隆过滤器k次随机内存访问带来的缓存未命中</li>
+ * </ul>
+ * 由于元素在块间分布不完全均匀，相同位数下误判率略高于普通布隆过滤器，通常多分配约10%～20%的位即可弥补。<br>
+ * 此类非线程安全，多线程使用时需外部同步。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class BlockedBloomFilter extends AbstractHashBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每块的long个数
+	 */
+	private static final int BLOCK_WORDS = 8;
+	/**
+	 * 每块的位数
+	 */
+	private static final int BLOCK_BITS = BLOCK_WORDS << 6;
+
+	private final int numBlocks;
+	private final int numHashes;
+	private final long[] words;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 */
+	public BlockedBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalNumOfBits(expectedInsertions, fpp),
+				optimalNumOfHashFunctions(expectedInsertions, optimalNumOfBits(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param numBits   位数，按512位向上对齐
+	 * @param numHashes Hash函数个数
+	 */
+	public BlockedBloomFilter(long numBits, int numHashes) {
+		Assert.isTrue(numBits > 0, "Bit size must be > 0");
+		Assert.isTrue(numHashes > 0, "Hash function number must be > 0");
+		final long numBlocks = (numBits + BLOCK_BITS - 1) / BLOCK_BITS;
+		Assert.isTrue(numBlocks * BLOCK_WORDS <= Integer.MAX_VALUE, "Bit size too large: {}", numBits);
+		this.numBlocks = (int) numBlocks;
+		this.numHashes = numHashes;
+		this.words = new long[this.numBlocks * BLOCK_WORDS];
+	}
+
+	@Override
+	protected boolean addHash(long hash1, long hash2) {
+		final int base = blockBase(hash1);
+		final long step = (hash1 >>> 32) | 1;
+		boolean added = false;
+		int bit;
+		long mask;
+		for (int i = 0; i < numHashes; i++) {
+			bit = (int) (hash2 + i * step) & (BLOCK_BITS - 1);
+			mask = 1L << bit;
+			if (0 == (words[base + (bit >>> 6)] & mask)) {
+				words[base + (bit >>> 6)] |= mask;
+				added = true;
+			}
+		}
+		return added;
+	}
+
+	@Override
+	protected boolean containsHash(long hash1, long hash2) {
+		final int base = blockBase(hash1);
+		final long step = (hash1 >>> 32) | 1;
+		int bit;
+		for (int i = 0; i < numHashes; i++) {
+			bit = (int) (hash2 + i * step) & (BLOCK_BITS - 1);
+			if (0 == (words[base + (bit >>> 6)] & (1L << bit))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取位数
+	 *
+	 * @return 位数
+	 */
+	public long getBitSize() {
+		return (long) numBlocks * BLOCK_BITS;
+	}
+
+	/**
+	 * 获取Hash函数个数
+	 *
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return numHashes;
+	}
+
+	/**
+	 * 计算元素所在块的起始位置
+	 *
+	 * @param hash1 第一个Hash值
+	 * @return 块在long数组中的起始下标
+	 */
+	private int blockBase(long hash1) {
+		return (int) ((hash1 & Long.MAX_VALUE) % numBlocks) * BLOCK_WORDS;
+	}
+}
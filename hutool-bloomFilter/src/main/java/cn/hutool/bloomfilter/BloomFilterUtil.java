@@ -1,5 +1,7 @@
 package cn.hutool.bloomfilter;
 
+import java.io.File;
+
 /**
  * 布隆过滤器工具
  *
@@ -29,4 +31,75 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建可扩容的布隆过滤器，元素超过容量时自动增加子过滤器，并保持总体误判率
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望误判率，范围(0, 1)
+	 * @return ScalableBloomFilter
+	 * @since 5.8.42
+	 */
+	public static ScalableBloomFilter createScalable(long initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
+
+	/**
+	 * 创建支持删除元素的计数布隆过滤器
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 * @return CountingBloomFilter
+	 * @since 5.8.42
+	 */
+	public static CountingBloomFilter createCounting(long expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建按缓存行分块的布隆过滤器，每次查询只访问一个块
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 * @return BlockedBloomFilter
+	 * @since 5.8.42
+	 */
+	public static BlockedBloomFilter createBlocked(long expectedInsertions, double fpp) {
+		return new BlockedBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建线程安全的无锁布隆过滤器，可多线程并行加入元素
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 * @return ConcurrentBloomFilter
+	 * @since 5.8.42
+	 */
+	public static ConcurrentBloomFilter createConcurrent(long expectedInsertions, double fpp) {
+		return new ConcurrentBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 将布隆过滤器写出为二进制文件，可通过{@link #openMapped(File)}直接打开
+	 *
+	 * @param filter 布隆过滤器
+	 * @param file   目标文件
+	 * @return 目标文件
+	 * @since 5.8.42
+	 */
+	public static File write(ConcurrentBloomFilter filter, File file) {
+		return BloomFilterWriter.write(filter, file);
+	}
+
+	/**
+	 * 以内存映射方式打开布隆过滤器文件，位数组不复制到堆内存
+	 *
+	 * @param file 布隆过滤器文件
+	 * @return MappedBloomFilter
+	 * @since 5.8.42
+	 */
+	public static MappedBloomFilter openMapped(File file) {
+		return new MappedBloomFilter(file);
+	}
 }
@@ -0,0 +1,125 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * 布隆过滤器二进制文件写出器，写出的文件可通过{@link MappedBloomFilter}以内存映射方式直接打开。<br>
+ * 文件格式（大端序）：
+ * <pre>
+ * +---------------------------------------------------------------+
+ * | magic(4) "HTBF" | version(2) | hashType(2) | numHashes(4) | reserved(4) |
+ * | numBits(8)                                                    |
+ * | bits: numBits / 64 个long                                      |
+ * | checksum(8): header和bits的CRC32                               |
+ * +---------------------------------------------------------------+
+ * </pre>
+ * 头部长度为24字节，保证位数组按8字节对齐。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class BloomFilterWriter {
+
+	/**
+	 * 文件魔数："HTBF"
+	 */
+	public static final int MAGIC = 0x48544246;
+	/**
+	 * 文件格式版本
+	 */
+	public static final short VERSION = 1;
+	/**
+	 * Hash方式：128位MurmurHash双重哈希，见{@link AbstractHashBloomFilter}
+	 */
+	public static final short HASH_TYPE_MURMUR128 = 1;
+	/**
+	 * 头部长度
+	 */
+	public static final int HEADER_SIZE = 24;
+	/**
+	 * 尾部校验和长度
+	 */
+	public static final int CHECKSUM_SIZE = 8;
+
+	/**
+	 * 写出缓冲大小
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 将布隆过滤器写出到文件，文件已存在则覆盖<br>
+	 * 写出过程中不应再加入元素，否则写出的位数组可能只包含部分加入结果。
+	 *
+	 * @param filter 布隆过滤器
+	 * @param file   目标文件
+	 * @return 目标文件
+	 * @throws IORuntimeException IO异常
+	 */
+	public static File write(ConcurrentBloomFilter filter, File file) throws IORuntimeException {
+		OutputStream out = null;
+		try {
+			out = FileUtil.getOutputStream(file);
+			write(filter, out);
+		} finally {
+			IoUtil.close(out);
+		}
+		return file;
+	}
+
+	/**
+	 * 将布隆过滤器写出到流，不关闭流
+	 *
+	 * @param filter 布隆过滤器
+	 * @param out    输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public static void write(ConcurrentBloomFilter filter, OutputStream out) throws IORuntimeException {
+		final CRC32 crc = new CRC32();
+		final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		buffer.putInt(MAGIC)
+				.putShort(VERSION)
+				.putShort(HASH_TYPE_MURMUR128)
+				.putInt(filter.getHashFunctionNumber())
+				.putInt(0)
+				.putLong(filter.getBitSize());
+
+		try {
+			final int wordCount = filter.getWordCount();
+			for (int i = 0; i < wordCount; i++) {
+				if (false == buffer.hasRemaining()) {
+					flush(buffer, crc, out);
+				}
+				buffer.putLong(filter.getWord(i));
+			}
+			flush(buffer, crc, out);
+
+			buffer.putLong(crc.getValue());
+			out.write(buffer.array(), 0, buffer.position());
+			out.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 将缓冲中的数据写出并计算校验和
+	 *
+	 * @param buffer 缓冲
+	 * @param crc    校验和
+	 * @param out    输出流
+	 * @throws IOException IO异常
+	 */
+	private static void flush(ByteBuffer buffer, CRC32 crc, OutputStream out) throws IOException {
+		crc.update(buffer.array(), 0, buffer.position());
+		out.write(buffer.array(), 0, buffer.position());
+		buffer.clear();
+	}
+}
@@ -0,0 +1,306 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的无锁布隆过滤器<br>
+ * 与{@link BitMapBloomFilter}使用普通数组不同，此过滤器的位存储于{@link AtomicLongArray}中，置位使用CAS完成，
+ * 多线程同时加入元素不会丢失位，因此可以使用多个线程并行构建同一个过滤器。<br>
+ * 每个元素只计算一次128位MurmurHash，k个位置通过双重哈希得出。<br>
+ * 批量方法{@link #addAll(long[])}、{@link #containsAll(long[])}等先计算一批元素的Hash，再统一访问位数组，
+ * Hash计算与内存访问分为两个紧凑的循环，便于CPU乱序执行时重叠多次缓存未命中。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class ConcurrentBloomFilter extends AbstractHashBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 批量操作时每批计算Hash的元素个数
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	private final long numBits;
+	private final int numHashes;
+	private final AtomicLongArray words;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 */
+	public ConcurrentBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalNumOfBits(expectedInsertions, fpp),
+				optimalNumOfHashFunctions(expectedInsertions, optimalNumOfBits(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param numBits   位数，按64位向上对齐，最大为2^37
+	 * @param numHashes Hash函数个数
+	 */
+	public ConcurrentBloomFilter(long numBits, int numHashes) {
+		Assert.isTrue(numBits > 0, "Bit size must be > 0");
+		Assert.isTrue(numHashes > 0, "Hash function number must be > 0");
+		final long words = (numBits + 63) >>> 6;
+		Assert.isTrue(words <= Integer.MAX_VALUE, "Bit size too large: {}", numBits);
+		this.numBits = words << 6;
+		this.numHashes = numHashes;
+		this.words = new AtomicLongArray((int) words);
+	}
+
+	@Override
+	protected boolean addHash(long hash1, long hash2) {
+		boolean added = false;
+		for (int i = 0; i < numHashes; i++) {
+			if (setBit(index(hash1, hash2, i, numBits))) {
+				added = true;
+			}
+		}
+		return added;
+	}
+
+	@Override
+	protected boolean containsHash(long hash1, long hash2) {
+		long index;
+		for (int i = 0; i < numHashes; i++) {
+			index = index(hash1, hash2, i, numBits);
+			if (0 == (words.get((int) (index >>> 6)) & (1L << index))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// ---------------------------------------------------------------- batch
+
+	/**
+	 * 批量加入long元素
+	 *
+	 * @param values 元素
+	 * @return 新加入（加入前不存在）的元素个数
+	 */
+	public int addAll(long... values) {
+		final long[] hashes = new long[BATCH_SIZE << 1];
+		int count = 0;
+		int size;
+		long[] hash;
+		for (int from = 0; from < values.length; from += BATCH_SIZE) {
+			size = Math.min(BATCH_SIZE, values.length - from);
+			for (int j = 0; j < size; j++) {
+				hash = hash(values[from + j]);
+				hashes[j << 1] = hash[0];
+				hashes[(j << 1) + 1] = hash[1];
+			}
+			count += addHashes(hashes, size);
+		}
+		return count;
+	}
+
+	/**
+	 * 批量加入字符串元素
+	 *
+	 * @param values 元素
+	 * @return 新加入（加入前不存在）的元素个数
+	 */
+	public int addAll(Iterable<String> values) {
+		final long[] hashes = new long[BATCH_SIZE << 1];
+		final Iterator<String> iter = values.iterator();
+		int count = 0;
+		int size;
+		long[] hash;
+		while (iter.hasNext()) {
+			size = 0;
+			while (size < BATCH_SIZE && iter.hasNext()) {
+				hash = hash(StrUtil.utf8Bytes(iter.next()));
+				hashes[size << 1] = hash[0];
+				hashes[(size << 1) + 1] = hash[1];
+				size++;
+			}
+			count += addHashes(hashes, size);
+		}
+		return count;
+	}
+
+	/**
+	 * 是否可能包含所有long元素
+	 *
+	 * @param values 元素
+	 * @return 是否可能全部包含，存在误判
+	 */
+	public boolean containsAll(long... values) {
+		final long[] hashes = new long[BATCH_SIZE << 1];
+		int size;
+		long[] hash;
+		for (int from = 0; from < values.length; from += BATCH_SIZE) {
+			size = Math.min(BATCH_SIZE, values.length - from);
+			for (int j = 0; j < size; j++) {
+				hash = hash(values[from + j]);
+				hashes[j << 1] = hash[0];
+				hashes[(j << 1) + 1] = hash[1];
+			}
+			if (false == containsHashes(hashes, size)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 是否可能包含所有字符串元素
+	 *
+	 * @param values 元素
+	 * @return 是否可能全部包含，存在误判
+	 */
+	public boolean containsAll(Iterable<String> values) {
+		final long[] hashes = new long[BATCH_SIZE << 1];
+		final Iterator<String> iter = values.iterator();
+		int size;
+		long[] hash;
+		while (iter.hasNext()) {
+			size = 0;
+			while (size < BATCH_SIZE && iter.hasNext()) {
+				hash = hash(StrUtil.utf8Bytes(iter.next()));
+				hashes[size << 1] = hash[0];
+				hashes[(size << 1) + 1] = hash[1];
+				size++;
+			}
+			if (false == containsHashes(hashes, size)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// ---------------------------------------------------------------- info
+
+	/**
+	 * 获取位数
+	 *
+	 * @return 位数
+	 */
+	public long getBitSize() {
+		return numBits;
+	}
+
+	/**
+	 * 获取Hash函数个数
+	 *
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return numHashes;
+	}
+
+	/**
+	 * 获取已置位的位数，需要遍历整个位数组
+	 *
+	 * @return 已置位的位数
+	 */
+	public long cardinality() {
+		long count = 0;
+		for (int i = 0; i < words.length(); i++) {
+			count += Long.bitCount(words.get(i));
+		}
+		return count;
+	}
+
+	/**
+	 * 根据已置位的位数估算已加入的元素个数，即：{@code -m / k * ln(1 - X / m)}
+	 *
+	 * @return 估算的元素个数
+	 */
+	public long approximateElementCount() {
+		final double fraction = (double) cardinality() / numBits;
+		return Math.round(-Math.log1p(-fraction) * numBits / numHashes);
+	}
+
+	/**
+	 * 根据当前已置位的比例估算误判率，即：{@code (X / m) ^ k}
+	 *
+	 * @return 误判率
+	 */
+	public double getFalsePositiveProbability() {
+		return Math.pow((double) cardinality() / numBits, numHashes);
+	}
+
+	/**
+	 * 获取位数组中long的个数，用于序列化
+	 *
+	 * @return long个数
+	 */
+	int getWordCount() {
+		return words.length();
+	}
+
+	/**
+	 * 获取位数组中指定位置的long，用于序列化
+	 *
+	 * @param index 位置
+	 * @return long值
+	 */
+	long getWord(int index) {
+		return words.get(index);
+	}
+
+	// ---------------------------------------------------------------- private
+
+	/**
+	 * 批量加入已计算Hash的元素
+	 *
+	 * @param hashes Hash值，每两个为一个元素
+	 * @param size   元素个数
+	 * @return 新加入的元素个数
+	 */
+	private int addHashes(long[] hashes, int size) {
+		int count = 0;
+		for (int j = 0; j < size; j++) {
+			if (addHash(hashes[j << 1], hashes[(j << 1) + 1])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 批量查询已计算Hash的元素
+	 *
+	 * @param hashes Hash值，每两个为一个元素
+	 * @param size   元素个数
+	 * @return 是否全部可能存在
+	 */
+	private boolean containsHashes(long[] hashes, int size) {
+		for (int j = 0; j < size; j++) {
+			if (false == containsHash(hashes[j << 1], hashes[(j << 1) + 1])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 使用CAS置位
+	 *
+	 * @param index 位置
+	 * @return 是否由当前调用置位，已置位返回{@code false}
+	 */
+	private boolean setBit(long index) {
+		final int wordIndex = (int) (index >>> 6);
+		final long mask = 1L << index;
+		long old;
+		do {
+			old = words.get(wordIndex);
+			if (0 != (old & mask)) {
+				return false;
+			}
+		} while (false == words.compareAndSet(wordIndex, old, old | mask));
+		return true;
+	}
+}
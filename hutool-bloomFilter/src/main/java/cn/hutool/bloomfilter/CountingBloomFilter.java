@@ -0,0 +1,183 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 计数布隆过滤器（Counting Bloom Filter），支持删除元素<br>
+ * 每个位置使用4位计数器代替单个位，每个long存储16个计数器：
+ * <ul>
+ *     <li>加入元素时对应计数器加1，删除时减1，计数器全部大于0时认为元素可能存在</li>
+ *     <li>计数器达到最大值15后不再增加，也不再减少（无法得知真实计数），保证不会因删除产生漏判</li>
+ * </ul>
+ * 注意：只能删除确实加入过的元素，删除未加入但误判为存在的元素会导致其它元素漏判。<br>
+ * 此类非线程安全，多线程使用时需外部同步。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class CountingBloomFilter extends AbstractHashBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 计数器最大值
+	 */
+	private static final int MAX_COUNT = 0xF;
+
+	private final long numCounters;
+	private final int numHashes;
+	private final long[] words;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计元素个数
+	 * @param fpp                期望误判率，范围(0, 1)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalNumOfBits(expectedInsertions, fpp),
+				optimalNumOfHashFunctions(expectedInsertions, optimalNumOfBits(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param numCounters 计数器个数，每个计数器占用4位
+	 * @param numHashes   Hash函数个数
+	 */
+	public CountingBloomFilter(long numCounters, int numHashes) {
+		Assert.isTrue(numCounters > 0, "Counter number must be > 0");
+		Assert.isTrue(numHashes > 0, "Hash function number must be > 0");
+		final long words = (numCounters + 15) >>> 4;
+		Assert.isTrue(words <= Integer.MAX_VALUE, "Too many counters: {}", numCounters);
+		this.numCounters = words << 4;
+		this.numHashes = numHashes;
+		this.words = new long[(int) words];
+	}
+
+	/**
+	 * 加入元素，重复加入时计数器继续增加，需要删除同样次数才能移除
+	 *
+	 * @param hash1 第一个Hash值
+	 * @param hash2 第二个Hash值
+	 * @return 加入前是否不存在
+	 */
+	@Override
+	protected boolean addHash(long hash1, long hash2) {
+		final boolean absent = false == containsHash(hash1, hash2);
+		for (int i = 0; i < numHashes; i++) {
+			increment(index(hash1, hash2, i, numCounters));
+		}
+		return absent;
+	}
+
+	@Override
+	protected boolean containsHash(long hash1, long hash2) {
+		for (int i = 0; i < numHashes; i++) {
+			if (0 == getCounter(index(hash1, hash2, i, numCounters))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 删除字符串元素
+	 *
+	 * @param str 字符串
+	 * @return 是否删除，元素不存在返回{@code false}
+	 */
+	public boolean remove(String str) {
+		return remove(StrUtil.utf8Bytes(str));
+	}
+
+	/**
+	 * 删除bytes元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否删除，元素不存在返回{@code false}
+	 */
+	public boolean remove(byte[] bytes) {
+		final long[] hash = hash(bytes);
+		return removeHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 删除long元素
+	 *
+	 * @param value 元素
+	 * @return 是否删除，元素不存在返回{@code false}
+	 */
+	public boolean remove(long value) {
+		final long[] hash = hash(value);
+		return removeHash(hash[0], hash[1]);
+	}
+
+	/**
+	 * 获取计数器个数
+	 *
+	 * @return 计数器个数
+	 */
+	public long getCounterSize() {
+		return numCounters;
+	}
+
+	/**
+	 * 获取Hash函数个数
+	 *
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return numHashes;
+	}
+
+	/**
+	 * 通过两个Hash值删除元素
+	 *
+	 * @param hash1 第一个Hash值
+	 * @param hash2 第二个Hash值
+	 * @return 是否删除，元素不存在返回{@code false}
+	 */
+	private boolean removeHash(long hash1, long hash2) {
+		if (false == containsHash(hash1, hash2)) {
+			return false;
+		}
+		for (int i = 0; i < numHashes; i++) {
+			decrement(index(hash1, hash2, i, numCounters));
+		}
+		return true;
+	}
+
+	/**
+	 * 获取计数器的值
+	 *
+	 * @param index 计数器位置
+	 * @return 计数
+	 */
+	private int getCounter(long index) {
+		return (int) (words[(int) (index >>> 4)] >>> ((index & 0xF) << 2)) & MAX_COUNT;
+	}
+
+	/**
+	 * 计数器加1，已达到最大值时不变
+	 *
+	 * @param index 计数器位置
+	 */
+	private void increment(long index) {
+		if (getCounter(index) < MAX_COUNT) {
+			words[(int) (index >>> 4)] += 1L << ((index & 0xF) << 2);
+		}
+	}
+
+	/**
+	 * 计数器减1，为0或已达到最大值时不变
+	 *
+	 * @param index 计数器位置
+	 */
+	private void decrement(long index) {
+		final int count = getCounter(index);
+		if (count > 0 && count < MAX_COUNT) {
+			words[(int) (index >>> 4)] -= 1L << ((index & 0xF) << 2);
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 基于内存映射文件的只读布隆过滤器<br>
+ * 打开{@link BloomFilterWriter}写出的文件，位数组通过{@link FileChannel#map(FileChannel.MapMode, long, long)}直接映射，
+ * 不复制到堆内存，因此：
+ * <ul>
+ *     <li>打开数GB的过滤器几乎无需等待，页面在查询时按需加载</li>
+ *     <li>同一主机上的多个JVM打开同一文件时共享操作系统页缓存</li>
+ * </ul>
+ * 单个映射最大为2GB，超过时按1GB分段映射。查询为只读操作，线程安全；调用add方法将抛出{@link UnsupportedOperationException}。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class MappedBloomFilter extends AbstractHashBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每段映射的long个数的位移，每段1GB
+	 */
+	private static final int SEGMENT_SHIFT = 27;
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+	private final File file;
+	private final int numHashes;
+	private final long numBits;
+	private final transient MappedByteBuffer[] segments;
+
+	/**
+	 * 构造，打开文件时不校验checksum
+	 *
+	 * @param file 布隆过滤器文件
+	 * @throws IORuntimeException IO异常或文件格式错误
+	 */
+	public MappedBloomFilter(File file) throws IORuntimeException {
+		this(file, false);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param file   布隆过滤器文件
+	 * @param verify 是否校验checksum，校验需要读取整个文件
+	 * @throws IORuntimeException IO异常、文件格式错误或校验失败
+	 */
+	public MappedBloomFilter(File file, boolean verify) throws IORuntimeException {
+		this.file = Assert.notNull(file, "Bloom filter file must be not null!");
+
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			final ByteBuffer header = ByteBuffer.allocate(BloomFilterWriter.HEADER_SIZE);
+			readFully(channel, header, 0);
+			header.flip();
+
+			if (BloomFilterWriter.MAGIC != header.getInt()) {
+				throw new IORuntimeException("File [{}] is not a bloom filter file!", file);
+			}
+			final short version = header.getShort();
+			if (BloomFilterWriter.VERSION != version) {
+				throw new IORuntimeException("Unsupported bloom filter file version: {}", version);
+			}
+			final short hashType = header.getShort();
+			if (BloomFilterWriter.HASH_TYPE_MURMUR128 != hashType) {
+				throw new IORuntimeException("Unsupported bloom filter hash type: {}", hashType);
+			}
+			this.numHashes = header.getInt();
+			header.getInt();
+			this.numBits = header.getLong();
+
+			final long bitsLength = numBits >>> 3;
+			final long expectedLength = BloomFilterWriter.HEADER_SIZE + bitsLength + BloomFilterWriter.CHECKSUM_SIZE;
+			if (numHashes <= 0 || numBits <= 0 || 0 != (numBits & 63) || channel.size() != expectedLength) {
+				throw new IORuntimeException("Bloom filter file [{}] is corrupted, expected length: {}, actual: {}",
+						file, expectedLength, channel.size());
+			}
+
+			final long segmentBytes = (SEGMENT_MASK + 1) << 3;
+			this.segments = new MappedByteBuffer[(int) ((bitsLength + segmentBytes - 1) / segmentBytes)];
+			long position = BloomFilterWriter.HEADER_SIZE;
+			for (int i = 0; i < segments.length; i++) {
+				final long size = Math.min(segmentBytes, bitsLength - i * segmentBytes);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+				position += size;
+			}
+
+			if (verify) {
+				verify(channel, header);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			// 映射建立后关闭通道不影响映射的使用
+			IoUtil.close(channel);
+		}
+	}
+
+	/**
+	 * 不支持加入元素
+	 *
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	protected boolean addHash(long hash1, long hash2) {
+		throw new UnsupportedOperationException("MappedBloomFilter is read only!");
+	}
+
+	@Override
+	protected boolean containsHash(long hash1, long hash2) {
+		long index;
+		for (int i = 0; i < numHashes; i++) {
+			index = index(hash1, hash2, i, numBits);
+			if (0 == (getWord(index >>> 6) & (1L << index))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取文件
+	 *
+	 * @return 文件
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * 获取位数
+	 *
+	 * @return 位数
+	 */
+	public long getBitSize() {
+		return numBits;
+	}
+
+	/**
+	 * 获取Hash函数个数
+	 *
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return numHashes;
+	}
+
+	/**
+	 * 获取位数组中指定位置的long，使用绝对位置读取，不修改buffer状态，因此线程安全
+	 *
+	 * @param wordIndex long的位置
+	 * @return long值
+	 */
+	private long getWord(long wordIndex) {
+		return segments[(int) (wordIndex >>> SEGMENT_SHIFT)].getLong((int) ((wordIndex & SEGMENT_MASK) << 3));
+	}
+
+	/**
+	 * 校验header和位数组的CRC32
+	 *
+	 * @param channel 文件通道
+	 * @param header  已读取的header
+	 * @throws IOException IO异常
+	 */
+	private void verify(FileChannel channel, ByteBuffer header) throws IOException {
+		final CRC32 crc = new CRC32();
+		crc.update(header.array(), 0, BloomFilterWriter.HEADER_SIZE);
+		for (final MappedByteBuffer segment : segments) {
+			crc.update(segment.duplicate());
+		}
+
+		final ByteBuffer checksum = ByteBuffer.allocate(BloomFilterWriter.CHECKSUM_SIZE);
+		readFully(channel, checksum, channel.size() - BloomFilterWriter.CHECKSUM_SIZE);
+		checksum.flip();
+		if (crc.getValue() != checksum.getLong()) {
+			throw new IORuntimeException("Bloom filter file [{}] checksum mismatch!", file);
+		}
+	}
+
+	/**
+	 * 反序列化时重新映射文件
+	 *
+	 * @return 新的MappedBloomFilter
+	 */
+	private Object readResolve() {
+		return new MappedBloomFilter(file);
+	}
+
+	/**
+	 * 从指定位置读满buffer
+	 *
+	 * @param channel  文件通道
+	 * @param buffer   buffer
+	 * @param position 起始位置
+	 * @throws IOException IO异常
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		int read;
+		while (buffer.hasRemaining()) {
+			read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new IOException("Unexpected end of bloom filter file");
+			}
+			position += read;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 可扩容的布隆过滤器（Scalable Bloom Filter）<br>
+ * 固定大小的布隆过滤器在元素超过预期后误判率迅速上升，此过滤器由多个子过滤器串联组成：
+ * <ul>
+ *     <li>当前子过滤器元素数达到其容量时，新建一个容量为上一个{@code growthFactor}倍的子过滤器</li>
+ *     <li>第i个子过滤器的误判率为{@code fpp * (1 - r) * r^i}，r为收紧系数，各子过滤器误判率之和不超过fpp</li>
+ *     <li>查询时依次查询所有子过滤器，新元素只加入最后一个子过滤器</li>
+ * </ul>
+ * 见：Almeida, P. S. et al. "Scalable Bloom Filters"<br>
+ * 此类非线程安全，多线程使用时需外部同步。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class ScalableBloomFilter extends AbstractHashBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认扩容倍数
+	 */
+	public static final int DEFAULT_GROWTH_FACTOR = 2;
+	/**
+	 * 默认误判率收紧系数
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final double fpp;
+	private final int growthFactor;
+	private final double tighteningRatio;
+	private final List<Stage> stages;
+
+	/**
+	 * 构造，扩容倍数为2，收紧系数为0.5
+	 *
+	 * @param initialCapacity 第一个子过滤器的容量
+	 * @param fpp             总体期望误判率，范围(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH_FACTOR, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 第一个子过滤器的容量
+	 * @param fpp             总体期望误判率，范围(0, 1)
+	 * @param growthFactor    扩容倍数，新的子过滤器容量为上一个的倍数，不小于1
+	 * @param tighteningRatio 误判率收紧系数，范围(0, 1)，越小则每个子过滤器误判率下降越快，占用空间越大
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp, int growthFactor, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be > 0");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)");
+		Assert.isTrue(growthFactor >= 1, "Growth factor must be >= 1");
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1)");
+		this.fpp = fpp;
+		this.growthFactor = growthFactor;
+		this.tighteningRatio = tighteningRatio;
+		this.stages = new ArrayList<>();
+		this.stages.add(new Stage(initialCapacity, fpp * (1 - tighteningRatio)));
+	}
+
+	@Override
+	protected boolean addHash(long hash1, long hash2) {
+		if (containsHash(hash1, hash2)) {
+			return false;
+		}
+		Stage last = stages.get(stages.size() - 1);
+		if (last.count >= last.capacity) {
+			last = new Stage(last.capacity * growthFactor, last.fpp * tighteningRatio);
+			stages.add(last);
+		}
+		last.add(hash1, hash2);
+		return true;
+	}
+
+	@Override
+	protected boolean containsHash(long hash1, long hash2) {
+		// 后加入的子过滤器容量大，元素多，倒序查询命中更快
+		for (int i = stages.size() - 1; i >= 0; i--) {
+			if (stages.get(i).contains(hash1, hash2)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获取子过滤器个数
+	 *
+	 * @return 子过滤器个数
+	 */
+	public int getStageCount() {
+		return stages.size();
+	}
+
+	/**
+	 * 获取已加入的元素个数，重复加入（或误判为已存在）的元素不计数
+	 *
+	 * @return 元素个数
+	 */
+	public long getCount() {
+		long count = 0;
+		for (final Stage stage : stages) {
+			count += stage.count;
+		}
+		return count;
+	}
+
+	/**
+	 * 获取所有子过滤器占用的位数
+	 *
+	 * @return 位数
+	 */
+	public long getBitSize() {
+		long size = 0;
+		for (final Stage stage : stages) {
+			size += stage.numBits;
+		}
+		return size;
+	}
+
+	/**
+	 * 获取构造时指定的总体期望误判率
+	 *
+	 * @return 误判率
+	 */
+	public double getExpectedFpp() {
+		return fpp;
+	}
+
+	/**
+	 * 根据当前各子过滤器的元素数估算总体误判率，即：{@code 1 - ∏(1 - fpp_i)}
+	 *
+	 * @return 误判率
+	 */
+	public double getFalsePositiveProbability() {
+		double notFalse = 1;
+		for (final Stage stage : stages) {
+			notFalse *= 1 - stage.getFalsePositiveProbability();
+		}
+		return 1 - notFalse;
+	}
+
+	/**
+	 * 子过滤器，使用long数组存储位
+	 */
+	private static class Stage implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long capacity;
+		private final double fpp;
+		private final long numBits;
+		private final int numHashes;
+		private final long[] words;
+		private long count;
+
+		/**
+		 * 构造
+		 *
+		 * @param capacity 容量
+		 * @param fpp      此子过滤器的误判率
+		 */
+		Stage(final long capacity, final double fpp) {
+			this.capacity = capacity;
+			this.fpp = fpp;
+			// 位数按64对齐，充分利用数组空间
+			final long words = (optimalNumOfBits(capacity, fpp) + 63) >>> 6;
+			Assert.isTrue(words <= Integer.MAX_VALUE, "Stage too large: {} words", words);
+			this.numBits = words << 6;
+			this.numHashes = optimalNumOfHashFunctions(capacity, numBits);
+			this.words = new long[(int) words];
+		}
+
+		void add(final long hash1, final long hash2) {
+			long index;
+			for (int i = 0; i < numHashes; i++) {
+				index = index(hash1, hash2, i, numBits);
+				words[(int) (index >>> 6)] |= 1L << index;
+			}
+			count++;
+		}
+
+		boolean contains(final long hash1, final long hash2) {
+			long index;
+			for (int i = 0; i < numHashes; i++) {
+				index = index(hash1, hash2, i, numBits);
+				if (0 == (words[(int) (index >>> 6)] & (1L << index))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		double getFalsePositiveProbability() {
+			// (1 - e^(-k * n / m)) ^ k
+			return Math.pow(1 - Math.exp(-numHashes * (double) count / numBits), numHashes);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentBloomFilterTest {
+
+	@Test
+	public void addTest() {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(1000, 0.01);
+		assertTrue(filter.add("abc"));
+		assertFalse(filter.add("abc"));
+		assertTrue(filter.contains("abc"));
+		assertFalse(filter.contains("ddd"));
+	}
+
+	@Test
+	public void concurrentAddTest() {
+		final int threads = 8;
+		final int perThread = 50_000;
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(threads * perThread, 0.01);
+		final AtomicInteger index = new AtomicInteger();
+		ThreadUtil.concurrencyTest(threads, () -> {
+			final long start = (long) index.getAndIncrement() * perThread;
+			for (long i = start; i < start + perThread; i++) {
+				filter.add(i);
+			}
+		});
+
+		// 并发置位不丢失
+		for (long i = 0; i < threads * perThread; i++) {
+			assertTrue(filter.contains(i));
+		}
+		final long count = filter.approximateElementCount();
+		assertTrue(Math.abs(count - threads * perThread) < threads * perThread * 0.05, "count: " + count);
+	}
+
+	@Test
+	public void addAllTest() {
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+		final long[] values = new long[1000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i * 31L;
+		}
+		assertEquals(1000, filter.addAll(values));
+		assertEquals(0, filter.addAll(values));
+		assertTrue(filter.containsAll(values));
+		assertFalse(filter.containsAll(1L, 2L, 3L));
+
+		assertEquals(2, filter.addAll(ListUtil.of("a", "b", "a")));
+		assertTrue(filter.containsAll(ListUtil.of("a", "b")));
+		assertFalse(filter.containsAll(ListUtil.of("a", "c")));
+	}
+
+	@Test
+	@Disabled
+	public void parallelBuildTest() {
+		final int threads = Runtime.getRuntime().availableProcessors();
+		final long total = 50_000_000L;
+		final long perThread = total / threads;
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(total, 0.01);
+		final AtomicInteger index = new AtomicInteger();
+
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("build with " + threads + " threads");
+		ThreadUtil.concurrencyTest(threads, () -> {
+			final long start = index.getAndIncrement() * perThread;
+			final long[] batch = new long[1024];
+			for (long i = start; i < start + perThread; i += batch.length) {
+				for (int j = 0; j < batch.length; j++) {
+					batch[j] = i + j;
+				}
+				filter.addAll(batch);
+			}
+		});
+		stopWatch.stop();
+		Console.log(stopWatch.prettyPrint());
+		Console.log("approximate count: {}, fpp: {}", filter.approximateElementCount(), filter.getFalsePositiveProbability());
+	}
+}
@@ -0,0 +1,166 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashBloomFilterTest {
+
+	@Test
+	public void scalableTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(1000, 0.01);
+		for (long i = 0; i < 100_000; i++) {
+			filter.add(i);
+		}
+		assertTrue(filter.getStageCount() > 1);
+		for (long i = 0; i < 100_000; i++) {
+			assertTrue(filter.contains(i));
+		}
+
+		// 扩容后误判率依旧在期望范围内
+		int falsePositive = 0;
+		for (long i = 100_000; i < 200_000; i++) {
+			if (filter.contains(i)) {
+				falsePositive++;
+			}
+		}
+		assertTrue(falsePositive < 100_000 * 0.01, "false positive: " + falsePositive);
+		assertTrue(filter.getFalsePositiveProbability() < 0.01);
+	}
+
+	@Test
+	public void scalableDuplicateTest() {
+		final ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.01);
+		assertTrue(filter.add("abc"));
+		assertFalse(filter.add("abc"));
+		assertTrue(filter.contains(StrUtil.utf8Bytes("abc")));
+		assertEquals(1, filter.getCount());
+	}
+
+	@Test
+	public void countingTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		assertTrue(filter.add("abc"));
+		assertTrue(filter.add("ddd"));
+		assertFalse(filter.add("abc"));
+
+		assertTrue(filter.remove("abc"));
+		// 加入两次，需删除两次
+		assertTrue(filter.contains("abc"));
+		assertTrue(filter.remove("abc"));
+		assertFalse(filter.contains("abc"));
+		assertFalse(filter.remove("abc"));
+		assertTrue(filter.contains("ddd"));
+	}
+
+	@Test
+	public void countingSaturateTest() {
+		final CountingBloomFilter filter = new CountingBloomFilter(64, 3);
+		for (int i = 0; i < 20; i++) {
+			filter.add(1L);
+		}
+		// 计数器饱和后不再减少，不会产生漏判
+		for (int i = 0; i < 20; i++) {
+			filter.remove(1L);
+		}
+		assertTrue(filter.contains(1L));
+	}
+
+	@Test
+	public void countingRemoveTest() {
+		final CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+		for (long i = 0; i < 10_000; i++) {
+			filter.add(i);
+		}
+		for (long i = 0; i < 10_000; i += 2) {
+			assertTrue(filter.remove(i));
+		}
+		for (long i = 1; i < 10_000; i += 2) {
+			assertTrue(filter.contains(i));
+		}
+	}
+
+	@Test
+	public void blockedTest() {
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(100_000, 0.01);
+		assertEquals(0, filter.getBitSize() % 512);
+		for (long i = 0; i < 100_000; i++) {
+			filter.add(i);
+		}
+		for (long i = 0; i < 100_000; i++) {
+			assertTrue(filter.contains(i));
+		}
+
+		int falsePositive = 0;
+		for (long i = 100_000; i < 200_000; i++) {
+			if (filter.contains(i)) {
+				falsePositive++;
+			}
+		}
+		// 分块布隆过滤器误判率略高于理论值
+		assertTrue(falsePositive < 100_000 * 0.02, "false positive: " + falsePositive);
+	}
+
+	@Test
+	public void blockedStringTest() {
+		final BlockedBloomFilter filter = new BlockedBloomFilter(1000, 0.01);
+		assertTrue(filter.add("123"));
+		assertFalse(filter.add("123"));
+		assertTrue(filter.contains("123"));
+		assertTrue(filter.contains(StrUtil.utf8Bytes("123")));
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final int size = 1_000_000;
+		final String[] keys = new String[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = "key-" + i;
+		}
+
+		final BloomFilter[] filters = {
+				BloomFilterUtil.createBitSet(size * 2, size, 8),
+				BloomFilterUtil.createBitMap(size * 10 / 32),
+				BloomFilterUtil.createScalable(size / 16, 0.01),
+				BloomFilterUtil.createCounting(size, 0.01),
+				BloomFilterUtil.createBlocked(size, 0.01)
+		};
+
+		final StopWatch stopWatch = new StopWatch();
+		for (final BloomFilter filter : filters) {
+			final String name = filter.getClass().getSimpleName();
+			stopWatch.start(name + " add");
+			for (final String key : keys) {
+				filter.add(key);
+			}
+			stopWatch.stop();
+
+			stopWatch.start(name + " contains");
+			for (final String key : keys) {
+				filter.contains(key);
+			}
+			stopWatch.stop();
+		}
+
+		final BlockedBloomFilter blocked = BloomFilterUtil.createBlocked(size, 0.01);
+		stopWatch.start("BlockedBloomFilter add long");
+		for (long i = 0; i < size; i++) {
+			blocked.add(i);
+		}
+		stopWatch.stop();
+		stopWatch.start("BlockedBloomFilter contains long");
+		for (long i = 0; i < size; i++) {
+			blocked.contains(i);
+		}
+		stopWatch.stop();
+
+		Console.log(stopWatch.prettyPrint());
+	}
+}
@@ -0,0 +1,86 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedBloomFilterTest {
+
+	private File file;
+
+	@BeforeEach
+	public void init() {
+		file = FileUtil.createTempFile("bloom", ".bf", true);
+	}
+
+	@AfterEach
+	public void clean() {
+		FileUtil.del(file);
+	}
+
+	@Test
+	public void writeAndMapTest() {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(100_000, 0.01);
+		for (long i = 0; i < 100_000; i++) {
+			filter.add(i);
+		}
+		filter.add("abc");
+		BloomFilterUtil.write(filter, file);
+		assertEquals(BloomFilterWriter.HEADER_SIZE + filter.getBitSize() / 8 + BloomFilterWriter.CHECKSUM_SIZE, file.length());
+
+		final MappedBloomFilter mapped = new MappedBloomFilter(file, true);
+		assertEquals(filter.getBitSize(), mapped.getBitSize());
+		assertEquals(filter.getHashFunctionNumber(), mapped.getHashFunctionNumber());
+		for (long i = 0; i < 200_000; i++) {
+			assertEquals(filter.contains(i), mapped.contains(i));
+		}
+		assertTrue(mapped.contains("abc"));
+		assertFalse(mapped.contains("ddd"));
+		assertThrows(UnsupportedOperationException.class, () -> mapped.add("ddd"));
+	}
+
+	@Test
+	public void checksumTest() throws Exception {
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(1000, 0.01);
+		filter.add("abc");
+		BloomFilterUtil.write(filter, file);
+
+		// 修改位数组中的一个字节
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(BloomFilterWriter.HEADER_SIZE);
+			final int b = raf.read();
+			raf.seek(BloomFilterWriter.HEADER_SIZE);
+			raf.write(~b);
+		}
+		// 不校验时可以打开
+		BloomFilterUtil.openMapped(file);
+		assertThrows(IORuntimeException.class, () -> new MappedBloomFilter(file, true));
+	}
+
+	@Test
+	public void invalidFileTest() {
+		FileUtil.writeUtf8String("not a bloom filter file", file);
+		assertThrows(IORuntimeException.class, () -> new MappedBloomFilter(file));
+	}
+
+	@Test
+	public void serializeTest() {
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(1000, 0.01);
+		filter.add("abc");
+		final MappedBloomFilter mapped = BloomFilterUtil.openMapped(BloomFilterUtil.write(filter, file));
+
+		final MappedBloomFilter cloned = ObjectUtil.cloneByStream(mapped);
+		assertTrue(cloned.contains("abc"));
+	}
+}
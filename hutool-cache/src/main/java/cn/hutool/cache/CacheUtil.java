@@ -1,11 +1,17 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.FastLFUCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.LoadingCache;
 import cn.hutool.cache.impl.NoCache;
 import cn.hutool.cache.impl.TimedCache;
 import cn.hutool.cache.impl.WeakCache;
+import cn.hutool.cache.impl.WheelTimedCache;
+import cn.hutool.core.lang.func.Func1;
 
 /**
  * 缓存工具类
@@ -66,6 +72,36 @@ public class CacheUtil {
 	}
 
 
+	/**
+	 * 创建O(1)复杂度的LFU(least frequently used) 最少使用率缓存.<br>
+	 * 使用访问次数分桶的双向链表实现，淘汰和计数均为O(1)
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link FastLFUCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> FastLFUCache<K, V> newFastLFUCache(int capacity, long timeout) {
+		return new FastLFUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建O(1)复杂度的LFU(least frequently used) 最少使用率缓存.<br>
+	 * 使用访问次数分桶的双向链表实现，淘汰和计数均为O(1)
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link FastLFUCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> FastLFUCache<K, V> newFastLFUCache(int capacity) {
+		return new FastLFUCache<>(capacity);
+	}
+
+
 	/**
 	 * 创建LRU (least recently used)最近最久未使用缓存.
 	 *
@@ -91,6 +127,35 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建高并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，访问顺序通过读缓冲异步采样调整，适用于多线程共享、读多写少的场景
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout) {
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建高并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，访问顺序通过读缓冲异步采样调整，适用于多线程共享、读多写少的场景
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity) {
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存，通过定时任务自动清除过期缓存对象
 	 *
@@ -119,6 +184,35 @@ public class CacheUtil {
 		return new TimedCache<>(timeout);
 	}
 
+	/**
+	 * 创建基于多层时间轮的定时缓存，通过定时任务推进时间轮，清理过期缓存对象时无需遍历全部对象
+	 *
+	 * @param <K>                Key类型
+	 * @param <V>                Value类型
+	 * @param timeout            过期时长，单位：毫秒
+	 * @param schedulePruneDelay 间隔时长，单位毫秒
+	 * @return {@link WheelTimedCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> WheelTimedCache<K, V> newWheelTimedCache(long timeout, long schedulePruneDelay) {
+		final WheelTimedCache<K, V> cache = newWheelTimedCache(timeout);
+		cache.schedulePrune(schedulePruneDelay);
+		return cache;
+	}
+
+	/**
+	 * 创建基于多层时间轮的定时缓存.
+	 *
+	 * @param <K>     Key类型
+	 * @param <V>     Value类型
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link WheelTimedCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> WheelTimedCache<K, V> newWheelTimedCache(long timeout) {
+		return new WheelTimedCache<>(timeout);
+	}
+
 	/**
 	 * 创建弱引用缓存.
 	 *
@@ -132,6 +226,20 @@ public class CacheUtil {
 		return new WeakCache<>(timeout);
 	}
 
+	/**
+	 * 创建自动加载缓存，包装已有缓存，对象不存在时按key合并加载，并支持提前刷新和批量加载
+	 *
+	 * @param <K>    Key类型
+	 * @param <V>    Value类型
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器
+	 * @return {@link LoadingCache}
+	 * @since 5.8.42
+	 */
+	public static <K, V> LoadingCache<K, V> newLoadingCache(AbstractCache<K, V> cache, Func1<K, V> loader) {
+		return new LoadingCache<>(cache, loader);
+	}
+
 	/**
 	 * 创建无缓存实现.
 	 *
@@ -0,0 +1,286 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.io.IORuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于内存映射的文件缓存<br>
+ * 与{@link LRUFileCache}等将文件内容读入堆内{@code byte[]}不同，此缓存通过{@link FileChannel#map}将文件映射到堆外内存：
+ * <ul>
+ *     <li>文件内容不占用堆空间，缓存大量静态文件时不增加GC压力</li>
+ *     <li>按照已映射的总字节数做LRU淘汰</li>
+ *     <li>返回共享底层内存的只读{@link ByteBuffer}视图，可直接写出到NIO管道，无需复制到堆中</li>
+ *     <li>文件被修改（修改时间或大小变化）后自动重新映射</li>
+ * </ul>
+ * 注意：被淘汰的映射在JDK中无法主动释放，只有在所有视图均不可达并被GC回收后才会解除映射。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class MappedFileCache {
+
+	/**
+	 * 缓存容量，即最大映射字节数
+	 */
+	private final long capacity;
+	/**
+	 * 缓存的最大文件大小，文件大于此大小时将不被缓存，0表示不限制
+	 */
+	private final long maxFileSize;
+	/**
+	 * 文件与映射的对应关系，按照访问顺序排列
+	 */
+	private final LinkedHashMap<File, MappedFile> cacheMap;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * 已映射的字节数
+	 */
+	private long mappedSize;
+
+	/**
+	 * 构造<br>
+	 * 最大文件大小为缓存容量的一半
+	 *
+	 * @param capacity 缓存容量，即最大映射字节数
+	 */
+	public MappedFileCache(long capacity) {
+		this(capacity, capacity / 2);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity    缓存容量，即最大映射字节数
+	 * @param maxFileSize 最大文件大小，0表示不限制
+	 */
+	public MappedFileCache(long capacity, long maxFileSize) {
+		this.capacity = capacity;
+		this.maxFileSize = maxFileSize;
+		this.cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * @return 缓存容量（byte数）
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 允许被缓存文件的最大byte数
+	 */
+	public long maxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * @return 已映射的字节数
+	 */
+	public long getMappedSize() {
+		lock.lock();
+		try {
+			return mappedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		lock.lock();
+		try {
+			return cacheMap.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 移除文件的映射
+	 *
+	 * @param file 文件
+	 */
+	public void remove(File file) {
+		lock.lock();
+		try {
+			final MappedFile removed = cacheMap.remove(file);
+			if (null != removed) {
+				mappedSize -= removed.length;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			cacheMap.clear();
+			mappedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得文件内容的只读视图
+	 *
+	 * @param path 文件路径
+	 * @return 只读的{@link ByteBuffer}，position为0，limit为文件大小
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getByteBuffer(String path) throws IORuntimeException {
+		return getByteBuffer(new File(path));
+	}
+
+	/**
+	 * 获得文件内容的只读视图<br>
+	 * 每次调用返回新的视图，position和limit相互独立，但共享同一块映射内存，因此多线程可各自使用返回的视图。
+	 *
+	 * @param file 文件
+	 * @return 只读的{@link ByteBuffer}，position为0，limit为文件大小
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getByteBuffer(File file) throws IORuntimeException {
+		lock.lock();
+		try {
+			final MappedFile cached = cacheMap.get(file);
+			if (null != cached) {
+				if (false == cached.isModified(file)) {
+					return cached.buffer.duplicate();
+				}
+				cacheMap.remove(file);
+				mappedSize -= cached.length;
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// 映射过程不加锁，避免阻塞其它文件的读取
+		final MappedFile mapped = map(file);
+		if ((maxFileSize > 0) && (mapped.length > maxFileSize)) {
+			//大于缓存空间，不缓存，直接返回
+			return mapped.buffer.duplicate();
+		}
+
+		lock.lock();
+		try {
+			final MappedFile old = cacheMap.put(file, mapped);
+			if (null != old) {
+				mappedSize -= old.length;
+			}
+			mappedSize += mapped.length;
+			evict(file);
+		} finally {
+			lock.unlock();
+		}
+		return mapped.buffer.duplicate();
+	}
+
+	/**
+	 * 将文件内容写出到管道，内容直接从映射内存写出，不经过堆
+	 *
+	 * @param file    文件
+	 * @param channel 目标管道
+	 * @return 写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long writeTo(File file, WritableByteChannel channel) throws IORuntimeException {
+		final ByteBuffer buffer = getByteBuffer(file);
+		long total = 0;
+		try {
+			while (buffer.hasRemaining()) {
+				total += channel.write(buffer);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return total;
+	}
+
+	/**
+	 * 淘汰最久未使用的映射，直到映射总字节数不超过容量，刚加入的文件不被淘汰<br>
+	 * 调用时必须持有锁
+	 *
+	 * @param current 刚加入的文件
+	 */
+	private void evict(File current) {
+		final Iterator<Map.Entry<File, MappedFile>> iterator = cacheMap.entrySet().iterator();
+		Map.Entry<File, MappedFile> eldest;
+		while (mappedSize > capacity && iterator.hasNext()) {
+			eldest = iterator.next();
+			if (eldest.getKey().equals(current)) {
+				continue;
+			}
+			iterator.remove();
+			mappedSize -= eldest.getValue().length;
+		}
+	}
+
+	/**
+	 * 只读映射文件
+	 *
+	 * @param file 文件
+	 * @return {@link MappedFile}
+	 * @throws IORuntimeException IO异常
+	 */
+	private static MappedFile map(File file) throws IORuntimeException {
+		// 先记录修改时间，映射过程中文件被修改时，下次获取会重新映射
+		final long lastModified = file.lastModified();
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IORuntimeException("File [{}] is too large to map: {} bytes", file, size);
+			}
+			// 关闭管道不影响已建立的映射
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			return new MappedFile(buffer, lastModified, size);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 已映射的文件
+	 */
+	private static class MappedFile {
+		private final MappedByteBuffer buffer;
+		private final long lastModified;
+		private final long length;
+
+		MappedFile(MappedByteBuffer buffer, long lastModified, long length) {
+			this.buffer = buffer;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * 文件在映射后是否被修改
+		 *
+		 * @param file 文件
+		 * @return 是否被修改
+		 */
+		boolean isModified(File file) {
+			return file.lastModified() != lastModified || file.length() != length;
+		}
+	}
+}
@@ -2,6 +2,10 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.ConcurrentStatsRecorder;
+import cn.hutool.cache.stats.NoStatsRecorder;
+import cn.hutool.cache.stats.StatsRecorder;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
@@ -65,6 +69,11 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected CacheListener<K, V> listener;
 
+	/**
+	 * 统计记录器，默认不记录
+	 */
+	protected StatsRecorder statsRecorder = NoStatsRecorder.INSTANCE;
+
 	// ---------------------------------------------------------------- put start
 	@Override
 	public void put(K key, V object) {
@@ -134,7 +143,7 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 				// issue#3686 由于这个方法内的加锁是get独立锁，不和put锁互斥，而put和pruneCache会修改cacheMap，导致在pruneCache过程中get会有并发问题
 				// 因此此处需要使用带全局锁的get获取值
 				v = get(key, isUpdateLastAccess);
-				v = supplier.callWithRuntimeException();
+				v = load(supplier);
 				put(key, v, timeout);
 			} finally {
 				keyLock.unlock();
@@ -144,6 +153,46 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return v;
 	}
 
+	/**
+	 * 调用supplier加载值，并记录加载耗时
+	 *
+	 * @param supplier 值生产者
+	 * @return 值
+	 * @since 5.8.42
+	 */
+	protected V load(Func0<V> supplier) {
+		final long start = System.nanoTime();
+		final V v;
+		try {
+			v = supplier.callWithRuntimeException();
+		} catch (RuntimeException e) {
+			statsRecorder.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		statsRecorder.recordLoadSuccess(System.nanoTime() - start);
+		return v;
+	}
+
+	/**
+	 * 记录一次命中
+	 *
+	 * @since 5.8.42
+	 */
+	protected void recordHit() {
+		hitCount.increment();
+		statsRecorder.recordHit();
+	}
+
+	/**
+	 * 记录一次未命中
+	 *
+	 * @since 5.8.42
+	 */
+	protected void recordMiss() {
+		missCount.increment();
+		statsRecorder.recordMiss();
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -228,6 +277,38 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * 设置统计记录器
+	 *
+	 * @param statsRecorder 统计记录器，{@code null}表示不记录
+	 * @return this
+	 * @since 5.8.42
+	 */
+	public AbstractCache<K, V> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = (null == statsRecorder) ? NoStatsRecorder.INSTANCE : statsRecorder;
+		return this;
+	}
+
+	/**
+	 * 开启统计，使用{@link ConcurrentStatsRecorder}记录
+	 *
+	 * @return this
+	 * @since 5.8.42
+	 */
+	public AbstractCache<K, V> recordStats() {
+		return setStatsRecorder(new ConcurrentStatsRecorder());
+	}
+
+	/**
+	 * 获取统计信息快照，未开启统计时返回{@link CacheStats#EMPTY}
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.42
+	 */
+	public CacheStats getStats() {
+		return statsRecorder.snapshot();
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -0,0 +1,389 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 高并发LRU (least recently used)最近最久未使用缓存<br>
+ * 与{@link LRUCache}不同，此缓存的读操作不加锁：
+ * <ul>
+ *     <li>缓存对象存储于{@link java.util.concurrent.ConcurrentHashMap}中，get直接无锁读取</li>
+ *     <li>访问顺序不在读取时立即调整，而是记录到按线程分段的环形读缓冲中，缓冲满后由获得锁的线程批量回放</li>
+ *     <li>读缓冲满且锁被占用时，直接丢弃本次访问记录，即访问顺序为采样近似（思路参考Caffeine/W-TinyLFU）</li>
+ *     <li>put、remove、prune等写操作依旧加锁，用于维护访问顺序和容量限制</li>
+ * </ul>
+ * 因此此缓存适用于读多写少、多线程共享的场景，淘汰顺序为近似LRU。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.42
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个读缓冲分段的大小，必须为2的幂
+	 */
+	private static final int BUFFER_SIZE = 16;
+	private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+	/**
+	 * 写锁，用于维护访问顺序和淘汰
+	 */
+	protected final ReentrantLock lock = new ReentrantLock();
+	/**
+	 * 访问顺序，链表尾部为最近访问的对象，仅在持有锁时读写
+	 */
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> accessOrder;
+	/**
+	 * 分段读缓冲
+	 */
+	private final ReadBuffer<K, V>[] readBuffers;
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cacheMap = new SafeConcurrentHashMap<>();
+		this.accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+
+		// 分段数为不小于CPU核数的2的幂，降低多线程写入同一缓冲的冲突
+		int stripes = 1;
+		while (stripes < Runtime.getRuntime().availableProcessors()) {
+			stripes <<= 1;
+		}
+		@SuppressWarnings("unchecked")
+		final ReadBuffer<K, V>[] readBuffers = (ReadBuffer<K, V>[]) new ReadBuffer<?, ?>[stripes];
+		for (int i = 0; i < stripes; i++) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+		this.readBuffers = readBuffers;
+	}
+
+	// ---------------------------------------------------------------- put start
+	@Override
+	public void put(K key, V object, long timeout) {
+		final CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final MutableObj<K> mKey = MutableObj.of(key);
+
+		lock.lock();
+		try {
+			drainReadBuffers();
+			final CacheObj<K, V> oldObj = cacheMap.put(mKey, co);
+			accessOrder.put(mKey, co);
+			if (null != oldObj) {
+				// 替换的键值对，不做满队列检查和清除，见issue#3618
+				onRemove(oldObj.key, oldObj.obj);
+			} else if (capacity > 0 && cacheMap.size() > capacity) {
+				evictEldest();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+	// ---------------------------------------------------------------- put end
+
+	// ---------------------------------------------------------------- get start
+	@Override
+	public boolean containsKey(K key) {
+		return null != getOrRemoveExpired(key, false, false);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return getOrRemoveExpired(key, isUpdateLastAccess, true);
+	}
+
+	@Override
+	public V get(final K key, final boolean isUpdateLastAccess, final long timeout, final Func0<V> supplier) {
+		V v = get(key, isUpdateLastAccess);
+		if (null == v && null != supplier) {
+			// 读操作无全局锁，此处使用key锁，保证同一个key只创建一次值，不同key的创建互不影响
+			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
+			keyLock.lock();
+			try {
+				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
+				final CacheObj<K, V> co = getWithoutLock(key);
+				if (null == co || co.isExpired()) {
+					v = load(supplier);
+					put(key, v, timeout);
+				} else {
+					v = co.get(isUpdateLastAccess);
+				}
+			} finally {
+				keyLock.unlock();
+				keyLockMap.remove(key);
+			}
+		}
+		return v;
+	}
+	// ---------------------------------------------------------------- get end
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		// ConcurrentHashMap的迭代为弱一致性，无需加锁
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	@Override
+	public int prune() {
+		lock.lock();
+		try {
+			drainReadBuffers();
+			return pruneCache();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 只清理超时对象，容量淘汰在put时完成
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		final Iterator<CacheObj<K, V>> values = accessOrder.values().iterator();
+		CacheObj<K, V> co;
+		while (values.hasNext()) {
+			co = values.next();
+			if (co.isExpired()) {
+				values.remove();
+				cacheMap.remove(MutableObj.of(co.key));
+				statsRecorder.recordExpiration();
+				onRemove(co.key, co.obj);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public void remove(K key) {
+		CacheObj<K, V> co;
+		lock.lock();
+		try {
+			co = removeWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+		if (null != co) {
+			onRemove(co.key, co.obj);
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			drainReadBuffers();
+			final Iterator<CacheObj<K, V>> values = accessOrder.values().iterator();
+			CacheObj<K, V> co;
+			while (values.hasNext()) {
+				co = values.next();
+				values.remove();
+				cacheMap.remove(MutableObj.of(co.key));
+				onRemove(co.key, co.obj);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		accessOrder.remove(mKey);
+		return cacheMap.remove(mKey);
+	}
+
+	/**
+	 * 获得值或清除过期值，读取本身不加锁
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @param isUpdateCount      是否更新计数器
+	 * @return 值或null
+	 */
+	private V getOrRemoveExpired(final K key, final boolean isUpdateLastAccess, final boolean isUpdateCount) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		if (null == co) {
+			if (isUpdateCount) {
+				recordMiss();
+			}
+			return null;
+		}
+
+		if (co.isExpired()) {
+			removeExpired(co);
+			if (isUpdateCount) {
+				recordMiss();
+			}
+			return null;
+		}
+
+		if (isUpdateCount) {
+			recordHit();
+			recordAccess(co);
+		}
+		return co.get(isUpdateLastAccess);
+	}
+
+	/**
+	 * 加锁移除过期对象，仅当缓存中的对象依旧是给定对象时移除，避免误删并发写入的新值
+	 *
+	 * @param co 过期的缓存对象
+	 */
+	private void removeExpired(final CacheObj<K, V> co) {
+		final MutableObj<K> mKey = MutableObj.of(co.key);
+		boolean removed;
+		lock.lock();
+		try {
+			removed = cacheMap.remove(mKey, co);
+			if (removed) {
+				accessOrder.remove(mKey);
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (removed) {
+			statsRecorder.recordExpiration();
+			onRemove(co.key, co.obj);
+		}
+	}
+
+	/**
+	 * 记录访问，缓冲满时尝试获取锁并回放，获取失败则丢弃本次记录
+	 *
+	 * @param co 被访问的缓存对象
+	 */
+	private void recordAccess(final CacheObj<K, V> co) {
+		final ReadBuffer<K, V> buffer = readBuffers[(int) Thread.currentThread().getId() & (readBuffers.length - 1)];
+		if (buffer.offer(co)) {
+			return;
+		}
+		if (lock.tryLock()) {
+			try {
+				drainReadBuffers();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 回放所有读缓冲中的访问记录，调整访问顺序，调用时必须持有锁
+	 */
+	private void drainReadBuffers() {
+		for (final ReadBuffer<K, V> buffer : readBuffers) {
+			buffer.drainTo(accessOrder);
+		}
+	}
+
+	/**
+	 * 淘汰最久未使用的对象，调用时必须持有锁
+	 */
+	private void evictEldest() {
+		final Iterator<Map.Entry<Mutable<K>, CacheObj<K, V>>> entries = accessOrder.entrySet().iterator();
+		if (entries.hasNext()) {
+			final Map.Entry<Mutable<K>, CacheObj<K, V>> eldest = entries.next();
+			entries.remove();
+			cacheMap.remove(eldest.getKey());
+			statsRecorder.recordEviction();
+			onRemove(eldest.getValue().key, eldest.getValue().obj);
+		}
+	}
+
+	/**
+	 * 有损的单段读缓冲，多线程写入，持有锁的线程读出
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final AtomicReferenceArray<CacheObj<K, V>> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * 加入访问记录
+		 *
+		 * @param co 缓存对象
+		 * @return 是否加入成功，{@code false}表示缓冲已满
+		 */
+		boolean offer(final CacheObj<K, V> co) {
+			final long w = writeCounter.get();
+			if (w - readCounter >= BUFFER_SIZE) {
+				return false;
+			}
+			// CAS失败说明有其它线程同时写入，丢弃本次记录即可
+			if (writeCounter.compareAndSet(w, w + 1)) {
+				buffer.lazySet((int) (w & BUFFER_MASK), co);
+			}
+			return true;
+		}
+
+		/**
+		 * 回放访问记录到访问顺序表中
+		 *
+		 * @param accessOrder 访问顺序表
+		 */
+		void drainTo(final LinkedHashMap<Mutable<K>, CacheObj<K, V>> accessOrder) {
+			long r = readCounter;
+			final long w = writeCounter.get();
+			CacheObj<K, V> co;
+			for (; r < w; r++) {
+				final int index = (int) (r & BUFFER_MASK);
+				co = buffer.get(index);
+				if (null == co) {
+					// 写入者尚未完成发布，下次再回放
+					break;
+				}
+				buffer.lazySet(index, null);
+				// access-order的LinkedHashMap，get即将对象移至尾部，已被移除的对象不会重新加入
+				accessOrder.get(MutableObj.of(co.key));
+			}
+			readCounter = r;
+		}
+	}
+}
@@ -57,6 +57,7 @@ public class FIFOCache<K, V> extends ReentrantCache<K, V> {
 				CacheObj<K, V> co = values.next();
 				if (co.isExpired()) {
 					values.remove();
+					statsRecorder.recordExpiration();
 					onRemove(co.key, co.obj);
 					count++;
 					continue;
@@ -72,6 +73,7 @@ public class FIFOCache<K, V> extends ReentrantCache<K, V> {
 		// 清理结束后依旧是满的，则删除第一个被缓存的对象
 		if (isFull() && null != first) {
 			removeWithoutLock(first.key);
+			statsRecorder.recordEviction();
 			onRemove(first.key, first.obj);
 			count++;
 		}
@@ -0,0 +1,258 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * O(1)复杂度的LFU(least frequently used) 最少使用率缓存<br>
+ * 与{@link LFUCache}每次淘汰都遍历全部对象不同，此缓存使用按访问次数分桶的双向链表：
+ * <ul>
+ *     <li>每个访问次数对应一个桶节点，节点按访问次数升序链接</li>
+ *     <li>对象被访问时从当前桶移动到次数+1的桶，新对象进入次数为0的桶</li>
+ *     <li>缓存满时淘汰访问次数最少的桶中最早进入的对象</li>
+ * </ul>
+ * 因此访问计数和淘汰均为O(1)，put吞吐不随容量增长而下降。<br>
+ * 注意：缓存满时直接淘汰最少使用的对象而不遍历清理过期对象，过期对象在get时或调用{@link #prune()}时清除。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.42
+ */
+public class FastLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 哨兵节点，head.next为访问次数最少的桶
+	 */
+	private final FrequencyNode<K> head;
+	/**
+	 * 键与所在桶的对应关系
+	 */
+	private final Map<Mutable<K>, FrequencyNode<K>> nodeMap;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 */
+	public FastLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  过期时长
+	 */
+	public FastLFUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		cacheMap = new HashMap<>(capacity + 1, 1.0f);
+		nodeMap = new HashMap<>(capacity + 1, 1.0f);
+		head = new FrequencyNode<>(-1);
+		head.prev = head;
+		head.next = head;
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final FrequencyNode<K> node = nodeMap.get(mKey);
+		if (null != node) {
+			// 覆盖的对象为新的CacheObj，访问次数归零
+			unlinkKey(mKey, node);
+		} else if (isFull()) {
+			// 缓存满时O(1)淘汰，父类中的isFull检查不会再触发pruneCache
+			evictLeastFrequent();
+		}
+		super.putWithoutLock(key, object, timeout);
+		addToFirst(mKey);
+	}
+
+	/**
+	 * get命中时视为一次访问，将其移动到下一个访问次数的桶<br>
+	 * {@link #containsKey(Object)}不计为访问，不影响淘汰顺序
+	 *
+	 * @param key 键
+	 * @param co  命中的对象
+	 */
+	@Override
+	protected void onHitWithoutLock(K key, CacheObj<K, V> co) {
+		increment(MutableObj.of(key));
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final FrequencyNode<K> node = nodeMap.get(mKey);
+		if (null != node) {
+			unlinkKey(mKey, node);
+		}
+		return super.removeWithoutLock(key);
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 清理过期对象。<br>
+	 * 清理后依旧满的情况下清除访问次数最少的对象。
+	 *
+	 * @return 清理个数
+	 */
+	@Override
+	protected int pruneCache() {
+		int count = 0;
+		if (isPruneExpiredActive()) {
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			CacheObj<K, V> co;
+			MutableObj<K> mKey;
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					mKey = MutableObj.of(co.key);
+					unlinkKey(mKey, nodeMap.get(mKey));
+					statsRecorder.recordExpiration();
+					onRemove(co.key, co.obj);
+					count++;
+				}
+			}
+		}
+
+		if (isFull() && evictLeastFrequent()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 淘汰访问次数最少的桶中最早进入的对象
+	 *
+	 * @return 是否有对象被淘汰
+	 */
+	private boolean evictLeastFrequent() {
+		final FrequencyNode<K> first = head.next;
+		if (first == head) {
+			return false;
+		}
+		final Mutable<K> mKey = first.keys.iterator().next();
+		unlinkKey(mKey, first);
+		final CacheObj<K, V> co = cacheMap.remove(mKey);
+		if (null != co) {
+			statsRecorder.recordEviction();
+			onRemove(co.key, co.obj);
+		}
+		return true;
+	}
+
+	/**
+	 * 新对象加入访问次数为0的桶
+	 *
+	 * @param mKey 键
+	 */
+	private void addToFirst(final Mutable<K> mKey) {
+		FrequencyNode<K> first = head.next;
+		if (first == head || first.frequency != 0) {
+			first = linkAfter(head, 0);
+		}
+		first.keys.add(mKey);
+		nodeMap.put(mKey, first);
+	}
+
+	/**
+	 * 将键移动到访问次数+1的桶
+	 *
+	 * @param mKey 键
+	 */
+	private void increment(final Mutable<K> mKey) {
+		final FrequencyNode<K> node = nodeMap.get(mKey);
+		if (null == node) {
+			return;
+		}
+		FrequencyNode<K> next = node.next;
+		if (next == head || next.frequency != node.frequency + 1) {
+			next = linkAfter(node, node.frequency + 1);
+		}
+		next.keys.add(mKey);
+		nodeMap.put(mKey, next);
+
+		node.keys.remove(mKey);
+		if (node.keys.isEmpty()) {
+			unlinkNode(node);
+		}
+	}
+
+	/**
+	 * 从桶中移除键，桶为空时移除桶
+	 *
+	 * @param mKey 键
+	 * @param node 键所在的桶
+	 */
+	private void unlinkKey(final Mutable<K> mKey, final FrequencyNode<K> node) {
+		nodeMap.remove(mKey);
+		if (null != node) {
+			node.keys.remove(mKey);
+			if (node.keys.isEmpty()) {
+				unlinkNode(node);
+			}
+		}
+	}
+
+	/**
+	 * 在指定节点后创建新的桶
+	 *
+	 * @param prev      前一个节点
+	 * @param frequency 访问次数
+	 * @return 新的桶
+	 */
+	private FrequencyNode<K> linkAfter(final FrequencyNode<K> prev, final long frequency) {
+		final FrequencyNode<K> node = new FrequencyNode<>(frequency);
+		node.prev = prev;
+		node.next = prev.next;
+		prev.next.prev = node;
+		prev.next = node;
+		return node;
+	}
+
+	/**
+	 * 从链表中移除桶
+	 *
+	 * @param node 桶
+	 */
+	private void unlinkNode(final FrequencyNode<K> node) {
+		node.prev.next = node.next;
+		node.next.prev = node.prev;
+		node.prev = null;
+		node.next = null;
+	}
+
+	/**
+	 * 访问次数桶节点，桶内的键按照进入顺序排列
+	 *
+	 * @param <K> 键类型
+	 */
+	private static class FrequencyNode<K> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long frequency;
+		private final LinkedHashSet<Mutable<K>> keys = new LinkedHashSet<>();
+		private FrequencyNode<K> prev;
+		private FrequencyNode<K> next;
+
+		FrequencyNode(final long frequency) {
+			this.frequency = frequency;
+		}
+	}
+}
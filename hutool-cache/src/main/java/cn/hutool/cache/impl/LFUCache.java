@@ -63,6 +63,7 @@ public class LFUCache<K, V> extends ReentrantCache<K, V> {
 			co = values.next();
 			if (co.isExpired() == true) {
 				values.remove();
+				statsRecorder.recordExpiration();
 				onRemove(co.key, co.obj);
 				count++;
 				continue;
@@ -84,6 +85,7 @@ public class LFUCache<K, V> extends ReentrantCache<K, V> {
 				co1 = values.next();
 				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
 					values.remove();
+					statsRecorder.recordEviction();
 					onRemove(co1.key, co1.obj);
 					count++;
 				}
@@ -45,6 +45,7 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
 		fixedLinkedHashMap.setRemoveListener(entry -> {
+			statsRecorder.recordEviction();
 			if(null != listener){
 				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
 			}
@@ -69,6 +70,7 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
+				statsRecorder.recordExpiration();
 				onRemove(co.key, co.obj);
 				count++;
 			}
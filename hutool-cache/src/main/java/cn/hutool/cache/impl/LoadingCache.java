@@ -0,0 +1,490 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.core.collection.ConcurrentHashSet;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.GlobalThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 自动加载缓存，包装一个{@link AbstractCache}，在对象不存在或过期时通过加载器加载<br>
+ * 与{@link ReentrantCache#get(Object, boolean, long, Func0)}在全局锁中加载不同，此缓存：
+ * <ul>
+ *     <li>按key合并加载：同一个key的并发未命中共享同一次加载结果，不同key的加载互不阻塞</li>
+ *     <li>提前刷新：设置{@link #setRefreshAfterWrite(long)}后，对象加载超过指定时长后再被访问时，异步重新加载，加载期间依旧返回旧值</li>
+ *     <li>批量加载：{@link #getAll(Collection, Func1)}将所有未命中的key合并为一次后端调用</li>
+ * </ul>
+ * 注意：加载器中如果循环依赖其它线程正在加载的key，会造成互相等待，加载器应避免此类依赖。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.42
+ */
+public class LoadingCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 被包装的缓存
+	 */
+	private final AbstractCache<K, V> cache;
+	/**
+	 * 默认加载器
+	 */
+	private final Func1<K, V> loader;
+	/**
+	 * 正在加载中的key与加载结果
+	 */
+	private final Map<K, CompletableFuture<V>> loadingMap = new SafeConcurrentHashMap<>();
+	/**
+	 * key最后一次加载的时间，用于判断是否需要提前刷新
+	 */
+	private final Map<K, Long> loadTimeMap = new SafeConcurrentHashMap<>();
+	/**
+	 * 正在异步刷新的key
+	 */
+	private final Set<K> refreshingKeys = new ConcurrentHashSet<>();
+
+	/**
+	 * 加载后多久再次访问时触发异步刷新，单位毫秒，0表示不刷新
+	 */
+	private long refreshAfterWrite;
+	/**
+	 * 异步刷新使用的线程池，{@code null}表示使用{@link GlobalThreadPool}
+	 */
+	private transient Executor executor;
+	/**
+	 * 构造时被包装缓存已有的监听
+	 */
+	private final CacheListener<K, V> rawListener;
+	/**
+	 * 用户设置的缓存监听
+	 */
+	private CacheListener<K, V> listener;
+
+	/**
+	 * 构造<br>
+	 * 被包装缓存已有的监听会保留，移除对象时先调用已有的监听，再调用{@link #setListener(CacheListener)}设置的监听
+	 *
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器，返回{@code null}表示值不存在，不缓存
+	 */
+	public LoadingCache(AbstractCache<K, V> cache, Func1<K, V> loader) {
+		this.cache = Assert.notNull(cache, "Cache must be not null!");
+		this.loader = Assert.notNull(loader, "Loader must be not null!");
+		this.rawListener = cache.listener;
+		cache.setListener(this::onRemove);
+	}
+
+	/**
+	 * 设置提前刷新时长，对象加载超过此时长后再被访问时，异步重新加载<br>
+	 * 此值应小于缓存的过期时长，以便在对象过期前完成刷新
+	 *
+	 * @param refreshAfterWrite 刷新时长，单位毫秒，0表示不刷新
+	 * @return this
+	 */
+	public LoadingCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置异步刷新使用的线程池
+	 *
+	 * @param executor 线程池，{@code null}表示使用{@link GlobalThreadPool}
+	 * @return this
+	 */
+	public LoadingCache<K, V> setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * 获取被包装的缓存
+	 *
+	 * @return 被包装的缓存
+	 */
+	public AbstractCache<K, V> getRaw() {
+		return this.cache;
+	}
+
+	// ---------------------------------------------------------------- get start
+
+	/**
+	 * 获取缓存中的值，不存在时不加载
+	 *
+	 * @param key 键
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V getIfPresent(K key) {
+		return cache.get(key, true);
+	}
+
+	/**
+	 * 获取值，不存在或过期时使用加载器加载
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @return 值
+	 */
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return get(key, isUpdateLastAccess, cache.timeout(), () -> loader.call(key));
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return get(key, isUpdateLastAccess, cache.timeout(), supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		final V v = cache.get(key, isUpdateLastAccess);
+		if (null != v) {
+			refreshIfNecessary(key, timeout);
+			return v;
+		}
+		if (null == supplier) {
+			return null;
+		}
+		return load(key, isUpdateLastAccess, timeout, supplier);
+	}
+
+	/**
+	 * 批量获取值，所有未命中的key合并为一次加载<br>
+	 * 已经由其它线程加载中的key不重复加载，而是等待其结果
+	 *
+	 * @param keys       键列表，不能包含{@code null}
+	 * @param bulkLoader 批量加载器，传入未命中的key，返回key与值的对应Map，未返回的key视为不存在
+	 * @return 键值对，按照keys的顺序，不存在的key不包含在结果中
+	 * @throws IllegalArgumentException keys中包含{@code null}
+	 */
+	public Map<K, V> getAll(Collection<K> keys, Func1<Collection<K>, Map<K, V>> bulkLoader) {
+		Assert.notNull(keys, "Keys must be not null!");
+		for (final K key : keys) {
+			// 批量加载的key需要放入加载中Map合并，不支持null键
+			Assert.notNull(key, "Keys must not contain null, use get(key) for null key!");
+		}
+		final Map<K, V> result = new LinkedHashMap<>(keys.size(), 1.0f);
+		// 本线程负责加载的key
+		final Map<K, CompletableFuture<V>> ownFutures = new LinkedHashMap<>();
+		// 其它线程加载中的key
+		final Map<K, CompletableFuture<V>> otherFutures = new LinkedHashMap<>();
+
+		V v;
+		for (final K key : keys) {
+			if (result.containsKey(key) || ownFutures.containsKey(key) || otherFutures.containsKey(key)) {
+				continue;
+			}
+			v = cache.get(key, true);
+			if (null != v) {
+				result.put(key, v);
+				refreshIfNecessary(key, cache.timeout());
+				continue;
+			}
+			final CompletableFuture<V> future = new CompletableFuture<>();
+			final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+			if (null == existing) {
+				ownFutures.put(key, future);
+			} else {
+				otherFutures.put(key, existing);
+			}
+		}
+
+		if (false == ownFutures.isEmpty()) {
+			final List<K> missKeys = new ArrayList<>(ownFutures.keySet());
+			try {
+				final long start = System.nanoTime();
+				final Map<K, V> loaded;
+				try {
+					loaded = bulkLoader.call(missKeys);
+				} catch (Throwable e) {
+					cache.statsRecorder.recordLoadFailure(System.nanoTime() - start);
+					for (CompletableFuture<V> future : ownFutures.values()) {
+						future.completeExceptionally(e);
+					}
+					throw ExceptionUtil.wrapRuntime(e);
+				}
+				cache.statsRecorder.recordLoadSuccess(System.nanoTime() - start);
+
+				for (final Map.Entry<K, CompletableFuture<V>> entry : ownFutures.entrySet()) {
+					v = (null == loaded) ? null : loaded.get(entry.getKey());
+					if (null != v) {
+						putLoaded(entry.getKey(), v, cache.timeout());
+						result.put(entry.getKey(), v);
+					}
+					entry.getValue().complete(v);
+				}
+			} finally {
+				for (final Map.Entry<K, CompletableFuture<V>> entry : ownFutures.entrySet()) {
+					// 放入缓存异常时，未完成的future也需完成，避免等待的线程永久阻塞
+					entry.getValue().complete(null);
+					loadingMap.remove(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+
+		for (final Map.Entry<K, CompletableFuture<V>> entry : otherFutures.entrySet()) {
+			v = join(entry.getValue());
+			if (null != v) {
+				result.put(entry.getKey(), v);
+			}
+		}
+
+		// 按照传入key的顺序返回
+		final Map<K, V> ordered = new LinkedHashMap<>(result.size(), 1.0f);
+		for (final K key : keys) {
+			v = result.get(key);
+			if (null != v) {
+				ordered.put(key, v);
+			}
+		}
+		return ordered;
+	}
+
+	/**
+	 * 异步刷新指定key，刷新完成前依旧返回旧值，同一key同时只有一个刷新任务
+	 *
+	 * @param key 键
+	 */
+	public void refresh(K key) {
+		refresh(key, cache.timeout());
+	}
+	// ---------------------------------------------------------------- get end
+
+	// ---------------------------------------------------------------- delegate start
+	@Override
+	public int capacity() {
+		return cache.capacity();
+	}
+
+	@Override
+	public long timeout() {
+		return cache.timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		put(key, object, cache.timeout());
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		putLoaded(key, object, timeout);
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return cache.cacheObjIterator();
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return cache.iterator();
+	}
+
+	@Override
+	public int prune() {
+		return cache.prune();
+	}
+
+	@Override
+	public boolean isFull() {
+		return cache.isFull();
+	}
+
+	@Override
+	public void remove(K key) {
+		cache.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return cache.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return cache.containsKey(key);
+	}
+
+	@Override
+	public LoadingCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return cache.toString();
+	}
+	// ---------------------------------------------------------------- delegate end
+
+	/**
+	 * 合并加载，同一key只有一个线程执行加载，其它线程等待其结果
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @param timeout            过期时长
+	 * @param supplier           值生产者
+	 * @return 值
+	 */
+	private V load(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		if (null == key) {
+			// ConcurrentHashMap不支持null键，直接加载
+			return loadAndPut(null, timeout, supplier);
+		}
+
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+		if (null != existing) {
+			return join(existing);
+		}
+
+		try {
+			// 双重检查，防止在创建future前其它线程已经完成加载，containsKey不计入命中统计
+			final V v = cache.containsKey(key) ? cache.get(key, isUpdateLastAccess) : loadAndPut(key, timeout, supplier);
+			future.complete(v);
+			return v;
+		} catch (Throwable e) {
+			// 必须完成future，避免等待的线程永久阻塞
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loadingMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * 加载值并放入缓存，{@code null}值不放入
+	 *
+	 * @param key      键
+	 * @param timeout  过期时长
+	 * @param supplier 值生产者
+	 * @return 值
+	 */
+	private V loadAndPut(K key, long timeout, Func0<V> supplier) {
+		final V v = cache.load(supplier);
+		if (null != v) {
+			putLoaded(key, v, timeout);
+		}
+		return v;
+	}
+
+	/**
+	 * 放入缓存并记录加载时间<br>
+	 * 放入时覆盖旧值会触发移除回调，因此加载时间在放入后记录
+	 *
+	 * @param key     键
+	 * @param v       值
+	 * @param timeout 过期时长
+	 */
+	private void putLoaded(K key, V v, long timeout) {
+		cache.put(key, v, timeout);
+		if (null != key && refreshAfterWrite > 0) {
+			loadTimeMap.put(key, System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * 检查对象加载时长，超过刷新时长则异步刷新
+	 *
+	 * @param key     键
+	 * @param timeout 过期时长
+	 */
+	private void refreshIfNecessary(K key, long timeout) {
+		if (refreshAfterWrite <= 0 || null == key) {
+			return;
+		}
+		final Long loadTime = loadTimeMap.get(key);
+		if (null != loadTime && System.currentTimeMillis() - loadTime >= refreshAfterWrite) {
+			refresh(key, timeout);
+		}
+	}
+
+	/**
+	 * 异步刷新
+	 *
+	 * @param key     键
+	 * @param timeout 过期时长
+	 */
+	private void refresh(K key, long timeout) {
+		if (null == key || false == refreshingKeys.add(key)) {
+			return;
+		}
+		final Executor executor = (null == this.executor) ? GlobalThreadPool.getExecutor() : this.executor;
+		try {
+			executor.execute(() -> {
+				try {
+					loadAndPut(key, timeout, () -> loader.call(key));
+				} catch (Exception ignore) {
+					// 刷新失败保留旧值，失败已记录在统计中
+				} finally {
+					refreshingKeys.remove(key);
+				}
+			});
+		} catch (RuntimeException e) {
+			// 线程池拒绝
+			refreshingKeys.remove(key);
+			throw e;
+		}
+	}
+
+	/**
+	 * 缓存对象移除回调，清理加载时间并转发给用户监听
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 */
+	private void onRemove(K key, V cachedObject) {
+		if (null != key) {
+			loadTimeMap.remove(key);
+		}
+		if (null != rawListener) {
+			rawListener.onRemove(key, cachedObject);
+		}
+		final CacheListener<K, V> listener = this.listener;
+		if (null != listener) {
+			listener.onRemove(key, cachedObject);
+		}
+	}
+
+	/**
+	 * 等待其它线程的加载结果
+	 *
+	 * @param future 加载结果
+	 * @return 值
+	 */
+	private static <V> V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw ExceptionUtil.wrapRuntime(e.getCause());
+		}
+	}
+}
@@ -60,7 +60,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 				final CacheObj<K, V> co = getWithoutLock(key);
 				if (null == co) {
 					// supplier的创建是一个耗时过程，此处创建与全局锁无关，而与key锁相关，这样就保证每个key只创建一个value，且互斥
-					v = valueFactory.callWithRuntimeException();
+					v = load(valueFactory);
 					putWithoutLock(key, v, timeout);
 				}
 			} finally {
@@ -133,6 +133,18 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		}
 	}
 
+	/**
+	 * get命中未过期的对象时调用，此方法在锁内执行，可用于子类记录访问<br>
+	 * {@link #containsKey(Object)}等检查是否存在的方法不会调用此方法
+	 *
+	 * @param key 键
+	 * @param co  命中的对象
+	 * @since 5.8.42
+	 */
+	protected void onHitWithoutLock(K key, CacheObj<K, V> co) {
+		// 默认不做处理
+	}
+
 	/**
 	 * 获得值或清除过期值
 	 * @param key 键
@@ -148,8 +160,11 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			if(null != co && co.isExpired()){
 				//过期移除
 				removeWithoutLock(key);
+				statsRecorder.recordExpiration();
 				onRemove(co.key, co.obj);
 				co = null;
+			} else if (null != co && isUpdateCount) {
+				onHitWithoutLock(key, co);
 			}
 		} finally {
 			lock.unlock();
@@ -158,13 +173,13 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		// 未命中
 		if (null == co) {
 			if(isUpdateCount){
-				missCount.increment();
+				recordMiss();
 			}
 			return null;
 		}
 
 		if(isUpdateCount){
-			hitCount.increment();
+			recordHit();
 		}
 		return co.get(isUpdateLastAccess);
 	}
@@ -133,12 +133,12 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		// 未命中
 		if (null == co) {
 			if (isUpdateCount) {
-				missCount.increment();
+				recordMiss();
 			}
 			return null;
 		} else if (false == co.isExpired()) {
 			if (isUpdateCount) {
-				hitCount.increment();
+				recordHit();
 			}
 			return co.get(isUpdateLastAccess);
 		}
@@ -165,13 +165,14 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			if (false == co.isExpired()) {
 				// 首先尝试获取值，如果值存在且有效，返回之
 				if (isUpdateCount) {
-					hitCount.increment();
+					recordHit();
 				}
 				return co.getValue();
 			}
 
 			// 无效移除
 			co = removeWithoutLock(key);
+			statsRecorder.recordExpiration();
 		} finally {
 			lock.unlockWrite(stamp);
 		}
@@ -59,6 +59,7 @@ public class TimedCache<K, V> extends ReentrantCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
+				statsRecorder.recordExpiration();
 				onRemove(co.key, co.obj);
 				count++;
 			}
@@ -0,0 +1,331 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 基于多层时间轮的定时缓存<br>
+ * {@link TimedCache}的清理需要遍历全部缓存对象，对象数量巨大时，清理期间的锁会阻塞所有读写。<br>
+ * 此缓存将带有过期时长的对象按照过期时间放入多层时间轮：
+ * <ul>
+ *     <li>清理时只推进时间轮，处理到期的槽，每个过期对象的清理均摊为O(1)，无需全局遍历</li>
+ *     <li>读取时只更新对象的最后访问时间，不操作时间轮，读延迟与{@link TimedCache}一致</li>
+ *     <li>槽到期时如对象因访问而延长了过期时间，重新放入对应的槽中</li>
+ *     <li>支持每个对象单独的过期时长，见{@link #put(Object, Object, long)}</li>
+ * </ul>
+ * 时间轮共5层，每层64个槽，最底层每槽跨度为64毫秒，因此对象被清理的时间可能比过期时间略晚，但get时依旧会实时判断过期。<br>
+ * 每次清理的耗时会被记录，可通过{@link #getLastPruneNanos()}等方法获取。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.42
+ */
+public class WheelTimedCache<K, V> extends TimedCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 时间轮
+	 */
+	private final TimerWheel<K, V> wheel;
+	/**
+	 * 键与时间轮节点的对应关系，用于移除和覆盖时O(1)从时间轮中摘除
+	 */
+	private final Map<Mutable<K>, WheelNode<K, V>> nodeMap;
+
+	// 清理耗时统计，均在锁内更新
+	private volatile long pruneCount;
+	private volatile long lastPruneNanos;
+	private volatile long maxPruneNanos;
+	private volatile long totalPruneNanos;
+
+	/**
+	 * 构造
+	 *
+	 * @param timeout 超时（过期）时长，单位毫秒
+	 */
+	public WheelTimedCache(long timeout) {
+		super(timeout);
+		this.wheel = new TimerWheel<>(System.currentTimeMillis());
+		this.nodeMap = new HashMap<>();
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		super.putWithoutLock(key, object, timeout);
+
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final WheelNode<K, V> oldNode = nodeMap.remove(mKey);
+		if (null != oldNode) {
+			TimerWheel.unlink(oldNode);
+		}
+		final CacheObj<K, V> co = cacheMap.get(mKey);
+		if (null != co && co.ttl > 0) {
+			final WheelNode<K, V> node = new WheelNode<>(mKey, co);
+			nodeMap.put(mKey, node);
+			wheel.schedule(node, co.lastAccess + co.ttl);
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final WheelNode<K, V> node = nodeMap.remove(MutableObj.of(key));
+		if (null != node) {
+			TimerWheel.unlink(node);
+		}
+		return super.removeWithoutLock(key);
+	}
+
+	/**
+	 * 推进时间轮，清理到期的对象
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		final long start = System.nanoTime();
+		final int count = wheel.advance(System.currentTimeMillis(), this::expire);
+
+		final long cost = System.nanoTime() - start;
+		pruneCount++;
+		lastPruneNanos = cost;
+		totalPruneNanos += cost;
+		if (cost > maxPruneNanos) {
+			maxPruneNanos = cost;
+		}
+		return count;
+	}
+
+	/**
+	 * 获取清理执行次数
+	 *
+	 * @return 清理执行次数
+	 */
+	public long getPruneCount() {
+		return pruneCount;
+	}
+
+	/**
+	 * 获取最近一次清理的耗时，单位纳秒
+	 *
+	 * @return 最近一次清理的耗时
+	 */
+	public long getLastPruneNanos() {
+		return lastPruneNanos;
+	}
+
+	/**
+	 * 获取单次清理的最大耗时，单位纳秒
+	 *
+	 * @return 单次清理的最大耗时
+	 */
+	public long getMaxPruneNanos() {
+		return maxPruneNanos;
+	}
+
+	/**
+	 * 获取清理总耗时，单位纳秒
+	 *
+	 * @return 清理总耗时
+	 */
+	public long getTotalPruneNanos() {
+		return totalPruneNanos;
+	}
+
+	/**
+	 * 时间轮槽到期回调，判断对象是否真正过期
+	 *
+	 * @param node 到期的节点
+	 * @param now  当前时间
+	 * @return 是否已过期并移除，{@code false}表示对象过期时间已延长，需要重新放入时间轮
+	 */
+	private boolean expire(final WheelNode<K, V> node, final long now) {
+		final CacheObj<K, V> co = node.co;
+		final long deadline = co.lastAccess + co.ttl;
+		if (deadline > now) {
+			node.deadline = deadline;
+			return false;
+		}
+		nodeMap.remove(node.key);
+		cacheMap.remove(node.key);
+		statsRecorder.recordExpiration();
+		onRemove(co.key, co.obj);
+		return true;
+	}
+
+	/**
+	 * 时间轮节点，双向链表
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	static class WheelNode<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Mutable<K> key;
+		final CacheObj<K, V> co;
+		long deadline;
+		WheelNode<K, V> prev;
+		WheelNode<K, V> next;
+
+		WheelNode(final Mutable<K> key, final CacheObj<K, V> co) {
+			this.key = key;
+			this.co = co;
+		}
+	}
+
+	/**
+	 * 槽到期处理函数
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	@FunctionalInterface
+	interface ExpireHandler<K, V> {
+		/**
+		 * 处理到期节点
+		 *
+		 * @param node 节点
+		 * @param now  当前时间
+		 * @return 是否已移除，{@code false}则重新放入时间轮
+		 */
+		boolean handle(WheelNode<K, V> node, long now);
+	}
+
+	/**
+	 * 多层时间轮，非线程安全，由缓存锁保护
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	static class TimerWheel<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 每层槽数，为2的幂
+		 */
+		private static final int BUCKETS = 64;
+		private static final int MASK = BUCKETS - 1;
+		/**
+		 * 每层一个槽跨度（毫秒）的位移，分别为：64ms、4.1s、4.4m、4.7h、12.4d
+		 */
+		private static final int[] SHIFT = {6, 12, 18, 24, 30};
+
+		private final WheelNode<K, V>[][] wheel;
+		private long currentTime;
+
+		TimerWheel(final long currentTime) {
+			this.currentTime = currentTime;
+			@SuppressWarnings("unchecked")
+			final WheelNode<K, V>[][] wheel = (WheelNode<K, V>[][]) new WheelNode<?, ?>[SHIFT.length][BUCKETS];
+			this.wheel = wheel;
+			for (int i = 0; i < SHIFT.length; i++) {
+				for (int j = 0; j < BUCKETS; j++) {
+					final WheelNode<K, V> sentinel = new WheelNode<>(null, null);
+					sentinel.prev = sentinel;
+					sentinel.next = sentinel;
+					wheel[i][j] = sentinel;
+				}
+			}
+		}
+
+		/**
+		 * 按照过期时间将节点放入对应层的槽中
+		 *
+		 * @param node     节点
+		 * @param deadline 过期时间
+		 */
+		void schedule(final WheelNode<K, V> node, final long deadline) {
+			node.deadline = deadline;
+			// 已经过期的节点放入当前槽，下次推进时即被处理
+			final long time = Math.max(deadline, currentTime);
+			final long duration = time - currentTime;
+			int level = SHIFT.length - 1;
+			for (int i = 0; i < SHIFT.length - 1; i++) {
+				if (duration < (1L << SHIFT[i + 1])) {
+					level = i;
+					break;
+				}
+			}
+			final WheelNode<K, V> sentinel = wheel[level][(int) ((time >>> SHIFT[level]) & MASK)];
+			node.prev = sentinel.prev;
+			node.next = sentinel;
+			sentinel.prev.next = node;
+			sentinel.prev = node;
+		}
+
+		/**
+		 * 推进时间轮到指定时间，处理途经的所有槽
+		 *
+		 * @param now     当前时间
+		 * @param handler 到期处理函数
+		 * @return 移除的节点数
+		 */
+		int advance(final long now, final ExpireHandler<K, V> handler) {
+			final long previousTime = currentTime;
+			currentTime = now;
+			int count = 0;
+			for (int i = 0; i < SHIFT.length; i++) {
+				final long previousTicks = previousTime >>> SHIFT[i];
+				final long currentTicks = now >>> SHIFT[i];
+				if (currentTicks - previousTicks <= 0) {
+					// 低层未跨越槽，高层必然也未跨越
+					break;
+				}
+				count += expire(i, previousTicks, currentTicks - previousTicks, now, handler);
+			}
+			return count;
+		}
+
+		/**
+		 * 从链表中摘除节点
+		 *
+		 * @param node 节点
+		 */
+		static <K, V> void unlink(final WheelNode<K, V> node) {
+			if (null != node.next) {
+				node.prev.next = node.next;
+				node.next.prev = node.prev;
+				node.prev = null;
+				node.next = null;
+			}
+		}
+
+		/**
+		 * 处理某一层中途经的槽，槽中的节点过期则移除，否则按新的过期时间重新放入（可能降层）
+		 */
+		private int expire(final int level, final long previousTicks, final long delta,
+						   final long now, final ExpireHandler<K, V> handler) {
+			final WheelNode<K, V>[] buckets = wheel[level];
+			final int steps = (int) Math.min(delta + 1, BUCKETS);
+			final int start = (int) (previousTicks & MASK);
+			int count = 0;
+			for (int i = 0; i < steps; i++) {
+				final WheelNode<K, V> sentinel = buckets[(start + i) & MASK];
+				WheelNode<K, V> node = sentinel.next;
+				// 先摘下整个槽，再逐个处理，避免重新放入同一槽时死循环
+				sentinel.prev.next = null;
+				sentinel.prev = sentinel;
+				sentinel.next = sentinel;
+
+				WheelNode<K, V> next;
+				while (null != node && node != sentinel) {
+					next = node.next;
+					node.prev = null;
+					node.next = null;
+					if (node.deadline <= now && handler.handle(node, now)) {
+						count++;
+					} else {
+						schedule(node, node.deadline);
+					}
+					node = next;
+				}
+			}
+			return count;
+		}
+	}
+}
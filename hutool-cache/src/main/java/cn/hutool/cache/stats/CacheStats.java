@@ -0,0 +1,152 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+
+/**
+ * 缓存统计信息快照，不可变对象
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 空的统计信息
+	 */
+	public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0);
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long evictionCount;
+	private final long expirationCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount         命中数
+	 * @param missCount        未命中数
+	 * @param loadSuccessCount 加载成功数
+	 * @param loadFailureCount 加载失败数
+	 * @param totalLoadTime    加载总耗时，单位纳秒
+	 * @param evictionCount    淘汰数
+	 * @param expirationCount  过期数
+	 */
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+					  long totalLoadTime, long evictionCount, long expirationCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCount = evictionCount;
+		this.expirationCount = expirationCount;
+	}
+
+	/**
+	 * @return 请求数，即命中数+未命中数
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为1
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 未命中数
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 未命中率，无请求时为0
+	 */
+	public double getMissRate() {
+		final long requestCount = getRequestCount();
+		return (requestCount == 0) ? 0.0 : (double) missCount / requestCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 加载总耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒，无加载时为0
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = loadSuccessCount + loadFailureCount;
+		return (loadCount == 0) ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 因容量限制淘汰的对象数
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return 因过期移除的对象数
+	 */
+	public long getExpirationCount() {
+		return expirationCount;
+	}
+
+	/**
+	 * 计算与另一个快照的差值，用于统计一段时间内的数据
+	 *
+	 * @param other 之前的快照
+	 * @return 差值
+	 */
+	public CacheStats minus(CacheStats other) {
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				Math.max(0, evictionCount - other.evictionCount),
+				Math.max(0, expirationCount - other.expirationCount));
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", loadSuccessCount=" + loadSuccessCount
+				+ ", loadFailureCount=" + loadFailureCount + ", totalLoadTime=" + totalLoadTime
+				+ ", evictionCount=" + evictionCount + ", expirationCount=" + expirationCount + "]";
+	}
+}
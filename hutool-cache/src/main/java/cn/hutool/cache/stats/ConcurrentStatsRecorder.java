@@ -0,0 +1,67 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于{@link LongAdder}的并发统计记录器<br>
+ * {@link LongAdder}在竞争时会分散到多个计数单元，因此多线程同时记录时不会产生明显竞争。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class ConcurrentStatsRecorder implements StatsRecorder, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expirationCount = new LongAdder();
+
+	@Override
+	public void recordHit() {
+		hitCount.increment();
+	}
+
+	@Override
+	public void recordMiss() {
+		missCount.increment();
+	}
+
+	@Override
+	public void recordLoadSuccess(long loadNanos) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadNanos);
+	}
+
+	@Override
+	public void recordLoadFailure(long loadNanos) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadNanos);
+	}
+
+	@Override
+	public void recordEviction() {
+		evictionCount.increment();
+	}
+
+	@Override
+	public void recordExpiration() {
+		expirationCount.increment();
+	}
+
+	@Override
+	public CacheStats snapshot() {
+		return new CacheStats(
+				hitCount.sum(),
+				missCount.sum(),
+				loadSuccessCount.sum(),
+				loadFailureCount.sum(),
+				totalLoadTime.sum(),
+				evictionCount.sum(),
+				expirationCount.sum());
+	}
+}
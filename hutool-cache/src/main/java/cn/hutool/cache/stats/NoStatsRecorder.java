@@ -0,0 +1,43 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 空统计记录器，不做任何记录，为缓存的默认记录器
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public enum NoStatsRecorder implements StatsRecorder {
+	/**
+	 * 单例对象
+	 */
+	INSTANCE;
+
+	@Override
+	public void recordHit() {
+	}
+
+	@Override
+	public void recordMiss() {
+	}
+
+	@Override
+	public void recordLoadSuccess(long loadNanos) {
+	}
+
+	@Override
+	public void recordLoadFailure(long loadNanos) {
+	}
+
+	@Override
+	public void recordEviction() {
+	}
+
+	@Override
+	public void recordExpiration() {
+	}
+
+	@Override
+	public CacheStats snapshot() {
+		return CacheStats.EMPTY;
+	}
+}
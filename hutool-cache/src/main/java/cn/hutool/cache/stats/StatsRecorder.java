@@ -0,0 +1,54 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存统计记录器，用于记录缓存的命中、未命中、加载、淘汰和过期等信息<br>
+ * 记录方法在缓存的读写路径上调用，实现应保证线程安全且尽量无竞争。
+ *
+ * @author looly
+ * @see NoStatsRecorder
+ * @see ConcurrentStatsRecorder
+ * @since 5.8.42
+ */
+public interface StatsRecorder {
+
+	/**
+	 * 记录一次命中
+	 */
+	void recordHit();
+
+	/**
+	 * 记录一次未命中
+	 */
+	void recordMiss();
+
+	/**
+	 * 记录一次成功的值加载
+	 *
+	 * @param loadNanos 加载耗时，单位纳秒
+	 */
+	void recordLoadSuccess(long loadNanos);
+
+	/**
+	 * 记录一次失败（抛出异常）的值加载
+	 *
+	 * @param loadNanos 加载耗时，单位纳秒
+	 */
+	void recordLoadFailure(long loadNanos);
+
+	/**
+	 * 记录一次因容量限制导致的淘汰
+	 */
+	void recordEviction();
+
+	/**
+	 * 记录一次因过期导致的移除
+	 */
+	void recordExpiration();
+
+	/**
+	 * 获取当前统计信息的快照
+	 *
+	 * @return {@link CacheStats}
+	 */
+	CacheStats snapshot();
+}
@@ -0,0 +1,7 @@
+/**
+ * 提供缓存命中率等统计信息的记录实现
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cache.stats;
\ No newline at end of file
@@ -0,0 +1,98 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ConcurrencyTester;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheStatsTest {
+
+	@Test
+	public void noStatsTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		assertSame(CacheStats.EMPTY, cache.getStats());
+		// 原有命中计数不受影响
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void lruStatsTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.recordStats();
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		cache.get("key1");
+		cache.get("key2");
+		cache.get("key3", () -> "value3");
+		cache.get("key4", () -> "value4");
+		assertThrows(RuntimeException.class, () -> cache.get("key5", () -> {
+			throw new RuntimeException("load error");
+		}));
+
+		final CacheStats stats = cache.getStats();
+		assertEquals(2, stats.getHitCount());
+		assertEquals(3, stats.getMissCount());
+		assertEquals(1, stats.getLoadSuccessCount());
+		assertEquals(1, stats.getLoadFailureCount());
+		assertEquals(2, stats.getEvictionCount());
+		assertEquals(0.4, stats.getHitRate(), 0.0001);
+		assertTrue(stats.getTotalLoadTime() > 0);
+	}
+
+	@Test
+	public void expirationStatsTest() {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(10);
+		cache.recordStats();
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		ThreadUtil.sleep(50);
+
+		cache.get("key1");
+		cache.prune();
+		final CacheStats stats = cache.getStats();
+		assertEquals(2, stats.getExpirationCount());
+		assertEquals(1, stats.getMissCount());
+		assertEquals(0, stats.getEvictionCount());
+	}
+
+	@Test
+	@Disabled
+	public void recorderOverheadTest() {
+		final int loop = 1000000;
+		for (int threadSize = 1; threadSize <= 64; threadSize <<= 2) {
+			final LRUCache<Integer, Integer> noStats = CacheUtil.newLRUCache(1000);
+			final LRUCache<Integer, Integer> withStats = CacheUtil.newLRUCache(1000);
+			withStats.recordStats();
+			for (int i = 0; i < 1000; i++) {
+				noStats.put(i, i);
+				withStats.put(i, i);
+			}
+
+			final ConcurrencyTester noStatsTester = ThreadUtil.concurrencyTest(threadSize, () -> {
+				for (int i = 0; i < loop; i++) {
+					noStats.get(RandomUtil.randomInt(2000));
+				}
+			});
+			final ConcurrencyTester withStatsTester = ThreadUtil.concurrencyTest(threadSize, () -> {
+				for (int i = 0; i < loop; i++) {
+					withStats.get(RandomUtil.randomInt(2000));
+				}
+			});
+			Console.log("threads: {}, no stats: {}ms, with stats: {}ms",
+					threadSize, noStatsTester.getInterval(), withStatsTester.getInterval());
+		}
+	}
+}
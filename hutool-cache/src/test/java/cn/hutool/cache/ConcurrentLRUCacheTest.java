@@ -0,0 +1,120 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ConcurrencyTester;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void lruTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		// 访问0，使1成为最久未使用的对象
+		assertEquals(0, cache.get(0));
+
+		cache.put(11, 11);
+		assertEquals(10, cache.size());
+		assertNull(cache.get(1));
+		assertEquals(0, cache.get(0));
+		assertEquals(11, cache.get(11));
+	}
+
+	@Test
+	public void listenerTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		for (int i = 0; i < 10; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+		assertEquals(7, removeCount.get());
+		assertEquals(3, cache.size());
+
+		// 替换不触发淘汰，但旧值触发移除回调
+		cache.put("key-9", 99);
+		assertEquals(8, removeCount.get());
+		assertEquals(3, cache.size());
+
+		cache.clear();
+		assertEquals(11, removeCount.get());
+		assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void timeoutTest() {
+		final ConcurrentLRUCache<String, String> cache = CacheUtil.newConcurrentLRUCache(10, 10);
+		cache.put("a", "1");
+		cache.put("b", "2", 0);
+		ThreadUtil.sleep(50);
+		assertNull(cache.get("a"));
+		assertEquals("2", cache.get("b"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void concurrentPutGetTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(100);
+		final AtomicInteger removeCount = new AtomicInteger();
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		final AtomicInteger putCount = new AtomicInteger();
+
+		ThreadUtil.concurrencyTest(16, () -> {
+			for (int i = 0; i < 2000; i++) {
+				final int key = RandomUtil.randomInt(1000);
+				if (null == cache.get(key)) {
+					cache.put(key, key);
+					putCount.incrementAndGet();
+				}
+			}
+		});
+
+		assertEquals(100, cache.size());
+		assertEquals(putCount.get() - 100, removeCount.get());
+	}
+
+	@Test
+	@Disabled
+	public void compareWithLRUCacheTest() {
+		final int capacity = 10000;
+		final int keySize = 20000;
+		final int loop = 100000;
+		for (int threadSize = 1; threadSize <= 64; threadSize <<= 1) {
+			final LRUCache<Integer, Integer> lruCache = CacheUtil.newLRUCache(capacity);
+			final ConcurrentLRUCache<Integer, Integer> concurrentCache = CacheUtil.newConcurrentLRUCache(capacity);
+			for (int i = 0; i < capacity; i++) {
+				lruCache.put(i, i);
+				concurrentCache.put(i, i);
+			}
+
+			final ConcurrencyTester lruTester = ThreadUtil.concurrencyTest(threadSize, () -> readMostly(lruCache, keySize, loop));
+			final ConcurrencyTester concurrentTester = ThreadUtil.concurrencyTest(threadSize, () -> readMostly(concurrentCache, keySize, loop));
+			Console.log("threads: {}, LRUCache: {}ms, ConcurrentLRUCache: {}ms",
+					threadSize, lruTester.getInterval(), concurrentTester.getInterval());
+		}
+	}
+
+	private static void readMostly(final Cache<Integer, Integer> cache, final int keySize, final int loop) {
+		for (int i = 0; i < loop; i++) {
+			final int key = RandomUtil.randomInt(keySize);
+			if (null == cache.get(key) && (i & 7) == 0) {
+				cache.put(key, key);
+			}
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.FastLFUCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FastLFUCacheTest {
+
+	@Test
+	public void evictTest() {
+		final FastLFUCache<String, String> cache = CacheUtil.newFastLFUCache(3);
+		final List<String> removed = new ArrayList<>();
+		cache.setListener((key, value) -> removed.add(key));
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		// key1访问2次，key3访问1次，key2未访问
+		cache.get("key1");
+		cache.get("key1");
+		cache.get("key3");
+
+		cache.put("key4", "value4");
+		assertEquals(3, cache.size());
+		assertFalse(cache.containsKey("key2"));
+
+		// key4未访问，访问次数最少
+		cache.put("key5", "value5");
+		assertEquals("[key2, key4]", removed.toString());
+		assertNotNull(cache.get("key1"));
+		assertNotNull(cache.get("key3"));
+		assertNotNull(cache.get("key5"));
+	}
+
+	@Test
+	public void containsKeyNotCountTest() {
+		final FastLFUCache<String, String> cache = CacheUtil.newFastLFUCache(2);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key2");
+		// 检查是否存在不计为访问
+		for (int i = 0; i < 3; i++) {
+			assertTrue(cache.containsKey("key1"));
+		}
+
+		cache.put("key3", "value3");
+		assertFalse(cache.containsKey("key1"));
+		assertTrue(cache.containsKey("key2"));
+	}
+
+	@Test
+	public void replaceTest() {
+		final FastLFUCache<String, String> cache = CacheUtil.newFastLFUCache(2);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key1");
+		cache.get("key2");
+		cache.get("key2");
+
+		// 覆盖后访问次数归零，成为最先被淘汰的对象
+		cache.put("key2", "value22");
+		assertEquals(2, cache.size());
+		cache.put("key3", "value3");
+		assertNull(cache.get("key2"));
+		assertEquals("value1", cache.get("key1"));
+	}
+
+	@Test
+	public void timeoutTest() {
+		final FastLFUCache<String, String> cache = CacheUtil.newFastLFUCache(3, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(50);
+
+		assertEquals(1, cache.prune());
+		assertEquals(1, cache.size());
+		assertEquals("value2", cache.get("key2"));
+
+		cache.remove("key2");
+		assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	@Disabled
+	public void putPerformanceTest() {
+		for (int capacity = 1000; capacity <= 100000; capacity *= 10) {
+			final LFUCache<Integer, Integer> lfuCache = CacheUtil.newLFUCache(capacity);
+			final FastLFUCache<Integer, Integer> fastLfuCache = CacheUtil.newFastLFUCache(capacity);
+			final int count = capacity * 2;
+
+			final TimeInterval timer = new TimeInterval();
+			for (int i = 0; i < count; i++) {
+				lfuCache.put(i, i);
+			}
+			final long lfuTime = timer.intervalRestart();
+			for (int i = 0; i < count; i++) {
+				fastLfuCache.put(i, i);
+			}
+			Console.log("capacity: {}, LFUCache: {}ms, FastLFUCache: {}ms", capacity, lfuTime, timer.interval());
+		}
+	}
+}
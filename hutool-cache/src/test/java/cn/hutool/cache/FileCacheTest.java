@@ -4,6 +4,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import cn.hutool.cache.file.LFUFileCache;
+import cn.hutool.cache.file.MappedFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 /**
  * 文件缓存单元测试
@@ -16,4 +24,37 @@ public class FileCacheTest {
 		LFUFileCache cache = new LFUFileCache(1000, 500, 2000);
 		assertNotNull(cache);
 	}
+
+	@Test
+	public void mappedFileCacheTest() {
+		final File file1 = FileUtil.writeUtf8String(StrUtil.repeat('a', 400), FileUtil.createTempFile());
+		final File file2 = FileUtil.writeUtf8String(StrUtil.repeat('b', 400), FileUtil.createTempFile());
+		final File file3 = FileUtil.writeUtf8String(StrUtil.repeat('c', 400), FileUtil.createTempFile());
+		try {
+			final MappedFileCache cache = new MappedFileCache(1000);
+			final ByteBuffer buffer = cache.getByteBuffer(file1);
+			assertTrue(buffer.isReadOnly());
+			assertEquals(400, buffer.remaining());
+			assertEquals('a', buffer.get(0));
+
+			cache.getByteBuffer(file2);
+			assertEquals(800, cache.getMappedSize());
+
+			// 超出容量，淘汰最久未使用的file1
+			cache.getByteBuffer(file3);
+			assertEquals(2, cache.getCachedFilesCount());
+			assertEquals(800, cache.getMappedSize());
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			assertEquals(400, cache.writeTo(file2, Channels.newChannel(out)));
+			assertEquals(StrUtil.repeat('b', 400), StrUtil.utf8Str(out.toByteArray()));
+
+			cache.clear();
+			assertEquals(0, cache.getMappedSize());
+		} finally {
+			FileUtil.del(file1);
+			FileUtil.del(file2);
+			FileUtil.del(file3);
+		}
+	}
 }
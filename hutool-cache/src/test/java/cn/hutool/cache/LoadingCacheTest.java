@@ -0,0 +1,152 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.LoadingCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadingCacheTest {
+
+	@Test
+	public void coalesceTest() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			loadCount.incrementAndGet();
+			ThreadUtil.sleep(200);
+			return key + "-value";
+		});
+
+		ThreadUtil.concurrencyTest(16, () -> assertEquals("a-value", cache.get("a")));
+		assertEquals(1, loadCount.get());
+		assertEquals("a-value", cache.getIfPresent("a"));
+	}
+
+	@Test
+	public void otherKeyNotBlockedTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			if ("slow".equals(key)) {
+				ThreadUtil.sleep(1000);
+			}
+			return key;
+		});
+
+		ThreadUtil.execute(() -> cache.get("slow"));
+		ThreadUtil.sleep(50);
+		final long start = System.currentTimeMillis();
+		assertEquals("fast", cache.get("fast"));
+		assertTrue(System.currentTimeMillis() - start < 500);
+	}
+
+	@Test
+	public void loadErrorTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			throw new IllegalStateException("load error");
+		});
+		assertThrows(IllegalStateException.class, () -> cache.get("a"));
+		assertFalse(cache.containsKey("a"));
+	}
+
+	@Test
+	public void nullValueTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> null);
+		assertNull(cache.get("a"));
+		assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void refreshAheadTest() {
+		final AtomicInteger version = new AtomicInteger();
+		final TimedCache<String, Integer> timedCache = CacheUtil.newTimedCache(1000);
+		final LoadingCache<String, Integer> cache = CacheUtil.newLoadingCache(timedCache, key -> version.incrementAndGet());
+		cache.setRefreshAfterWrite(100);
+
+		assertEquals(1, cache.get("a"));
+		ThreadUtil.sleep(150);
+		// 超过刷新时间，返回旧值并异步刷新
+		assertEquals(1, cache.get("a"));
+		ThreadUtil.sleep(200);
+		assertEquals(2, cache.getIfPresent("a"));
+	}
+
+	@Test
+	public void getAllTest() {
+		final List<List<String>> bulkCalls = new CopyOnWriteArrayList<>();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> key);
+		cache.put("b", "cached-b");
+
+		final Map<String, String> result = cache.getAll(ListUtil.of("a", "b", "c", "d"), keys -> {
+			bulkCalls.add(ListUtil.toList(keys));
+			final Map<String, String> map = new HashMap<>();
+			for (final String key : keys) {
+				// d不存在
+				if (false == "d".equals(key)) {
+					map.put(key, "loaded-" + key);
+				}
+			}
+			return map;
+		});
+
+		assertEquals(1, bulkCalls.size());
+		assertEquals(ListUtil.of("a", "c", "d"), bulkCalls.get(0));
+		assertEquals("{a=loaded-a, b=cached-b, c=loaded-c}", result.toString());
+		assertEquals("loaded-c", cache.getIfPresent("c"));
+		assertNull(cache.getIfPresent("d"));
+	}
+
+	@Test
+	public void listenerTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final LoadingCache<Integer, Integer> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(2), key -> key);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		cache.get(1);
+		cache.get(2);
+		cache.get(3);
+		assertEquals(1, removeCount.get());
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void rawListenerTest() {
+		final AtomicInteger rawRemoveCount = new AtomicInteger();
+		final AtomicInteger removeCount = new AtomicInteger();
+		final LRUCache<Integer, Integer> lruCache = CacheUtil.newLRUCache(1);
+		lruCache.setListener((key, value) -> rawRemoveCount.incrementAndGet());
+		// 包装缓存已有的监听保留，并与新设置的监听一起调用
+		final LoadingCache<Integer, Integer> cache = CacheUtil.newLoadingCache(lruCache, key -> key);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		cache.get(1);
+		cache.get(2);
+		assertEquals(1, rawRemoveCount.get());
+		assertEquals(1, removeCount.get());
+	}
+
+	@Test
+	public void getAllNullKeyTest() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> key);
+		final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> cache.getAll(Arrays.asList("a", null), keys -> {
+					loadCount.incrementAndGet();
+					return new HashMap<>();
+				}));
+		assertTrue(e.getMessage().contains("null"));
+		// 参数检查在加载前完成
+		assertEquals(0, loadCount.get());
+		assertNull(cache.getIfPresent("a"));
+	}
+}
@@ -0,0 +1,88 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.WheelTimedCache;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WheelTimedCacheTest {
+
+	@Test
+	public void pruneTest() {
+		final WheelTimedCache<String, String> cache = CacheUtil.newWheelTimedCache(100);
+		final AtomicInteger removeCount = new AtomicInteger();
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 10);
+		cache.put("key3", "value3", 5000);
+		// 永不过期
+		cache.put("key4", "value4", 0);
+
+		ThreadUtil.sleep(300);
+		assertEquals(2, cache.prune());
+		assertEquals(2, removeCount.get());
+		assertEquals(2, cache.size());
+		assertEquals("value3", cache.get("key3"));
+		assertEquals("value4", cache.get("key4"));
+		assertTrue(cache.getPruneCount() > 0);
+	}
+
+	@Test
+	public void accessExtendTest() {
+		final WheelTimedCache<String, String> cache = CacheUtil.newWheelTimedCache(200);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		for (int i = 0; i < 5; i++) {
+			ThreadUtil.sleep(100);
+			// 访问刷新过期时间
+			cache.get("key1");
+			cache.prune();
+		}
+		assertEquals("value1", cache.get("key1", false));
+		assertNull(cache.get("key2"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void replaceAndRemoveTest() {
+		final WheelTimedCache<String, String> cache = CacheUtil.newWheelTimedCache(10);
+		cache.put("key1", "value1");
+		cache.put("key1", "value11", 5000);
+		cache.put("key2", "value2");
+		cache.remove("key2");
+
+		ThreadUtil.sleep(200);
+		assertEquals(0, cache.prune());
+		assertEquals("value11", cache.get("key1"));
+	}
+
+	@Test
+	@Disabled
+	public void prunePauseTest() {
+		final int size = 1000000;
+		final TimedCache<Integer, Integer> timedCache = CacheUtil.newTimedCache(60000);
+		final WheelTimedCache<Integer, Integer> wheelCache = CacheUtil.newWheelTimedCache(60000);
+		for (int i = 0; i < size; i++) {
+			timedCache.put(i, i, i % 1000 + 1);
+			wheelCache.put(i, i, i % 1000 + 1);
+		}
+		ThreadUtil.sleep(100);
+
+		final TimeInterval timer = new TimeInterval();
+		final int timedCount = timedCache.prune();
+		final long timedTime = timer.intervalRestart();
+		final int wheelCount = wheelCache.prune();
+		Console.log("TimedCache: pruned {} in {}ms, WheelTimedCache: pruned {} in {}ms, last pause: {}ns",
+				timedCount, timedTime, wheelCount, timer.interval(), wheelCache.getLastPruneNanos());
+	}
+}
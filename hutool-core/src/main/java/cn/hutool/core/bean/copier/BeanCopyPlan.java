@@ -0,0 +1,280 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanException;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.convert.TypeConverter;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.lang.Opt;
+import cn.hutool.core.lang.func.LambdaFactory;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.map.reference.WeakKeyConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean到Bean的拷贝计划<br>
+ * 按照源类型、目标类型和影响属性匹配的拷贝选项缓存，预先计算源属性与目标属性的对应关系、目标属性的实际类型及是否可以免转换，
+ * Getter和Setter通过{@link LambdaFactory}生成函数调用，无法生成时使用反射。<br>
+ * 属性过滤、值编辑、忽略{@code null}、忽略错误、覆盖和类型转换等与值相关的选项在每次拷贝时生效，结果与逐属性查找的方式一致。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+final class BeanCopyPlan {
+
+	/**
+	 * 拷贝计划缓存，源类型 -&gt; (目标类型和选项 -&gt; 计划)
+	 */
+	private static final WeakKeyConcurrentMap<Class<?>, Map<Key, BeanCopyPlan>> CACHE = new WeakKeyConcurrentMap<>();
+
+	/**
+	 * 获取拷贝计划，存在字段名编辑器、目标类型非Class或拷贝选项为子类时返回{@code null}，此时需逐属性拷贝
+	 *
+	 * @param sourceClass 源Bean类型
+	 * @param editable    限制的目标类型
+	 * @param targetType  目标类型
+	 * @param options     拷贝选项
+	 * @return 拷贝计划或{@code null}
+	 */
+	static BeanCopyPlan get(Class<?> sourceClass, Class<?> editable, Type targetType, CopyOptions options) {
+		if (CopyOptions.class != options.getClass() || options.hasFieldNameEditor() || false == targetType instanceof Class) {
+			return null;
+		}
+		final Key key = new Key(editable, (Class<?>) targetType, options);
+		return CACHE.computeIfAbsent(sourceClass, (clazz) -> new SafeConcurrentHashMap<>())
+				.computeIfAbsent(key, (k) -> new BeanCopyPlan(sourceClass, editable, targetType, options));
+	}
+
+	private final Entry[] entries;
+
+	/**
+	 * 构造，属性匹配规则与{@link BeanToBeanCopier#copy()}一致
+	 *
+	 * @param sourceClass 源Bean类型
+	 * @param editable    限制的目标类型
+	 * @param targetType  目标类型
+	 * @param options     拷贝选项
+	 */
+	private BeanCopyPlan(Class<?> sourceClass, Class<?> editable, Type targetType, CopyOptions options) {
+		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(editable).getPropMap(options.ignoreCase);
+		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(sourceClass).getPropMap(options.ignoreCase);
+		final List<Entry> entries = new ArrayList<>(sourcePropDescMap.size());
+		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
+			if (null == sFieldName || false == sDesc.isReadable(options.transientSupport)) {
+				return;
+			}
+			if (false == options.testKeyFilter(sFieldName)) {
+				return;
+			}
+			final PropDesc tDesc = options.findPropDesc(targetPropDescMap, sFieldName);
+			if (null == tDesc || false == tDesc.isWritable(options.transientSupport)) {
+				return;
+			}
+			entries.add(new Entry(sFieldName, sDesc, tDesc, TypeUtil.getActualType(targetType, tDesc.getFieldType())));
+		});
+		this.entries = entries.toArray(new Entry[0]);
+	}
+
+	/**
+	 * 按照计划拷贝属性
+	 *
+	 * @param source  源Bean
+	 * @param target  目标Bean
+	 * @param options 拷贝选项
+	 */
+	void copy(Object source, Object target, CopyOptions options) {
+		final boolean defaultConvert = options.isDefaultConverter();
+		final boolean formatDate = null != options.getFormatIfDate();
+		for (Entry entry : this.entries) {
+			entry.copy(source, target, options, defaultConvert, formatDate);
+		}
+	}
+
+	/**
+	 * 单个属性的拷贝项
+	 */
+	private static class Entry {
+		private final String name;
+		private final PropDesc sourceDesc;
+		private final Field sourceField;
+		private final Function<Object, Object> getter;
+		private final PropDesc targetDesc;
+		private final Type fieldType;
+		/**
+		 * 目标属性的类型，即{@link PropDesc#setValue(Object, Object, boolean, boolean, boolean)}中的转换类型
+		 */
+		private final Class<?> targetClass;
+		private final BiConsumer<Object, Object> setter;
+		/**
+		 * 源属性的值已是目标类型，默认转换器返回原值，可跳过转换
+		 */
+		private final boolean direct;
+		/**
+		 * 目标类型是否为简单值类型，默认转换器对此类型不使用自定义转换器
+		 */
+		private final boolean simpleTarget;
+		private final boolean dateTarget;
+
+		Entry(String name, PropDesc sourceDesc, PropDesc targetDesc, Type fieldType) {
+			this.name = name;
+			this.sourceDesc = sourceDesc;
+			this.sourceField = sourceDesc.getField();
+			this.targetDesc = targetDesc;
+			this.fieldType = fieldType;
+			this.targetClass = BasicType.wrap(targetDesc.getFieldClass());
+
+			this.getter = LambdaFactory.getter(sourceDesc.getGetter());
+
+			final Method setterMethod = targetDesc.getSetter();
+			// 值转换为属性类型后需能直接传入Setter
+			this.setter = (null == setterMethod || false == BasicType.wrap(setterMethod.getParameterTypes()[0]).isAssignableFrom(this.targetClass)) ? null :
+					LambdaFactory.setter(setterMethod);
+
+			final Class<?> fieldClass = fieldType instanceof Class ? BasicType.wrap((Class<?>) fieldType) : null;
+			this.direct = null != fieldClass
+					&& fieldClass.isAssignableFrom(BasicType.wrap(sourceDesc.getFieldClass()))
+					&& false == Collection.class.isAssignableFrom(fieldClass)
+					&& false == Map.class.isAssignableFrom(fieldClass)
+					&& false == Map.Entry.class.isAssignableFrom(fieldClass);
+			this.simpleTarget = null != fieldClass && ClassUtil.isSimpleValueType(fieldClass);
+			this.dateTarget = fieldType instanceof Class && Date.class.isAssignableFrom((Class<?>) fieldType);
+		}
+
+		/**
+		 * 拷贝属性，与{@link BeanToBeanCopier#copy()}中单个属性的处理一致
+		 */
+		void copy(Object source, Object target, CopyOptions options, boolean defaultConvert, boolean formatDate) {
+			Object value = getValue(source);
+			if (false == options.testPropertyFilter(this.sourceField, value)) {
+				return;
+			}
+			if (false == canSkipConvert(value, defaultConvert, formatDate)) {
+				value = options.convertField(this.fieldType, value);
+			}
+			value = options.editFieldValue(this.name, value);
+			setValue(target, value, options);
+		}
+
+		private Object getValue(Object source) {
+			if (null == this.getter) {
+				return this.sourceDesc.getValue(source);
+			}
+			try {
+				return this.getter.apply(source);
+			} catch (final Exception e) {
+				throw new InvocationTargetRuntimeException(e);
+			}
+		}
+
+		/**
+		 * 值已是目标类型时，默认转换器原样返回，可跳过转换
+		 */
+		private boolean canSkipConvert(Object value, boolean defaultConvert, boolean formatDate) {
+			if (null == value) {
+				// 转换器对null返回null，自定义转换器需调用
+				return defaultConvert && false == (formatDate && this.dateTarget);
+			}
+			if (false == this.direct || false == defaultConvert || (formatDate && this.dateTarget)) {
+				return false;
+			}
+			// 以下类型的值会被拆包或自定义转换
+			if (value instanceof Opt || value instanceof Optional || value instanceof TypeConverter
+					|| value instanceof IJSONTypeConverter) {
+				return false;
+			}
+			return this.simpleTarget || null == ConverterRegistry.getInstance().getCustomConverter(this.fieldType);
+		}
+
+		/**
+		 * 设置属性值，与{@link PropDesc#setValue(Object, Object, boolean, boolean, boolean)}一致
+		 */
+		private void setValue(Object target, Object value, CopyOptions options) {
+			if (null == value || null == this.setter || false == options.override) {
+				// null可能需转为基本类型默认值，非覆盖模式需读取目标值，交由PropDesc处理
+				this.targetDesc.setValue(target, value, options.ignoreNullValue, options.ignoreError, options.override);
+				return;
+			}
+
+			if (false == this.targetClass.isInstance(value)) {
+				value = Convert.convertWithCheck(this.targetClass, value, null, options.ignoreError);
+				if (null == value) {
+					this.targetDesc.setValue(target, null, options.ignoreNullValue, options.ignoreError, true);
+					return;
+				}
+			}
+
+			try {
+				this.setter.accept(target, value);
+			} catch (final Exception e) {
+				if (false == options.ignoreError) {
+					throw new BeanException(e, "Set value of [{}] error!", this.targetDesc.getFieldName());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 拷贝计划的缓存键，包含影响属性匹配的选项
+	 */
+	private static class Key {
+		private final Class<?> editable;
+		private final Class<?> targetType;
+		private final boolean ignoreCase;
+		private final boolean transientSupport;
+		private final boolean autoTransCamelCase;
+		private final Set<String> ignoreKeySet;
+
+		Key(Class<?> editable, Class<?> targetType, CopyOptions options) {
+			this.editable = editable;
+			this.targetType = targetType;
+			this.ignoreCase = options.ignoreCase;
+			this.transientSupport = options.transientSupport;
+			this.autoTransCamelCase = options.autoTransCamelCase;
+			this.ignoreKeySet = options.getIgnoreKeySet();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == o instanceof Key) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return editable == key.editable && targetType == key.targetType
+					&& ignoreCase == key.ignoreCase && transientSupport == key.transientSupport
+					&& autoTransCamelCase == key.autoTransCamelCase
+					&& ObjectUtil.equals(ignoreKeySet, key.ignoreKeySet);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = editable.hashCode();
+			result = 31 * result + targetType.hashCode();
+			result = 31 * result + (ignoreCase ? 1 : 0);
+			result = 31 * result + (transientSupport ? 1 : 0);
+			result = 31 * result + (autoTransCamelCase ? 1 : 0);
+			result = 31 * result + (null == ignoreKeySet ? 0 : ignoreKeySet.hashCode());
+			return result;
+		}
+	}
+}
@@ -45,6 +45,14 @@ public class BeanToBeanCopier<S, T> extends AbsCopier<S, T> {
 					"Target class [{}] not assignable to Editable class [{}]", actualEditable.getName(), copyOptions.editable.getName());
 			actualEditable = copyOptions.editable;
 		}
+
+		// 无字段名编辑时，属性对应关系只与类型和选项有关，使用缓存的拷贝计划
+		final BeanCopyPlan plan = BeanCopyPlan.get(source.getClass(), actualEditable, this.targetType, this.copyOptions);
+		if (null != plan) {
+			plan.copy(this.source, this.target, this.copyOptions);
+			return this.target;
+		}
+
 		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(actualEditable).getPropMap(copyOptions.ignoreCase);
 
 		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(source.getClass()).getPropMap(copyOptions.ignoreCase);
@@ -85,9 +85,9 @@ public class CopyOptions implements Serializable {
 	private Set<String> ignoreKeySet;
 
 	/**
-	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 * 默认类型转换器，使用全局万能转换器转换
 	 */
-	protected TypeConverter converter = (type, value) -> {
+	private final TypeConverter defaultConverter = (type, value) -> {
 		if (null == value) {
 			return null;
 		}
@@ -107,6 +107,11 @@ public class CopyOptions implements Serializable {
 		return Convert.convertWithCheck(type, value, null, ignoreError);
 	};
 
+	/**
+	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 */
+	protected TypeConverter converter = defaultConverter;
+
 	/**
 	 * 在Bean转换时，如果源是String，目标对象是Date或LocalDateTime，则可自定义转换格式
 	 */
@@ -477,4 +482,31 @@ public class CopyOptions implements Serializable {
 		}
 		return propDesc;
 	}
+
+	/**
+	 * 是否使用默认的类型转换器（未设置或设置为{@code null}）
+	 *
+	 * @return 是否使用默认的类型转换器
+	 */
+	boolean isDefaultConverter() {
+		return null == this.converter || this.defaultConverter == this.converter;
+	}
+
+	/**
+	 * 是否设置了字段名编辑器
+	 *
+	 * @return 是否设置了字段名编辑器
+	 */
+	boolean hasFieldNameEditor() {
+		return null != this.fieldNameEditor;
+	}
+
+	/**
+	 * 获取忽略的属性名
+	 *
+	 * @return 忽略的属性名，可能为{@code null}
+	 */
+	Set<String> getIgnoreKeySet() {
+		return this.ignoreKeySet;
+	}
 }
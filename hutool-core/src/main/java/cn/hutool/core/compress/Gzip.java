@@ -7,6 +7,10 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -70,6 +74,31 @@ public class Gzip implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 将普通数据流按块并行压缩，参考pigz，各块在线程池中压缩后按顺序拼接为标准的GZIP格式<br>
+	 * 如果目标流已经是{@link GZIPOutputStream}，则按{@link #gzip()}处理
+	 *
+	 * @param executor 压缩使用的线程池，结束后不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 * @return Gzip
+	 * @since 5.8.42
+	 */
+	public Gzip gzip(ExecutorService executor) {
+		if (target instanceof GZIPOutputStream) {
+			return gzip();
+		}
+		final CRC32 crc = new CRC32();
+		try (final ParallelDeflater deflater = new ParallelDeflater(target, executor)) {
+			// 头部：魔数、Deflate压缩方式、无标志、无时间、无额外标志、未知系统
+			deflater.write(out -> out.write(new byte[]{0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, 0}));
+			final long size = deflater.deflate(source, crc);
+			// 尾部：CRC32和原始长度的低32位，小端序
+			deflater.write(out -> out.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+					.putInt((int) crc.getValue()).putInt((int) size).array()));
+			deflater.flush();
+		}
+		return this;
+	}
+
 	/**
 	 * 将压缩流解压到target中
 	 *
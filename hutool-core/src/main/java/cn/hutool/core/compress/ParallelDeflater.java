@@ -0,0 +1,364 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RuntimeUtil;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 并行Deflate压缩<br>
+ * 参考pigz，将数据按块在线程池中压缩为原始Deflate流（无zlib头），每块以前一块末尾32KB作为字典，
+ * 非最后一块以{@link Deflater#SYNC_FLUSH}结束使其按字节对齐，按顺序拼接后即为一个完整的Deflate流。<br>
+ * 压缩结果与其它按顺序写出的内容（如Zip的文件头）一起在调用线程中写出，待写出的块数有上限以控制内存占用。<br>
+ * 此对象非线程安全，只能在一个线程中调用。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+final class ParallelDeflater implements Closeable {
+
+	/**
+	 * 每块的字节数
+	 */
+	static final int BLOCK_SIZE = 128 * 1024;
+	/**
+	 * Deflate窗口大小，即字典的最大长度
+	 */
+	private static final int DICT_SIZE = 32 * 1024;
+
+	private final CountingOutputStream out;
+	private final ExecutorService executor;
+	/**
+	 * 线程池是否由此对象创建，创建的线程池在关闭时一并关闭
+	 */
+	private final boolean ownExecutor;
+	private final int maxPendingBlocks;
+	private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+	/**
+	 * 按顺序待写出的内容
+	 */
+	private final Deque<Part> parts = new ArrayDeque<>();
+	private final byte[] readBuffer = new byte[BLOCK_SIZE];
+	private int pendingBlocks;
+	private int level = Deflater.DEFAULT_COMPRESSION;
+
+	/**
+	 * 构造
+	 *
+	 * @param out      目标流，关闭时不关闭此流
+	 * @param executor 线程池，关闭时不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 */
+	ParallelDeflater(OutputStream out, ExecutorService executor) {
+		this.out = new CountingOutputStream(out);
+		final int processorCount = RuntimeUtil.getProcessorCount();
+		this.ownExecutor = null == executor;
+		this.executor = this.ownExecutor ? ExecutorBuilder.create()
+				.setCorePoolSize(processorCount).setMaxPoolSize(processorCount)
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.setThreadFactory(ThreadUtil.newNamedThreadFactory("hutool-deflate-", true))
+				.build() : executor;
+		this.maxPendingBlocks = Math.max(8, processorCount * 4);
+	}
+
+	/**
+	 * 设置压缩级别，可选1~9，-1表示默认，需在提交数据前设置
+	 *
+	 * @param level 压缩级别
+	 */
+	void setLevel(int level) {
+		this.level = level;
+		Deflater deflater;
+		while (null != (deflater = this.deflaters.poll())) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 读取流的全部内容并按块提交压缩，压缩结果按顺序写出为一个完整的Deflate流，不关闭输入流
+	 *
+	 * @param in  输入流
+	 * @param crc 用于计算原始数据的CRC32
+	 * @return 原始数据长度
+	 * @throws IORuntimeException IO异常
+	 */
+	long deflate(InputStream in, CRC32 crc) throws IORuntimeException {
+		long size = 0;
+		// 读到下一块或流结束后才能确定当前块是否为最后一块
+		byte[] block = null;
+		byte[] dict = null;
+		int len;
+		while ((len = readFully(in, this.readBuffer)) > 0) {
+			crc.update(this.readBuffer, 0, len);
+			size += len;
+			if (null != block) {
+				submit(block, dict, false);
+				dict = block;
+			}
+			block = Arrays.copyOf(this.readBuffer, len);
+			if (len < BLOCK_SIZE) {
+				break;
+			}
+		}
+		submit(null == block ? new byte[0] : block, dict, true);
+		return size;
+	}
+
+	/**
+	 * 加入按顺序写出的内容，写出时之前加入的内容均已写出
+	 *
+	 * @param part 写出的内容
+	 * @throws IORuntimeException IO异常
+	 */
+	void write(Part part) throws IORuntimeException {
+		this.parts.add(part);
+		writeReady();
+	}
+
+	/**
+	 * 等待并写出所有内容
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	void flush() throws IORuntimeException {
+		while (false == this.parts.isEmpty()) {
+			writeFirst();
+		}
+		try {
+			this.out.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 关闭，未写出的块被取消，不关闭目标流
+	 */
+	@Override
+	public void close() {
+		Part part;
+		while (null != (part = this.parts.poll())) {
+			if (part instanceof BlockPart) {
+				((BlockPart) part).future.cancel(false);
+			}
+		}
+		if (this.ownExecutor) {
+			this.executor.shutdown();
+		}
+		Deflater deflater;
+		while (null != (deflater = this.deflaters.poll())) {
+			deflater.end();
+		}
+	}
+
+	// ---------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 提交块，待写出的块过多时等待并写出最早的块
+	 *
+	 * @param block 块
+	 * @param dict  前一块，{@code null}表示无
+	 * @param last  是否为最后一块
+	 */
+	private void submit(byte[] block, byte[] dict, boolean last) {
+		final int level = this.level;
+		this.parts.add(new BlockPart(this.executor.submit(() -> deflateBlock(block, dict, last, level))));
+		this.pendingBlocks++;
+		while (this.pendingBlocks > this.maxPendingBlocks) {
+			writeFirst();
+		}
+		writeReady();
+	}
+
+	/**
+	 * 写出开头已完成的内容
+	 */
+	private void writeReady() {
+		Part part;
+		while (null != (part = this.parts.peek()) && part.isReady()) {
+			writeFirst();
+		}
+	}
+
+	/**
+	 * 写出（必要时等待）最早加入的内容
+	 */
+	private void writeFirst() {
+		final Part part = this.parts.poll();
+		if (part instanceof BlockPart) {
+			this.pendingBlocks--;
+		}
+		try {
+			part.writeTo(this.out);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 压缩一块
+	 *
+	 * @param block 块
+	 * @param dict  前一块，{@code null}表示无
+	 * @param last  是否为最后一块
+	 * @param level 压缩级别
+	 * @return 压缩后的数据
+	 */
+	private byte[] deflateBlock(byte[] block, byte[] dict, boolean last, int level) {
+		Deflater deflater = this.deflaters.poll();
+		if (null == deflater) {
+			deflater = new Deflater(level, true);
+		}
+		try {
+			if (null != dict) {
+				final int dictLength = Math.min(dict.length, DICT_SIZE);
+				deflater.setDictionary(dict, dict.length - dictLength, dictLength);
+			}
+			deflater.setInput(block);
+			final FastByteArrayOutputStream result = new FastByteArrayOutputStream(Math.max(64, block.length >>> 1));
+			final byte[] buffer = new byte[8192];
+			int len;
+			if (last) {
+				deflater.finish();
+				while (false == deflater.finished()) {
+					len = deflater.deflate(buffer);
+					result.write(buffer, 0, len);
+				}
+			} else {
+				// 输出填满缓冲区时可能还有未输出的数据
+				do {
+					len = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+					result.write(buffer, 0, len);
+				} while (len == buffer.length);
+			}
+			return result.toByteArray();
+		} finally {
+			deflater.reset();
+			this.deflaters.offer(deflater);
+		}
+	}
+
+	/**
+	 * 读满缓冲区，只有流结束时返回的长度小于缓冲区长度
+	 *
+	 * @param in     输入流
+	 * @param buffer 缓冲区
+	 * @return 读取的长度
+	 */
+	private static int readFully(InputStream in, byte[] buffer) {
+		int total = 0;
+		try {
+			int len;
+			while (total < buffer.length && (len = in.read(buffer, total, buffer.length - total)) >= 0) {
+				total += len;
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return total;
+	}
+	// ---------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 按顺序写出的内容
+	 */
+	@FunctionalInterface
+	interface Part {
+		/**
+		 * 写出
+		 *
+		 * @param out 目标流，可获取已写出的字节数
+		 * @throws IOException IO异常
+		 */
+		void writeTo(CountingOutputStream out) throws IOException;
+
+		/**
+		 * 是否可以不等待直接写出
+		 *
+		 * @return 是否可以直接写出
+		 */
+		default boolean isReady() {
+			return true;
+		}
+	}
+
+	/**
+	 * 压缩的块
+	 */
+	private static final class BlockPart implements Part {
+		private final Future<byte[]> future;
+
+		BlockPart(Future<byte[]> future) {
+			this.future = future;
+		}
+
+		@Override
+		public void writeTo(CountingOutputStream out) throws IOException {
+			final byte[] data;
+			try {
+				data = this.future.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UtilException(e);
+			} catch (final ExecutionException e) {
+				throw new UtilException(e.getCause());
+			}
+			out.write(data);
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.future.isDone();
+		}
+	}
+
+	/**
+	 * 记录已写出字节数的输出流
+	 */
+	static final class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		/**
+		 * 已写出的字节数
+		 *
+		 * @return 字节数
+		 */
+		long getCount() {
+			return this.count;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+	}
+}
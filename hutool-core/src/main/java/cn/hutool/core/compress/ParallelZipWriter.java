@@ -0,0 +1,491 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.resource.Resource;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.ZipException;
+
+/**
+ * 并行Zip生成封装<br>
+ * 与{@link ZipWriter}用法相同，区别在于文件内容按块在线程池中并行压缩，适用于大量文件或大文件的打包。<br>
+ * 每个文件内容读取后分块提交压缩，不等待压缩完成即读取下一个文件，压缩结果按添加顺序写出，
+ * 生成的格式与{@link java.util.zip.ZipOutputStream}相同（DEFLATED、数据描述符，超出范围时使用Zip64）。<br>
+ * 文件读取和写出在调用线程中进行，此对象非线程安全。
+ *
+ * <pre>
+ * try (ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8, executor)) {
+ *     writer.add(false, null, srcDir);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class ParallelZipWriter implements Closeable {
+
+	private static final int LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int DATA_DESCRIPTOR_SIG = 0x08074b50;
+	private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+	private static final int ZIP64_END_SIG = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+	private static final int END_SIG = 0x06054b50;
+	private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final int DEFLATED = 8;
+	/**
+	 * 使用数据描述符，即CRC和大小写在数据之后
+	 */
+	private static final int FLAG_DATA_DESCRIPTOR = 0x08;
+	/**
+	 * 文件名为UTF-8编码
+	 */
+	private static final int FLAG_UTF8 = 0x800;
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param zipFile  生成的Zip文件
+	 * @param charset  编码
+	 * @param executor 压缩使用的线程池，关闭时不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(File zipFile, Charset charset, ExecutorService executor) {
+		return new ParallelZipWriter(zipFile, charset, executor);
+	}
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param out      Zip输出的流，一般为输出文件流
+	 * @param charset  编码
+	 * @param executor 压缩使用的线程池，关闭时不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(OutputStream out, Charset charset, ExecutorService executor) {
+		return new ParallelZipWriter(out, charset, executor);
+	}
+
+	private File zipFile;
+	private final OutputStream out;
+	private final Charset charset;
+	private final ParallelDeflater deflater;
+	private final List<Entry> entries = new ArrayList<>();
+	private final Set<String> names = new HashSet<>();
+	private byte[] comment;
+
+	/**
+	 * 构造
+	 *
+	 * @param zipFile  生成的Zip文件
+	 * @param charset  编码
+	 * @param executor 压缩使用的线程池，关闭时不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 */
+	public ParallelZipWriter(File zipFile, Charset charset, ExecutorService executor) {
+		this(FileUtil.getOutputStream(zipFile), charset, executor);
+		this.zipFile = zipFile;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out      Zip输出的流，关闭时一并关闭
+	 * @param charset  编码
+	 * @param executor 压缩使用的线程池，关闭时不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 */
+	public ParallelZipWriter(OutputStream out, Charset charset, ExecutorService executor) {
+		this.out = out;
+		this.charset = ObjectUtil.defaultIfNull(charset, CharsetUtil.defaultCharset());
+		this.deflater = new ParallelDeflater(out, executor);
+	}
+
+	/**
+	 * 设置压缩级别，可选1~9，-1表示默认，需在添加内容前设置
+	 *
+	 * @param level 压缩级别
+	 * @return this
+	 */
+	public ParallelZipWriter setLevel(int level) {
+		this.deflater.setLevel(level);
+		return this;
+	}
+
+	/**
+	 * 设置注释
+	 *
+	 * @param comment 注释
+	 * @return this
+	 */
+	public ParallelZipWriter setComment(String comment) {
+		if (null != comment) {
+			this.comment = comment.getBytes(this.charset);
+			if (this.comment.length > 0xFFFF) {
+				throw new IllegalArgumentException("ZIP file comment too long.");
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 对文件或文件目录进行压缩
+	 *
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @param files      要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(boolean withSrcDir, FileFilter filter, File... files) throws IORuntimeException {
+		for (File file : files) {
+			// 如果只是压缩一个文件，则需要截取该文件的父目录
+			String srcRootDir;
+			try {
+				srcRootDir = file.getCanonicalPath();
+				if ((false == file.isDirectory()) || withSrcDir) {
+					// 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
+					srcRootDir = file.getCanonicalFile().getParentFile().getCanonicalPath();
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+
+			_add(file, srcRootDir, filter);
+		}
+		return this;
+	}
+
+	/**
+	 * 添加资源到压缩包，添加后关闭资源流
+	 *
+	 * @param resources 需要压缩的资源，资源的路径为{@link Resource#getName()}
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(Resource... resources) throws IORuntimeException {
+		for (Resource resource : resources) {
+			if (null != resource) {
+				add(resource.getName(), resource.getStream());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 添加文件流到压缩包，添加后关闭输入文件流<br>
+	 * 如果输入流为{@code null}，则只创建空目录
+	 *
+	 * @param path 压缩的路径, {@code null}和""表示根目录下
+	 * @param in   需要压缩的输入流，使用完后自动关闭，{@code null}表示加入空目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String path, InputStream in) throws IORuntimeException {
+		path = StrUtil.nullToEmpty(path);
+		if (null == in) {
+			// 空目录需要检查路径规范性，目录以"/"结尾
+			path = StrUtil.addSuffixIfNot(path, StrUtil.SLASH);
+			if (StrUtil.isBlank(path)) {
+				return this;
+			}
+		}
+
+		return putEntry(path, in);
+	}
+
+	/**
+	 * 对流中的数据加入到压缩文件<br>
+	 * 路径列表和流列表长度必须一致
+	 *
+	 * @param paths 流数据在压缩文件中的路径或文件名
+	 * @param ins   要压缩的源，添加完成后自动关闭流
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String[] paths, InputStream[] ins) throws IORuntimeException {
+		if (ArrayUtil.isEmpty(paths) || ArrayUtil.isEmpty(ins)) {
+			throw new IllegalArgumentException("Paths or ins is empty !");
+		}
+		if (paths.length != ins.length) {
+			throw new IllegalArgumentException("Paths length is not equals to ins length !");
+		}
+
+		for (int i = 0; i < paths.length; i++) {
+			add(paths[i], ins[i]);
+		}
+
+		return this;
+	}
+
+	/**
+	 * 等待所有内容压缩完成，写出中央目录后关闭
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		try {
+			this.deflater.write(this::writeCentralDirectory);
+			this.deflater.flush();
+		} finally {
+			this.deflater.close();
+			IoUtil.close(this.out);
+		}
+	}
+
+	/**
+	 * 递归压缩文件夹或压缩文件<br>
+	 * srcRootDir决定了路径截取的位置，例如：<br>
+	 * file的路径为d:/a/b/c/d.txt，srcRootDir为d:/a/b，则压缩后的文件与目录为结构为c/d.txt
+	 *
+	 * @param srcRootDir 被压缩的文件夹根目录
+	 * @param file       当前递归压缩的文件或目录对象
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @throws IORuntimeException IO异常
+	 */
+	private ParallelZipWriter _add(File file, String srcRootDir, FileFilter filter) throws IORuntimeException {
+		if (null == file || (null != filter && false == filter.accept(file))) {
+			return this;
+		}
+
+		// 获取文件相对于压缩文件夹根目录的子路径
+		final String subPath = FileUtil.subPath(srcRootDir, file);
+		if (file.isDirectory()) {
+			// 如果是目录，则压缩压缩目录中的文件或子目录
+			final File[] files = file.listFiles();
+			if (ArrayUtil.isEmpty(files)) {
+				// 加入目录，只有空目录时才加入目录
+				add(subPath, null);
+			} else {
+				// 压缩目录下的子文件或目录
+				for (File childFile : files) {
+					_add(childFile, srcRootDir, filter);
+				}
+			}
+		} else {
+			// 检查加入的文件是否为压缩结果文件本身，避免死循环
+			if (null != this.zipFile && FileUtil.equals(file, zipFile)) {
+				return this;
+			}
+
+			// 如果是文件或其它符号，则直接压缩该文件
+			putEntry(subPath, FileUtil.getInputStream(file));
+		}
+		return this;
+	}
+
+	/**
+	 * 添加文件流到压缩包，添加后关闭输入文件流<br>
+	 * 文件头、压缩数据和数据描述符按顺序加入待写出内容，数据描述符中的压缩后大小在写出时计算
+	 *
+	 * @param path 压缩的路径
+	 * @param in   需要压缩的输入流，使用完后自动关闭，{@code null}表示加入空目录
+	 * @throws IORuntimeException IO异常
+	 */
+	private ParallelZipWriter putEntry(String path, InputStream in) throws IORuntimeException {
+		try {
+			if (false == this.names.add(path)) {
+				throw new IORuntimeException(new ZipException("duplicate entry: " + path));
+			}
+			final Entry entry = new Entry(path.getBytes(this.charset), dosTime(System.currentTimeMillis()));
+			this.entries.add(entry);
+			this.deflater.write(out -> {
+				entry.offset = out.getCount();
+				writeLocalHeader(out, entry);
+			});
+
+			final CRC32 crc = new CRC32();
+			entry.size = this.deflater.deflate(null == in ? IoUtil.toStream(new byte[0]) : in, crc);
+			entry.crc = crc.getValue();
+			this.deflater.write(out -> {
+				entry.compressedSize = out.getCount() - entry.offset - 30 - entry.name.length;
+				writeDataDescriptor(out, entry);
+			});
+		} finally {
+			IoUtil.close(in);
+		}
+		return this;
+	}
+
+	/**
+	 * 写出本地文件头，CRC和大小在数据描述符中给出
+	 */
+	private void writeLocalHeader(OutputStream out, Entry entry) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(30 + entry.name.length).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(LOCAL_HEADER_SIG)
+				.putShort((short) 20)
+				.putShort((short) flag())
+				.putShort((short) DEFLATED)
+				.putInt((int) entry.time)
+				// CRC、压缩后大小、原始大小
+				.putInt(0).putInt(0).putInt(0)
+				.putShort((short) entry.name.length)
+				.putShort((short) 0)
+				.put(entry.name);
+		out.write(buffer.array());
+	}
+
+	/**
+	 * 写出数据描述符，大小超出4字节范围时使用8字节
+	 */
+	private static void writeDataDescriptor(OutputStream out, Entry entry) throws IOException {
+		final boolean zip64 = entry.compressedSize >= ZIP64_MAGIC_VALUE || entry.size >= ZIP64_MAGIC_VALUE;
+		final ByteBuffer buffer = ByteBuffer.allocate(zip64 ? 24 : 16).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(DATA_DESCRIPTOR_SIG).putInt((int) entry.crc);
+		if (zip64) {
+			buffer.putLong(entry.compressedSize).putLong(entry.size);
+		} else {
+			buffer.putInt((int) entry.compressedSize).putInt((int) entry.size);
+		}
+		out.write(buffer.array());
+	}
+
+	/**
+	 * 写出中央目录及目录结束记录，条目数或偏移超出范围时写出Zip64目录结束记录
+	 */
+	private void writeCentralDirectory(ParallelDeflater.CountingOutputStream out) throws IOException {
+		final long start = out.getCount();
+		for (final Entry entry : this.entries) {
+			writeCentralHeader(out, entry);
+		}
+		final long end = out.getCount();
+		final long length = end - start;
+		final int count = this.entries.size();
+
+		if (count >= ZIP64_MAGIC_COUNT || length >= ZIP64_MAGIC_VALUE || start >= ZIP64_MAGIC_VALUE) {
+			final ByteBuffer zip64 = ByteBuffer.allocate(76).order(ByteOrder.LITTLE_ENDIAN);
+			zip64.putInt(ZIP64_END_SIG)
+					// 记录剩余部分的长度
+					.putLong(44)
+					.putShort((short) 45).putShort((short) 45)
+					.putInt(0).putInt(0)
+					.putLong(count).putLong(count)
+					.putLong(length).putLong(start)
+					// Zip64目录结束记录定位器
+					.putInt(ZIP64_LOCATOR_SIG)
+					.putInt(0).putLong(end).putInt(1);
+			out.write(zip64.array());
+		}
+
+		final byte[] comment = ObjectUtil.defaultIfNull(this.comment, new byte[0]);
+		final ByteBuffer buffer = ByteBuffer.allocate(22 + comment.length).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(END_SIG)
+				.putShort((short) 0).putShort((short) 0)
+				.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT))
+				.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT))
+				.putInt((int) Math.min(length, ZIP64_MAGIC_VALUE))
+				.putInt((int) Math.min(start, ZIP64_MAGIC_VALUE))
+				.putShort((short) comment.length)
+				.put(comment);
+		out.write(buffer.array());
+	}
+
+	/**
+	 * 写出中央目录中的文件头，大小或偏移超出4字节范围时写入Zip64扩展字段
+	 */
+	private void writeCentralHeader(OutputStream out, Entry entry) throws IOException {
+		int zip64Count = 0;
+		if (entry.size >= ZIP64_MAGIC_VALUE) {
+			zip64Count++;
+		}
+		if (entry.compressedSize >= ZIP64_MAGIC_VALUE) {
+			zip64Count++;
+		}
+		if (entry.offset >= ZIP64_MAGIC_VALUE) {
+			zip64Count++;
+		}
+		final int extraLength = zip64Count > 0 ? 4 + zip64Count * 8 : 0;
+		final short version = (short) (zip64Count > 0 ? 45 : 20);
+
+		final ByteBuffer buffer = ByteBuffer.allocate(46 + entry.name.length + extraLength).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(CENTRAL_HEADER_SIG)
+				.putShort(version).putShort(version)
+				.putShort((short) flag())
+				.putShort((short) DEFLATED)
+				.putInt((int) entry.time)
+				.putInt((int) entry.crc)
+				.putInt((int) Math.min(entry.compressedSize, ZIP64_MAGIC_VALUE))
+				.putInt((int) Math.min(entry.size, ZIP64_MAGIC_VALUE))
+				.putShort((short) entry.name.length)
+				.putShort((short) extraLength)
+				// 注释长度、磁盘号、内部属性、外部属性
+				.putShort((short) 0).putShort((short) 0).putShort((short) 0).putInt(0)
+				.putInt((int) Math.min(entry.offset, ZIP64_MAGIC_VALUE))
+				.put(entry.name);
+		if (zip64Count > 0) {
+			buffer.putShort((short) 0x0001).putShort((short) (zip64Count * 8));
+			if (entry.size >= ZIP64_MAGIC_VALUE) {
+				buffer.putLong(entry.size);
+			}
+			if (entry.compressedSize >= ZIP64_MAGIC_VALUE) {
+				buffer.putLong(entry.compressedSize);
+			}
+			if (entry.offset >= ZIP64_MAGIC_VALUE) {
+				buffer.putLong(entry.offset);
+			}
+		}
+		out.write(buffer.array());
+	}
+
+	/**
+	 * 通用标志位
+	 */
+	private int flag() {
+		return CharsetUtil.CHARSET_UTF_8.equals(this.charset) ? FLAG_DATA_DESCRIPTOR | FLAG_UTF8 : FLAG_DATA_DESCRIPTOR;
+	}
+
+	/**
+	 * 转换为DOS日期时间格式
+	 *
+	 * @param time 毫秒时间戳
+	 * @return DOS日期时间
+	 */
+	private static long dosTime(long time) {
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		final int year = dateTime.getYear();
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return ((long) (year - 1980) << 25) | (dateTime.getMonthValue() << 21) | (dateTime.getDayOfMonth() << 16)
+				| (dateTime.getHour() << 11) | (dateTime.getMinute() << 5) | (dateTime.getSecond() >> 1);
+	}
+
+	/**
+	 * Zip中的条目信息
+	 */
+	private static final class Entry {
+		private final byte[] name;
+		private final long time;
+		private long crc;
+		private long size;
+		private long compressedSize;
+		private long offset;
+
+		Entry(byte[] name, long time) {
+			this.name = name;
+			this.time = time;
+		}
+	}
+}
@@ -13,7 +13,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -162,14 +167,7 @@ public class ZipReader implements Closeable {
 	public File readTo(File outFile, Filter<ZipEntry> entryFilter) throws IORuntimeException {
 		read((zipEntry) -> {
 			if (null == entryFilter || entryFilter.accept(zipEntry)) {
-				//gitee issue #I4ZDQI
-				String path = zipEntry.getName();
-				if (FileUtil.isWindows()) {
-					// Win系统下
-					path = StrUtil.replace(path, "*", "_");
-				}
-				// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
-				final File outItemFile = FileUtil.file(outFile, path);
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
 				if (zipEntry.isDirectory()) {
 					// 目录
 					//noinspection ResultOfMethodCallIgnored
@@ -189,6 +187,63 @@ public class ZipReader implements Closeable {
 		return outFile;
 	}
 
+	/**
+	 * 解压到指定目录中，各文件在线程池中并行解压<br>
+	 * 只有读取Zip文件时并行，读取流时按{@link #readTo(File, Filter)}顺序解压
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器，排除不需要的文件
+	 * @param executor    解压使用的线程池，结束后不关闭此线程池，{@code null}表示顺序解压
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.42
+	 */
+	public File readTo(File outFile, Filter<ZipEntry> entryFilter, ExecutorService executor) throws IORuntimeException {
+		if (null == this.zipFile || null == executor) {
+			return readTo(outFile, entryFilter);
+		}
+
+		final ZipFile zipFile = this.zipFile;
+		final List<Future<?>> futures = new ArrayList<>();
+		try {
+			read((zipEntry) -> {
+				if (null == entryFilter || entryFilter.accept(zipEntry)) {
+					final File outItemFile = getOutItemFile(outFile, zipEntry);
+					if (zipEntry.isDirectory()) {
+						// 目录
+						//noinspection ResultOfMethodCallIgnored
+						outItemFile.mkdirs();
+					} else {
+						// 文件，ZipFile支持多线程同时读取不同的条目
+						futures.add(executor.submit(() -> {
+							try (final InputStream in = ZipUtil.getStream(zipFile, zipEntry)) {
+								FileUtil.writeFromStream(in, outItemFile, false);
+							}
+							return null;
+						}));
+					}
+				}
+			});
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UtilException(e);
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IORuntimeException(cause);
+		} finally {
+			for (final Future<?> future : futures) {
+				future.cancel(false);
+			}
+		}
+		return outFile;
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
@@ -245,6 +300,24 @@ public class ZipReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 获取条目解压后的文件
+	 *
+	 * @param outFile  解压到的目录
+	 * @param zipEntry {@link ZipEntry}
+	 * @return 解压后的文件
+	 */
+	private static File getOutItemFile(File outFile, ZipEntry zipEntry) {
+		//gitee issue #I4ZDQI
+		String path = zipEntry.getName();
+		if (FileUtil.isWindows()) {
+			// Win系统下
+			path = StrUtil.replace(path, "*", "_");
+		}
+		// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
+		return FileUtil.file(outFile, path);
+	}
+
 	/**
 	 * 检查Zip bomb漏洞
 	 *
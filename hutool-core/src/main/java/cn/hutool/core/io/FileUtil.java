@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -646,6 +647,23 @@ public class FileUtil extends PathUtil {
 		}
 	}
 
+	/**
+	 * 使用内存映射并行计算文件的行数，适用于大文件<br>
+	 * 行的划分与{@link #readLines(File, Charset)}一致，以\r、\n或\r\n结束，文件末尾的换行符不产生新行
+	 *
+	 * @param file    文件
+	 * @param charset 编码，用于确定换行符的字节表示
+	 * @return 行数
+	 * @throws IORuntimeException IO异常
+	 * @see MappedLineReader#countLines()
+	 * @since 5.8.42
+	 */
+	public static long countLines(File file, Charset charset) throws IORuntimeException {
+		try (MappedLineReader reader = new MappedLineReader(file, charset)) {
+			return reader.countLines();
+		}
+	}
+
 	/**
 	 * 给定文件或目录的最后修改时间是否晚于给定时间
 	 *
@@ -2515,6 +2533,23 @@ public class FileUtil extends PathUtil {
 		return result;
 	}
 
+	/**
+	 * 使用内存映射按块读取文件的行，适用于大文件，并行时各块独立解码<br>
+	 * 使用完毕后需关闭流以释放文件
+	 *
+	 * @param file     文件
+	 * @param charset  编码
+	 * @param parallel 是否并行
+	 * @return 行的流
+	 * @throws IORuntimeException IO异常
+	 * @see MappedLineReader#lines(boolean)
+	 * @since 5.8.42
+	 */
+	public static Stream<String> lines(File file, Charset charset, boolean parallel) throws IORuntimeException {
+		final MappedLineReader reader = new MappedLineReader(file, charset);
+		return reader.lines(parallel).onClose(reader::close);
+	}
+
 	/**
 	 * 按行处理文件内容，编码为UTF-8
 	 *
@@ -0,0 +1,541 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 基于内存映射的大文件按行读取器<br>
+ * 文件在行边界处被切分为多个块，每块通过{@link FileChannel#map(FileChannel.MapMode, long, long)}映射后直接扫描字节，
+ * 计数和建立行索引时不解码也不创建字符串，8字节一组查找换行符；读取行时每块独立解码，块之间可并行处理。<br>
+ * 行的划分与{@link java.io.BufferedReader#readLine()}一致，即以\r、\n或\r\n结束，文件末尾的换行符不产生空行。<br>
+ * 支持换行符编码为单字节0x0A、0x0D且不出现在多字节字符中的编码（如UTF-8、GBK、ISO-8859-1），以及UTF-16LE/BE、UTF-32LE/BE等定长单元且无BOM的编码。<br>
+ * 文件大小在创建时确定，之后追加的内容不被读取。
+ *
+ * <pre>
+ * try (MappedLineReader reader = new MappedLineReader(file, CharsetUtil.CHARSET_UTF_8)) {
+ *     long count = reader.countLines();
+ *     long errors = reader.lines(true).filter(line -&gt; line.contains("ERROR")).count();
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class MappedLineReader implements Closeable {
+
+	/**
+	 * 默认每块的字节数
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	private static final long LF_PATTERN = 0x0A0A0A0A0A0A0A0AL;
+	private static final long CR_PATTERN = 0x0D0D0D0D0D0D0D0DL;
+	private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+	/**
+	 * 8字节组中首字节（大端序最高位字节）的标记位
+	 */
+	private static final long FIRST_LANE = 0x8000000000000000L;
+	/**
+	 * 8字节组中末字节的标记位
+	 */
+	private static final long LAST_LANE = 0x80L;
+
+	private final Charset charset;
+	private final FileChannel channel;
+	private final long size;
+	private final int chunkSize;
+	/**
+	 * 换行符编码后的\n和\r，长度即字符单元的字节数
+	 */
+	private final byte[] lf;
+	private final byte[] cr;
+
+	/**
+	 * 构造
+	 *
+	 * @param file    文件
+	 * @param charset 编码
+	 * @throws IORuntimeException IO异常
+	 */
+	public MappedLineReader(File file, Charset charset) throws IORuntimeException {
+		this(file, charset, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param file      文件
+	 * @param charset   编码
+	 * @param chunkSize 每块的期望字节数，实际块在此之后的第一个行边界处结束
+	 * @throws IORuntimeException IO异常
+	 * @throws IllegalArgumentException 编码不支持
+	 */
+	public MappedLineReader(File file, Charset charset, int chunkSize) throws IORuntimeException {
+		this.charset = Assert.notNull(charset, "Charset must be not null!");
+		this.lf = encodeUnit(charset, "\n");
+		this.cr = encodeUnit(charset, "\r");
+		Assert.isTrue(null != lf && null != cr && lf.length == cr.length && (1 != lf.length || (CharUtil.LF == lf[0] && CharUtil.CR == cr[0])),
+				"Charset [{}] is not supported, line separators must be encoded in fixed units without BOM", charset);
+		// 块大小按4字节对齐，保证块的起始与字符单元对齐
+		this.chunkSize = Math.max(4, chunkSize & ~3);
+		try {
+			this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			this.size = this.channel.size();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 文件字节数
+	 *
+	 * @return 字节数
+	 */
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * 计算行数，各块并行扫描换行符，不解码内容
+	 *
+	 * @return 行数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long countLines() throws IORuntimeException {
+		if (0 == this.size) {
+			return 0;
+		}
+		final long count = chunkList().parallelStream().mapToLong(this::countTerminators).sum();
+		// 最后一行没有换行符时单独计数
+		return isTerminator(this.size - this.lf.length) ? count : count + 1;
+	}
+
+	/**
+	 * 建立行索引，即每行起始位置的字节偏移，各块并行扫描换行符，不解码内容
+	 *
+	 * @return 每行起始位置的字节偏移，长度为行数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long[] indexLines() throws IORuntimeException {
+		if (0 == this.size) {
+			return new long[0];
+		}
+		final List<long[]> parts = new ArrayList<>();
+		parts.add(new long[]{0});
+		chunkList().parallelStream().map(this::indexChunk).forEachOrdered(parts::add);
+
+		int total = 0;
+		for (final long[] part : parts) {
+			total += part.length;
+		}
+		final long[] result = new long[total];
+		int pos = 0;
+		for (final long[] part : parts) {
+			System.arraycopy(part, 0, result, pos, part.length);
+			pos += part.length;
+		}
+		return result;
+	}
+
+	/**
+	 * 读取指定位置开始的一行，位置一般来自{@link #indexLines()}
+	 *
+	 * @param offset 行起始位置的字节偏移
+	 * @return 行内容，不包含换行符，位置不小于文件大小时返回{@code null}
+	 * @throws IORuntimeException IO异常
+	 */
+	public String readLine(long offset) throws IORuntimeException {
+		if (offset >= this.size) {
+			return null;
+		}
+		final int unit = this.lf.length;
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+		final ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long position = offset;
+		try {
+			outer:
+			while (position < this.size) {
+				buffer.clear();
+				if (buffer.limit() > this.size - position) {
+					buffer.limit((int) (this.size - position));
+				}
+				final int read = this.channel.read(buffer, position);
+				if (read <= 0) {
+					break;
+				}
+				// 按单元扫描，不完整的单元留到下次读取
+				final int end = read - read % unit;
+				for (int i = 0; i < end; i += unit) {
+					if (matches(buffer, i, this.lf) || matches(buffer, i, this.cr)) {
+						out.write(buffer.array(), 0, i);
+						break outer;
+					}
+				}
+				out.write(buffer.array(), 0, end);
+				position += end;
+				if (0 == end) {
+					break;
+				}
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return out.toString(this.charset);
+	}
+
+	/**
+	 * 按块读取行，每块为块内所有行的列表，并行时块之间无序处理，但流保持块的顺序<br>
+	 * 流使用完毕前不能关闭此对象
+	 *
+	 * @param parallel 是否并行
+	 * @return 块的流
+	 * @throws IORuntimeException IO异常
+	 */
+	public Stream<List<String>> chunks(boolean parallel) throws IORuntimeException {
+		final List<long[]> chunks = chunkList();
+		return (parallel ? chunks.parallelStream() : chunks.stream()).map(this::readChunk);
+	}
+
+	/**
+	 * 读取所有行，并行时各块独立解码<br>
+	 * 流使用完毕前不能关闭此对象
+	 *
+	 * @param parallel 是否并行
+	 * @return 行的流
+	 * @throws IORuntimeException IO异常
+	 */
+	public Stream<String> lines(boolean parallel) throws IORuntimeException {
+		return chunks(parallel).flatMap(List::stream);
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.channel);
+	}
+
+	// ---------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 在行边界处将文件切分为块
+	 *
+	 * @return 块列表，每项为[起始位置, 结束位置)
+	 */
+	private List<long[]> chunkList() {
+		final List<long[]> chunks = new ArrayList<>();
+		long start = 0;
+		while (start < this.size) {
+			long end = start + this.chunkSize;
+			end = end >= this.size ? this.size : nextLineStart(end);
+			if (end - start > Integer.MAX_VALUE - 8) {
+				throw new IORuntimeException("Line too long near byte {}", start);
+			}
+			chunks.add(new long[]{start, end});
+			start = end;
+		}
+		return chunks;
+	}
+
+	/**
+	 * 查找指定位置及之后的第一个换行符，返回其后的行起始位置，\r\n作为整体
+	 *
+	 * @param from 开始查找的位置，与字符单元对齐
+	 * @return 行起始位置，无换行符时返回文件大小
+	 */
+	private long nextLineStart(long from) {
+		final int unit = this.lf.length;
+		final ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long position = from;
+		try {
+			while (position < this.size) {
+				buffer.clear();
+				final int read = this.channel.read(buffer, position);
+				if (read <= 0) {
+					break;
+				}
+				final int end = read - read % unit;
+				for (int i = 0; i < end; i += unit) {
+					if (matches(buffer, i, this.lf)) {
+						return position + i + unit;
+					}
+					if (matches(buffer, i, this.cr)) {
+						final long next = position + i + unit;
+						return isLf(next) ? next + unit : next;
+					}
+				}
+				if (0 == end) {
+					break;
+				}
+				position += end;
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this.size;
+	}
+
+	/**
+	 * 映射块
+	 *
+	 * @param chunk [起始位置, 结束位置)
+	 * @return 映射的内容
+	 */
+	private ByteBuffer map(long[] chunk) {
+		try {
+			return this.channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 计算块内的换行符数，\r\n计为一个
+	 *
+	 * @param chunk 块
+	 * @return 换行符数
+	 */
+	private long countTerminators(long[] chunk) {
+		final ByteBuffer buffer = map(chunk);
+		final int limit = buffer.limit();
+		if (1 != this.lf.length) {
+			long count = 0;
+			for (int i = this.lf.length; i <= limit; i += this.lf.length) {
+				if (isLineEnd(buffer, i, limit)) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		long count = 0;
+		boolean prevCR = false;
+		int i = 0;
+		for (; i + 8 <= limit; i += 8) {
+			final long word = buffer.getLong(i);
+			final long lfMask = match(word, LF_PATTERN);
+			final long crMask = match(word, CR_PATTERN);
+			if (0 == (lfMask | crMask)) {
+				prevCR = false;
+				continue;
+			}
+			// \r\n中的\n不单独计数
+			count += Long.bitCount(lfMask) + Long.bitCount(crMask) - Long.bitCount(crMask & (lfMask << 8));
+			if (prevCR && 0 != (lfMask & FIRST_LANE)) {
+				count--;
+			}
+			prevCR = 0 != (crMask & LAST_LANE);
+		}
+		for (; i < limit; i++) {
+			final byte b = buffer.get(i);
+			if (CharUtil.LF == b) {
+				if (false == prevCR) {
+					count++;
+				}
+				prevCR = false;
+			} else {
+				prevCR = CharUtil.CR == b;
+				if (prevCR) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 查找块内除文件末尾外的行起始位置
+	 *
+	 * @param chunk 块
+	 * @return 行起始位置
+	 */
+	private long[] indexChunk(long[] chunk) {
+		final ByteBuffer buffer = map(chunk);
+		final int limit = buffer.limit();
+		final long base = chunk[0];
+		long[] offsets = new long[64];
+		int count = 0;
+
+		int i = 0;
+		if (1 == this.lf.length) {
+			for (; i + 8 <= limit; i += 8) {
+				final long word = buffer.getLong(i);
+				final long lfMask = match(word, LF_PATTERN);
+				final long crMask = match(word, CR_PATTERN);
+				if (0 == (lfMask | crMask)) {
+					continue;
+				}
+				// 行结束于\n之后或其后不是\n的\r之后
+				long ends = lfMask | (crMask & ~(lfMask << 8));
+				if (0 != (crMask & LAST_LANE) && i + 8 < limit && CharUtil.LF == buffer.get(i + 8)) {
+					ends &= ~LAST_LANE;
+				}
+				while (0 != ends) {
+					final int lane = Long.numberOfLeadingZeros(ends) >>> 3;
+					if (count == offsets.length) {
+						offsets = Arrays.copyOf(offsets, count << 1);
+					}
+					offsets[count++] = base + i + lane + 1;
+					ends ^= Long.highestOneBit(ends);
+				}
+			}
+		}
+		final int unit = this.lf.length;
+		for (i += unit; i <= limit; i += unit) {
+			if (isLineEnd(buffer, i, limit)) {
+				if (count == offsets.length) {
+					offsets = Arrays.copyOf(offsets, count << 1);
+				}
+				offsets[count++] = base + i;
+			}
+		}
+
+		// 文件末尾不是新行的开始
+		if (count > 0 && offsets[count - 1] == this.size) {
+			count--;
+		}
+		return Arrays.copyOf(offsets, count);
+	}
+
+	/**
+	 * 解码块并拆分为行
+	 *
+	 * @param chunk 块
+	 * @return 行列表
+	 */
+	private List<String> readChunk(long[] chunk) {
+		final CharBuffer chars;
+		try {
+			chars = this.charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE)
+					.decode(map(chunk));
+		} catch (final CharacterCodingException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final List<String> lines = new ArrayList<>();
+		final int limit = chars.limit();
+		int lineStart = 0;
+		for (int i = 0; i < limit; i++) {
+			final char c = chars.get(i);
+			if (CharUtil.LF == c || CharUtil.CR == c) {
+				lines.add(chars.subSequence(lineStart, i).toString());
+				if (CharUtil.CR == c && i + 1 < limit && CharUtil.LF == chars.get(i + 1)) {
+					i++;
+				}
+				lineStart = i + 1;
+			}
+		}
+		if (lineStart < limit) {
+			lines.add(chars.subSequence(lineStart, limit).toString());
+		}
+		return lines;
+	}
+
+	/**
+	 * 位置之前的单元是否为行结束，即\n，或其后不是\n的\r
+	 *
+	 * @param buffer 内容
+	 * @param end    单元结束位置
+	 * @param limit  内容长度
+	 * @return 是否行结束
+	 */
+	private boolean isLineEnd(ByteBuffer buffer, int end, int limit) {
+		final int start = end - this.lf.length;
+		if (matches(buffer, start, this.lf)) {
+			return true;
+		}
+		return matches(buffer, start, this.cr) && (end + this.lf.length > limit || false == matches(buffer, end, this.lf));
+	}
+
+	/**
+	 * 文件指定位置的单元是否为换行符
+	 */
+	private boolean isTerminator(long position) {
+		final ByteBuffer buffer = readUnit(position);
+		return null != buffer && (matches(buffer, 0, this.lf) || matches(buffer, 0, this.cr));
+	}
+
+	/**
+	 * 文件指定位置的单元是否为\n
+	 */
+	private boolean isLf(long position) {
+		final ByteBuffer buffer = readUnit(position);
+		return null != buffer && matches(buffer, 0, this.lf);
+	}
+
+	private ByteBuffer readUnit(long position) {
+		if (position < 0 || position + this.lf.length > this.size) {
+			return null;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(this.lf.length);
+		try {
+			while (buffer.hasRemaining()) {
+				if (this.channel.read(buffer, position + buffer.position()) < 0) {
+					return null;
+				}
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return buffer;
+	}
+
+	/**
+	 * 内容指定位置是否为给定的单元
+	 */
+	private static boolean matches(ByteBuffer buffer, int index, byte[] unit) {
+		for (int i = 0; i < unit.length; i++) {
+			if (buffer.get(index + i) != unit[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 标记8字节中与模式相同的字节，相同字节的最高位为1，其它位为0
+	 *
+	 * @param word    8字节
+	 * @param pattern 重复8次的目标字节
+	 * @return 标记
+	 */
+	private static long match(long word, long pattern) {
+		final long x = word ^ pattern;
+		return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+	}
+
+	/**
+	 * 字符编码后的单元，编码带有BOM等前缀时返回{@code null}
+	 *
+	 * @param charset 编码
+	 * @param str     单个字符
+	 * @return 编码后的字节
+	 */
+	private static byte[] encodeUnit(Charset charset, String str) {
+		if (false == charset.canEncode()) {
+			return null;
+		}
+		final byte[] one = str.getBytes(charset);
+		final byte[] two = (str + str).getBytes(charset);
+		return two.length == one.length * 2 ? one : null;
+	}
+	// ---------------------------------------------------------------------------------------- Private method end
+}
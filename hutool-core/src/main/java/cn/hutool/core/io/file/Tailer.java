@@ -28,7 +28,8 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 文件内容跟随器，实现类似Linux下"tail -f"命令功能
+ * 文件内容跟随器，实现类似Linux下"tail -f"命令功能<br>
+ * 此类按固定间隔轮询单个文件，跟随大量文件或需要低延迟时可使用{@link TailerPool}
  *
  * @author looly
  * @since 4.5.2
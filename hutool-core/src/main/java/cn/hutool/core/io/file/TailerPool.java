@@ -0,0 +1,521 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.watch.WatchAction;
+import cn.hutool.core.io.watch.WatchKind;
+import cn.hutool.core.io.watch.WatchServer;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.CharUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多文件内容跟随器，实现类似Linux下"tail -F"命令功能，一个实例可同时跟随大量文件：
+ * <ul>
+ *     <li>所有文件所在的目录注册到同一个{@link WatchServer}，由文件的修改、创建事件唤醒读取，不再定时轮询</li>
+ *     <li>读取任务在共享线程池中执行，同一文件同时只有一个读取任务，读取期间到达的事件合并为一次补读</li>
+ *     <li>使用{@link FileChannel}按块读取，每个文件使用自己的解码器，新增的完整行按批交给{@link LinesHandler}，未结束的行等待后续内容</li>
+ *     <li>文件被清空或截短时从头读取；文件被轮转（移走或删除后重建）时，读完原文件后从新文件的开头读取</li>
+ * </ul>
+ * 使用：
+ * <pre>
+ * TailerPool pool = new TailerPool(2);
+ * pool.add(file, CharsetUtil.CHARSET_UTF_8, lines -&gt; lines.forEach(Console::log));
+ * // ...
+ * pool.close();
+ * </pre>
+ * 文件的唤醒依赖操作系统的文件事件，在以轮询实现{@link java.nio.file.WatchService}的系统上延迟取决于JDK的轮询间隔。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class TailerPool implements Closeable {
+
+	/**
+	 * 每次读取的字节数，也是每批行的最大来源
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/**
+	 * 读取缓冲区，读取任务在线程池中执行，按线程复用，不随文件数增长
+	 */
+	private static final ThreadLocal<ByteBuffer> BYTE_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+	private static final ThreadLocal<CharBuffer> CHAR_BUFFER = ThreadLocal.withInitial(() -> CharBuffer.allocate(BUFFER_SIZE));
+
+	private final ExecutorService executor;
+	/**
+	 * 线程池是否由此对象创建，创建的线程池在关闭时一并关闭
+	 */
+	private final boolean ownExecutor;
+	private final WatchServer watchServer;
+	/**
+	 * 跟随的文件，绝对路径 -&gt; 文件
+	 */
+	private final Map<Path, TailFile> files = new SafeConcurrentHashMap<>();
+	/**
+	 * 监听的目录及其中跟随的文件数
+	 */
+	private final Map<Path, Integer> dirs = new HashMap<>();
+	private volatile boolean closed;
+
+	/**
+	 * 构造，创建指定线程数的线程池读取文件
+	 *
+	 * @param nThreads 读取线程数
+	 */
+	public TailerPool(int nThreads) {
+		this(ExecutorBuilder.create()
+				.setCorePoolSize(nThreads).setMaxPoolSize(nThreads)
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.setThreadFactory(ThreadUtil.newNamedThreadFactory("hutool-tailer-", true))
+				.build(), true);
+	}
+
+	/**
+	 * 构造，使用指定的线程池读取文件，关闭时不关闭此线程池
+	 *
+	 * @param executor 线程池
+	 */
+	public TailerPool(ExecutorService executor) {
+		this(executor, false);
+	}
+
+	private TailerPool(ExecutorService executor, boolean ownExecutor) {
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+		this.ownExecutor = ownExecutor;
+		this.watchServer = new TailWatchServer(this::onEvent);
+		this.watchServer.init();
+		this.watchServer.start();
+	}
+
+	/**
+	 * 跟随文件，从文件末尾开始读取新增的内容
+	 *
+	 * @param file    文件
+	 * @param charset 编码
+	 * @param handler 行处理器，同一文件的批次按顺序在线程池中调用
+	 * @return this
+	 */
+	public TailerPool add(File file, Charset charset, LinesHandler handler) {
+		return add(file, charset, false, handler);
+	}
+
+	/**
+	 * 跟随文件
+	 *
+	 * @param file      文件
+	 * @param charset   编码
+	 * @param fromStart 是否从文件开头读取，{@code false}表示只读取新增的内容
+	 * @param handler   行处理器，同一文件的批次按顺序在线程池中调用
+	 * @return this
+	 * @throws UtilException 文件不存在、不是文件或已在跟随
+	 */
+	public synchronized TailerPool add(File file, Charset charset, boolean fromStart, LinesHandler handler) throws UtilException {
+		Assert.isFalse(this.closed, "TailerPool is closed!");
+		Assert.notNull(handler, "LinesHandler must be not null!");
+		checkFile(file);
+		final Path path = file.toPath().toAbsolutePath().normalize();
+		if (this.files.containsKey(path)) {
+			throw new UtilException("File [{}] is already tailed !", path);
+		}
+
+		// 先监听目录再打开文件，之后的修改都会触发事件
+		final Path dir = path.getParent();
+		this.dirs.merge(dir, 1, Integer::sum);
+		final WatchKey watchKey = this.watchServer.getWatchKey(dir);
+		if (null == watchKey || false == watchKey.isValid()) {
+			// 首次监听，或目录被删除重建后原监听已失效
+			this.watchServer.unregisterPath(dir);
+			this.watchServer.registerPath(dir, 0);
+		}
+
+		final TailFile tailFile;
+		try {
+			tailFile = new TailFile(path, charset, handler, fromStart);
+		} catch (final IOException e) {
+			releaseDir(dir);
+			throw new IORuntimeException(e);
+		}
+		this.files.put(path, tailFile);
+		// 读取打开文件到加入跟随之间的内容，从头读取时读取已有内容，被拒绝时在下一个事件读取
+		signalQuietly(tailFile);
+		return this;
+	}
+
+	/**
+	 * 停止跟随文件，正在执行的读取完成后不再读取
+	 *
+	 * @param file 文件
+	 * @return 是否在跟随此文件
+	 */
+	public synchronized boolean remove(File file) {
+		final Path path = file.toPath().toAbsolutePath().normalize();
+		final TailFile tailFile = this.files.remove(path);
+		if (null == tailFile) {
+			return false;
+		}
+		tailFile.close();
+		releaseDir(path.getParent());
+		return true;
+	}
+
+	/**
+	 * 跟随的文件数
+	 *
+	 * @return 文件数
+	 */
+	public int size() {
+		return this.files.size();
+	}
+
+	/**
+	 * 停止跟随所有文件，并关闭监听，由此对象创建的线程池一并关闭
+	 */
+	@Override
+	public synchronized void close() {
+		this.closed = true;
+		IoUtil.close(this.watchServer);
+		for (final TailFile tailFile : this.files.values()) {
+			tailFile.close();
+		}
+		this.files.clear();
+		this.dirs.clear();
+		if (this.ownExecutor) {
+			this.executor.shutdown();
+		}
+	}
+
+	// ---------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 处理目录事件，唤醒相关文件的读取
+	 *
+	 * @param event       事件
+	 * @param currentPath 事件所在目录
+	 */
+	private void onEvent(WatchEvent<?> event, Path currentPath) {
+		if (WatchKind.OVERFLOW.getValue() == event.kind() || null == currentPath) {
+			// 事件丢失，唤醒所有文件
+			this.files.values().forEach(TailerPool::signalQuietly);
+			return;
+		}
+		final TailFile tailFile = this.files.get(currentPath.resolve((Path) event.context()));
+		if (null != tailFile) {
+			signalQuietly(tailFile);
+		}
+	}
+
+	/**
+	 * 唤醒读取，线程池拒绝时不抛出异常（不中断监听线程），未读取的内容在此文件的下一个事件时读取
+	 *
+	 * @param tailFile 跟随的文件
+	 */
+	private static void signalQuietly(TailFile tailFile) {
+		try {
+			tailFile.signal();
+		} catch (final RejectedExecutionException e) {
+			Console.error(e, "Read task of [{}] is rejected, retry on next event.", tailFile.path);
+		}
+	}
+
+	/**
+	 * 目录中没有跟随的文件时取消监听
+	 *
+	 * @param dir 目录
+	 */
+	private void releaseDir(Path dir) {
+		if (null == this.dirs.computeIfPresent(dir, (key, count) -> count > 1 ? count - 1 : null)) {
+			this.watchServer.unregisterPath(dir);
+		}
+	}
+
+	/**
+	 * 检查文件有效性
+	 *
+	 * @param file 文件
+	 */
+	private static void checkFile(File file) {
+		if (false == file.exists()) {
+			throw new UtilException("File [{}] not exist !", file.getAbsolutePath());
+		}
+		if (false == file.isFile()) {
+			throw new UtilException("Path [{}] is not a file !", file.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * 获取文件的唯一标识（如inode），用于识别轮转
+	 *
+	 * @param path 路径
+	 * @return 标识，文件不存在或系统不支持时返回{@code null}
+	 * @throws IOException IO异常
+	 */
+	private static Object fileKey(Path path) throws IOException {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+		} catch (final NoSuchFileException e) {
+			return null;
+		}
+	}
+	// ---------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 批量行处理器
+	 */
+	@FunctionalInterface
+	public interface LinesHandler {
+		/**
+		 * 处理一批新增的行，行不包含换行符
+		 *
+		 * @param lines 行，非空
+		 */
+		void handle(List<String> lines);
+	}
+
+	/**
+	 * 跟随中的文件，读取任务通过计数合并，同一时间只有一个线程读取
+	 */
+	private class TailFile implements Runnable {
+		private final Path path;
+		private final LinesHandler handler;
+		private final CharsetDecoder decoder;
+		/**
+		 * 未处理的唤醒次数，从0变为1时提交读取任务
+		 */
+		private final AtomicInteger signals = new AtomicInteger();
+		/**
+		 * 未遇到换行符的行内容
+		 */
+		private final StringBuilder partial = new StringBuilder();
+		private FileChannel channel;
+		private Object fileKey;
+		private long position;
+		/**
+		 * 上一行是否以\r结束，此时紧随的\n不再产生新行
+		 */
+		private boolean pendingCR;
+		private volatile boolean closed;
+
+		TailFile(Path path, Charset charset, LinesHandler handler, boolean fromStart) throws IOException {
+			this.path = path;
+			this.handler = handler;
+			this.decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			open();
+			if (false == fromStart) {
+				this.position = this.channel.size();
+			}
+		}
+
+		/**
+		 * 唤醒读取，线程池拒绝时清除未处理的唤醒，之后的唤醒可重新提交
+		 *
+		 * @throws RejectedExecutionException 跟随中的文件读取任务被线程池拒绝
+		 */
+		void signal() {
+			if (0 == this.signals.getAndIncrement()) {
+				try {
+					executor.execute(this);
+				} catch (final RejectedExecutionException e) {
+					this.signals.set(0);
+					if (false == this.closed && false == TailerPool.this.closed) {
+						throw e;
+					}
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			int count = this.signals.get();
+			boolean finished = false;
+			try {
+				do {
+					if (this.closed) {
+						break;
+					}
+					read();
+				} while (0 != (count = this.signals.addAndGet(-count)));
+				finished = true;
+			} catch (final IOException e) {
+				if (false == this.closed) {
+					throw new IORuntimeException(e);
+				}
+			} finally {
+				if (false == finished) {
+					// 出错后允许之后的事件重新唤醒
+					this.signals.set(0);
+				}
+			}
+		}
+
+		void close() {
+			this.closed = true;
+			IoUtil.close(this.channel);
+		}
+
+		/**
+		 * 检查轮转和截断后读取新增内容
+		 *
+		 * @throws IOException IO异常
+		 */
+		private void read() throws IOException {
+			final Object currentKey = fileKey(this.path);
+			if (null != currentKey && null != this.fileKey && false == currentKey.equals(this.fileKey)) {
+				// 文件已轮转，读完原文件后切换到新文件
+				readToEnd();
+				if (this.partial.length() > 0) {
+					final List<String> lines = new ArrayList<>(1);
+					lines.add(this.partial.toString());
+					this.handler.handle(lines);
+				}
+				IoUtil.close(this.channel);
+				open();
+				reset();
+			} else if (this.channel.size() < this.position) {
+				// 文件被清空或截短，从头读取
+				reset();
+			}
+			readToEnd();
+		}
+
+		/**
+		 * 按块读取到文件末尾，每块解析出的行作为一批
+		 *
+		 * @throws IOException IO异常
+		 */
+		private void readToEnd() throws IOException {
+			final ByteBuffer bytes = BYTE_BUFFER.get();
+			final CharBuffer chars = CHAR_BUFFER.get();
+			int read;
+			do {
+				bytes.clear();
+				read = this.channel.read(bytes, this.position);
+				if (read <= 0) {
+					break;
+				}
+				bytes.flip();
+				final List<String> lines = new ArrayList<>();
+				CoderResult result;
+				do {
+					chars.clear();
+					result = this.decoder.decode(bytes, chars, false);
+					chars.flip();
+					splitLines(chars, lines);
+				} while (result.isOverflow());
+				// 末尾不完整的字符留到下次读取
+				this.position += bytes.position();
+
+				if (false == lines.isEmpty()) {
+					this.handler.handle(lines);
+				}
+			} while (read == bytes.capacity());
+		}
+
+		/**
+		 * 按\r、\n或\r\n拆分行，末尾未结束的内容暂存
+		 *
+		 * @param chars 字符
+		 * @param lines 拆分出的行
+		 */
+		private void splitLines(CharBuffer chars, List<String> lines) {
+			final char[] array = chars.array();
+			final int limit = chars.limit();
+			int lineStart = 0;
+			for (int i = 0; i < limit; i++) {
+				final char c = array[i];
+				if (CharUtil.CR != c && CharUtil.LF != c) {
+					continue;
+				}
+				if (CharUtil.LF == c && this.pendingCR && i == lineStart) {
+					// \r\n中的\n
+					this.pendingCR = false;
+					lineStart = i + 1;
+					continue;
+				}
+				if (this.partial.length() > 0) {
+					lines.add(this.partial.append(array, lineStart, i - lineStart).toString());
+					this.partial.setLength(0);
+				} else {
+					lines.add(new String(array, lineStart, i - lineStart));
+				}
+				this.pendingCR = CharUtil.CR == c;
+				lineStart = i + 1;
+			}
+			if (lineStart < limit) {
+				this.partial.append(array, lineStart, limit - lineStart);
+				this.pendingCR = false;
+			}
+		}
+
+		private void open() throws IOException {
+			this.channel = FileChannel.open(this.path, StandardOpenOption.READ);
+			this.fileKey = fileKey(this.path);
+		}
+
+		private void reset() {
+			this.position = 0;
+			this.decoder.reset();
+			this.partial.setLength(0);
+			this.pendingCR = false;
+		}
+	}
+
+	/**
+	 * 监听所有跟随文件所在目录的服务
+	 */
+	private static class TailWatchServer extends WatchServer {
+		private static final long serialVersionUID = 1L;
+
+		private final WatchAction action;
+
+		TailWatchServer(WatchAction action) {
+			this.action = action;
+			this.events = new WatchEvent.Kind<?>[]{WatchKind.CREATE.getValue(), WatchKind.MODIFY.getValue(), WatchKind.DELETE.getValue()};
+			setName("hutool-tailer-watch");
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (false == this.isClosed) {
+				try {
+					watch(this.action, null);
+				} catch (final Exception e) {
+					// 单个事件处理失败不影响其它文件的跟随
+					Console.error(e, "Tailer watch error: {}", e.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package cn.hutool.core.io.watch;
 
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Filter;
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.ObjectUtil;
 
@@ -20,7 +21,7 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -49,9 +50,9 @@ public class WatchServer extends Thread implements Closeable, Serializable {
 	 */
 	protected boolean isClosed;
 	/**
-	 * WatchKey 和 Path的对应表
+	 * WatchKey 和 Path的对应表，监听过程中可能注册新路径，使用线程安全的Map
 	 */
-	private final Map<WatchKey, Path> watchKeyPathMap = new HashMap<>();
+	private final Map<WatchKey, Path> watchKeyPathMap = new SafeConcurrentHashMap<>();
 
 	/**
 	 * 初始化<br>
@@ -145,16 +146,19 @@ public class WatchServer extends Thread implements Closeable, Serializable {
 
 		final Path currentPath = watchKeyPathMap.get(wk);
 
-		for (WatchEvent<?> event : wk.pollEvents()) {
-			// 如果监听文件，检查当前事件是否与所监听文件关联
-			if (null != watchFilter && false == watchFilter.accept(event)) {
-				continue;
-			}
+		try {
+			for (WatchEvent<?> event : wk.pollEvents()) {
+				// 如果监听文件，检查当前事件是否与所监听文件关联
+				if (null != watchFilter && false == watchFilter.accept(event)) {
+					continue;
+				}
 
-			action.doAction(event, currentPath);
+				action.doAction(event, currentPath);
+			}
+		} finally {
+			// 处理事件出错时也要重置，否则此路径不再产生事件
+			wk.reset();
 		}
-
-		wk.reset();
 	}
 
 	/**
@@ -194,6 +198,27 @@ public class WatchServer extends Thread implements Closeable, Serializable {
 		return null;
 	}
 
+	/**
+	 * 取消路径的监听，并移除对应的WatchKey
+	 *
+	 * @param path 路径
+	 * @return 是否存在此路径的监听
+	 * @since 5.8.42
+	 */
+	public boolean unregisterPath(Path path) {
+		boolean removed = false;
+		final Iterator<Map.Entry<WatchKey, Path>> iterator = watchKeyPathMap.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<WatchKey, Path> entry = iterator.next();
+			if (ObjectUtil.equals(path, entry.getValue())) {
+				entry.getKey().cancel();
+				iterator.remove();
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
 	/**
 	 * 关闭监听
 	 */
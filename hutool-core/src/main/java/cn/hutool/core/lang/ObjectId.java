@@ -49,6 +49,8 @@ public class ObjectId {
 	private static final AtomicInteger NEXT_INC = new AtomicInteger(RandomUtil.randomInt());
 	/** 机器信息 */
 	private static final int MACHINE = getMachinePiece() | getProcessPiece();
+	/** 16进制字符 */
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
 
 	/**
 	 * 给定的字符串是否为有效的ObjectId
@@ -114,24 +116,67 @@ public class ObjectId {
 	 * @return objectId
 	 */
 	public static String next(boolean withHyphen) {
-		byte[] array = nextBytes();
-		final StringBuilder buf = new StringBuilder(withHyphen ? 26 : 24);
-		int t;
-		for (int i = 0; i < array.length; i++) {
-			if (withHyphen && i % 4 == 0 && i != 0) {
-				buf.append("-");
-			}
-			t = array[i] & 0xff;
-			if (t < 16) {
-				buf.append('0');
-			}
-			buf.append(Integer.toHexString(t));
+		return toHex((int) DateUtil.currentSeconds(), NEXT_INC.getAndIncrement(), withHyphen);
+	}
 
+	/**
+	 * 批量获取objectId，一次预留所需个数的自增计数
+	 *
+	 * @param count      个数
+	 * @param withHyphen 是否包含分隔符
+	 * @return objectId数组
+	 * @since 5.8.42
+	 */
+	public static String[] next(int count, boolean withHyphen) {
+		Assert.isTrue(count >= 0, "Count must be not negative!");
+		final int time = (int) DateUtil.currentSeconds();
+		final int inc = NEXT_INC.getAndAdd(count);
+		final String[] result = new String[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = toHex(time, inc + i, withHyphen);
 		}
-		return buf.toString();
+		return result;
 	}
 
 	// ----------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 将时间戳、机器信息和自增计数按16进制写出
+	 *
+	 * @param time       时间戳（秒）
+	 * @param inc        自增计数
+	 * @param withHyphen 是否包含分隔符
+	 * @return objectId
+	 */
+	private static String toHex(int time, int inc, boolean withHyphen) {
+		final char[] chars = new char[withHyphen ? 26 : 24];
+		int pos = toHex(chars, 0, time);
+		if (withHyphen) {
+			chars[pos++] = '-';
+		}
+		pos = toHex(chars, pos, MACHINE);
+		if (withHyphen) {
+			chars[pos++] = '-';
+		}
+		toHex(chars, pos, inc);
+		return new String(chars);
+	}
+
+	/**
+	 * 将int按16进制写入字符数组，固定8位
+	 *
+	 * @param chars 字符数组
+	 * @param pos   写入的起始位置
+	 * @param value 值
+	 * @return 写入后的位置
+	 */
+	private static int toHex(char[] chars, int pos, int value) {
+		for (int i = pos + 7; i >= pos; i--) {
+			chars[i] = DIGITS[value & 0xf];
+			value >>>= 4;
+		}
+		return pos + 8;
+	}
 	/**
 	 * 获取机器码片段
 	 *
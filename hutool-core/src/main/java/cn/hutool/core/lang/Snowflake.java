@@ -7,6 +7,7 @@ import cn.hutool.core.util.StrUtil;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * Twitter的Snowflake 算法<br>
@@ -26,6 +27,9 @@ import java.util.Date;
  * <p>
  * 并且可以通过生成的id反推出生成时间,datacenterId和workerId
  * <p>
+ * 上次时间戳与序号打包在一个long中，通过CAS无锁更新，多线程并发生成时无需竞争同一把锁；
+ * 批量获取时可使用{@link #nextIds(int)}，一次CAS预留同一毫秒内的一段连续序号。
+ * <p>
  * 参考：http://www.cnblogs.com/relucent/p/4955340.html<br>
  * 关于长度是18还是19的问题见：https://blog.csdn.net/unifirst/article/details/80408050
  *
@@ -63,6 +67,7 @@ public class Snowflake implements Serializable {
 	private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 	// 序列掩码，用于限定序列最大值不能超过4095
 	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
+	private static final AtomicLongFieldUpdater<Snowflake> STATE_UPDATER = AtomicLongFieldUpdater.newUpdater(Snowflake.class, "state");
 
 	/**
 	 * 初始化时间点
@@ -84,10 +89,10 @@ public class Snowflake implements Serializable {
 	private final long randomSequenceLimit;
 
 	/**
+	 * 上次生成ID的时间戳左移12位后与上次的序号组合，初始时间戳为-1，序号为0<br>
 	 * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
 	 */
-	private long sequence = 0L;
-	private long lastTimestamp = -1L;
+	private volatile long state = -1L << SEQUENCE_BITS;
 
 	/**
 	 * 构造，使用自动生成的工作节点ID和数据中心ID
@@ -237,39 +242,63 @@ public class Snowflake implements Serializable {
 	 *
 	 * @return ID
 	 */
-	public synchronized long nextId() {
-		long timestamp = genTime();
-		if (timestamp < this.lastTimestamp) {
-			if (this.lastTimestamp - timestamp < timeOffset) {
-				// 容忍指定的回拨，避免NTP校时造成的异常
-				timestamp = lastTimestamp;
+	public long nextId() {
+		long current;
+		long timestamp;
+		long sequence;
+		do {
+			current = this.state;
+			final long lastTimestamp = current >> SEQUENCE_BITS;
+			timestamp = checkTime(genTime(), lastTimestamp);
+			if (timestamp == lastTimestamp) {
+				sequence = ((current & SEQUENCE_MASK) + 1) & SEQUENCE_MASK;
+				if (sequence == 0) {
+					timestamp = tilNextMillis(lastTimestamp);
+				}
 			} else {
-				// 如果服务器时间有问题(时钟后退) 报错。
-				throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+				sequence = firstSequence();
 			}
-		}
+		} while (false == STATE_UPDATER.compareAndSet(this, current, (timestamp << SEQUENCE_BITS) | sequence));
 
-		if (timestamp == this.lastTimestamp) {
-			final long sequence = (this.sequence + 1) & SEQUENCE_MASK;
-			if (sequence == 0) {
-				timestamp = tilNextMillis(lastTimestamp);
-			}
-			this.sequence = sequence;
-		} else {
-			// issue#I51EJY
-			if (randomSequenceLimit > 1) {
-				sequence = RandomUtil.randomLong(randomSequenceLimit);
+		return toId(timestamp, sequence);
+	}
+
+	/**
+	 * 批量获取ID，每次CAS预留同一毫秒内剩余的一段连续序号，相比多次调用{@link #nextId()}减少线程间竞争<br>
+	 * 返回的ID递增，时钟回拨的处理与{@link #nextId()}一致。
+	 *
+	 * @param count ID个数
+	 * @return ID数组
+	 * @since 5.8.42
+	 */
+	public long[] nextIds(int count) {
+		Assert.isTrue(count >= 0, "Count must be not negative!");
+		final long[] ids = new long[count];
+		int filled = 0;
+		long current;
+		long timestamp;
+		long sequence;
+		long lastSequence;
+		while (filled < count) {
+			current = this.state;
+			final long lastTimestamp = current >> SEQUENCE_BITS;
+			timestamp = checkTime(genTime(), lastTimestamp);
+			if (timestamp == lastTimestamp) {
+				sequence = ((current & SEQUENCE_MASK) + 1) & SEQUENCE_MASK;
+				if (sequence == 0) {
+					timestamp = tilNextMillis(lastTimestamp);
+				}
 			} else {
-				sequence = 0L;
+				sequence = firstSequence();
+			}
+			lastSequence = Math.min(SEQUENCE_MASK, sequence + (count - filled) - 1);
+			if (STATE_UPDATER.compareAndSet(this, current, (timestamp << SEQUENCE_BITS) | lastSequence)) {
+				for (; sequence <= lastSequence; sequence++) {
+					ids[filled++] = toId(timestamp, sequence);
+				}
 			}
 		}
-
-		lastTimestamp = timestamp;
-
-		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
-				| (dataCenterId << DATA_CENTER_ID_SHIFT)
-				| (workerId << WORKER_ID_SHIFT)
-				| sequence;
+		return ids;
 	}
 
 	/**
@@ -283,6 +312,49 @@ public class Snowflake implements Serializable {
 
 	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
 
+	/**
+	 * 检查时钟回拨，容忍指定的回拨，避免NTP校时造成的异常
+	 *
+	 * @param timestamp     当前时间
+	 * @param lastTimestamp 上次记录的时间
+	 * @return 用于生成ID的时间
+	 */
+	private long checkTime(long timestamp, long lastTimestamp) {
+		if (timestamp < lastTimestamp) {
+			if (lastTimestamp - timestamp < timeOffset) {
+				// 容忍指定的回拨，避免NTP校时造成的异常
+				return lastTimestamp;
+			}
+			// 如果服务器时间有问题(时钟后退) 报错。
+			throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+		}
+		return timestamp;
+	}
+
+	/**
+	 * 新的毫秒内的起始序号
+	 *
+	 * @return 序号
+	 */
+	private long firstSequence() {
+		// issue#I51EJY
+		return randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L;
+	}
+
+	/**
+	 * 组合ID
+	 *
+	 * @param timestamp 时间戳
+	 * @param sequence  序号
+	 * @return ID
+	 */
+	private long toId(long timestamp, long sequence) {
+		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
+				| (dataCenterId << DATA_CENTER_ID_SHIFT)
+				| (workerId << WORKER_ID_SHIFT)
+				| sequence;
+	}
+
 	/**
 	 * 循环等待下一个时间
 	 *
@@ -1,7 +1,6 @@
 package cn.hutool.core.lang;
 
 import cn.hutool.core.util.RandomUtil;
-import cn.hutool.core.util.StrUtil;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -44,13 +43,9 @@ public final class UUID implements java.io.Serializable, Comparable<UUID> {
 	private static final long serialVersionUID = -1185015143654744140L;
 
 	/**
-	 * {@link SecureRandom} 的单例
-	 *
-	 * @author looly
+	 * 16进制字符
 	 */
-	private static class Holder {
-		static final SecureRandom NUMBER_GENERATOR = RandomUtil.getSecureRandom();
-	}
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
 
 	/**
 	 * 此UUID的最高64有效位
@@ -117,17 +112,26 @@ public final class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 随机生成的 {@code UUID}
 	 */
 	public static UUID randomUUID(boolean isSecure) {
-		final Random ng = isSecure ? Holder.NUMBER_GENERATOR : RandomUtil.getRandom();
-
-		final byte[] randomBytes = new byte[16];
-		ng.nextBytes(randomBytes);
-
-		randomBytes[6] &= 0x0f; /* clear version */
-		randomBytes[6] |= 0x40; /* set to version 4 */
-		randomBytes[8] &= 0x3f; /* clear variant */
-		randomBytes[8] |= 0x80; /* set to IETF variant */
+		final Random ng = getNumberGenerator(isSecure);
+		return randomUUID(ng.nextLong(), ng.nextLong());
+	}
 
-		return new UUID(randomBytes);
+	/**
+	 * 批量获取类型 4（伪随机生成的）UUID
+	 *
+	 * @param count    个数
+	 * @param isSecure 是否使用{@link SecureRandom}如果是可以获得更安全的随机码，否则可以得到更好的性能
+	 * @return 随机生成的 {@code UUID}数组
+	 * @since 5.8.42
+	 */
+	public static UUID[] randomUUIDs(int count, boolean isSecure) {
+		Assert.isTrue(count >= 0, "Count must be not negative!");
+		final Random ng = getNumberGenerator(isSecure);
+		final UUID[] result = new UUID[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = randomUUID(ng.nextLong(), ng.nextLong());
+		}
+		return result;
 	}
 
 	/**
@@ -344,31 +348,31 @@ public final class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 此{@code UUID} 的字符串表现形式
 	 */
 	public String toString(boolean isSimple) {
-		final StringBuilder builder = StrUtil.builder(isSimple ? 32 : 36);
+		final char[] chars = new char[isSimple ? 32 : 36];
 		// time_low
-		builder.append(digits(mostSigBits >> 32, 8));
+		int pos = digits(chars, 0, mostSigBits >> 32, 8);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// time_mid
-		builder.append(digits(mostSigBits >> 16, 4));
+		pos = digits(chars, pos, mostSigBits >> 16, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// time_high_and_version
-		builder.append(digits(mostSigBits, 4));
+		pos = digits(chars, pos, mostSigBits, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// variant_and_sequence
-		builder.append(digits(leastSigBits >> 48, 4));
+		pos = digits(chars, pos, leastSigBits >> 48, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// node
-		builder.append(digits(leastSigBits, 12));
+		digits(chars, pos, leastSigBits, 12);
 
-		return builder.toString();
+		return new String(chars);
 	}
 
 	/**
@@ -424,15 +428,45 @@ public final class UUID implements java.io.Serializable, Comparable<UUID> {
 	// ------------------------------------------------------------------------------------------------------------------- Private method start
 
 	/**
-	 * 返回指定数字对应的hex值
+	 * 获取随机数生成器，安全模式下使用线程独享的{@link SecureRandom}，避免多线程竞争
+	 *
+	 * @param isSecure 是否使用{@link SecureRandom}
+	 * @return 随机数生成器
+	 */
+	private static Random getNumberGenerator(boolean isSecure) {
+		return isSecure ? RandomUtil.getThreadLocalSecureRandom() : RandomUtil.getRandom();
+	}
+
+	/**
+	 * 根据随机数生成类型 4 的UUID
 	 *
+	 * @param mostSigBits  高64位随机数
+	 * @param leastSigBits 低64位随机数
+	 * @return UUID
+	 */
+	private static UUID randomUUID(long mostSigBits, long leastSigBits) {
+		mostSigBits &= ~0xf000L; /* clear version */
+		mostSigBits |= 0x4000L; /* set to version 4 */
+		leastSigBits &= 0x3fffffffffffffffL; /* clear variant */
+		leastSigBits |= 0x8000000000000000L; /* set to IETF variant */
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	/**
+	 * 将指定数字的低位按16进制写入字符数组
+	 *
+	 * @param chars  字符数组
+	 * @param pos    写入的起始位置
 	 * @param val    值
 	 * @param digits 位
-	 * @return 值
+	 * @return 写入后的位置
 	 */
-	private static String digits(long val, int digits) {
-		long hi = 1L << (digits * 4);
-		return Long.toHexString(hi | (val & (hi - 1))).substring(1);
+	private static int digits(char[] chars, int pos, long val, int digits) {
+		for (int i = pos + digits - 1; i >= pos; i--) {
+			chars[i] = DIGITS[(int) (val & 0xf)];
+			val >>>= 4;
+		}
+		return pos + digits;
 	}
 
 	/**
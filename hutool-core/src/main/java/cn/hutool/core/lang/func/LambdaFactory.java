@@ -0,0 +1,86 @@
+package cn.hutool.core.lang.func;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.lang.reflect.LookupFactory;
+import cn.hutool.core.map.reference.WeakKeyConcurrentMap;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 通过{@link LambdaMetafactory}将Getter、Setter等实例方法生成为函数对象，调用开销接近直接调用，远低于反射。<br>
+ * 生成结果按方法缓存，无法生成（如JDK9+模块不可访问）时返回{@code null}，调用方需使用反射。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class LambdaFactory {
+
+	/**
+	 * 方法生成的函数缓存，无法生成的使用{@link #NONE}标记
+	 */
+	private static final WeakKeyConcurrentMap<Method, Object> CACHE = new WeakKeyConcurrentMap<>();
+	private static final Object NONE = new Object();
+
+	/**
+	 * 将无参实例方法（如Getter）生成为{@link Function}，参数为调用对象，返回值为方法返回值（基本类型自动装箱）
+	 *
+	 * @param method 无参实例方法
+	 * @return {@link Function}，无法生成时返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static Function<Object, Object> getter(Method method) {
+		if (null == method || Modifier.isStatic(method.getModifiers()) || 0 != method.getParameterCount()) {
+			return null;
+		}
+		return (Function<Object, Object>) build(method, Function.class, "apply",
+				MethodType.methodType(Object.class, Object.class),
+				MethodType.methodType(BasicType.wrap(method.getReturnType()), method.getDeclaringClass()));
+	}
+
+	/**
+	 * 将单参数实例方法（如Setter）生成为{@link BiConsumer}，参数为调用对象和方法参数（基本类型需传入包装类型），返回值被忽略
+	 *
+	 * @param method 单参数实例方法
+	 * @return {@link BiConsumer}，无法生成时返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static BiConsumer<Object, Object> setter(Method method) {
+		if (null == method || Modifier.isStatic(method.getModifiers()) || 1 != method.getParameterCount()) {
+			return null;
+		}
+		return (BiConsumer<Object, Object>) build(method, BiConsumer.class, "accept",
+				MethodType.methodType(void.class, Object.class, Object.class),
+				MethodType.methodType(void.class, method.getDeclaringClass(), BasicType.wrap(method.getParameterTypes()[0])));
+	}
+
+	/**
+	 * 通过{@link LambdaMetafactory}创建方法对应的函数
+	 *
+	 * @param method           方法
+	 * @param functionType     函数接口
+	 * @param functionName     函数接口方法名
+	 * @param samType          函数接口方法类型
+	 * @param instantiatedType 实际调用的方法类型
+	 * @return 函数对象，失败返回{@code null}
+	 */
+	private static Object build(Method method, Class<?> functionType, String functionName, MethodType samType, MethodType instantiatedType) {
+		final Object function = CACHE.computeIfAbsent(method, (m) -> {
+			try {
+				final MethodHandles.Lookup lookup = LookupFactory.lookup(m.getDeclaringClass());
+				final MethodHandle handle = lookup.unreflect(m);
+				return LambdaMetafactory.metafactory(lookup, functionName, MethodType.methodType(functionType),
+						samType, handle, instantiatedType).getTarget().invoke();
+			} catch (final Throwable e) {
+				return NONE;
+			}
+		});
+		return NONE == function ? null : function;
+	}
+}
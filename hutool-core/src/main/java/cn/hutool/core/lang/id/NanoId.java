@@ -1,5 +1,6 @@
 package cn.hutool.core.lang.id;
 
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.RandomUtil;
 
 import java.security.SecureRandom;
@@ -21,11 +22,6 @@ import java.util.Random;
  */
 public class NanoId {
 
-	/**
-	 * 默认随机数生成器，使用{@link SecureRandom}确保健壮性
-	 */
-	private static final SecureRandom DEFAULT_NUMBER_GENERATOR = RandomUtil.getSecureRandom();
-
 	/**
 	 * 默认随机字母表，使用URL安全的Base64字符
 	 */
@@ -65,8 +61,23 @@ public class NanoId {
 	 * @return 伪随机的NanoId字符串
 	 */
 	public static String randomNanoId(Random random, char[] alphabet, int size) {
+		return randomNanoIds(random, alphabet, size, 1)[0];
+	}
+
+	/**
+	 * 批量生成伪随机的NanoId字符串，共用随机字节缓冲区
+	 *
+	 * @param random   随机数生成器，{@code null}表示使用当前线程独享的{@link SecureRandom}
+	 * @param alphabet 随机字母表
+	 * @param size     ID长度
+	 * @param count    ID个数
+	 * @return 伪随机的NanoId字符串数组
+	 * @since 5.8.42
+	 */
+	public static String[] randomNanoIds(Random random, char[] alphabet, int size, int count) {
 		if (random == null) {
-			random = DEFAULT_NUMBER_GENERATOR;
+			// 默认使用SecureRandom确保健壮性，线程独享避免多线程竞争
+			random = RandomUtil.getThreadLocalSecureRandom();
 		}
 
 		if (alphabet == null) {
@@ -84,20 +95,23 @@ public class NanoId {
 		final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
 		final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
 
-		final StringBuilder idBuilder = new StringBuilder();
-
-		while (true) {
-			final byte[] bytes = new byte[step];
-			random.nextBytes(bytes);
-			for (int i = 0; i < step; i++) {
-				final int alphabetIndex = bytes[i] & mask;
-				if (alphabetIndex < alphabet.length) {
-					idBuilder.append(alphabet[alphabetIndex]);
-					if (idBuilder.length() == size) {
-						return idBuilder.toString();
+		Assert.isTrue(count >= 0, "Count must be not negative!");
+		final String[] result = new String[count];
+		final byte[] bytes = new byte[step];
+		final char[] id = new char[size];
+		for (int n = 0; n < count; n++) {
+			int length = 0;
+			while (length < size) {
+				random.nextBytes(bytes);
+				for (int i = 0; i < step && length < size; i++) {
+					final int alphabetIndex = bytes[i] & mask;
+					if (alphabetIndex < alphabet.length) {
+						id[length++] = alphabet[alphabetIndex];
 					}
 				}
 			}
+			result[n] = new String(id);
 		}
+		return result;
 	}
 }
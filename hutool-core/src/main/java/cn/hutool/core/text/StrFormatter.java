@@ -6,7 +6,8 @@ import cn.hutool.core.util.StrUtil;
 import java.util.Map;
 
 /**
- * 字符串格式化工具
+ * 字符串格式化工具<br>
+ * 同一模板被大量重复格式化时，可使用{@link StrTemplate}预编译模板
  *
  * @author Looly
  */
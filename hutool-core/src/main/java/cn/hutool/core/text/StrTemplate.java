@@ -0,0 +1,564 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.reference.WeakKeyConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的字符串模板<br>
+ * 模板只解析一次，占位符和转义符处理后拆分为文本片段和参数位置，格式化时按顺序拼接，不再扫描模板。<br>
+ * 格式化结果与{@link StrFormatter#format(String, Object...)}、{@link StrFormatter#formatWith(String, String, Object...)}完全一致，
+ * 适用于日志等固定模板被大量重复使用的场景，可直接写出到复用的{@link StringBuilder}或{@link Appendable}。
+ *
+ * <pre>
+ * private static final StrTemplate TEMPLATE = StrTemplate.of("user {} login from {}");
+ *
+ * TEMPLATE.format("looly", ip);
+ * TEMPLATE.fill(sb).add(userId).add(ip).end();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class StrTemplate {
+
+	/**
+	 * 默认占位符模板的缓存，模板为键，键不再使用时自动清理
+	 */
+	private static final WeakKeyConcurrentMap<String, StrTemplate> CACHE = new WeakKeyConcurrentMap<>();
+	private static final WeakKeyConcurrentMap<String, Named> NAMED_CACHE = new WeakKeyConcurrentMap<>();
+
+	/**
+	 * 获取使用 {} 作为占位符的模板，相同模板共用缓存的对象
+	 *
+	 * @param pattern 字符串模板
+	 * @return StrTemplate
+	 */
+	public static StrTemplate of(String pattern) {
+		Assert.notNull(pattern, "Pattern must be not null!");
+		return CACHE.computeIfAbsent(pattern, (key) -> new StrTemplate(key, StrUtil.EMPTY_JSON));
+	}
+
+	/**
+	 * 获取使用指定占位符的模板，占位符为 {} 时使用缓存，否则每次编译新对象，需自行保存复用
+	 *
+	 * @param pattern     字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 * @return StrTemplate
+	 */
+	public static StrTemplate of(String pattern, String placeHolder) {
+		if (StrUtil.EMPTY_JSON.equals(placeHolder)) {
+			return of(pattern);
+		}
+		Assert.notNull(pattern, "Pattern must be not null!");
+		return new StrTemplate(pattern, placeHolder);
+	}
+
+	/**
+	 * 获取使用 {varName} 作为占位符的模板，相同模板共用缓存的对象
+	 *
+	 * @param template 文本模板，被替换的部分用 {key} 表示
+	 * @return {@link Named}
+	 */
+	public static Named ofNamed(String template) {
+		Assert.notNull(template, "Template must be not null!");
+		return NAMED_CACHE.computeIfAbsent(template, Named::new);
+	}
+
+	/**
+	 * 原始模板
+	 */
+	private final String pattern;
+	/**
+	 * 模板或占位符为空白时，格式化结果为原始模板
+	 */
+	private final boolean plain;
+	/**
+	 * 每个占位符之前的文本，已处理转义
+	 */
+	private final String[] segments;
+	/**
+	 * 每个占位符在原始模板中的结束位置
+	 */
+	private final int[] ends;
+	/**
+	 * 最后一个占位符之后的文本，已处理转义
+	 */
+	private final String tail;
+
+	/**
+	 * 构造，按{@link StrFormatter#formatWith(String, String, Object...)}的规则解析模板
+	 *
+	 * @param pattern     字符串模板
+	 * @param placeHolder 占位符
+	 */
+	private StrTemplate(String pattern, String placeHolder) {
+		// 复制模板，避免缓存的值引用缓存的键导致无法回收
+		this.pattern = new String(pattern.toCharArray());
+		this.plain = StrUtil.isBlank(pattern) || StrUtil.isBlank(placeHolder);
+		if (this.plain) {
+			this.segments = new String[0];
+			this.ends = new int[0];
+			this.tail = this.pattern;
+			return;
+		}
+
+		final int patternLength = pattern.length();
+		final int placeHolderLength = placeHolder.length();
+		final List<String> segments = new ArrayList<>();
+		final List<Integer> ends = new ArrayList<>();
+		final StringBuilder sbuf = new StringBuilder();
+		int handledPosition = 0;
+		int delimIndex;
+		while (-1 != (delimIndex = pattern.indexOf(placeHolder, handledPosition))) {
+			if (delimIndex > 0 && pattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				if (delimIndex > 1 && pattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					// 双转义符，占位符依旧有效
+					sbuf.append(pattern, handledPosition, delimIndex - 1);
+				} else {
+					// 占位符被转义
+					sbuf.append(pattern, handledPosition, delimIndex - 1);
+					sbuf.append(placeHolder.charAt(0));
+					handledPosition = delimIndex + 1;
+					continue;
+				}
+			} else {
+				sbuf.append(pattern, handledPosition, delimIndex);
+			}
+			segments.add(sbuf.toString());
+			sbuf.setLength(0);
+			handledPosition = delimIndex + placeHolderLength;
+			ends.add(handledPosition);
+		}
+		sbuf.append(pattern, handledPosition, patternLength);
+
+		this.segments = segments.toArray(new String[0]);
+		this.ends = new int[ends.size()];
+		for (int i = 0; i < this.ends.length; i++) {
+			this.ends[i] = ends.get(i);
+		}
+		this.tail = sbuf.toString();
+	}
+
+	/**
+	 * 获取原始模板
+	 *
+	 * @return 原始模板
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * 获取占位符个数，不包括被转义的占位符
+	 *
+	 * @return 占位符个数
+	 */
+	public int getPlaceHolderCount() {
+		return this.segments.length;
+	}
+
+	/**
+	 * 格式化
+	 *
+	 * @param args 参数列表
+	 * @return 结果
+	 */
+	public String format(Object... args) {
+		if (this.plain || ArrayUtil.isEmpty(args)) {
+			return this.pattern;
+		}
+		return formatTo(new StringBuilder(this.pattern.length() + 50), args).toString();
+	}
+
+	/**
+	 * 格式化并追加到{@link StringBuilder}中，数字等基本类型的包装类型直接追加，不生成中间字符串
+	 *
+	 * @param sb   {@link StringBuilder}
+	 * @param args 参数列表
+	 * @return sb
+	 */
+	public StringBuilder formatTo(StringBuilder sb, Object... args) {
+		final int argCount = null == args ? 0 : args.length;
+		final int count = Math.min(argCount, this.segments.length);
+		for (int i = 0; i < count; i++) {
+			sb.append(this.segments[i]);
+			appendArg(sb, args[i]);
+		}
+		appendTail(sb, argCount);
+		return sb;
+	}
+
+	/**
+	 * 格式化并追加到{@link Appendable}中
+	 *
+	 * @param <T>        {@link Appendable}类型
+	 * @param appendable {@link Appendable}
+	 * @param args       参数列表
+	 * @return appendable
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T extends Appendable> T formatTo(T appendable, Object... args) throws IORuntimeException {
+		if (appendable instanceof StringBuilder) {
+			formatTo((StringBuilder) appendable, args);
+			return appendable;
+		}
+		final int argCount = null == args ? 0 : args.length;
+		try {
+			if (this.plain || 0 == argCount) {
+				appendable.append(this.pattern);
+				return appendable;
+			}
+			final int count = Math.min(argCount, this.segments.length);
+			for (int i = 0; i < count; i++) {
+				appendable.append(this.segments[i]);
+				final Object arg = args[i];
+				appendable.append(arg instanceof CharSequence ? (CharSequence) arg : StrUtil.utf8Str(arg));
+			}
+			if (argCount > this.segments.length) {
+				appendable.append(this.tail);
+			} else {
+				appendable.append(this.pattern, this.ends[count - 1], this.pattern.length());
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return appendable;
+	}
+
+	/**
+	 * 逐个填充参数并追加到{@link StringBuilder}中，基本类型参数不装箱，填充完毕后调用{@link Filler#end()}
+	 *
+	 * @param sb {@link StringBuilder}
+	 * @return {@link Filler}
+	 */
+	public Filler fill(StringBuilder sb) {
+		return new Filler(this, sb);
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+	/**
+	 * 追加最后一个使用的占位符之后的内容<br>
+	 * 与{@link StrFormatter#formatWith(String, String, Object...)}一致：参数多于占位符时剩余部分的转义被处理，否则原样追加
+	 *
+	 * @param sb       {@link StringBuilder}
+	 * @param argCount 参数个数
+	 */
+	private void appendTail(StringBuilder sb, int argCount) {
+		if (this.plain || 0 == argCount) {
+			sb.append(this.pattern);
+		} else if (argCount > this.segments.length) {
+			sb.append(this.tail);
+		} else {
+			sb.append(this.pattern, this.ends[argCount - 1], this.pattern.length());
+		}
+	}
+
+	/**
+	 * 追加参数，转换规则同{@link StrUtil#utf8Str(Object)}
+	 *
+	 * @param sb  {@link StringBuilder}
+	 * @param arg 参数
+	 */
+	private static void appendArg(StringBuilder sb, Object arg) {
+		if (arg instanceof String) {
+			sb.append((String) arg);
+		} else if (arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+			sb.append(((Number) arg).intValue());
+		} else if (arg instanceof Long) {
+			sb.append(((Long) arg).longValue());
+		} else if (arg instanceof Boolean) {
+			sb.append(((Boolean) arg).booleanValue());
+		} else if (arg instanceof Character) {
+			sb.append(((Character) arg).charValue());
+		} else {
+			sb.append(StrUtil.utf8Str(arg));
+		}
+	}
+
+	/**
+	 * 参数填充器，按顺序填充参数，结果与同样参数调用{@link #formatTo(StringBuilder, Object...)}一致
+	 */
+	public static final class Filler {
+		private final StrTemplate template;
+		private final StringBuilder sb;
+		private int argCount;
+
+		private Filler(StrTemplate template, StringBuilder sb) {
+			this.template = template;
+			this.sb = sb;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(Object arg) {
+			if (next()) {
+				appendArg(this.sb, arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(CharSequence arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(int arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(long arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(float arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(double arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(char arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 填充参数
+		 *
+		 * @param arg 参数
+		 * @return this
+		 */
+		public Filler add(boolean arg) {
+			if (next()) {
+				this.sb.append(arg);
+			}
+			return this;
+		}
+
+		/**
+		 * 结束填充，追加剩余的模板内容
+		 *
+		 * @return 追加到的{@link StringBuilder}
+		 */
+		public StringBuilder end() {
+			this.template.appendTail(this.sb, this.argCount);
+			return this.sb;
+		}
+
+		/**
+		 * 移动到下一个占位符并追加其之前的文本
+		 *
+		 * @return 是否有对应的占位符，无则参数被忽略
+		 */
+		private boolean next() {
+			final String[] segments = this.template.segments;
+			if (this.argCount++ < segments.length) {
+				this.sb.append(segments[this.argCount - 1]);
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 预编译的使用 {varName} 作为占位符的模板<br>
+	 * 格式化规则同{@link StrFormatter#format(CharSequence, Map, boolean)}，区别在于替换后的值不再作为模板被继续替换
+	 */
+	public static final class Named {
+		/**
+		 * 表示Map中无对应键
+		 */
+		private static final Object NONE = new Object();
+
+		private final String template;
+		/**
+		 * 每个变量之前的文本
+		 */
+		private final String[] segments;
+		/**
+		 * 变量名
+		 */
+		private final String[] names;
+		private final String tail;
+
+		private Named(String template) {
+			this.template = new String(template.toCharArray());
+			final List<String> segments = new ArrayList<>();
+			final List<String> names = new ArrayList<>();
+			int position = 0;
+			int open;
+			while (-1 != (open = template.indexOf(StrUtil.C_DELIM_START, position))) {
+				final int close = template.indexOf(StrUtil.C_DELIM_END, open + 1);
+				if (-1 == close) {
+					break;
+				}
+				// 变量名中不能包含{，取离}最近的{
+				open = template.lastIndexOf(StrUtil.C_DELIM_START, close);
+				segments.add(template.substring(position, open));
+				names.add(template.substring(open + 1, close));
+				position = close + 1;
+			}
+			this.segments = segments.toArray(new String[0]);
+			this.names = names.toArray(new String[0]);
+			this.tail = template.substring(position);
+		}
+
+		/**
+		 * 获取原始模板
+		 *
+		 * @return 原始模板
+		 */
+		public String getTemplate() {
+			return this.template;
+		}
+
+		/**
+		 * 格式化，{@code null}值对应的变量不被替换
+		 *
+		 * @param map 参数值对
+		 * @return 格式化后的文本
+		 */
+		public String format(Map<?, ?> map) {
+			return format(map, true);
+		}
+
+		/**
+		 * 格式化
+		 *
+		 * @param map        参数值对
+		 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+		 * @return 格式化后的文本
+		 */
+		public String format(Map<?, ?> map, boolean ignoreNull) {
+			if (null == map || map.isEmpty()) {
+				return this.template;
+			}
+			return formatTo(new StringBuilder(this.template.length() + 50), map, ignoreNull).toString();
+		}
+
+		/**
+		 * 格式化并追加到{@link StringBuilder}中
+		 *
+		 * @param sb         {@link StringBuilder}
+		 * @param map        参数值对
+		 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+		 * @return sb
+		 */
+		public StringBuilder formatTo(StringBuilder sb, Map<?, ?> map, boolean ignoreNull) {
+			if (null == map || map.isEmpty()) {
+				return sb.append(this.template);
+			}
+			for (int i = 0; i < this.names.length; i++) {
+				sb.append(this.segments[i]);
+				final String name = this.names[i];
+				final Object value = getValue(map, name);
+				final String str = (NONE == value) ? null : StrUtil.utf8Str(value);
+				if (NONE == value || (null == str && ignoreNull)) {
+					// 无对应值，保留变量
+					sb.append(StrUtil.C_DELIM_START).append(name).append(StrUtil.C_DELIM_END);
+				} else if (null != str) {
+					sb.append(str);
+				}
+			}
+			return sb.append(this.tail);
+		}
+
+		@Override
+		public String toString() {
+			return this.template;
+		}
+
+		/**
+		 * 获取变量值，键按字符串形式匹配
+		 *
+		 * @param map  参数值对
+		 * @param name 变量名
+		 * @return 值，无对应键返回{@link #NONE}
+		 */
+		private static Object getValue(Map<?, ?> map, String name) {
+			try {
+				final Object value = map.get(name);
+				if (null != value || map.containsKey(name)) {
+					return value;
+				}
+			} catch (final ClassCastException ignore) {
+				// 键类型不可与字符串比较，按字符串形式查找
+			}
+			for (final Map.Entry<?, ?> entry : map.entrySet()) {
+				if (name.equals(String.valueOf(entry.getKey()))) {
+					return entry.getValue();
+				}
+			}
+			return NONE;
+		}
+	}
+}
@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
  * CSV文件读取器基础类，提供灵活的文件、路径中的CSV读取，一次构造可多次调用读取不同数据，参考：FastCSV
@@ -166,6 +168,39 @@ public class CsvBaseReader implements Serializable {
 		return read(FileUtil.getReader(path, charset));
 	}
 
+	/**
+	 * 使用{@link ForkJoinPool#commonPool()}并行读取CSV文件
+	 *
+	 * @param file    CSV文件
+	 * @param charset 文件编码
+	 * @return {@link CsvData}，包含数据列表和行信息
+	 * @throws IORuntimeException IO异常
+	 * @see #readParallel(File, Charset, ForkJoinPool)
+	 * @since 5.8.42
+	 */
+	public CsvData readParallel(File file, Charset charset) throws IORuntimeException {
+		return readParallel(file, charset, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 并行读取CSV文件<br>
+	 * 文件在行边界（包装符内的换行除外）切分为多个块，每块使用{@link CsvScanner}在指定的{@link ForkJoinPool}中独立解析，结果按行顺序合并。<br>
+	 * 只有UTF-8、ISO-8859-1、US-ASCII编码，且分隔符、包装符和注释符为ASCII字符时才可切分，否则顺序读取。
+	 *
+	 * @param file    CSV文件
+	 * @param charset 文件编码
+	 * @param pool    执行解析的{@link ForkJoinPool}
+	 * @return {@link CsvData}，包含数据列表和行信息
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.42
+	 */
+	public CsvData readParallel(File file, Charset charset, ForkJoinPool pool) throws IORuntimeException {
+		Assert.notNull(file, "file must not be null");
+		Assert.notNull(pool, "ForkJoinPool must not be null!");
+		final long chunkSize = Math.max(CsvParallelReader.MIN_CHUNK_SIZE, file.length() / (pool.getParallelism() * 4L) + 1);
+		return new CsvParallelReader(file, charset, this.config, pool, chunkSize).read();
+	}
+
 	/**
 	 * 从Reader中读取CSV数据，读取后关闭Reader
 	 *
@@ -225,7 +260,7 @@ public class CsvBaseReader implements Serializable {
 		this.config.setContainsHeader(true);
 
 		final List<T> result = new ArrayList<>();
-		read(reader, (row) -> result.add(row.toBean(clazz)));
+		read(reader, clazz, result::add);
 		return result;
 	}
 
@@ -243,10 +278,40 @@ public class CsvBaseReader implements Serializable {
 		this.config.setContainsHeader(true);
 
 		final List<T> result = new ArrayList<>();
-		read(new StringReader(csvStr), (row) -> result.add(row.toBean(clazz)));
+		read(new StringReader(csvStr), clazz, result::add);
 		return result;
 	}
 
+	/**
+	 * 从Reader中读取CSV数据并逐行转换为Bean，读取后关闭Reader。<br>
+	 * 此方法默认识别首行为标题行，按标题行一次性确定列与属性的对应关系，每行直接转换为Bean而不构建中间Map，适用于大文件的逐行处理。
+	 *
+	 * @param <T>          Bean类型
+	 * @param reader       Reader
+	 * @param clazz        Bean类型
+	 * @param beanConsumer Bean处理器，用于一个一个的处理转换后的Bean
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.42
+	 */
+	public <T> void read(Reader reader, Class<T> clazz, Consumer<T> beanConsumer) throws IORuntimeException {
+		// 此方法必须包含标题
+		this.config.setContainsHeader(true);
+
+		try (final CsvScanner scanner = new CsvScanner(reader, this.config)) {
+			CsvBeanMapping.ToBean<T> mapping = null;
+			while (scanner.next()) {
+				if (null == mapping) {
+					final Map<String, Integer> headerMap = scanner.getHeaderMap();
+					if (null == headerMap) {
+						throw new IllegalStateException("No header available");
+					}
+					mapping = CsvBeanMapping.toBean(clazz, headerMap);
+				}
+				beanConsumer.accept(mapping.toBean(scanner));
+			}
+		}
+	}
+
 	/**
 	 * 从Reader中读取CSV数据，读取后关闭Reader
 	 *
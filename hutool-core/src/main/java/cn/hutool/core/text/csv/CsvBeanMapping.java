@@ -0,0 +1,271 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.Converter;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.lang.func.LambdaFactory;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * CSV行与Bean的映射<br>
+ * 读取时按标题行一次性确定列与属性的对应关系及每列的转换器，写出时按Bean类型一次性确定写出的属性，
+ * Getter和Setter通过{@link LambdaFactory}生成函数调用，不再为每行构建Map。<br>
+ * 属性匹配、类型转换和赋值规则与{@link CsvRow#toBean(Class)}及{@link BeanUtil#beanToMap(Object, String...)}一致。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+final class CsvBeanMapping {
+
+	/**
+	 * 按标题行创建读取映射
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类型
+	 * @param headerMap 标题与列位置的对应关系（已处理别名）
+	 * @return 读取映射
+	 */
+	static <T> ToBean<T> toBean(Class<T> beanClass, Map<String, Integer> headerMap) {
+		return new ToBean<>(beanClass, headerMap);
+	}
+
+	/**
+	 * 按Bean类型创建写出映射
+	 *
+	 * @param beanClass  Bean类型
+	 * @param properties 写出的属性，{@code null}或空表示所有可读属性
+	 * @return 写出映射
+	 */
+	static ToFields toFields(Class<?> beanClass, String... properties) {
+		return new ToFields(beanClass, properties);
+	}
+
+	/**
+	 * CSV行到Bean的映射
+	 *
+	 * @param <T> Bean类型
+	 */
+	static final class ToBean<T> {
+		private final Class<T> beanClass;
+		private final ReadColumn[] columns;
+
+		private ToBean(Class<T> beanClass, Map<String, Integer> headerMap) {
+			this.beanClass = beanClass;
+			final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(false);
+			final List<ReadColumn> columns = new ArrayList<>(headerMap.size());
+			for (final Map.Entry<String, Integer> entry : headerMap.entrySet()) {
+				final PropDesc desc = findPropDesc(propMap, entry.getKey());
+				if (null == desc || false == desc.isWritable(true)) {
+					continue;
+				}
+				columns.add(new ReadColumn(entry.getValue(), desc, TypeUtil.getActualType(beanClass, desc.getFieldType())));
+			}
+			this.columns = columns.toArray(new ReadColumn[0]);
+		}
+
+		/**
+		 * 将扫描器的当前行转换为Bean，缺失的列赋值{@code null}，转换和注入错误被忽略
+		 *
+		 * @param scanner {@link CsvScanner}
+		 * @return Bean
+		 */
+		T toBean(CsvScanner scanner) {
+			final T bean = ReflectUtil.newInstanceIfPossible(this.beanClass);
+			if (null == bean) {
+				return null;
+			}
+			final int size = scanner.size();
+			for (final ReadColumn column : this.columns) {
+				column.set(bean, column.index < size ? scanner.getStr(column.index) : null);
+			}
+			return bean;
+		}
+
+		/**
+		 * 按属性名查找，找不到时转驼峰再次查找，与{@link cn.hutool.core.bean.copier.CopyOptions}的默认规则一致
+		 */
+		private static PropDesc findPropDesc(Map<String, PropDesc> propMap, String name) {
+			PropDesc desc = propMap.get(name);
+			if (null == desc) {
+				final String camelCaseName = StrUtil.toCamelCase(name);
+				if (false == StrUtil.equals(name, camelCaseName)) {
+					desc = propMap.get(camelCaseName);
+				}
+			}
+			return desc;
+		}
+	}
+
+	/**
+	 * Bean到CSV行的映射
+	 */
+	static final class ToFields {
+		private final Class<?> beanClass;
+		private final String[] header;
+		private final PropDesc[] descs;
+		private final List<Function<Object, Object>> getters;
+		/**
+		 * 是否未注册字符串的自定义转换器，此时数字等简单值可直接调用toString
+		 */
+		private final boolean defaultStrConvert;
+
+		@SuppressWarnings("unchecked")
+		private ToFields(Class<?> beanClass, String... properties) {
+			this.beanClass = beanClass;
+			final Set<String> propertiesSet = ArrayUtil.isEmpty(properties) ? null : CollUtil.set(false, properties);
+			final List<String> names = new ArrayList<>();
+			final List<PropDesc> descs = new ArrayList<>();
+			BeanUtil.getBeanDesc(beanClass).getPropMap(false).forEach((name, desc) -> {
+				if (null == name || false == desc.isReadable(true)) {
+					return;
+				}
+				if (null != propertiesSet && false == propertiesSet.contains(name)) {
+					return;
+				}
+				names.add(name);
+				descs.add(desc);
+			});
+			this.header = names.toArray(new String[0]);
+			this.descs = descs.toArray(new PropDesc[0]);
+			this.getters = new ArrayList<>(this.descs.length);
+			for (final PropDesc desc : this.descs) {
+				this.getters.add(LambdaFactory.getter(desc.getGetter()));
+			}
+			this.defaultStrConvert = null == ConverterRegistry.getInstance().getCustomConverter(String.class);
+		}
+
+		/**
+		 * 是否为此映射对应的Bean类型
+		 *
+		 * @param bean Bean
+		 * @return 是否对应
+		 */
+		boolean isFor(Object bean) {
+			return this.beanClass == bean.getClass();
+		}
+
+		/**
+		 * 获取标题，即写出的属性名，每次返回新数组
+		 *
+		 * @return 标题
+		 */
+		String[] getHeader() {
+			return this.header.clone();
+		}
+
+		/**
+		 * 获取Bean中写出属性的字符串值
+		 *
+		 * @param bean Bean
+		 * @return 字段值，{@code null}值对应的位置为{@code null}
+		 */
+		String[] toFields(Object bean) {
+			final String[] fields = new String[this.descs.length];
+			for (int i = 0; i < fields.length; i++) {
+				fields[i] = toStr(getValue(i, bean));
+			}
+			return fields;
+		}
+
+		private Object getValue(int i, Object bean) {
+			final Function<Object, Object> getter = this.getters.get(i);
+			if (null == getter) {
+				return this.descs[i].getValue(bean);
+			}
+			try {
+				return getter.apply(bean);
+			} catch (final Exception e) {
+				throw new InvocationTargetRuntimeException(e);
+			}
+		}
+
+		private String toStr(Object value) {
+			if (null == value || value instanceof String) {
+				return (String) value;
+			}
+			if (this.defaultStrConvert && (value instanceof Number || value instanceof Boolean || value instanceof CharSequence)) {
+				return value.toString();
+			}
+			return Convert.convertWithCheck(String.class, value, null, false);
+		}
+	}
+
+	/**
+	 * 读取时单列与属性的对应
+	 */
+	private static final class ReadColumn {
+		private final int index;
+		private final PropDesc desc;
+		private final Type fieldType;
+		/**
+		 * 属性类型为字符串等可直接接收字段值的类型时无需转换
+		 */
+		private final boolean plain;
+		/**
+		 * 预先查找的转换器，{@code null}表示使用{@link Convert}的特殊类型转换
+		 */
+		private final Converter<?> converter;
+		/**
+		 * 属性类型，即{@link PropDesc#setValue(Object, Object, boolean, boolean, boolean)}中的转换类型
+		 */
+		private final Class<?> targetClass;
+		private final BiConsumer<Object, Object> setter;
+
+		ReadColumn(int index, PropDesc desc, Type fieldType) {
+			this.index = index;
+			this.desc = desc;
+			this.fieldType = fieldType;
+			this.plain = TypeUtil.isUnknown(fieldType) || (fieldType instanceof Class
+					&& ((Class<?>) fieldType).isAssignableFrom(String.class) && ClassUtil.isSimpleValueType((Class<?>) fieldType));
+			this.converter = this.plain ? null : ConverterRegistry.getInstance().getConverter(fieldType, true);
+			this.targetClass = BasicType.wrap(desc.getFieldClass());
+
+			final Method setterMethod = desc.getSetter();
+			// 值转换为属性类型后需能直接传入Setter
+			this.setter = (null == setterMethod || false == BasicType.wrap(setterMethod.getParameterTypes()[0]).isAssignableFrom(this.targetClass)) ? null :
+					LambdaFactory.setter(setterMethod);
+		}
+
+		/**
+		 * 转换并设置属性值，忽略转换和注入错误
+		 *
+		 * @param bean  Bean
+		 * @param value 字段值
+		 */
+		void set(Object bean, String value) {
+			Object result = value;
+			if (null != result && false == this.plain) {
+				result = (null == this.converter) ? Convert.convertWithCheck(this.fieldType, result, null, true)
+						: this.converter.convertWithCheck(result, null, true);
+			}
+
+			if (null == result || null == this.setter || false == this.targetClass.isInstance(result)) {
+				this.desc.setValue(bean, result, false, true, true);
+				return;
+			}
+			try {
+				this.setter.accept(bean, result);
+			} catch (final Exception ignore) {
+				// 忽略注入失败
+			}
+		}
+	}
+}
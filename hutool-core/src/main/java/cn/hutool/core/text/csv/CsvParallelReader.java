@@ -0,0 +1,288 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * CSV文件并行读取<br>
+ * 顺序扫描文件字节，跟踪包装符和注释行的状态，在行边界（包装符内的换行除外）将文件切分为多个块，
+ * 每块使用{@link CsvScanner}在{@link ForkJoinPool}中独立解析，结果按行顺序合并后处理标题行和字段数检查。<br>
+ * 切分要求分隔符、包装符、换行符在编码后为单字节且不会出现在多字节字符中，因此只支持UTF-8、ISO-8859-1、US-ASCII编码及ASCII的分隔符、包装符和注释符，
+ * 其它情况顺序读取。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+final class CsvParallelReader {
+
+	/**
+	 * 每块的最小字节数
+	 */
+	static final long MIN_CHUNK_SIZE = 4 * 1024 * 1024;
+
+	// 扫描状态
+	private static final int LINE_START = 0;
+	private static final int FIELD_START = 1;
+	private static final int FIELD = 2;
+	private static final int QUOTED = 3;
+	private static final int QUOTE_IN_QUOTED = 4;
+	private static final int COMMENT = 5;
+
+	private final File file;
+	private final Charset charset;
+	private final CsvReadConfig config;
+	private final ForkJoinPool pool;
+	private final long chunkSize;
+
+	/**
+	 * 构造
+	 *
+	 * @param file      CSV文件
+	 * @param charset   编码
+	 * @param config    配置
+	 * @param pool      执行解析的{@link ForkJoinPool}
+	 * @param chunkSize 每块的期望字节数，实际块在此之后的第一个行边界处结束
+	 */
+	CsvParallelReader(final File file, final Charset charset, final CsvReadConfig config, final ForkJoinPool pool, final long chunkSize) {
+		this.file = file;
+		this.charset = charset;
+		this.config = config;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 读取所有行
+	 *
+	 * @return {@link CsvData}
+	 * @throws IORuntimeException IO异常
+	 */
+	CsvData read() throws IORuntimeException {
+		if (false == isSplittable()) {
+			return readSequential();
+		}
+
+		final List<ForkJoinTask<List<CsvRow>>> tasks = new ArrayList<>();
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			try {
+				split(channel, tasks);
+				return merge(tasks);
+			} finally {
+				// 某块解析失败时，取消未开始的块
+				for (final ForkJoinTask<List<CsvRow>> task : tasks) {
+					task.cancel(false);
+				}
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 是否可以按字节切分
+	 */
+	private boolean isSplittable() {
+		if (false == (CharsetUtil.CHARSET_UTF_8.equals(charset) || CharsetUtil.CHARSET_ISO_8859_1.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset))) {
+			return false;
+		}
+		return config.fieldSeparator < 0x80 && config.textDelimiter < 0x80
+				&& (null == config.commentCharacter || config.commentCharacter < 0x80);
+	}
+
+	private CsvData readSequential() {
+		final List<CsvRow> rows = new ArrayList<>();
+		try (final CsvScanner scanner = new CsvScanner(FileUtil.getReader(file, charset), config)) {
+			while (scanner.next()) {
+				rows.add(scanner.toRow());
+			}
+			return new CsvData(config.headerLineNo > -1 ? scanner.getHeader() : null, rows);
+		}
+	}
+
+	/**
+	 * 顺序扫描文件，在行边界处切分并提交解析任务
+	 *
+	 * @param channel 文件
+	 * @param tasks   解析任务
+	 * @throws IOException IO异常
+	 */
+	private void split(final FileChannel channel, final List<ForkJoinTask<List<CsvRow>>> tasks) throws IOException {
+		final byte separator = (byte) config.fieldSeparator;
+		final byte quote = (byte) config.textDelimiter;
+		final int comment = null == config.commentCharacter ? -1 : config.commentCharacter;
+
+		final long size = channel.size();
+		final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+		long chunkStart = 0;
+		long chunkLineNo = 0;
+		long lineNo = 0;
+		int state = LINE_START;
+		boolean prevCR = false;
+		long offset = 0;
+		while (offset < size) {
+			buffer.clear();
+			final int read = channel.read(buffer, offset);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				final byte b = buffer.get(i);
+				final boolean isCR = CharUtil.CR == b;
+				final boolean isLF = CharUtil.LF == b;
+				if (QUOTE_IN_QUOTED == state && quote != b) {
+					// 包装结束，按普通字段处理此字符
+					state = FIELD;
+				}
+				switch (state) {
+					case QUOTED:
+						if (quote == b) {
+							state = QUOTE_IN_QUOTED;
+						} else if (isCR || (isLF && false == prevCR)) {
+							lineNo++;
+						}
+						break;
+					case COMMENT:
+						if (isCR || isLF) {
+							lineNo++;
+							state = LINE_START;
+						}
+						break;
+					case QUOTE_IN_QUOTED:
+						// ""为转义的包装符
+						state = QUOTED;
+						break;
+					default:
+						if (LINE_START == state) {
+							if (isLF && prevCR) {
+								// \r\n中的\n
+								break;
+							}
+							if (comment == b) {
+								state = COMMENT;
+								break;
+							}
+							state = FIELD_START;
+						}
+						if (FIELD_START == state && quote == b) {
+							state = QUOTED;
+						} else if (separator == b) {
+							state = FIELD_START;
+						} else if (isCR || isLF) {
+							lineNo++;
+							state = LINE_START;
+						} else {
+							state = FIELD;
+						}
+				}
+				prevCR = isCR;
+
+				// 只在\n后切分，保证\r\n不被拆开
+				if (isLF && LINE_START == state) {
+					final long position = offset + i + 1;
+					if (position - chunkStart >= chunkSize && position < size) {
+						submit(channel, chunkStart, position, chunkLineNo, tasks);
+						chunkStart = position;
+						chunkLineNo = lineNo;
+						if (lineNo > config.endLineNo) {
+							// 之后的行不再读取
+							return;
+						}
+					}
+				}
+			}
+			offset += read;
+		}
+		submit(channel, chunkStart, size, chunkLineNo, tasks);
+	}
+
+	private void submit(final FileChannel channel, final long start, final long end, final long startLineNo,
+						final List<ForkJoinTask<List<CsvRow>>> tasks) {
+		if (start < end) {
+			tasks.add(pool.submit(() -> parseChunk(channel, start, end, startLineNo)));
+		}
+	}
+
+	/**
+	 * 解析文件中的一块，块开始于行首
+	 */
+	private List<CsvRow> parseChunk(final FileChannel channel, final long start, final long end, final long startLineNo) throws IORuntimeException {
+		final long length = end - start;
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IORuntimeException("CSV record too large near byte {}", start);
+		}
+		final ByteBuffer bytes = ByteBuffer.allocate((int) length);
+		final CharBuffer chars;
+		try {
+			while (bytes.hasRemaining()) {
+				if (channel.read(bytes, start + bytes.position()) < 0) {
+					break;
+				}
+			}
+			bytes.flip();
+			chars = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE)
+					.decode(bytes);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final List<CsvRow> rows = new ArrayList<>();
+		final CsvScanner scanner = new CsvScanner(chars.array(), chars.limit(), config, startLineNo);
+		while (scanner.next()) {
+			rows.add(scanner.toRow());
+		}
+		return rows;
+	}
+
+	/**
+	 * 按顺序合并各块的行，处理标题行和字段数检查，与{@link CsvParser}一致
+	 */
+	private CsvData merge(final List<ForkJoinTask<List<CsvRow>>> tasks) {
+		final List<CsvRow> rows = new ArrayList<>();
+		List<String> header = null;
+		Map<String, Integer> headerMap = null;
+		int firstLineFieldCount = -1;
+		for (final ForkJoinTask<List<CsvRow>> task : tasks) {
+			for (final CsvRow row : task.join()) {
+				final long lineNo = row.getOriginalLineNumber();
+				if (config.errorOnDifferentFieldCount) {
+					final int fieldCount = row.size();
+					if (firstLineFieldCount < 0) {
+						firstLineFieldCount = fieldCount;
+					} else if (fieldCount != firstLineFieldCount) {
+						throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields", lineNo, fieldCount, firstLineFieldCount));
+					}
+				}
+				if (lineNo == config.headerLineNo && null == header) {
+					header = Collections.unmodifiableList(row.getRawList());
+					headerMap = CsvScanner.initHeaderMap(header, config);
+					continue;
+				}
+				rows.add(null == headerMap ? row : new CsvRow(lineNo, headerMap, row.getRawList()));
+			}
+		}
+		return new CsvData(header, rows);
+	}
+}
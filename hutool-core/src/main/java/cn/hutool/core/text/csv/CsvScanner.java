@@ -0,0 +1,596 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.ObjUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV快速解析器，按块读取字符，批量扫描字段分隔符、包装符和换行符，字段以零拷贝的{@link CharSequence}形式访问：
+ * <pre>
+ * try (CsvScanner scanner = new CsvScanner(reader, config)) {
+ *     while (scanner.next()) {
+ *         CharSequence id = scanner.get(0);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * 字段直接引用内部缓冲区，且对象在行间复用，只在下一次调用{@link #next()}前有效，需要保留时使用{@link #getStr(int)}或{@link #toRow()}。<br>
+ * 解析规则和{@link CsvReadConfig}中各配置项的含义与{@link CsvParser}一致。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public final class CsvScanner implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+	private static final int DEFAULT_ROW_CAPACITY = 16;
+	/**
+	 * 字段未被包装
+	 */
+	private static final int PLAIN = -2;
+	/**
+	 * 字段的包装直到结尾未闭合
+	 */
+	private static final int UNCLOSED = -1;
+
+	private final CsvReadConfig config;
+	private final Reader reader;
+	private final char separator;
+	private final char quote;
+	/**
+	 * 注释符，-1表示不支持注释
+	 */
+	private final int comment;
+	/**
+	 * 是否为并行读取中的一块，此时不处理标题行和字段数检查，由合并时处理
+	 */
+	private final boolean chunk;
+
+	private char[] buf;
+	/**
+	 * 下一行在缓冲区中的开始位置
+	 */
+	private int pos;
+	private int limit;
+	private boolean eof;
+	/**
+	 * 上一行以\r结尾，下一行开头的\n需跳过
+	 */
+	private boolean pendingCR;
+	/**
+	 * 下一行的行号
+	 */
+	private long nextLineNo;
+	private boolean finished;
+
+	/**
+	 * 当前行的行号，多行时为首行行号
+	 */
+	private long lineNo = -1;
+	private int fieldCount;
+	private int[] starts = new int[DEFAULT_ROW_CAPACITY];
+	private int[] ends = new int[DEFAULT_ROW_CAPACITY];
+	/**
+	 * 闭合包装符的位置，或{@link #PLAIN}、{@link #UNCLOSED}
+	 */
+	private int[] quoteEnds = new int[DEFAULT_ROW_CAPACITY];
+	private Slice[] slices = new Slice[0];
+
+	private Map<String, Integer> headerMap;
+	private List<String> header;
+	private int firstLineFieldCount = -1;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}，关闭时一并关闭
+	 * @param config 配置，{@code null}使用默认配置
+	 */
+	public CsvScanner(final Reader reader, final CsvReadConfig config) {
+		this(ObjUtil.defaultIfNull(config, CsvReadConfig::defaultConfig), reader, new char[DEFAULT_BUFFER_SIZE], 0, false, 0);
+	}
+
+	/**
+	 * 构造，解析并行读取中的一块，块开始于行首
+	 *
+	 * @param chars       块内容
+	 * @param length      块长度
+	 * @param config      配置
+	 * @param startLineNo 块的起始行号
+	 */
+	CsvScanner(final char[] chars, final int length, final CsvReadConfig config, final long startLineNo) {
+		this(config, null, chars, length, true, startLineNo);
+		this.eof = true;
+	}
+
+	private CsvScanner(final CsvReadConfig config, final Reader reader, final char[] buf, final int limit, final boolean chunk, final long startLineNo) {
+		this.config = config;
+		this.reader = reader;
+		this.separator = config.fieldSeparator;
+		this.quote = config.textDelimiter;
+		this.comment = null == config.commentCharacter ? -1 : config.commentCharacter;
+		this.buf = buf;
+		this.limit = limit;
+		this.chunk = chunk;
+		this.nextLineNo = startLineNo;
+	}
+
+	/**
+	 * 读取下一行，之前行的字段失效
+	 *
+	 * @return 是否读取到新行，{@code false}表示读取结束
+	 * @throws IORuntimeException IO异常或字段数不一致
+	 */
+	public boolean next() throws IORuntimeException {
+		while (false == finished) {
+			if (false == readRecord()) {
+				break;
+			}
+
+			// 读取范围校验
+			if (lineNo < config.beginLineNo) {
+				continue;
+			}
+			if (lineNo > config.endLineNo) {
+				break;
+			}
+
+			// 跳过空行
+			if (config.skipEmptyRows && fieldCount == 1 && ends[0] == starts[0]) {
+				continue;
+			}
+			if (chunk) {
+				return true;
+			}
+
+			// 检查每行的字段数是否一致
+			if (config.errorOnDifferentFieldCount) {
+				if (firstLineFieldCount < 0) {
+					firstLineFieldCount = fieldCount;
+				} else if (fieldCount != firstLineFieldCount) {
+					throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields", lineNo, fieldCount, firstLineFieldCount));
+				}
+			}
+
+			// 初始化标题
+			if (lineNo == config.headerLineNo && null == header) {
+				header = Collections.unmodifiableList(getStrList());
+				headerMap = initHeaderMap(header, config);
+				continue;
+			}
+			return true;
+		}
+
+		this.finished = true;
+		this.fieldCount = 0;
+		return false;
+	}
+
+	/**
+	 * 获取当前行的行号，多行时为首行行号，忽略注释行
+	 *
+	 * @return 行号
+	 */
+	public long getLineNo() {
+		return this.lineNo;
+	}
+
+	/**
+	 * 获取当前行的字段数
+	 *
+	 * @return 字段数
+	 */
+	public int size() {
+		return this.fieldCount;
+	}
+
+	/**
+	 * 获取当前行的字段，返回的对象引用内部缓冲区，只在下一次调用{@link #next()}前有效
+	 *
+	 * @param index 字段位置，从0开始
+	 * @return 字段内容
+	 * @throws IndexOutOfBoundsException 位置超出字段数
+	 */
+	public CharSequence get(final int index) {
+		checkIndex(index);
+		return slices[index];
+	}
+
+	/**
+	 * 获取当前行的字段字符串
+	 *
+	 * @param index 字段位置，从0开始
+	 * @return 字段内容
+	 * @throws IndexOutOfBoundsException 位置超出字段数
+	 */
+	public String getStr(final int index) {
+		checkIndex(index);
+		return new String(buf, starts[index], ends[index] - starts[index]);
+	}
+
+	/**
+	 * 获取当前行标题对应的字段，返回的对象引用内部缓冲区，只在下一次调用{@link #next()}前有效
+	 *
+	 * @param name 标题名
+	 * @return 字段内容，{@code null}表示无此字段
+	 * @throws IllegalArgumentException 无标题行
+	 */
+	public CharSequence getByName(final String name) {
+		Assert.notNull(this.headerMap, "No header available!");
+		final Integer index = this.headerMap.get(name);
+		return (null == index || index >= fieldCount) ? null : slices[index];
+	}
+
+	/**
+	 * 获取标题列表
+	 *
+	 * @return 标题列表，{@code null}表示未读取到标题行
+	 * @throws IllegalStateException 未设置标题行或未调用{@link #next()}
+	 */
+	public List<String> getHeader() {
+		if (config.headerLineNo < 0) {
+			throw new IllegalStateException("No header available - header parsing is disabled");
+		}
+		if (lineNo < config.beginLineNo) {
+			throw new IllegalStateException("No header available - call next() first");
+		}
+		return header;
+	}
+
+	/**
+	 * 获取标题与列位置的对应关系
+	 *
+	 * @return 标题与列位置的对应关系，{@code null}表示未读取到标题行
+	 */
+	Map<String, Integer> getHeaderMap() {
+		return this.headerMap;
+	}
+
+	/**
+	 * 将当前行复制为{@link CsvRow}
+	 *
+	 * @return {@link CsvRow}
+	 */
+	public CsvRow toRow() {
+		return new CsvRow(this.lineNo, this.headerMap, getStrList());
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.reader);
+	}
+
+	/**
+	 * 标题与列位置的对应关系，标题可使用别名，重复的标题和空标题被忽略
+	 *
+	 * @param header 标题行
+	 * @param config 配置
+	 * @return 标题与列位置的对应关系
+	 */
+	static Map<String, Integer> initHeaderMap(final List<String> header, final CsvReadConfig config) {
+		final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(header.size());
+		for (int i = 0; i < header.size(); i++) {
+			String field = header.get(i);
+			if (MapUtil.isNotEmpty(config.headerAlias)) {
+				// 自定义别名
+				field = ObjUtil.defaultIfNull(config.headerAlias.get(field), field);
+			}
+			if (StrUtil.isNotEmpty(field) && false == localHeaderMap.containsKey(field)) {
+				localHeaderMap.put(field, i);
+			}
+		}
+		return Collections.unmodifiableMap(localHeaderMap);
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= fieldCount) {
+			throw new IndexOutOfBoundsException(StrUtil.format("Index: {}, Size: {}", index, fieldCount));
+		}
+	}
+
+	private List<String> getStrList() {
+		final List<String> list = new ArrayList<>(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			list.add(new String(buf, starts[i], ends[i] - starts[i]));
+		}
+		return list;
+	}
+
+	/**
+	 * 读取一行原始数据，跳过注释行
+	 *
+	 * @return 是否读取到行
+	 */
+	private boolean readRecord() {
+		while (true) {
+			if (pos >= limit && false == fill()) {
+				return false;
+			}
+			if (pendingCR) {
+				// \r\n作为一个换行符
+				pendingCR = false;
+				if (CharUtil.LF == buf[pos]) {
+					pos++;
+					continue;
+				}
+			}
+			// issue#IA8WE0 行首的注释符开始注释行，包装符内的注释符为普通字符
+			if (comment == buf[pos]) {
+				skipLine();
+				continue;
+			}
+			break;
+		}
+
+		// 缓冲区中的内容不足一行时，读取更多内容后重新扫描
+		while (false == scanRecord()) {
+			fill();
+		}
+		for (int i = 0; i < fieldCount; i++) {
+			resolveField(i);
+		}
+		return true;
+	}
+
+	/**
+	 * 跳过当前行
+	 */
+	private void skipLine() {
+		while (true) {
+			while (pos < limit) {
+				final char c = buf[pos++];
+				if (CharUtil.LF == c || CharUtil.CR == c) {
+					pendingCR = CharUtil.CR == c;
+					nextLineNo++;
+					return;
+				}
+			}
+			if (false == fill()) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 从{@link #pos}开始扫描一行，记录每个字段的范围
+	 *
+	 * @return 是否扫描到完整的一行，{@code false}表示需要读取更多内容
+	 */
+	private boolean scanRecord() {
+		final char[] buf = this.buf;
+		final int limit = this.limit;
+		final char separator = this.separator;
+		final char quote = this.quote;
+		int p = this.pos;
+		int count = 0;
+		// 包装内的换行数
+		int lines = 0;
+		char c;
+		while (true) {
+			final int fieldStart = p;
+			int quoteEnd = PLAIN;
+			if (p < limit && quote == buf[p]) {
+				// 包装的字段，直到闭合的包装符，""为转义的包装符
+				p++;
+				while (true) {
+					while (p < limit && quote != (c = buf[p])) {
+						if (CharUtil.CR == c || (CharUtil.LF == c && CharUtil.CR != buf[p - 1])) {
+							lines++;
+						}
+						p++;
+					}
+					if (p >= limit) {
+						if (false == eof) {
+							return false;
+						}
+						quoteEnd = UNCLOSED;
+						break;
+					}
+					if (p + 1 >= limit && false == eof) {
+						return false;
+					}
+					if (p + 1 < limit && quote == buf[p + 1]) {
+						p += 2;
+						continue;
+					}
+					quoteEnd = p++;
+					break;
+				}
+			}
+
+			// 普通字段，或包装符后的剩余部分
+			if (UNCLOSED != quoteEnd) {
+				while (p < limit && separator != (c = buf[p]) && CharUtil.CR != c && CharUtil.LF != c) {
+					p++;
+				}
+			}
+			if (p >= limit && false == eof) {
+				return false;
+			}
+			addField(count++, fieldStart, p, quoteEnd);
+
+			if (p >= limit) {
+				break;
+			}
+			c = buf[p++];
+			if (separator == c) {
+				continue;
+			}
+			// 换行
+			lines++;
+			if (CharUtil.CR == c) {
+				if (p < limit) {
+					if (CharUtil.LF == buf[p]) {
+						p++;
+					}
+				} else {
+					this.pendingCR = true;
+				}
+			}
+			break;
+		}
+
+		this.fieldCount = count;
+		this.pos = p;
+		this.lineNo = this.nextLineNo;
+		this.nextLineNo += lines;
+		return true;
+	}
+
+	private void addField(final int index, final int start, final int end, final int quoteEnd) {
+		if (index >= starts.length) {
+			final int newLength = starts.length * 2;
+			starts = Arrays.copyOf(starts, newLength);
+			ends = Arrays.copyOf(ends, newLength);
+			quoteEnds = Arrays.copyOf(quoteEnds, newLength);
+		}
+		starts[index] = start;
+		ends[index] = end;
+		quoteEnds[index] = quoteEnd;
+	}
+
+	/**
+	 * 计算字段的最终内容：去除包装，在缓冲区内原地还原转义的包装符，按配置去除两边空白符
+	 *
+	 * @param index 字段位置
+	 */
+	private void resolveField(final int index) {
+		final char[] buf = this.buf;
+		int start = starts[index];
+		int end = ends[index];
+		final int quoteEnd = quoteEnds[index];
+		if (PLAIN != quoteEnd) {
+			final int contentEnd = UNCLOSED == quoteEnd ? end : quoteEnd;
+			int r = start + 1;
+			// 无转义时无需移动
+			while (r < contentEnd && quote != buf[r]) {
+				r++;
+			}
+			int w = r;
+			while (r < contentEnd) {
+				final char c = buf[r];
+				buf[w++] = c;
+				r += (quote == c) ? 2 : 1;
+			}
+
+			if (UNCLOSED == quoteEnd || quoteEnd == end - 1) {
+				start++;
+				end = w;
+			} else {
+				// 包装符后还有其它字符，与CsvParser一致，保留包装符，整体首尾为包装符时才去除
+				for (r = quoteEnd; r < end; r++) {
+					buf[w++] = buf[r];
+				}
+				end = w;
+				if (quote == buf[end - 1]) {
+					start++;
+					end--;
+				}
+			}
+		}
+
+		if (config.trimField) {
+			// issue#I49M0C@Gitee
+			while (start < end && CharUtil.isBlankChar(buf[start])) {
+				start++;
+			}
+			while (end > start && CharUtil.isBlankChar(buf[end - 1])) {
+				end--;
+			}
+		}
+		starts[index] = start;
+		ends[index] = end;
+		if (index >= slices.length) {
+			final int oldLength = slices.length;
+			slices = Arrays.copyOf(slices, Math.max(DEFAULT_ROW_CAPACITY, index * 2));
+			for (int i = oldLength; i < slices.length; i++) {
+				slices[i] = new Slice(i);
+			}
+		}
+	}
+
+	/**
+	 * 读取更多内容到缓冲区，已读取的行被丢弃，当前行移动到缓冲区开头，缓冲区已满时扩容
+	 *
+	 * @return 缓冲区中是否有未读取的内容
+	 */
+	private boolean fill() {
+		if (eof) {
+			return pos < limit;
+		}
+		if (pos > 0) {
+			System.arraycopy(buf, pos, buf, 0, limit - pos);
+			limit -= pos;
+			pos = 0;
+		}
+		if (limit == buf.length) {
+			buf = Arrays.copyOf(buf, buf.length * 2);
+		}
+		final int read;
+		try {
+			read = reader.read(buf, limit, buf.length - limit);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		if (read < 0) {
+			eof = true;
+		} else {
+			limit += read;
+		}
+		return pos < limit;
+	}
+
+	/**
+	 * 当前行中的字段，引用缓冲区
+	 */
+	private final class Slice implements CharSequence {
+		private final int index;
+
+		Slice(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		public int length() {
+			return ends[index] - starts[index];
+		}
+
+		@Override
+		public char charAt(final int i) {
+			if (i < 0 || i >= length()) {
+				throw new StringIndexOutOfBoundsException(i);
+			}
+			return buf[starts[index] + i];
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end) {
+			if (start < 0 || end > length() || start > end) {
+				throw new StringIndexOutOfBoundsException(StrUtil.format("begin {}, end {}, length {}", start, end, length()));
+			}
+			return new String(buf, starts[index] + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(buf, starts[index], length());
+		}
+	}
+}
@@ -32,6 +32,18 @@ import java.io.Reader;
 public class CsvTokener implements Closeable {
 
 	private final Reader raw;
+	/**
+	 * 读取缓冲，批量读取后逐个返回字符
+	 */
+	private final char[] buffer = new char[8192];
+	/**
+	 * 缓冲中下一个字符的位置
+	 */
+	private int position;
+	/**
+	 * 缓冲中有效字符数
+	 */
+	private int limit;
 	/**
 	 * 在Reader的位置（解析到第几个字符）
 	 */
@@ -51,7 +63,7 @@ public class CsvTokener implements Closeable {
 	 * @param reader {@link Reader}
 	 */
 	public CsvTokener(final Reader reader) {
-		this.raw = IoUtil.toBuffered(reader);
+		this.raw = reader;
 	}
 
 	/**
@@ -63,10 +75,10 @@ public class CsvTokener implements Closeable {
 		if(this.usePrev){
 			this.usePrev = false;
 		}else{
-			try {
-				this.prev = this.raw.read();
-			} catch (final IOException e) {
-				throw new IORuntimeException(e);
+			if (this.position >= this.limit && false == fill()) {
+				this.prev = -1;
+			} else {
+				this.prev = this.buffer[this.position++];
 			}
 		}
 		this.index++;
@@ -95,6 +107,23 @@ public class CsvTokener implements Closeable {
 		return this.index;
 	}
 
+	/**
+	 * 读取更多字符到缓冲
+	 *
+	 * @return 是否读取到字符，{@code false}表示读取结束
+	 */
+	private boolean fill() {
+		final int read;
+		try {
+			read = this.raw.read(this.buffer, 0, this.buffer.length);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		this.position = 0;
+		this.limit = Math.max(read, 0);
+		return read > 0;
+	}
+
 	@Override
 	public void close() throws IOException {
 		IoUtil.close(this.raw);
@@ -264,13 +264,27 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 		if (CollUtil.isNotEmpty(beans)) {
 			boolean isFirst = writeHeaderLine;
 			Map<String, Object> map;
+			CsvBeanMapping.ToFields mapping = null;
 			for (Object bean : beans) {
-				map = BeanUtil.beanToMap(bean, properties);
+				if (bean instanceof Map) {
+					map = BeanUtil.beanToMap(bean, properties);
+					if (isFirst) {
+						writeHeaderLine(map.keySet().toArray(new String[0]));
+						isFirst = false;
+					}
+					writeLine(Convert.toStrArray(map.values()));
+					continue;
+				}
+
+				// Bean按类型缓存写出的属性，直接读取属性值，不转换为Map
+				if (null == mapping || false == mapping.isFor(bean)) {
+					mapping = CsvBeanMapping.toFields(bean.getClass(), properties);
+				}
 				if (isFirst) {
-					writeHeaderLine(map.keySet().toArray(new String[0]));
+					writeHeaderLine(mapping.getHeader());
 					isFirst = false;
 				}
-				writeLine(Convert.toStrArray(map.values()));
+				writeLine(mapping.toFields(bean));
 			}
 			flush();
 		}
@@ -64,6 +64,24 @@ public class IdUtil {
 		return UUID.fastUUID().toString(true);
 	}
 
+	/**
+	 * 批量获取随机UUID
+	 *
+	 * @param count    个数
+	 * @param isSecure 是否使用线程独享的SecureRandom，否则使用性能更好的ThreadLocalRandom
+	 * @param isSimple 是否简化，简化的UUID去掉了横线
+	 * @return 随机UUID数组
+	 * @since 5.8.42
+	 */
+	public static String[] randomUUIDs(int count, boolean isSecure, boolean isSimple) {
+		final UUID[] uuids = UUID.randomUUIDs(count, isSecure);
+		final String[] result = new String[uuids.length];
+		for (int i = 0; i < uuids.length; i++) {
+			result[i] = uuids[i].toString(isSimple);
+		}
+		return result;
+	}
+
 	/**
 	 * 创建MongoDB ID生成策略实现<br>
 	 * ObjectId由以下几部分组成：
@@ -83,6 +101,18 @@ public class IdUtil {
 		return ObjectId.next();
 	}
 
+	/**
+	 * 批量创建MongoDB ID生成策略实现
+	 *
+	 * @param count 个数
+	 * @return ObjectId数组
+	 * @see #objectId()
+	 * @since 5.8.42
+	 */
+	public static String[] objectIds(int count) {
+		return ObjectId.next(count, false);
+	}
+
 	/**
 	 * 创建Twitter的Snowflake 算法生成器。
 	 * <p>
@@ -274,6 +304,18 @@ public class IdUtil {
 		return NanoId.randomNanoId(size);
 	}
 
+	/**
+	 * 批量获取随机NanoId
+	 *
+	 * @param size  ID中的字符数量
+	 * @param count ID个数
+	 * @return 随机NanoId数组
+	 * @since 5.8.42
+	 */
+	public static String[] nanoIds(int size, int count) {
+		return NanoId.randomNanoIds(null, null, size, count);
+	}
+
 	/**
 	 * 简单获取Snowflake 的 nextId
 	 * 终端ID 数据中心ID 默认为PID和MAC地址生成
@@ -3,6 +3,7 @@ package cn.hutool.core.util;
 import cn.hutool.core.collection.EnumerationIter;
 import cn.hutool.core.compress.Deflate;
 import cn.hutool.core.compress.Gzip;
+import cn.hutool.core.compress.ParallelZipWriter;
 import cn.hutool.core.compress.ZipCopyVisitor;
 import cn.hutool.core.compress.ZipReader;
 import cn.hutool.core.compress.ZipWriter;
@@ -33,6 +34,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.zip.*;
 
@@ -277,6 +279,27 @@ public class ZipUtil {
 		return zipFile;
 	}
 
+	/**
+	 * 对文件或文件目录进行并行压缩，各文件内容按块在线程池中压缩，结果按顺序写出为标准Zip格式
+	 *
+	 * @param zipFile    生成的Zip文件，包括文件名。注意：zipPath不能是srcPath路径下的子文件夹
+	 * @param charset    编码
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩）
+	 * @param executor   压缩使用的线程池，结束后不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 * @param srcFiles   要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return 压缩文件
+	 * @throws IORuntimeException IO异常
+	 * @see ParallelZipWriter
+	 * @since 5.8.42
+	 */
+	public static File zip(File zipFile, Charset charset, boolean withSrcDir, FileFilter filter, ExecutorService executor, File... srcFiles) throws IORuntimeException {
+		validateFiles(zipFile, srcFiles);
+		//noinspection resource
+		ParallelZipWriter.of(zipFile, charset, executor).add(withSrcDir, filter, srcFiles).close();
+		return zipFile;
+	}
+
 	/**
 	 * 对文件或文件目录进行压缩
 	 *
@@ -550,6 +573,28 @@ public class ZipUtil {
 		return unzip(toZipFile(zipFile, charset), outFile);
 	}
 
+	/**
+	 * 解压，各文件在线程池中并行解压
+	 *
+	 * @param zipFile  zip文件
+	 * @param outFile  解压到的目录
+	 * @param charset  编码
+	 * @param executor 解压使用的线程池，结束后不关闭此线程池
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.42
+	 */
+	public static File unzip(File zipFile, File outFile, Charset charset, ExecutorService executor) throws IORuntimeException {
+		if (outFile.exists() && outFile.isFile()) {
+			throw new IllegalArgumentException(
+					StrUtil.format("Target path [{}] exist!", outFile.getAbsolutePath()));
+		}
+		try (final ZipReader reader = new ZipReader(toZipFile(zipFile, charset))) {
+			reader.readTo(outFile, null, executor);
+		}
+		return outFile;
+	}
+
 	/**
 	 * 解压
 	 *
@@ -809,6 +854,19 @@ public class ZipUtil {
 		return bos.toByteArray();
 	}
 
+	/**
+	 * Gzip按块并行压缩，参考pigz，适用于大文件，不关闭流
+	 *
+	 * @param in       被压缩的流
+	 * @param out      压缩结果输出的流
+	 * @param executor 压缩使用的线程池，结束后不关闭此线程池，{@code null}表示创建线程数为CPU核数的线程池
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.42
+	 */
+	public static void gzip(InputStream in, OutputStream out, ExecutorService executor) throws IORuntimeException {
+		Gzip.of(in, out).gzip(executor);
+	}
+
 	/**
 	 * Gzip解压缩处理
 	 *
@@ -1,10 +1,19 @@
 package cn.hutool.core.bean.copier;
 
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
 import lombok.Data;
+import lombok.experimental.Accessors;
 import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 
 public class BeanCopierTest {
 
@@ -75,6 +84,165 @@ public class BeanCopierTest {
 		assertEquals("abc", b.getValue());
 	}
 
+	/**
+	 * 使用拷贝计划与逐属性拷贝（设置字段名编辑器时）的结果一致
+	 */
+	@Test
+	public void copyPlanTest() {
+		final CopyOptions[] optionsList = {
+				CopyOptions.create(),
+				CopyOptions.create().ignoreNullValue(),
+				CopyOptions.create().ignoreCase(),
+				CopyOptions.create().setIgnoreProperties("name", "age"),
+				CopyOptions.create().setAutoTransCamelCase(false),
+				CopyOptions.create().setFormatIfDate("yyyy-MM-dd"),
+				CopyOptions.create().setPropertiesFilter((field, value) -> null != value),
+				CopyOptions.create().setFieldValueEditor((name, value) -> "name".equals(name) ? value + "!" : value),
+				CopyOptions.create().setConverter((type, value) -> String.class == type ? "converted" : value),
+				CopyOptions.create().setConverter(null)
+		};
+		for (CopyOptions options : optionsList) {
+			final Dst expected = BeanCopier.create(newSrc(), new Dst(), options.setFieldNameEditor(name -> name)).copy();
+			options.setFieldNameEditor(null);
+			// 两次拷贝，第二次使用缓存的计划
+			assertEquals(expected, BeanCopier.create(newSrc(), new Dst(), options).copy());
+			assertEquals(expected, BeanCopier.create(newSrc(), new Dst(), options).copy());
+		}
+
+		final Dst dst = BeanUtil.copyProperties(newSrc(), Dst.class);
+		assertEquals(1, dst.getId());
+		// null写入基本类型时使用默认值
+		assertEquals(0, dst.getCount());
+		assertEquals("18", dst.getAge());
+		assertEquals("looly", dst.getUserName());
+		assertEquals(ListUtil.of("a", "b"), dst.getTags());
+		assertEquals(DateUtil.parse("2024-01-02"), dst.getDay());
+
+		final Dst ignored = BeanUtil.copyProperties(newSrc(), Dst.class, "age");
+		assertNull(ignored.getAge());
+		assertEquals("looly", ignored.getUserName());
+	}
+
+	@Test
+	public void copyPlanFormatIfDateTest() {
+		final Src src = newSrc();
+		src.setDay("2024/01/02");
+		final Dst dst = BeanCopier.create(src, new Dst(), CopyOptions.create().setFormatIfDate("yyyy/MM/dd")).copy();
+		assertEquals(DateUtil.parse("2024-01-02"), dst.getDay());
+	}
+
+	@Test
+	public void copyPlanOverrideTest() {
+		final Dst dst = new Dst();
+		dst.setName("old");
+		dst.setCount(3);
+		BeanCopier.create(newSrc(), dst, CopyOptions.create().setOverride(false)).copy();
+		assertEquals("old", dst.getName());
+		assertEquals(3, dst.getCount());
+		assertEquals("18", dst.getAge());
+	}
+
+	@Test
+	public void copyPlanChainTest() {
+		final ChainBean chain = BeanUtil.copyProperties(newSrc(), ChainBean.class);
+		assertEquals("looly", chain.getName());
+		assertEquals(1L, chain.getId());
+
+		// 集合不直接引用，与转换器的处理一致
+		final Src src = newSrc();
+		final Dst dst = BeanUtil.copyProperties(src, Dst.class);
+		assertNotSame(src.getTags(), dst.getTags());
+	}
+
+	@Test
+	public void copyPlanErrorTest() {
+		final Src src = newSrc();
+		src.setAge(-1);
+		assertThrows(Exception.class, () -> BeanUtil.copyProperties(src, ErrorBean.class));
+		final ErrorBean bean = BeanUtil.toBean(src, ErrorBean.class, CopyOptions.create().ignoreError());
+		assertEquals("looly", bean.getName());
+	}
+
+	@Test
+	@Disabled
+	public void copyPlanBenchmarkTest() {
+		// 同类型属性拷贝，不涉及类型转换
+		final Dst src = BeanUtil.copyProperties(newSrc(), Dst.class);
+		src.setTags(null);
+		final CopyOptions legacy = CopyOptions.create().setFieldNameEditor(name -> name);
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("field name editor " + round);
+			for (int i = 0; i < 200_000; i++) {
+				BeanCopier.create(src, new Dst(), legacy).copy();
+			}
+			stopWatch.stop();
+
+			stopWatch.start("copy plan " + round);
+			for (int i = 0; i < 200_000; i++) {
+				BeanCopier.create(src, new Dst(), CopyOptions.create()).copy();
+			}
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static Src newSrc() {
+		final Src src = new Src();
+		src.setId(1);
+		src.setName("looly");
+		src.setAge(18);
+		src.setUser_name("looly");
+		src.setTags(ListUtil.of("a", "b"));
+		src.setDay("2024-01-02");
+		src.setFlag(true);
+		return src;
+	}
+
+	@Data
+	public static class Src {
+		private int id;
+		private Integer count;
+		private String name;
+		private long age;
+		private String user_name;
+		private List<String> tags;
+		private String day;
+		private boolean flag;
+	}
+
+	@Data
+	public static class Dst {
+		private Integer id;
+		private int count;
+		private String name;
+		private String age;
+		private String userName;
+		private List<String> tags;
+		private Date day;
+		private Boolean flag;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	public static class ChainBean {
+		private long id;
+		private String name;
+	}
+
+	@Data
+	public static class ErrorBean {
+		private String name;
+		private long age;
+
+		public void setAge(long age) {
+			if (age < 0) {
+				throw new IllegalArgumentException("age");
+			}
+			this.age = age;
+		}
+	}
+
 	@Data
 	private static class A {
 		private String value;
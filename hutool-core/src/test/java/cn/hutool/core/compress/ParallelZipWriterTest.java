@@ -0,0 +1,191 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelZipWriterTest {
+
+	private File dir;
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void init() {
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "parallel-zip-" + System.nanoTime()));
+		executor = Executors.newFixedThreadPool(3);
+	}
+
+	@AfterEach
+	public void clean() {
+		executor.shutdown();
+		FileUtil.del(dir);
+	}
+
+	@Test
+	public void zipAndUnzipTest() throws IOException {
+		final File src = FileUtil.mkdir(FileUtil.file(dir, "src"));
+		final Map<String, byte[]> expected = new HashMap<>();
+		// 空文件、小文件、整块、多块、可压缩内容
+		final int[] sizes = {0, 1, 1000, ParallelDeflater.BLOCK_SIZE, ParallelDeflater.BLOCK_SIZE * 3 + 7, 500_000};
+		for (int i = 0; i < sizes.length; i++) {
+			final byte[] data = (i % 2 == 0) ? RandomUtil.randomBytes(sizes[i]) : repeat(sizes[i]);
+			final String name = "dir" + (i % 3) + "/file" + i + ".bin";
+			FileUtil.writeBytes(data, FileUtil.file(src, name));
+			expected.put(name, data);
+		}
+		FileUtil.mkdir(FileUtil.file(src, "empty"));
+
+		for (final Charset charset : new Charset[]{CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK}) {
+			final File zipFile = FileUtil.file(dir, "result-" + charset + ".zip");
+			ZipUtil.zip(zipFile, charset, false, null, executor, src);
+
+			// ZipFile读取
+			try (final ZipFile zip = new ZipFile(zipFile, charset)) {
+				assertEquals(expected.size() + 1, zip.size());
+				assertTrue(zip.getEntry("empty/").isDirectory());
+				for (final Map.Entry<String, byte[]> entry : expected.entrySet()) {
+					assertArrayEquals(entry.getValue(), IoUtil.readBytes(zip.getInputStream(zip.getEntry(entry.getKey()))), entry.getKey());
+				}
+			}
+
+			// 流式读取，需正确处理数据描述符
+			int count = 0;
+			try (final ZipInputStream in = new ZipInputStream(FileUtil.getInputStream(zipFile), charset)) {
+				ZipEntry entry;
+				while (null != (entry = in.getNextEntry())) {
+					if (false == entry.isDirectory()) {
+						assertArrayEquals(expected.get(entry.getName()), IoUtil.readBytes(in, false), entry.getName());
+					}
+					count++;
+				}
+			}
+			assertEquals(expected.size() + 1, count);
+
+			// 并行解压
+			final File out = FileUtil.file(dir, "out-" + charset);
+			ZipUtil.unzip(zipFile, out, charset, executor);
+			for (final Map.Entry<String, byte[]> entry : expected.entrySet()) {
+				assertArrayEquals(entry.getValue(), FileUtil.readBytes(FileUtil.file(out, entry.getKey())), entry.getKey());
+			}
+			assertTrue(FileUtil.isDirectory(FileUtil.file(out, "empty")));
+		}
+	}
+
+	@Test
+	public void streamAndCommentTest() throws IOException {
+		for (final Charset charset : new Charset[]{CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK}) {
+			final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+			try (final ParallelZipWriter writer = ParallelZipWriter.of(out, charset, executor)) {
+				writer.setLevel(9).setComment("注释");
+				writer.add("中文/a.txt", IoUtil.toUtf8Stream("aaa"));
+				writer.add("目录", null);
+				assertThrows(IORuntimeException.class, () -> writer.add("中文/a.txt", IoUtil.toUtf8Stream("b")));
+			}
+
+			final File zipFile = FileUtil.writeBytes(out.toByteArray(), FileUtil.file(dir, "stream.zip"));
+			try (final ZipFile zip = new ZipFile(zipFile, charset)) {
+				assertEquals("注释", zip.getComment());
+				assertEquals(2, zip.size());
+				assertEquals("aaa", IoUtil.readUtf8(zip.getInputStream(zip.getEntry("中文/a.txt"))));
+				assertTrue(zip.getEntry("目录/").isDirectory());
+			}
+		}
+	}
+
+	@Test
+	public void zip64EntryCountTest() throws IOException {
+		final File zipFile = FileUtil.file(dir, "many.zip");
+		final int count = 70_000;
+		try (final ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8, executor)) {
+			for (int i = 0; i < count; i++) {
+				writer.add("f" + i, new ByteArrayInputStream(new byte[]{(byte) i}));
+			}
+		}
+		try (final ZipFile zip = new ZipFile(zipFile)) {
+			assertEquals(count, zip.size());
+			assertEquals((byte) 69_999, IoUtil.readBytes(zip.getInputStream(zip.getEntry("f69999")))[0]);
+		}
+	}
+
+	@Test
+	public void gzipTest() {
+		for (final byte[] data : new byte[][]{new byte[0], RandomUtil.randomBytes(10), RandomUtil.randomBytes(1_000_000), repeat(1_000_000)}) {
+			final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+			ZipUtil.gzip(new ByteArrayInputStream(data), out, executor);
+			assertArrayEquals(data, ZipUtil.unGzip(out.toByteArray()));
+		}
+		// 多块压缩的压缩率与单线程接近
+		final byte[] data = repeat(1_000_000);
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+		ZipUtil.gzip(new ByteArrayInputStream(data), out, null);
+		assertTrue(out.size() < ZipUtil.gzip(data).length * 1.1);
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final File src = FileUtil.mkdir(FileUtil.file(dir, "src"));
+		for (int i = 0; i < 5000; i++) {
+			FileUtil.writeBytes(repeat(RandomUtil.randomInt(1000, 40_000)), FileUtil.file(src, "d" + (i % 50), "f" + i + ".txt"));
+		}
+		FileUtil.writeBytes(repeat(50_000_000), FileUtil.file(src, "big.txt"));
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("zip " + round);
+			ZipUtil.zip(FileUtil.file(dir, "a.zip"), CharsetUtil.CHARSET_UTF_8, false, (FileFilter) null, src);
+			stopWatch.stop();
+
+			stopWatch.start("parallel zip " + round);
+			ZipUtil.zip(FileUtil.file(dir, "b.zip"), CharsetUtil.CHARSET_UTF_8, false, null, (ExecutorService) null, src);
+			stopWatch.stop();
+
+			stopWatch.start("unzip " + round);
+			ZipUtil.unzip(FileUtil.file(dir, "b.zip"), FileUtil.file(dir, "a"), CharsetUtil.CHARSET_UTF_8);
+			stopWatch.stop();
+
+			stopWatch.start("parallel unzip " + round);
+			ZipUtil.unzip(FileUtil.file(dir, "b.zip"), FileUtil.file(dir, "b"), CharsetUtil.CHARSET_UTF_8, executor);
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+		Console.log("zip: {}, parallel zip: {}", FileUtil.size(FileUtil.file(dir, "a.zip")), FileUtil.size(FileUtil.file(dir, "b.zip")));
+	}
+
+	/**
+	 * 生成可压缩的内容
+	 */
+	private static byte[] repeat(final int length) {
+		final byte[] result = new byte[length];
+		final byte[] words = "hutool parallel zip 并行压缩 ".getBytes(CharsetUtil.CHARSET_UTF_8);
+		for (int i = 0; i < length; i++) {
+			result[i] = (i % 97 == 0) ? (byte) RandomUtil.randomInt(128) : words[i % words.length];
+		}
+		return result;
+	}
+}
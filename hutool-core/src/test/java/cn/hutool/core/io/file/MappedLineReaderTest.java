@@ -0,0 +1,150 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedLineReaderTest {
+
+	private File dir;
+
+	@BeforeEach
+	public void init() {
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "mapped-line-" + System.nanoTime()));
+	}
+
+	@AfterEach
+	public void clean() {
+		FileUtil.del(dir);
+	}
+
+	@Test
+	public void sameAsReadLinesTest() {
+		final Random random = new Random(7);
+		final Charset[] charsets = {CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK, StandardCharsets.UTF_16LE, StandardCharsets.UTF_16BE};
+		for (final Charset charset : charsets) {
+			for (int round = 0; round < 20; round++) {
+				final String content = randomContent(random, random.nextInt(2000));
+				final File file = FileUtil.writeString(content, FileUtil.file(dir, "r" + round + ".txt"), charset);
+				final List<String> expected = FileUtil.readLines(file, charset);
+
+				for (final int chunkSize : new int[]{4, 37, 256, MappedLineReader.DEFAULT_CHUNK_SIZE}) {
+					try (final MappedLineReader reader = new MappedLineReader(file, charset, chunkSize)) {
+						final String message = charset + " " + round + " " + chunkSize;
+						assertEquals(expected.size(), reader.countLines(), message);
+						assertEquals(expected, reader.lines(false).collect(Collectors.toList()), message);
+						assertEquals(expected, reader.lines(true).collect(Collectors.toList()), message);
+
+						final long[] index = reader.indexLines();
+						assertEquals(expected.size(), index.length, message);
+						for (int i = 0; i < index.length; i++) {
+							assertEquals(expected.get(i), reader.readLine(index[i]), message);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void edgeTest() {
+		final String[] contents = {"", "\n", "\r", "\r\n", "a", "a\n", "a\r\n", "\n\n", "\r\r\n\n", "a\rb\nc\r\nd", "中文\r\n"};
+		for (final String content : contents) {
+			final File file = FileUtil.writeUtf8String(content, FileUtil.file(dir, "edge.txt"));
+			final List<String> expected = FileUtil.readUtf8Lines(file);
+			assertEquals(expected.size(), FileUtil.countLines(file, CharsetUtil.CHARSET_UTF_8), content);
+			try (final Stream<String> lines = FileUtil.lines(file, CharsetUtil.CHARSET_UTF_8, true)) {
+				assertEquals(expected, lines.collect(Collectors.toList()), content);
+			}
+		}
+	}
+
+	@Test
+	public void offsetTest() {
+		final File file = FileUtil.writeUtf8String("ab\r\n中\r\n\nx", FileUtil.file(dir, "offset.txt"));
+		try (final MappedLineReader reader = new MappedLineReader(file, CharsetUtil.CHARSET_UTF_8)) {
+			assertArrayEquals(new long[]{0, 4, 9, 10}, reader.indexLines());
+			assertEquals("中", reader.readLine(4));
+			assertEquals("", reader.readLine(9));
+			assertNull(reader.readLine(11));
+			assertEquals(ListUtil.of(ListUtil.of("ab", "中", "", "x")), reader.chunks(false).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void unsupportedCharsetTest() {
+		final File file = FileUtil.touch(FileUtil.file(dir, "bom.txt"));
+		assertThrows(IllegalArgumentException.class, () -> new MappedLineReader(file, StandardCharsets.UTF_16));
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final Random random = new Random();
+		final File file = FileUtil.file(dir, "big.txt");
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			sb.setLength(0);
+			for (int j = 0; j < 200_000; j++) {
+				sb.append("2024-01-01 00:00:00 INFO [main] request ").append(random.nextInt()).append(" 处理完成\n");
+			}
+			FileUtil.appendUtf8String(sb.toString(), file);
+		}
+		Console.log("size: {}", FileUtil.readableFileSize(file));
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("getTotalLines " + round);
+			final int total = FileUtil.getTotalLines(file, 8192, false);
+			stopWatch.stop();
+
+			stopWatch.start("countLines " + round);
+			assertEquals(total, FileUtil.countLines(file, CharsetUtil.CHARSET_UTF_8));
+			stopWatch.stop();
+
+			stopWatch.start("readLines " + round);
+			final List<String> expected = new ArrayList<>();
+			FileUtil.readUtf8Lines(file, expected);
+			stopWatch.stop();
+
+			stopWatch.start("lines " + round);
+			try (final Stream<String> lines = FileUtil.lines(file, CharsetUtil.CHARSET_UTF_8, false)) {
+				assertEquals(expected.size(), lines.count());
+			}
+			stopWatch.stop();
+
+			stopWatch.start("lines parallel " + round);
+			try (final Stream<String> lines = FileUtil.lines(file, CharsetUtil.CHARSET_UTF_8, true)) {
+				assertEquals(expected.size(), lines.count());
+			}
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static String randomContent(final Random random, final int length) {
+		final String[] pieces = {"a", "b", "中", "文", "😀", " ", "\n", "\r", "\r\n"};
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			sb.append(pieces[random.nextInt(pieces.length)]);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,242 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.watch.WatchServer;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.CharsetUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TailerPoolTest {
+
+	private File dir;
+	private TailerPool pool;
+
+	@BeforeEach
+	public void init() {
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "tailer-pool-" + System.nanoTime()));
+		pool = new TailerPool(2);
+	}
+
+	@AfterEach
+	public void clean() {
+		pool.close();
+		FileUtil.del(dir);
+	}
+
+	@Test
+	public void appendTest() throws IOException, InterruptedException {
+		final File file = FileUtil.writeUtf8String("old line\n", FileUtil.file(dir, "a.log"));
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		pool.add(file, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+
+		append(file, "line1\nline2\r\nli".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("line1", "line2"), take(lines, 2));
+
+		// 未结束的行、跨写入的\r\n
+		append(file, "ne3\r".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("line3"), take(lines, 1));
+		append(file, "\n\nline5\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("", "line5"), take(lines, 2));
+
+		// 跨写入的多字节字符
+		final byte[] bytes = "中文\n".getBytes(CharsetUtil.CHARSET_UTF_8);
+		append(file, new byte[]{bytes[0], bytes[1]});
+		append(file, new byte[]{bytes[2], bytes[3], bytes[4], bytes[5], bytes[6]});
+		assertEquals(ListUtil.of("中文"), take(lines, 1));
+		assertNull(lines.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void fromStartAndRemoveTest() throws IOException, InterruptedException {
+		final File file = FileUtil.writeString("行1\n行2\n", FileUtil.file(dir, "b.log"), CharsetUtil.CHARSET_GBK);
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		pool.add(file, CharsetUtil.CHARSET_GBK, true, lines::addAll);
+		assertEquals(ListUtil.of("行1", "行2"), take(lines, 2));
+		assertThrows(Exception.class, () -> pool.add(file, CharsetUtil.CHARSET_GBK, lines::addAll));
+
+		assertTrue(pool.remove(file));
+		assertFalse(pool.remove(file));
+		assertEquals(0, pool.size());
+		append(file, "行3\n".getBytes(CharsetUtil.CHARSET_GBK));
+		assertNull(lines.poll(500, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void addRemoveCycleTest() throws IOException, InterruptedException {
+		final File file = FileUtil.touch(FileUtil.file(dir, "e.log"));
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		// 同一目录反复加入和移除，每次重新注册的监听都有效
+		for (int i = 0; i < 20; i++) {
+			pool.add(file, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+			append(file, ("line" + i + "\n").getBytes(CharsetUtil.CHARSET_UTF_8));
+			assertEquals(ListUtil.of("line" + i), take(lines, 1));
+			assertTrue(pool.remove(file));
+		}
+		append(file, "removed\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertNull(lines.poll(200, TimeUnit.MILLISECONDS));
+
+		// 取消监听后WatchKey从WatchServer中移除，不会累积
+		final WatchServer watchServer = new WatchServer();
+		watchServer.init();
+		try {
+			final Path path = dir.toPath();
+			for (int i = 0; i < 20; i++) {
+				watchServer.registerPath(path, 0);
+				final WatchKey watchKey = watchServer.getWatchKey(path);
+				assertNotNull(watchKey);
+				assertTrue(watchKey.isValid());
+				assertTrue(watchServer.unregisterPath(path));
+				assertFalse(watchKey.isValid());
+				assertNull(watchServer.getWatchKey(path));
+			}
+			assertFalse(watchServer.unregisterPath(path));
+		} finally {
+			watchServer.close();
+		}
+	}
+
+	@Test
+	public void rejectedTest() throws IOException, InterruptedException {
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+		final TailerPool bounded = new TailerPool(executor);
+		try {
+			final File blocking = FileUtil.touch(FileUtil.file(dir, "f.log"));
+			final File other = FileUtil.touch(FileUtil.file(dir, "g.log"));
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+			bounded.add(blocking, CharsetUtil.CHARSET_UTF_8, batch -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (final InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			bounded.add(other, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+
+			// 唯一的线程被占用，other的读取任务被拒绝
+			append(blocking, "block\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			append(other, "rejected\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+			assertNull(lines.poll(300, TimeUnit.MILLISECONDS));
+
+			// 监听线程未退出，下一个事件补读被拒绝时的内容
+			release.countDown();
+			ThreadUtil.sleep(100);
+			append(other, "next\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+			assertEquals(ListUtil.of("rejected", "next"), take(lines, 2));
+		} finally {
+			bounded.close();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void truncateTest() throws IOException {
+		final File file = FileUtil.touch(FileUtil.file(dir, "c.log"));
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		pool.add(file, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+
+		append(file, "a long line before truncate\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("a long line before truncate"), take(lines, 1));
+
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(0);
+		}
+		append(file, "new\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("new"), take(lines, 1));
+	}
+
+	@Test
+	public void rotateTest() throws IOException {
+		final File file = FileUtil.touch(FileUtil.file(dir, "d.log"));
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		pool.add(file, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+
+		append(file, "before\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("before"), take(lines, 1));
+
+		// 移走原文件后继续写入原文件，再创建同名新文件
+		final File rotated = FileUtil.file(dir, "d.log.1");
+		assertTrue(file.renameTo(rotated));
+		append(rotated, "late\nunfinished".getBytes(CharsetUtil.CHARSET_UTF_8));
+		FileUtil.writeUtf8String("fresh\n", file);
+		assertEquals(ListUtil.of("late", "unfinished", "fresh"), take(lines, 3));
+
+		append(file, "next\n".getBytes(CharsetUtil.CHARSET_UTF_8));
+		assertEquals(ListUtil.of("next"), take(lines, 1));
+	}
+
+	@Test
+	public void manyFilesTest() throws IOException {
+		final int count = 200;
+		final List<File> files = new ArrayList<>(count);
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		for (int i = 0; i < count; i++) {
+			final File file = FileUtil.touch(FileUtil.file(dir, "sub" + (i % 4), "m" + i + ".log"));
+			files.add(file);
+			pool.add(file, CharsetUtil.CHARSET_UTF_8, lines::addAll);
+		}
+		assertEquals(count, pool.size());
+
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < count; i++) {
+				append(files.get(i), (i + "-" + round + "\n").getBytes(CharsetUtil.CHARSET_UTF_8));
+			}
+		}
+		final List<String> result = take(lines, count * 3);
+		for (int i = 0; i < count; i++) {
+			// 同一文件的行按顺序交付
+			final String prefix = i + "-";
+			final List<String> fileLines = new ArrayList<>();
+			for (final String line : result) {
+				if (line.startsWith(prefix)) {
+					fileLines.add(line);
+				}
+			}
+			assertEquals(ListUtil.of(i + "-0", i + "-1", i + "-2"), fileLines);
+		}
+	}
+
+	private static void append(final File file, final byte[] bytes) throws IOException {
+		try (final FileOutputStream out = new FileOutputStream(file, true)) {
+			out.write(bytes);
+		}
+	}
+
+	private static List<String> take(final BlockingQueue<String> queue, final int count) {
+		final List<String> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final String line;
+			try {
+				line = queue.poll(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			assertNotNull(line, "Lines received: " + result);
+			result.add(line);
+		}
+		return result;
+	}
+}
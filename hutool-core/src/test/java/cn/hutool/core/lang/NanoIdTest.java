@@ -166,4 +166,17 @@ public class NanoIdTest {
 			NanoId.randomNanoId(new SecureRandom(), new char[]{'a', 'b', 'c'}, 0);
 		});
 	}
+
+	@Test
+	public void randomNanoIdsTest() {
+		// 批量生成与逐个生成消耗相同的随机数
+		final char[] alphabet = ("_-0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ").toCharArray();
+		final String[] ids = NanoId.randomNanoIds(new Random(12345), alphabet, 21, 5);
+		assertArrayEquals(new String[]{"kutqLNv1wDmIS56EcT3j7", "U497UttnWzKWWRPMHpLD7",
+				"7nj2dWW1gjKLtgfzeI8eC", "I6BXYvyjszq6xV7L9k2A9", "uIolcQEyyQIcn3iM6Odoa"}, ids);
+
+		final Set<String> set = new HashSet<>(Arrays.asList(NanoId.randomNanoIds(null, null, NanoId.DEFAULT_SIZE, 1000)));
+		assertEquals(1000, set.size());
+		assertEquals(0, NanoId.randomNanoIds(null, null, NanoId.DEFAULT_SIZE, 0).length);
+	}
 }
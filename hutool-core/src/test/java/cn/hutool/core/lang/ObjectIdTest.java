@@ -1,5 +1,7 @@
 package cn.hutool.core.lang;
 
+import cn.hutool.core.util.HexUtil;
+
 import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,4 +32,22 @@ public class ObjectIdTest {
 	public void nextTest() {
 		Console.log(ObjectId.next());
 	}
+
+	@Test
+	public void nextBatchTest() {
+		final String[] ids = ObjectId.next(1000, true);
+		final HashSet<String> set = new HashSet<>();
+		for (final String id : ids) {
+			assertEquals(26, id.length());
+			assertEquals('-', id.charAt(8));
+			assertEquals('-', id.charAt(17));
+			assertTrue(ObjectId.isValid(id));
+			assertTrue(set.add(id));
+		}
+		// 与字节形式一致
+		final byte[] bytes = ObjectId.nextBytes();
+		final String next = ObjectId.next();
+		assertEquals(24, next.length());
+		assertEquals(HexUtil.encodeHexStr(bytes).substring(8, 16), next.substring(8, 16));
+	}
 }
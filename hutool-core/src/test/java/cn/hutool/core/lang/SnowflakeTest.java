@@ -1,6 +1,7 @@
 package cn.hutool.core.lang;
 
 import cn.hutool.core.collection.ConcurrentHashSet;
+import cn.hutool.core.date.StopWatch;
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.IdUtil;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake单元测试
@@ -127,4 +129,74 @@ public class SnowflakeTest {
 			}
 		});
 	}
+
+	@Test
+	public void nextIdsTest() {
+		final Snowflake snowflake = new Snowflake(null, 1, 2,
+				false, Snowflake.DEFAULT_TIME_OFFSET, 100);
+		assertEquals(0, snowflake.nextIds(0).length);
+
+		// 超过一毫秒内的序号上限，跨越多个毫秒
+		final long[] ids = snowflake.nextIds(10000);
+		for (int i = 1; i < ids.length; i++) {
+			assertTrue(ids[i] > ids[i - 1]);
+		}
+		for (final long id : ids) {
+			assertEquals(1, snowflake.getWorkerId(id));
+			assertEquals(2, snowflake.getDataCenterId(id));
+		}
+		assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+		assertThrows(IllegalArgumentException.class, () -> snowflake.nextIds(-1));
+	}
+
+	@Test
+	public void concurrentUniqueTest() {
+		final Snowflake snowflake = new Snowflake(0, 0);
+		final Set<Long> ids = new ConcurrentHashSet<>();
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 2000; i++) {
+				assertTrue(ids.add(snowflake.nextId()));
+				for (final long id : snowflake.nextIds(5)) {
+					assertTrue(ids.add(id));
+				}
+			}
+		});
+		assertEquals(8 * 2000 * 6, ids.size());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final Snowflake snowflake = new Snowflake(0, 0);
+		final int threadCount = 16;
+		final int count = 1_000_000;
+		final AtomicLong sum = new AtomicLong();
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("nextId " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				long local = 0;
+				for (int i = 0; i < count; i++) {
+					local += snowflake.nextId();
+				}
+				sum.addAndGet(local);
+			});
+			stopWatch.stop();
+
+			stopWatch.start("nextIds(128) " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				long local = 0;
+				for (int i = 0; i < count; i += 128) {
+					for (final long id : snowflake.nextIds(128)) {
+						local += id;
+					}
+				}
+				sum.addAndGet(local);
+			});
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+		Console.log(sum);
+	}
 }
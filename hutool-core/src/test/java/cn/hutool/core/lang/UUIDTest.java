@@ -5,6 +5,8 @@ import cn.hutool.core.thread.ThreadUtil;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 
 public class UUIDTest {
@@ -18,4 +20,31 @@ public class UUIDTest {
 		ThreadUtil.concurrencyTest(100, ()-> set.add(UUID.fastUUID().toString()));
 		assertEquals(100, set.size());
 	}
+
+	@Test
+	public void toStringTest() {
+		final Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			final long most = random.nextLong() >>> random.nextInt(64);
+			final long least = random.nextLong() >>> random.nextInt(64);
+			final String expected = new java.util.UUID(most, least).toString();
+			assertEquals(expected, new UUID(most, least).toString());
+			assertEquals(expected.replace("-", ""), new UUID(most, least).toString(true));
+		}
+	}
+
+	@Test
+	public void randomUUIDsTest() {
+		for (final boolean isSecure : new boolean[]{true, false}) {
+			final UUID[] uuids = UUID.randomUUIDs(1000, isSecure);
+			final Set<UUID> set = new HashSet<>();
+			for (final UUID uuid : uuids) {
+				assertEquals(4, uuid.version());
+				assertEquals(2, uuid.variant());
+				assertTrue(set.add(uuid));
+			}
+			assertEquals(4, UUID.randomUUID(isSecure).version());
+		}
+		assertEquals(0, UUID.randomUUIDs(0, true).length);
+	}
 }
@@ -0,0 +1,132 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrTemplateTest {
+
+	@Test
+	public void formatTest() {
+		final StrTemplate template = StrTemplate.of("this is {} for {}");
+		assertSame(template, StrTemplate.of("this is {} for {}"));
+		assertEquals(2, template.getPlaceHolderCount());
+		assertEquals("this is a for b", template.format("a", "b"));
+		assertEquals("this is a for {}", template.format("a"));
+		assertEquals("this is {} for {}", template.format());
+		assertEquals(StrUtil.format("this is \\\\\\{} for {}", "a"), StrTemplate.of("this is \\\\\\{} for {}").format("a"));
+		assertEquals("this is {} for a", StrTemplate.of("this is \\{} for {}").format("a", "b"));
+		assertEquals("this is \\a for b", StrTemplate.of("this is \\\\{} for {}").format("a", "b"));
+	}
+
+	@Test
+	public void sameAsStrFormatterTest() {
+		final String[] pieces = {"a", "{}", "{", "}", "\\", "\\\\", " ", "$$"};
+		final Object[] values = {"x", null, 1, -2L, 3.5D, 1.1F, 'c', true, (short) 7, (byte) 8, new int[]{1, 2}, StrUtil.bytes("中文", "UTF-8")};
+		final Random random = new Random(17);
+		for (int round = 0; round < 5000; round++) {
+			final StringBuilder sb = new StringBuilder();
+			final int length = random.nextInt(12);
+			for (int i = 0; i < length; i++) {
+				sb.append(pieces[random.nextInt(pieces.length)]);
+			}
+			final String pattern = sb.toString();
+			final Object[] args = new Object[random.nextInt(6)];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = values[random.nextInt(values.length)];
+			}
+
+			final String message = pattern + " " + Arrays.deepToString(args);
+			assertEquals(StrFormatter.format(pattern, args), StrTemplate.of(pattern).format(args), message);
+			assertEquals(StrFormatter.formatWith(pattern, "$$", args), StrTemplate.of(pattern, "$$").format(args), message);
+			assertEquals(StrFormatter.format(pattern, args), StrTemplate.of(pattern).formatTo(new StringWriter(), args).toString(), message);
+
+			final StrTemplate.Filler filler = StrTemplate.of(pattern).fill(new StringBuilder("prefix:"));
+			for (final Object arg : args) {
+				filler.add(arg);
+			}
+			assertEquals("prefix:" + StrFormatter.format(pattern, args), filler.end().toString(), message);
+		}
+	}
+
+	@Test
+	public void fillTest() {
+		final StrTemplate template = StrTemplate.of("{}-{}-{}-{}-{}-{}-{}");
+		final StringBuilder sb = new StringBuilder();
+		template.fill(sb).add(1).add(2L).add(3.5D).add(1.1F).add('c').add(true).add("s").add("ignored").end();
+		assertEquals("1-2-3.5-1.1-c-true-s", sb.toString());
+
+		sb.setLength(0);
+		template.fill(sb).add(1).end();
+		assertEquals("1-{}-{}-{}-{}-{}-{}", sb.toString());
+	}
+
+	@Test
+	public void namedTest() {
+		final StrTemplate.Named template = StrTemplate.ofNamed("{a} and {b}, {{a}}, {c}, {");
+		assertSame(template, StrTemplate.ofNamed("{a} and {b}, {{a}}, {c}, {"));
+
+		final Map<String, Object> map = new HashMap<>();
+		map.put("a", "aValue");
+		map.put("b", null);
+		assertEquals(StrFormatter.format(template.getTemplate(), map, true), template.format(map));
+		assertEquals(StrFormatter.format(template.getTemplate(), map, false), template.format(map, false));
+		assertEquals("aValue and {b}, {aValue}, {c}, {", template.format(map));
+		assertEquals(template.getTemplate(), template.format(null));
+
+		// 非字符串键
+		final Map<Integer, Object> intMap = MapUtil.of(1, "one");
+		assertEquals(StrFormatter.format("{1}-{2}", intMap, true), StrTemplate.ofNamed("{1}-{2}").format(intMap));
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final String pattern = "user {} login from {} at {}, cost {}ms";
+		final StrTemplate template = StrTemplate.of(pattern);
+		final StringBuilder sb = new StringBuilder();
+		final int count = 2_000_000;
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			long length = 0;
+			stopWatch.start("StrUtil.format " + round);
+			for (int i = 0; i < count; i++) {
+				length += StrUtil.format(pattern, "looly", "127.0.0.1", i, 35L).length();
+			}
+			stopWatch.stop();
+
+			stopWatch.start("StrTemplate.format " + round);
+			for (int i = 0; i < count; i++) {
+				length -= template.format("looly", "127.0.0.1", i, 35L).length();
+			}
+			stopWatch.stop();
+
+			stopWatch.start("StrTemplate.fill " + round);
+			for (int i = 0; i < count; i++) {
+				sb.setLength(0);
+				length += template.fill(sb).add("looly").add("127.0.0.1").add(i).add(35L).end().length();
+			}
+			stopWatch.stop();
+
+			stopWatch.start("StrTemplate.of + format " + round);
+			for (int i = 0; i < count; i++) {
+				length -= StrTemplate.of(pattern).format("looly", "127.0.0.1", i, 35L).length();
+			}
+			stopWatch.stop();
+			assertEquals(0, length);
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+}
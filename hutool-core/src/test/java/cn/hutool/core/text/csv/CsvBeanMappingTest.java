@@ -0,0 +1,161 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvBeanMappingTest {
+
+	private static final String CSV = "id,user_name,age,score,birthday,gender,active,tags,unknown\n" +
+			"1,张三,18,95.5,2001-01-02,MALE,true,\"a,b\",x\n" +
+			"2,\"李\"\"四\",abc,,2002-03-04 05:06:07,NONE,false\n" +
+			"3,王五\n";
+
+	@Test
+	public void readTest() {
+		final List<User> users = CsvUtil.getReader().read(CSV, User.class);
+		assertEquals(3, users.size());
+
+		final User user = users.get(0);
+		assertEquals(Long.valueOf(1), user.getId());
+		assertEquals("张三", user.getUserName());
+		assertEquals(18, user.getAge());
+		assertEquals(new BigDecimal("95.5"), user.getScore());
+		assertEquals(DateUtil.parse("2001-01-02"), user.getBirthday());
+		assertEquals(Gender.MALE, user.getGender());
+		assertTrue(user.getActive());
+		assertEquals(ListUtil.of("a", "b"), user.getTags());
+
+		// 转换失败的值被忽略
+		assertEquals("李\"四", users.get(1).getUserName());
+		assertEquals(0, users.get(1).getAge());
+		assertNull(users.get(1).getGender());
+		assertNull(users.get(2).getBirthday());
+	}
+
+	@Test
+	public void readSameAsRowToBeanTest() {
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true).addHeaderAlias("unknown", "remark");
+		final List<User> expected = new ArrayList<>();
+		new CsvReader(config).read(new StringReader(CSV), (row) -> expected.add(row.toBean(User.class)));
+
+		final List<User> users = new ArrayList<>();
+		new CsvReader(config).read(new StringReader(CSV), User.class, users::add);
+		assertEquals(expected, users);
+		assertEquals("x", users.get(0).getRemark());
+	}
+
+	@Test
+	public void readEmptyTest() {
+		assertTrue(CsvUtil.getReader().read("", User.class).isEmpty());
+		assertTrue(CsvUtil.getReader().read("id,user_name", User.class).isEmpty());
+	}
+
+	@Test
+	public void writeSameAsBeanToMapTest() {
+		final List<User> users = CsvUtil.getReader().read(CSV, User.class);
+		users.get(2).setUserName(null);
+
+		for (final String[] properties : new String[][]{null, {"age", "userName", "none"}}) {
+			final StringWriter expected = new StringWriter();
+			final CsvWriter expectedWriter = CsvUtil.getWriter(expected);
+			boolean isFirst = true;
+			for (final User user : users) {
+				final Map<String, Object> map = BeanUtil.beanToMap(user, properties);
+				if (isFirst) {
+					expectedWriter.writeHeaderLine(map.keySet().toArray(new String[0]));
+					isFirst = false;
+				}
+				expectedWriter.writeLine(Convert.toStrArray(map.values()));
+			}
+			expectedWriter.flush();
+
+			final StringWriter result = new StringWriter();
+			CsvUtil.getWriter(result).writeBeans(users, properties);
+			assertEquals(expected.toString(), result.toString());
+		}
+	}
+
+	@Test
+	public void writeMixedTest() {
+		final User user = new User();
+		user.setId(1L);
+		user.setUserName("a");
+		final Map<String, Object> map = MapUtil.<String, Object>builder("userName", "b").put("id", 2).build();
+
+		final StringWriter result = new StringWriter();
+		final CsvWriter writer = CsvUtil.getWriter(result, CsvWriteConfig.defaultConfig().setLineDelimiter(new char[]{'\n'}));
+		writer.writeBeans(ListUtil.of(user, map), "id", "userName");
+		assertEquals("id,userName\n1,a\n2,b", result.toString());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StringBuilder sb = new StringBuilder("id,user_name,age,score,birthday,gender,active\n");
+		for (int i = 0; i < 200_000; i++) {
+			sb.append(i).append(",user").append(i).append(',').append(i % 100).append(',').append(i % 1000).append(".5,")
+					.append("2001-01-02,MALE,true\n");
+		}
+		final String csv = sb.toString();
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("row.toBean " + round);
+			final List<User> expected = new ArrayList<>();
+			CsvUtil.getReader(CsvReadConfig.defaultConfig().setContainsHeader(true)).read(new StringReader(csv), (row) -> expected.add(row.toBean(User.class)));
+			stopWatch.stop();
+
+			stopWatch.start("read(Class) " + round);
+			final List<User> users = CsvUtil.getReader().read(csv, User.class);
+			stopWatch.stop();
+			assertEquals(expected.size(), users.size());
+
+			stopWatch.start("beanToMap " + round);
+			final CsvWriter mapWriter = CsvUtil.getWriter(new StringWriter());
+			for (final User user : users) {
+				mapWriter.writeLine(Convert.toStrArray(BeanUtil.beanToMap(user).values()));
+			}
+			stopWatch.stop();
+
+			stopWatch.start("writeBeans " + round);
+			CsvUtil.getWriter(new StringWriter()).writeBeans(users);
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	@Data
+	public static class User {
+		private Long id;
+		private String userName;
+		private int age;
+		private BigDecimal score;
+		private Date birthday;
+		private Gender gender;
+		private Boolean active;
+		private List<String> tags;
+		private String remark;
+	}
+
+	public enum Gender {
+		MALE, FEMALE
+	}
+}
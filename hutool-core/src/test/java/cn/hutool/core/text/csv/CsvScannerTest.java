@@ -0,0 +1,244 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvScannerTest {
+
+	private static final String[] SAMPLES = {
+			"aaa,b\"bba\",ccc",
+			"aaa,\"bba\"bbb,ccc\naaa,\"bba\"bbb\",ccc",
+			"aaa,\"\",ccc\r\n\"b\"\"bb\",\"x\"\"\"\r\nlast,",
+			"a,\"multi\nline\r\nfield\",c\nd,e,f\n",
+			"# comment\na,b\n#another \"comment\nc,d\n\"#not comment\",e",
+			"\n\na,b\n\n\nc\n",
+			"a,\"unclosed\nfield,x",
+			" a , \" b \" ,c ,\n\" d\"x ,e",
+			"a,b,\n,\n,,",
+			"\"a\"\"\",\"\"\"b\",\"\"\"\"",
+	};
+
+	private File file;
+
+	@BeforeEach
+	public void init() {
+		file = FileUtil.createTempFile("scanner", ".csv", true);
+	}
+
+	@AfterEach
+	public void clean() {
+		FileUtil.del(file);
+	}
+
+	@Test
+	public void scanTest() {
+		try (final CsvScanner scanner = new CsvScanner(new StringReader("id,name\n1,\"Lee, \"\"Big\"\"\"\n2,Wang"),
+				CsvReadConfig.defaultConfig().setContainsHeader(true))) {
+			assertTrue(scanner.next());
+			assertEquals(ListUtil.of("id", "name"), scanner.getHeader());
+			assertEquals(1, scanner.getLineNo());
+			assertEquals(2, scanner.size());
+			final CharSequence name = scanner.get(1);
+			assertEquals("Lee, \"Big\"", name.toString());
+			assertEquals("Big", name.subSequence(6, 9));
+			assertEquals('L', name.charAt(0));
+			assertEquals("Lee, \"Big\"", scanner.getByName("name").toString());
+			assertNull(scanner.getByName("none"));
+			assertThrows(IndexOutOfBoundsException.class, () -> scanner.get(2));
+
+			assertTrue(scanner.next());
+			assertEquals("Wang", scanner.getStr(1));
+			assertEquals(ListUtil.of("2", "Wang"), scanner.toRow().getRawList());
+			assertEquals("Wang", scanner.toRow().getByName("name"));
+			assertFalse(scanner.next());
+			assertFalse(scanner.next());
+		}
+	}
+
+	@Test
+	public void sameAsParserTest() {
+		final CsvReadConfig[] configs = {
+				CsvReadConfig.defaultConfig(),
+				CsvReadConfig.defaultConfig().setSkipEmptyRows(false),
+				CsvReadConfig.defaultConfig().setTrimField(true),
+				CsvReadConfig.defaultConfig().disableComment(),
+				CsvReadConfig.defaultConfig().setBeginLineNo(1).setEndLineNo(3),
+				CsvReadConfig.defaultConfig().setFieldSeparator(';').setTextDelimiter('\'')
+		};
+		for (final CsvReadConfig config : configs) {
+			for (final String sample : SAMPLES) {
+				final List<String> expected = toStr(parse(sample, config));
+				assertEquals(expected, toStr(scan(new StringReader(sample), config)), sample);
+				// 每次只读取少量字符，验证跨缓冲区的行
+				assertEquals(expected, toStr(scan(new SlowReader(sample), config)), sample);
+			}
+		}
+	}
+
+	@Test
+	public void headerAliasTest() {
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setHeaderLineNo(1).addHeaderAlias("name", "userName");
+		final List<CsvRow> rows = scan(new StringReader("skip,me\nid,name\n1,a\n2,b"), config);
+		assertEquals(3, rows.size());
+		assertNull(rows.get(0).headerMap);
+		assertEquals("b", rows.get(2).getByName("userName"));
+		assertEquals(3, rows.get(2).getOriginalLineNumber());
+	}
+
+	@Test
+	public void largeFieldTest() {
+		// 超过缓冲区大小的字段
+		final String large = StrUtil.repeat("x\"\"\n", 30000);
+		final String csv = "a,\"" + large + "\",b\nc";
+		final List<CsvRow> rows = scan(new StringReader(csv), null);
+		assertEquals(2, rows.size());
+		assertEquals(StrUtil.repeat("x\"\n", 30000), rows.get(0).get(1));
+		assertEquals(30001, rows.get(1).getOriginalLineNumber());
+		assertEquals(toStr(parse(csv, null)), toStr(rows));
+	}
+
+	@Test
+	public void differentFieldCountTest() {
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setErrorOnDifferentFieldCount(true);
+		assertThrows(Exception.class, () -> scan(new StringReader("a,b\nc"), config));
+	}
+
+	@Test
+	public void readParallelTest() {
+		final StringBuilder sb = new StringBuilder("id,name,remark\r\n# comment, \"with quote\n");
+		for (int i = 0; i < 2000; i++) {
+			sb.append(i).append(",\"name,").append(i).append("\",");
+			if (i % 7 == 0) {
+				sb.append("\"multi\nline \"\"").append(i).append("\"\"\"");
+			} else {
+				sb.append("remark").append(i);
+			}
+			sb.append(i % 2 == 0 ? "\r\n" : "\n");
+		}
+		FileUtil.writeUtf8String(sb.toString(), file);
+
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true);
+		final List<String> expected = toStr(scan(FileUtil.getUtf8Reader(file), config));
+		assertEquals(2000, expected.size());
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			// 小块，保证块的边界落在包装内的换行附近
+			for (final long chunkSize : new long[]{1, 100, 333, Long.MAX_VALUE}) {
+				final CsvData data = new CsvParallelReader(file, CharsetUtil.CHARSET_UTF_8, config, pool, chunkSize).read();
+				assertEquals(ListUtil.of("id", "name", "remark"), data.getHeader());
+				assertEquals(expected, toStr(data.getRows()), "chunkSize: " + chunkSize);
+				assertEquals("multi\nline \"1995\"", data.getRow(1995).getByName("remark"));
+			}
+
+			final CsvData data = new CsvParallelReader(file, CharsetUtil.CHARSET_UTF_8,
+					CsvReadConfig.defaultConfig().setBeginLineNo(3).setEndLineNo(10), pool, 50).read();
+			assertEquals(toStr(scan(FileUtil.getUtf8Reader(file), CsvReadConfig.defaultConfig().setBeginLineNo(3).setEndLineNo(10))), toStr(data.getRows()));
+			assertNull(data.getHeader());
+
+			// 不支持切分的编码顺序读取
+			assertEquals(expected, toStr(new CsvReader(config).readParallel(file, CharsetUtil.CHARSET_UTF_8, pool).getRows()));
+			FileUtil.writeString(sb.toString(), file, CharsetUtil.CHARSET_GBK);
+			assertEquals(expected, toStr(new CsvReader(config).readParallel(file, CharsetUtil.CHARSET_GBK, pool).getRows()));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1_000_000; i++) {
+			sb.append(i).append(",user").append(i).append(",\"Beijing, China\",").append(i * 31L).append(",remark ").append(StrUtil.repeat('x', 40)).append('\n');
+		}
+		FileUtil.writeUtf8String(sb.toString(), file);
+		Console.log("File size: {}", FileUtil.readableFileSize(file));
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("CsvParser " + round);
+			final int parserCount = CsvUtil.getReader().read(file).getRowCount();
+			stopWatch.stop();
+
+			stopWatch.start("CsvScanner " + round);
+			int scannerCount = 0;
+			try (final CsvScanner scanner = new CsvScanner(FileUtil.getUtf8Reader(file), null)) {
+				while (scanner.next()) {
+					scanner.get(1);
+					scannerCount++;
+				}
+			}
+			stopWatch.stop();
+
+			stopWatch.start("readParallel " + round);
+			final int parallelCount = CsvUtil.getReader().readParallel(file, CharsetUtil.CHARSET_UTF_8).getRowCount();
+			stopWatch.stop();
+
+			assertEquals(parserCount, scannerCount);
+			assertEquals(parserCount, parallelCount);
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static List<String> toStr(final List<CsvRow> rows) {
+		final List<String> result = new ArrayList<>(rows.size());
+		for (final CsvRow row : rows) {
+			result.add(row.getOriginalLineNumber() + ":" + row.getRawList());
+		}
+		return result;
+	}
+
+	private static List<CsvRow> parse(final String csv, final CsvReadConfig config) {
+		final List<CsvRow> rows = new ArrayList<>();
+		final CsvParser parser = new CsvParser(new StringReader(csv), config);
+		CsvRow row;
+		while (null != (row = parser.nextRow())) {
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private static List<CsvRow> scan(final Reader reader, final CsvReadConfig config) {
+		final List<CsvRow> rows = new ArrayList<>();
+		try (final CsvScanner scanner = new CsvScanner(reader, config)) {
+			while (scanner.next()) {
+				rows.add(scanner.toRow());
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * 每次最多读取3个字符的Reader
+	 */
+	private static class SlowReader extends FilterReader {
+		SlowReader(final String str) {
+			super(new StringReader(str));
+		}
+
+		@Override
+		public int read(final char[] cbuf, final int off, final int len) throws IOException {
+			return super.read(cbuf, off, Math.min(len, 3));
+		}
+	}
+}
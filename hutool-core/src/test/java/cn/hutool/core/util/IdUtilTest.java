@@ -2,6 +2,7 @@ package cn.hutool.core.util;
 
 import cn.hutool.core.collection.ConcurrentHashSet;
 import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
 import cn.hutool.core.date.TimeInterval;
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Console;
@@ -11,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
@@ -141,4 +144,83 @@ public class IdUtilTest {
 		final long dataCenterId = IdUtil.getDataCenterId(Long.MAX_VALUE);
 		assertTrue(dataCenterId >= 0);
 	}
+
+	@Test
+	public void batchTest() {
+		final String[] uuids = IdUtil.randomUUIDs(100, true, true);
+		assertEquals(100, new HashSet<>(Arrays.asList(uuids)).size());
+		for (final String uuid : uuids) {
+			assertEquals(32, uuid.length());
+		}
+		assertEquals(36, IdUtil.randomUUIDs(1, false, false)[0].length());
+
+		assertEquals(100, new HashSet<>(Arrays.asList(IdUtil.objectIds(100))).size());
+
+		final String[] nanoIds = IdUtil.nanoIds(10, 100);
+		assertEquals(100, new HashSet<>(Arrays.asList(nanoIds)).size());
+		assertEquals(10, nanoIds[0].length());
+	}
+
+	@Test
+	@Disabled
+	public void randomIdBenchmarkTest() {
+		final int threadCount = 16;
+		final int count = 200_000;
+		final Set<Integer> sink = new ConcurrentHashSet<>();
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("randomUUID " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				int hash = 0;
+				for (int i = 0; i < count; i++) {
+					hash += IdUtil.randomUUID().hashCode();
+				}
+				sink.add(hash);
+			});
+			stopWatch.stop();
+
+			stopWatch.start("randomUUIDs(100) " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				int hash = 0;
+				for (int i = 0; i < count; i += 100) {
+					hash += Arrays.hashCode(IdUtil.randomUUIDs(100, true, false));
+				}
+				sink.add(hash);
+			});
+			stopWatch.stop();
+
+			stopWatch.start("fastSimpleUUID " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				int hash = 0;
+				for (int i = 0; i < count; i++) {
+					hash += IdUtil.fastSimpleUUID().hashCode();
+				}
+				sink.add(hash);
+			});
+			stopWatch.stop();
+
+			stopWatch.start("objectId " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				int hash = 0;
+				for (int i = 0; i < count; i++) {
+					hash += IdUtil.objectId().hashCode();
+				}
+				sink.add(hash);
+			});
+			stopWatch.stop();
+
+			stopWatch.start("nanoId " + round);
+			ThreadUtil.concurrencyTest(threadCount, () -> {
+				int hash = 0;
+				for (int i = 0; i < count; i++) {
+					hash += IdUtil.nanoId().hashCode();
+				}
+				sink.add(hash);
+			});
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+		Console.log(sink.size());
+	}
 }
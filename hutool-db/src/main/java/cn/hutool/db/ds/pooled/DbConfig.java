@@ -22,6 +22,9 @@ public class DbConfig {
 	private int minIdle;            //最小闲置连接数
 	private int maxActive;        //最大活跃连接数
 	private long maxWait;        //获取连接的超时等待
+	private long idleTimeout;        //闲置连接超过此时长（毫秒）且闲置数大于minIdle时被回收，0表示不回收
+	private long keepaliveTime;        //闲置连接每隔此时长（毫秒）在后台验证一次，0表示不验证
+	private long validationTimeout = 5000;        //验证连接的超时时长（毫秒），默认5秒，0表示不限制
 
 	// 连接配置
 	private Properties connProps;
@@ -127,6 +130,30 @@ public class DbConfig {
 		this.maxWait = maxWait;
 	}
 
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public long getKeepaliveTime() {
+		return keepaliveTime;
+	}
+
+	public void setKeepaliveTime(long keepaliveTime) {
+		this.keepaliveTime = keepaliveTime;
+	}
+
+	public long getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	public void setValidationTimeout(long validationTimeout) {
+		this.validationTimeout = validationTimeout;
+	}
+
 	public Properties getConnProps() {
 		return connProps;
 	}
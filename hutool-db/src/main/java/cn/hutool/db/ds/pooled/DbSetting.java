@@ -70,6 +70,9 @@ public class DbSetting {
 		dbConfig.setMinIdle(setting.getInt("minIdle", group, 0));
 		dbConfig.setMaxActive(setting.getInt("maxActive", group, 8));
 		dbConfig.setMaxWait(setting.getLong("maxWait", group, 6000L));
+		dbConfig.setIdleTimeout(setting.getLong("idleTimeout", group, 0L));
+		dbConfig.setKeepaliveTime(setting.getLong("keepaliveTime", group, 0L));
+		dbConfig.setValidationTimeout(setting.getLong("validationTimeout", group, 5000L));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
@@ -10,16 +10,30 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * 池化
+ * 池化<br>
+ * 每次从池中借出时使用新的包装对象，包装对象只能被关闭（归还）一次，
+ * 因此重复关闭或已归还的连接被再次关闭时，不会将其它借出者正在使用的连接归还到池中。
  * @author Looly
  *
  */
 public class PooledConnection extends ConnectionWraper{
 
 	private final PooledDataSource ds;
-	private boolean isClosed;
+	/**
+	 * 是否已归还，每个包装对象只能归还一次
+	 */
+	private final AtomicBoolean closed = new AtomicBoolean();
+	/**
+	 * 最后一次归还到池中的时间
+	 */
+	private volatile long lastReturnTime = System.currentTimeMillis();
+	/**
+	 * 最后一次验证通过的时间
+	 */
+	private volatile long lastValidTime = System.currentTimeMillis();
 
 	/**
 	 * 构造
@@ -70,8 +84,12 @@ public class PooledConnection extends ConnectionWraper{
 	 */
 	@Override
 	public void close() {
+		// CAS保证并发或重复关闭时只归还一次
+		if (false == this.closed.compareAndSet(false, true)) {
+			return;
+		}
+		this.lastReturnTime = System.currentTimeMillis();
 		this.ds.free(this);
-		this.isClosed = true;
 	}
 
 	/**
@@ -81,16 +99,59 @@ public class PooledConnection extends ConnectionWraper{
 	 */
 	@Override
 	public boolean isClosed() throws SQLException {
-		return isClosed || raw.isClosed();
+		return closed.get() || raw.isClosed();
 	}
 
 	/**
-	 * 打开连接
-	 * @return this
+	 * 打开连接，从池中借出已归还的连接时调用<br>
+	 * 返回包装同一物理连接的新对象，之前的借出者持有的对象保持关闭状态
+	 * @return 新的包装对象
 	 */
 	protected PooledConnection open() {
-		this.isClosed = false;
-		return this;
+		final PooledConnection conn = new PooledConnection(this.ds, this.raw);
+		conn.lastReturnTime = this.lastReturnTime;
+		conn.lastValidTime = this.lastValidTime;
+		return conn;
+	}
+
+	/**
+	 * 验证连接是否可用，验证通过时更新最后验证时间
+	 *
+	 * @param timeoutMillis 超时毫秒数，0表示不限制
+	 * @return 是否可用
+	 * @since 5.8.42
+	 */
+	protected boolean validate(long timeoutMillis) {
+		try {
+			// isValid超时单位为秒，向上取整
+			if (raw.isValid((int) ((timeoutMillis + 999) / 1000))) {
+				this.lastValidTime = System.currentTimeMillis();
+				return true;
+			}
+		} catch (SQLException e) {
+			// ignore
+		}
+		return false;
+	}
+
+	/**
+	 * 获取在池中闲置的毫秒数
+	 *
+	 * @return 闲置毫秒数
+	 * @since 5.8.42
+	 */
+	protected long getIdleMillis() {
+		return System.currentTimeMillis() - lastReturnTime;
+	}
+
+	/**
+	 * 获取距上次验证通过的毫秒数
+	 *
+	 * @return 毫秒数
+	 * @since 5.8.42
+	 */
+	protected long getUnvalidatedMillis() {
+		return System.currentTimeMillis() - lastValidTime;
 	}
 
 	/**
@@ -1,6 +1,5 @@
 package cn.hutool.db.ds.pooled;
 
-import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
@@ -9,22 +8,59 @@ import cn.hutool.db.ds.simple.AbstractDataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 池化数据源
+ * 池化数据源<br>
+ * 连接池实现：
+ * <ul>
+ *     <li>闲置连接存放于并发双端队列中，归还的连接放在队首，优先复用最近使用的连接</li>
+ *     <li>使用公平{@link Semaphore}限制最大活跃连接数，等待连接的线程按先后顺序在maxWait内被唤醒，连接归还后立即交给等待最久的线程</li>
+ *     <li>后台线程定期回收闲置超过idleTimeout的连接（保留minIdle个），并验证闲置超过keepaliveTime的连接</li>
+ *     <li>提供等待线程数、活跃连接数、闲置连接数和获取连接耗时等指标</li>
+ * </ul>
  *
  * @author Looly
  *
  */
 public class PooledDataSource extends AbstractDataSource {
 
-	private Queue<PooledConnection> freePool;
-	private int activeCount; // 活跃连接数
+	/**
+	 * 闲置时间小于此值的连接在取出时不再验证，避免频繁验证
+	 */
+	private static final long VALIDATION_BYPASS_MILLIS = 500;
 
 	private final DbConfig config;
 
+	/**
+	 * 闲置连接
+	 */
+	private final LinkedBlockingDeque<PooledConnection> idlePool;
+	/**
+	 * 活跃连接许可
+	 */
+	private final Semaphore permits;
+	/**
+	 * 后台清理和保活线程
+	 */
+	private final ScheduledThreadPoolExecutor houseKeeper;
+	private volatile boolean closed;
+
+	// 指标
+	private final AtomicInteger totalCount = new AtomicInteger();
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final LongAdder acquireCount = new LongAdder();
+	private final LongAdder acquireTimeoutCount = new LongAdder();
+	private final LongAdder totalAcquireNanos = new LongAdder();
+	private final AtomicLong maxAcquireNanos = new AtomicLong();
+
 	/**
 	 * 获得一个数据源
 	 *
@@ -78,15 +114,27 @@ public class PooledDataSource extends AbstractDataSource {
 	 */
 	public PooledDataSource(DbConfig config) {
 		this.config = config;
-		freePool = new LinkedList<>();
+		this.idlePool = new LinkedBlockingDeque<>();
+		this.permits = new Semaphore(Math.max(0, config.getMaxActive()), true);
 		int initialSize = config.getInitialSize();
 		try {
-			while (initialSize-- > 0) {
-				freePool.offer(newConnection());
+			PooledConnection conn;
+			while (initialSize-- > 0 && null != (conn = tryCreateConnection())) {
+				idlePool.offerLast(conn);
 			}
 		} catch (SQLException e) {
+			close();
 			throw new DbRuntimeException(e);
 		}
+
+		final long period = houseKeepingPeriod(config);
+		if (period > 0) {
+			this.houseKeeper = new ScheduledThreadPoolExecutor(1,
+					ThreadUtil.newNamedThreadFactory("hutool-pool-housekeeper-", true));
+			this.houseKeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+		} else {
+			this.houseKeeper = null;
+		}
 	}
 	// -------------------------------------------------------------------- Constructor start
 
@@ -94,7 +142,7 @@ public class PooledDataSource extends AbstractDataSource {
 	 * 从数据库连接池中获取数据库连接对象
 	 */
 	@Override
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
 		return getConnection(config.getMaxWait());
 	}
 
@@ -109,9 +157,20 @@ public class PooledDataSource extends AbstractDataSource {
 	 * @param conn 连接
 	 * @return 释放成功与否
 	 */
-	protected synchronized boolean free(PooledConnection conn) {
-		activeCount--;
-		return freePool.offer(conn);
+	protected boolean free(PooledConnection conn) {
+		boolean result = false;
+		try {
+			if (closed || isBroken(conn)) {
+				destroy(conn);
+			} else {
+				result = idlePool.offerFirst(conn);
+			}
+		} finally {
+			activeCount.decrementAndGet();
+			// 先放回连接再释放许可，被唤醒的等待线程可以直接取到此连接
+			permits.release();
+		}
+		return result;
 	}
 
 	/**
@@ -129,27 +188,63 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 获取连接对象
+	 * 获取连接对象，池中无可用连接且活跃连接数已达上限时，等待其它线程归还连接，超时抛出异常
 	 *
 	 * @param wait 当池中无连接等待的毫秒数
 	 * @return 连接对象
 	 * @throws SQLException SQL异常
 	 */
 	public PooledConnection getConnection(long wait) throws SQLException {
+		if (closed) {
+			throw new SQLException("PooledDataSource is closed!");
+		}
+		if (config.getMaxActive() <= 0) {
+			throw new SQLException("In used Connection is more than Max Active.");
+		}
+
+		final long start = System.nanoTime();
+		pendingCount.incrementAndGet();
+		boolean acquired;
 		try {
-			return getConnectionDirect();
-		} catch (Exception e) {
-			ThreadUtil.sleep(wait);
+			acquired = permits.tryAcquire(Math.max(0, wait), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for connection", e);
+		} finally {
+			pendingCount.decrementAndGet();
+		}
+		if (false == acquired) {
+			acquireTimeoutCount.increment();
+			throw new SQLException(StrUtil.format("Wait connection timeout after {}ms, active: {}, idle: {}, pending: {}",
+					wait, getActiveCount(), getIdleCount(), getPendingCount()));
+		}
+
+		final PooledConnection conn;
+		try {
+			conn = borrow(start + TimeUnit.MILLISECONDS.toNanos(Math.max(0, wait)));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		activeCount.incrementAndGet();
+		recordAcquire(System.nanoTime() - start);
+		if (closed) {
+			// 获取过程中数据源被关闭
+			conn.close();
+			throw new SQLException("PooledDataSource is closed!");
 		}
-		return getConnectionDirect();
+		return conn;
 	}
 
 	@Override
-	synchronized public void close() {
-		if (CollectionUtil.isNotEmpty(this.freePool)) {
-			this.freePool.forEach(PooledConnection::release);
-			this.freePool.clear();
-			this.freePool = null;
+	public void close() {
+		closed = true;
+		if (null != houseKeeper) {
+			houseKeeper.shutdownNow();
+		}
+		PooledConnection conn;
+		while (null != (conn = idlePool.pollFirst())) {
+			destroy(conn);
 		}
 	}
 
@@ -158,29 +253,266 @@ public class PooledDataSource extends AbstractDataSource {
 		IoUtil.close(this);
 	}
 
+	// -------------------------------------------------------------------- metrics start
+	/**
+	 * 获取等待连接的线程数
+	 *
+	 * @return 等待连接的线程数
+	 * @since 5.8.42
+	 */
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+
+	/**
+	 * 获取活跃（已借出）连接数
+	 *
+	 * @return 活跃连接数
+	 * @since 5.8.42
+	 */
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	/**
+	 * 获取闲置连接数
+	 *
+	 * @return 闲置连接数
+	 * @since 5.8.42
+	 */
+	public int getIdleCount() {
+		return idlePool.size();
+	}
+
+	/**
+	 * 获取池中物理连接总数
+	 *
+	 * @return 物理连接总数
+	 * @since 5.8.42
+	 */
+	public int getTotalCount() {
+		return totalCount.get();
+	}
+
+	/**
+	 * 获取成功获取连接的次数
+	 *
+	 * @return 获取连接的次数
+	 * @since 5.8.42
+	 */
+	public long getAcquireCount() {
+		return acquireCount.sum();
+	}
+
+	/**
+	 * 获取等待超时的次数
+	 *
+	 * @return 等待超时的次数
+	 * @since 5.8.42
+	 */
+	public long getAcquireTimeoutCount() {
+		return acquireTimeoutCount.sum();
+	}
+
+	/**
+	 * 获取成功获取连接的平均耗时（纳秒），包括等待和创建连接的时间
+	 *
+	 * @return 平均耗时，单位纳秒
+	 * @since 5.8.42
+	 */
+	public long getAverageAcquireNanos() {
+		final long count = acquireCount.sum();
+		return 0 == count ? 0 : totalAcquireNanos.sum() / count;
+	}
+
+	/**
+	 * 获取成功获取连接的最大耗时（纳秒）
+	 *
+	 * @return 最大耗时，单位纳秒
+	 * @since 5.8.42
+	 */
+	public long getMaxAcquireNanos() {
+		return maxAcquireNanos.get();
+	}
+	// -------------------------------------------------------------------- metrics end
+
 	/**
-	 * 直接从连接池中获取连接，如果池中无连接直接抛出异常
+	 * 已获得许可后取出连接，优先复用闲置连接，闲置连接不可用时丢弃，无闲置连接时新建<br>
+	 * 物理连接数已达上限时（部分连接正被后台任务验证），等待连接放回，直到deadline
 	 *
+	 * @param deadline 截止时间，{@link System#nanoTime()}
 	 * @return PooledConnection
-	 * @throws SQLException SQL异常
+	 * @throws SQLException SQL异常或等待超时
 	 */
-	private PooledConnection getConnectionDirect() throws SQLException {
-		if (null == freePool) {
-			throw new SQLException("PooledDataSource is closed!");
+	private PooledConnection borrow(long deadline) throws SQLException {
+		while (true) {
+			PooledConnection conn = idlePool.pollFirst();
+			if (null == conn) {
+				conn = tryCreateConnection();
+				if (null != conn) {
+					return conn;
+				}
+				conn = pollIdle(deadline);
+			}
+			if (false == isBroken(conn) && (conn.getIdleMillis() <= VALIDATION_BYPASS_MILLIS
+					|| conn.validate(borrowValidationTimeout(deadline)))) {
+				return conn.open();
+			}
+			destroy(conn);
 		}
+	}
 
-		final int maxActive = config.getMaxActive();
-		if (maxActive <= 0 || maxActive < this.activeCount) {
-			// 超过最大使用限制
-			throw new SQLException("In used Connection is more than Max Active.");
+	/**
+	 * 等待闲置连接放回
+	 *
+	 * @param deadline 截止时间，{@link System#nanoTime()}
+	 * @return 闲置连接
+	 * @throws SQLException 等待超时或被中断
+	 */
+	private PooledConnection pollIdle(long deadline) throws SQLException {
+		final long remaining = deadline - System.nanoTime();
+		final PooledConnection conn;
+		try {
+			conn = remaining > 0 ? idlePool.pollFirst(remaining, TimeUnit.NANOSECONDS) : null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for connection", e);
 		}
-
-		PooledConnection conn = freePool.poll();
-		if (null == conn || conn.open().isClosed()) {
-			conn = this.newConnection();
+		if (null == conn) {
+			acquireTimeoutCount.increment();
+			throw new SQLException(StrUtil.format("Wait connection timeout, total connections reach max active: {}", config.getMaxActive()));
 		}
-		activeCount++;
 		return conn;
 	}
 
+	/**
+	 * 取出连接时的验证超时，不超过剩余的等待时间，且不为0（0表示不限制）
+	 *
+	 * @param deadline 截止时间，{@link System#nanoTime()}
+	 * @return 验证超时毫秒数
+	 */
+	private long borrowValidationTimeout(long deadline) {
+		final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+		final long timeout = config.getValidationTimeout();
+		return Math.max(1, timeout > 0 ? Math.min(timeout, remaining) : remaining);
+	}
+
+	/**
+	 * 后台任务：回收超时的闲置连接，验证需要保活的连接，并补足最小闲置连接
+	 */
+	private void houseKeep() {
+		final long idleTimeout = config.getIdleTimeout();
+		final long keepaliveTime = config.getKeepaliveTime();
+		final int minIdle = config.getMinIdle();
+
+		for (final PooledConnection conn : idlePool) {
+			if (closed) {
+				return;
+			}
+			if (idleTimeout > 0 && conn.getIdleMillis() > idleTimeout && idlePool.size() > minIdle) {
+				// 从队列中移除成功才处理，避免与取出连接的线程竞争
+				if (idlePool.removeFirstOccurrence(conn)) {
+					destroy(conn);
+				}
+			} else if (keepaliveTime > 0 && conn.getUnvalidatedMillis() > keepaliveTime) {
+				if (idlePool.removeFirstOccurrence(conn)) {
+					if (conn.validate(config.getValidationTimeout()) && false == closed) {
+						// 验证后放回队尾，保持最近使用的连接在队首
+						idlePool.offerLast(conn);
+					} else {
+						destroy(conn);
+					}
+				}
+			}
+		}
+
+		// 补足最小闲置连接
+		try {
+			PooledConnection conn;
+			while (false == closed && idlePool.size() < minIdle && null != (conn = tryCreateConnection())) {
+				idlePool.offerLast(conn);
+			}
+		} catch (SQLException e) {
+			// 数据库暂时不可用时，等待下次补足
+		}
+	}
+
+	/**
+	 * 物理连接数未达到maxActive时创建物理连接并计数<br>
+	 * 先占用计数再创建，避免取出连接的线程与后台补足并发创建时超过maxActive，创建失败时归还计数
+	 *
+	 * @return PooledConnection，已达上限返回{@code null}
+	 * @throws SQLException SQL异常
+	 */
+	private PooledConnection tryCreateConnection() throws SQLException {
+		int total;
+		do {
+			total = totalCount.get();
+			if (total >= config.getMaxActive()) {
+				return null;
+			}
+		} while (false == totalCount.compareAndSet(total, total + 1));
+
+		try {
+			return newConnection();
+		} catch (SQLException | RuntimeException e) {
+			totalCount.decrementAndGet();
+			throw e;
+		}
+	}
+
+	/**
+	 * 关闭物理连接
+	 *
+	 * @param conn 连接
+	 */
+	private void destroy(PooledConnection conn) {
+		totalCount.decrementAndGet();
+		conn.release();
+	}
+
+	/**
+	 * 记录获取连接的耗时
+	 *
+	 * @param nanos 耗时
+	 */
+	private void recordAcquire(long nanos) {
+		acquireCount.increment();
+		totalAcquireNanos.add(nanos);
+		maxAcquireNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * 物理连接是否已关闭
+	 *
+	 * @param conn 连接
+	 * @return 是否已关闭
+	 */
+	private static boolean isBroken(PooledConnection conn) {
+		try {
+			return conn.getRaw().isClosed();
+		} catch (SQLException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * 计算后台任务执行周期，取idleTimeout和keepaliveTime中较小值的一半，范围为50毫秒到30秒
+	 *
+	 * @param config 数据库配置
+	 * @return 执行周期，0表示无需后台任务
+	 */
+	private static long houseKeepingPeriod(DbConfig config) {
+		long period = Long.MAX_VALUE;
+		if (config.getIdleTimeout() > 0) {
+			period = config.getIdleTimeout();
+		}
+		if (config.getKeepaliveTime() > 0) {
+			period = Math.min(period, config.getKeepaliveTime());
+		}
+		if (Long.MAX_VALUE == period && config.getMinIdle() <= 0) {
+			return 0;
+		}
+		return Math.min(30_000L, Math.max(50L, period / 2));
+	}
 }
@@ -0,0 +1,207 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.db.ds.pooled.DbConfig;
+import cn.hutool.db.ds.pooled.DbSetting;
+import cn.hutool.db.ds.pooled.PooledDataSource;
+import cn.hutool.setting.Setting;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledDataSourceTest {
+
+	private static DbConfig newConfig(int maxActive, long maxWait) {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:h2_pool_test", "sa", "");
+		config.setMaxActive(maxActive);
+		config.setMaxWait(maxWait);
+		return config;
+	}
+
+	@Test
+	public void handoffTest() throws SQLException {
+		try (PooledDataSource ds = new PooledDataSource(newConfig(1, 3000))) {
+			final Connection conn = ds.getConnection();
+			ThreadUtil.execute(() -> {
+				ThreadUtil.sleep(200);
+				try {
+					conn.close();
+				} catch (SQLException e) {
+					throw new RuntimeException(e);
+				}
+			});
+
+			// 连接归还后等待线程立即获得连接，而不是等待maxWait
+			final long start = System.currentTimeMillis();
+			final Connection conn2 = ds.getConnection();
+			assertTrue(System.currentTimeMillis() - start < 2000);
+			assertNotNull(conn2);
+			conn2.close();
+			assertEquals(1, ds.getTotalCount());
+		}
+	}
+
+	@Test
+	public void timeoutTest() throws SQLException {
+		try (PooledDataSource ds = new PooledDataSource(newConfig(1, 100))) {
+			final Connection conn = ds.getConnection();
+			assertThrows(SQLException.class, ds::getConnection);
+			assertEquals(1, ds.getAcquireTimeoutCount());
+			conn.close();
+			// 重复关闭不重复归还
+			conn.close();
+			assertEquals(0, ds.getActiveCount());
+			assertEquals(1, ds.getIdleCount());
+
+			ds.getConnection().close();
+			assertEquals(2, ds.getAcquireCount());
+		}
+	}
+
+	@Test
+	public void concurrentTest() {
+		try (PooledDataSource ds = new PooledDataSource(newConfig(4, 10_000))) {
+			final AtomicInteger errorCount = new AtomicInteger();
+			ThreadUtil.concurrencyTest(16, () -> {
+				for (int i = 0; i < 50; i++) {
+					try (Connection conn = ds.getConnection()) {
+						assertTrue(ds.getActiveCount() <= 4);
+						conn.createStatement().execute("SELECT 1");
+					} catch (SQLException e) {
+						errorCount.incrementAndGet();
+					}
+				}
+			});
+			assertEquals(0, errorCount.get());
+			assertEquals(0, ds.getActiveCount());
+			assertEquals(0, ds.getPendingCount());
+			assertTrue(ds.getTotalCount() <= 4);
+			assertEquals(16 * 50, ds.getAcquireCount());
+		}
+	}
+
+	@Test
+	public void idleEvictTest() {
+		final DbConfig config = newConfig(8, 1000);
+		config.setInitialSize(4);
+		config.setMinIdle(1);
+		config.setIdleTimeout(100);
+		try (PooledDataSource ds = new PooledDataSource(config)) {
+			assertEquals(4, ds.getIdleCount());
+			ThreadUtil.sleep(600);
+			// 超时的闲置连接被回收，保留minIdle个
+			assertEquals(1, ds.getIdleCount());
+			assertEquals(1, ds.getTotalCount());
+		}
+	}
+
+	@Test
+	public void closeTest() throws SQLException {
+		final PooledDataSource ds = new PooledDataSource(newConfig(2, 1000));
+		final Connection conn = ds.getConnection();
+		ds.close();
+		assertThrows(SQLException.class, ds::getConnection);
+		// 关闭后归还的连接被直接释放
+		conn.close();
+		assertEquals(0, ds.getTotalCount());
+	}
+
+	@Test
+	public void concurrentDoubleCloseTest() throws SQLException {
+		try (PooledDataSource ds = new PooledDataSource(newConfig(1, 50))) {
+			for (int i = 0; i < 200; i++) {
+				final Connection conn = ds.getConnection();
+				final CountDownLatch latch = new CountDownLatch(1);
+				final Runnable closeTask = () -> {
+					try {
+						latch.await();
+						conn.close();
+					} catch (InterruptedException | SQLException e) {
+						throw new RuntimeException(e);
+					}
+				};
+				final Thread t1 = new Thread(closeTask);
+				final Thread t2 = new Thread(closeTask);
+				t1.start();
+				t2.start();
+				latch.countDown();
+				ThreadUtil.waitForDie(t1);
+				ThreadUtil.waitForDie(t2);
+				assertEquals(0, ds.getActiveCount());
+			}
+
+			// 只剩一个许可：第二次获取超时
+			final Connection conn = ds.getConnection();
+			assertThrows(SQLException.class, ds::getConnection);
+			conn.close();
+			assertEquals(1, ds.getTotalCount());
+		}
+	}
+
+	@Test
+	public void staleCloseTest() throws SQLException {
+		try (PooledDataSource ds = new PooledDataSource(newConfig(1, 50))) {
+			final Connection conn = ds.getConnection();
+			conn.close();
+			final Connection conn2 = ds.getConnection();
+			assertNotSame(conn, conn2);
+			assertTrue(conn.isClosed());
+
+			// 已归还的连接再次关闭，不能归还其它借出者正在使用的连接
+			conn.close();
+			assertEquals(1, ds.getActiveCount());
+			assertThrows(SQLException.class, ds::getConnection);
+			conn2.createStatement().execute("SELECT 1");
+			conn2.close();
+			assertEquals(0, ds.getActiveCount());
+		}
+	}
+
+	@Test
+	public void settingDefaultTest() {
+		final Setting setting = new Setting();
+		setting.setByGroup("url", "test", "jdbc:h2:mem:h2_pool_test");
+		final DbConfig config = new DbSetting(setting).getDbConfig("test");
+		final DbConfig defaultConfig = new DbConfig();
+		// 配置文件与DbConfig默认一致，未配置时不启动后台线程
+		assertEquals(defaultConfig.getIdleTimeout(), config.getIdleTimeout());
+		assertEquals(defaultConfig.getKeepaliveTime(), config.getKeepaliveTime());
+		assertEquals(defaultConfig.getValidationTimeout(), config.getValidationTimeout());
+		// 验证超时默认有限，避免isValid(0)无限等待
+		assertEquals(5000L, config.getValidationTimeout());
+	}
+
+	@Test
+	public void keepaliveNotExceedMaxActiveTest() {
+		final DbConfig config = newConfig(2, 10_000);
+		config.setMinIdle(2);
+		config.setKeepaliveTime(50);
+		try (PooledDataSource ds = new PooledDataSource(config)) {
+			final AtomicInteger maxTotal = new AtomicInteger();
+			final AtomicInteger errorCount = new AtomicInteger();
+			// 后台保活验证和补足与取出连接并发，物理连接数不超过maxActive
+			ThreadUtil.concurrencyTest(8, () -> {
+				for (int i = 0; i < 30; i++) {
+					try (Connection conn = ds.getConnection()) {
+						maxTotal.accumulateAndGet(ds.getTotalCount(), Math::max);
+						ThreadUtil.sleep(5);
+					} catch (SQLException e) {
+						errorCount.incrementAndGet();
+					}
+				}
+			});
+			assertEquals(0, errorCount.get());
+			assertTrue(maxTotal.get() <= 2, "max total: " + maxTotal.get());
+			assertTrue(ds.getTotalCount() <= 2);
+		}
+	}
+}
@@ -1,11 +1,13 @@
 package cn.hutool.json;
 
+import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.bean.copier.CopyOptions;
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.mutable.MutablePair;
 import cn.hutool.core.map.CaseInsensitiveLinkedMap;
 import cn.hutool.core.map.CaseInsensitiveTreeMap;
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.NumberUtil;
@@ -26,6 +28,11 @@ import java.util.TreeMap;
  */
 public final class InternalJSONUtil {
 
+	/**
+	 * {@link BeanPath}缓存，避免getByPath、putByPath每次重新解析表达式
+	 */
+	private static final WeakKeyValueConcurrentMap<String, BeanPath> BEAN_PATH_CACHE = new WeakKeyValueConcurrentMap<>();
+
 	private InternalJSONUtil() {
 	}
 
@@ -219,4 +226,15 @@ public final class InternalJSONUtil {
 		}
 		return rawHashMap;
 	}
+
+	/**
+	 * 获取表达式对应的{@link BeanPath}，先从缓存中查找，找不到则解析并加入缓存
+	 *
+	 * @param expression 表达式
+	 * @return {@link BeanPath}
+	 * @since 5.8.42
+	 */
+	static BeanPath getBeanPath(String expression) {
+		return BEAN_PATH_CACHE.computeIfAbsent(expression, BeanPath::create);
+	}
 }
@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.TypeReference;
@@ -212,7 +211,7 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 
 	@Override
 	public Object getByPath(String expression) {
-		return BeanPath.create(expression).get(this);
+		return InternalJSONUtil.getBeanPath(expression).get(this);
 	}
 
 	@Override
@@ -227,7 +226,7 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 
 	@Override
 	public void putByPath(String expression, Object value) {
-		BeanPath.create(expression).set(this, value);
+		InternalJSONUtil.getBeanPath(expression).set(this, value);
 	}
 
 	/**
@@ -0,0 +1,369 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanDesc;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.codec.Base64;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.impl.DateConverter;
+import cn.hutool.core.convert.impl.TemporalAccessorConverter;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.map.reference.WeakKeyConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON直接绑定到Bean<br>
+ * 从{@link JSONStreamReader}中读取事件直接写入Bean的属性，不构建中间的{@link JSONObject}：
+ * <ul>
+ *     <li>每个Bean类预先计算属性表（基于{@link BeanDesc}），并缓存键到属性的查找结果，包括驼峰转换和忽略大小写的匹配</li>
+ *     <li>基本类型、字符串、集合、Map、数组、日期和枚举直接从事件读取，数字不经过装箱的中间对象</li>
+ *     <li>存在自定义反序列化器（{@link GlobalSerializeMapping}、{@link JSONBeanParser}）或目标为JSON/Object类型时，
+ *     读取子树后交给{@link JSONConverter}转换，保证与{@link JSON#toBean(Type)}行为一致</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+class JSONBeanBinder {
+
+	/**
+	 * Bean属性表缓存
+	 */
+	private static final WeakKeyConcurrentMap<Class<?>, BeanBinding> BINDINGS = new WeakKeyConcurrentMap<>();
+
+	/**
+	 * 从当前事件开始读取值并绑定为指定类型，读取后当前事件为此值的最后一个事件
+	 *
+	 * @param <T>    目标类型
+	 * @param reader {@link JSONStreamReader}，当前事件为值的开始或{@link JSONToken#FIELD_NAME}
+	 * @param type   目标类型
+	 * @param config JSON配置
+	 * @return 绑定后的值
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T read(JSONStreamReader reader, Type type, JSONConfig config) {
+		if (JSONToken.FIELD_NAME == reader.current()) {
+			reader.next();
+		}
+		if (null == reader.current()) {
+			throw new JSONException("No value to read, call next() first or reader is end");
+		}
+		try {
+			return (T) readValue(reader, type, config);
+		} catch (final StackOverflowError e) {
+			throw new JSONException("JSON depth too large to process.", e);
+		}
+	}
+
+	/**
+	 * 读取当前值
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param type   目标类型
+	 * @param config JSON配置
+	 * @return 值
+	 */
+	private static Object readValue(JSONStreamReader reader, Type type, JSONConfig config) {
+		final JSONToken token = reader.current();
+		if (JSONToken.VALUE_NULL == token) {
+			return null;
+		}
+
+		final Class<?> rawType = TypeUtil.getClass(type);
+		if (null == rawType || needConverter(rawType, type)) {
+			return JSONConverter.jsonConvert(type, reader.readValue(), config);
+		}
+
+		switch (token) {
+			case START_OBJECT:
+				if (Map.class.isAssignableFrom(rawType)) {
+					return readMap(reader, type, rawType, config);
+				}
+				if (false == Map.Entry.class.isAssignableFrom(rawType) && BeanUtil.hasSetter(rawType)) {
+					final Object bean = ReflectUtil.newInstanceIfPossible(rawType);
+					if (null != bean) {
+						return readBean(reader, bean, type, config);
+					}
+				}
+				break;
+			case START_ARRAY:
+				if (Collection.class.isAssignableFrom(rawType)) {
+					return readCollection(reader, type, rawType, config);
+				}
+				if (rawType.isArray()) {
+					return readArray(reader, rawType.getComponentType(), config);
+				}
+				break;
+			default:
+				if (token.isScalarValue()) {
+					return readScalar(reader, rawType, config);
+				}
+		}
+		return JSONConverter.jsonConvert(type, reader.readValue(), config);
+	}
+
+	/**
+	 * 读取标量值
+	 *
+	 * @param reader  {@link JSONStreamReader}
+	 * @param rawType 目标类型
+	 * @param config  JSON配置
+	 * @return 值
+	 */
+	private static Object readScalar(JSONStreamReader reader, Class<?> rawType, JSONConfig config) {
+		final JSONToken token = reader.current();
+		if (JSONToken.VALUE_NUMBER == token) {
+			// 数字直接读取，避免构建中间的Number对象
+			if (int.class == rawType || Integer.class == rawType) {
+				return reader.getInt();
+			}
+			if (long.class == rawType || Long.class == rawType) {
+				return reader.getLong();
+			}
+			if (double.class == rawType || Double.class == rawType) {
+				return reader.getDouble();
+			}
+			if (BigDecimal.class == rawType) {
+				return reader.getBigDecimal();
+			}
+		} else if (JSONToken.VALUE_TRUE == token || JSONToken.VALUE_FALSE == token) {
+			if (boolean.class == rawType || Boolean.class == rawType) {
+				return reader.getBoolean();
+			}
+		}
+
+		if (String.class == rawType || CharSequence.class == rawType) {
+			return reader.getString();
+		}
+
+		final Object value;
+		if (JSONToken.VALUE_NUMBER == token) {
+			value = reader.getNumber();
+		} else if (JSONToken.VALUE_STRING == token) {
+			value = reader.getString();
+			if (byte[].class == rawType) {
+				// issue#I59LW4
+				return Base64.decode((CharSequence) value);
+			}
+		} else {
+			value = reader.getBoolean();
+		}
+
+		final String dateFormat = config.getDateFormat();
+		if (StrUtil.isNotEmpty(dateFormat) && value instanceof CharSequence) {
+			if (Date.class.isAssignableFrom(rawType)) {
+				return new DateConverter(rawType.asSubclass(Date.class), dateFormat).convertWithCheck(value, null, config.isIgnoreError());
+			}
+			if (TemporalAccessor.class.isAssignableFrom(rawType)) {
+				return new TemporalAccessorConverter(rawType, dateFormat).convertWithCheck(value, null, config.isIgnoreError());
+			}
+		}
+		return JSONConverter.jsonToBean(rawType, value, config.isIgnoreError());
+	}
+
+	/**
+	 * 读取Bean
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param bean   Bean实例
+	 * @param type   Bean类型，可能包含泛型参数
+	 * @param config JSON配置
+	 * @return Bean
+	 */
+	private static Object readBean(JSONStreamReader reader, Object bean, Type type, JSONConfig config) {
+		final BeanBinding binding = BINDINGS.computeIfAbsent(bean.getClass(), BeanBinding::new);
+		final boolean transientSupport = config.isTransientSupport();
+		final boolean ignoreNull = config.isIgnoreNullValue();
+		final boolean ignoreError = config.isIgnoreError();
+
+		PropDesc prop;
+		Type fieldType;
+		Object value;
+		while (JSONToken.FIELD_NAME == reader.next()) {
+			prop = binding.find(reader.getString(), config.isIgnoreCase());
+			reader.next();
+			if (null == prop || false == prop.isWritable(transientSupport)) {
+				reader.skipChildren();
+				continue;
+			}
+
+			fieldType = prop.getFieldType();
+			if (TypeUtil.hasTypeVariable(fieldType)) {
+				fieldType = TypeUtil.getActualType(type, fieldType);
+			}
+			value = readValue(reader, fieldType, config);
+			if (null == value && prop.getFieldClass().isPrimitive()) {
+				continue;
+			}
+			prop.setValue(bean, value, ignoreNull, ignoreError);
+		}
+		return bean;
+	}
+
+	/**
+	 * 读取Map
+	 *
+	 * @param reader  {@link JSONStreamReader}
+	 * @param type    Map类型
+	 * @param rawType Map类
+	 * @param config  JSON配置
+	 * @return Map
+	 */
+	private static Map<Object, Object> readMap(JSONStreamReader reader, Type type, Class<?> rawType, JSONConfig config) {
+		final Map<Object, Object> map = MapUtil.createMap(rawType);
+		final Type keyType = TypeUtil.getTypeArgument(type, 0);
+		final Type valueType = objectTypeIfNull(TypeUtil.getTypeArgument(type, 1));
+		final boolean convertKey = null != keyType && String.class != keyType && Object.class != keyType;
+
+		String key;
+		Object value;
+		while (JSONToken.FIELD_NAME == reader.next()) {
+			key = reader.getString();
+			reader.next();
+			value = readValue(reader, valueType, config);
+			if (null == value && config.isIgnoreNullValue()) {
+				continue;
+			}
+			map.put(convertKey ? Convert.convert(keyType, key) : key, value);
+		}
+		return map;
+	}
+
+	/**
+	 * 读取集合
+	 *
+	 * @param reader  {@link JSONStreamReader}
+	 * @param type    集合类型
+	 * @param rawType 集合类
+	 * @param config  JSON配置
+	 * @return 集合
+	 */
+	private static Collection<Object> readCollection(JSONStreamReader reader, Type type, Class<?> rawType, JSONConfig config) {
+		final Type elementType = objectTypeIfNull(TypeUtil.getTypeArgument(type, 0));
+		// EnumSet等需要元素类型
+		@SuppressWarnings("unchecked") final Collection<Object> collection = CollUtil.create(rawType, (Class<Object>) TypeUtil.getClass(elementType));
+		while (false == reader.next().isStructEnd()) {
+			collection.add(readValue(reader, elementType, config));
+		}
+		return collection;
+	}
+
+	/**
+	 * 读取数组
+	 *
+	 * @param reader        {@link JSONStreamReader}
+	 * @param componentType 数组元素类型
+	 * @param config        JSON配置
+	 * @return 数组
+	 */
+	private static Object readArray(JSONStreamReader reader, Class<?> componentType, JSONConfig config) {
+		final List<Object> list = new ArrayList<>();
+		while (false == reader.next().isStructEnd()) {
+			list.add(readValue(reader, componentType, config));
+		}
+		final Object array = Array.newInstance(componentType, list.size());
+		for (int i = 0; i < list.size(); i++) {
+			if (null != list.get(i) || false == componentType.isPrimitive()) {
+				Array.set(array, i, list.get(i));
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * 是否需要交给{@link JSONConverter}处理，包括自定义反序列化器、JSON类型和Object等无法直接绑定的类型
+	 *
+	 * @param rawType 目标类
+	 * @param type    目标类型
+	 * @return 是否需要转换器
+	 */
+	private static boolean needConverter(Class<?> rawType, Type type) {
+		return Object.class == rawType
+				|| JSON.class.isAssignableFrom(rawType)
+				|| JSONBeanParser.class.isAssignableFrom(rawType)
+				|| (false == ClassUtil.isBasicType(rawType) && null != GlobalSerializeMapping.getDeserializer(type));
+	}
+
+	/**
+	 * 类型为{@code null}时返回Object类型
+	 *
+	 * @param type 类型
+	 * @return 类型
+	 */
+	private static Type objectTypeIfNull(Type type) {
+		return null == type ? Object.class : type;
+	}
+
+	/**
+	 * Bean的属性表，键到属性的查找结果被缓存
+	 */
+	private static class BeanBinding {
+		/**
+		 * 未找到属性的占位
+		 */
+		private static final PropDesc NOT_FOUND = new PropDesc(null, null, null);
+
+		private final Map<String, PropDesc> propMap;
+		private final Map<String, PropDesc> lowerCasePropMap;
+		private final Map<String, PropDesc> resolved = new SafeConcurrentHashMap<>();
+		private final Map<String, PropDesc> resolvedIgnoreCase = new SafeConcurrentHashMap<>();
+
+		BeanBinding(Class<?> beanClass) {
+			this.propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(false);
+			this.lowerCasePropMap = new HashMap<>(propMap.size(), 1);
+			propMap.forEach((name, prop) -> lowerCasePropMap.putIfAbsent(name.toLowerCase(), prop));
+		}
+
+		/**
+		 * 查找键对应的属性，依次按原样、驼峰、忽略大小写（可选）匹配，规则同{@link cn.hutool.core.bean.copier.CopyOptions}
+		 *
+		 * @param key        键
+		 * @param ignoreCase 是否忽略大小写
+		 * @return 属性，未找到返回{@code null}
+		 */
+		PropDesc find(String key, boolean ignoreCase) {
+			final Map<String, PropDesc> cache = ignoreCase ? resolvedIgnoreCase : resolved;
+			PropDesc prop = cache.get(key);
+			if (null == prop) {
+				prop = resolve(key, ignoreCase);
+				// 防止恶意的大量不同键撑爆缓存
+				if (cache.size() < 4096) {
+					cache.put(key, prop);
+				}
+			}
+			return NOT_FOUND == prop ? null : prop;
+		}
+
+		private PropDesc resolve(String key, boolean ignoreCase) {
+			PropDesc prop = propMap.get(key);
+			final String camelCaseKey = StrUtil.toCamelCase(key);
+			if (null == prop) {
+				prop = propMap.get(camelCaseKey);
+			}
+			if (null == prop && ignoreCase) {
+				prop = lowerCasePropMap.get(key.toLowerCase());
+				if (null == prop) {
+					prop = lowerCasePropMap.get(camelCaseKey.toLowerCase());
+				}
+			}
+			return null == prop ? NOT_FOUND : prop;
+		}
+	}
+}
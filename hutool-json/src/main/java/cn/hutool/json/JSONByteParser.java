@@ -0,0 +1,623 @@
+package cn.hutool.json;
+
+import cn.hutool.core.lang.Filter;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutablePair;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8字节JSON解析器<br>
+ * 直接解析UTF-8编码的byte[]或{@link ByteBuffer}，不经过{@link java.io.Reader}解码，解析规则和结果与{@link JSONParser}一致：
+ * <ul>
+ *     <li>字符串每次读取8个字节（SWAR），批量查找结束引号、转义符和控制字符，无转义的字符串直接整段解码</li>
+ *     <li>整数和不超过18位有效数字的小数直接从字节计算，不创建中间字符串，其它情况回退到{@link InternalJSONUtil#stringToValue(String)}</li>
+ *     <li>支持单引号、无引号的键和值、尾后逗号等宽松格式，同{@link JSONTokener}</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONByteParser {
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGHS = 0x8080808080808080L;
+	private static final long QUOTES = ONES * '"';
+	private static final long SINGLE_QUOTES = ONES * '\'';
+	private static final long BACKSLASHES = ONES * '\\';
+	private static final long SPACES = ONES * ' ';
+
+	/**
+	 * 无引号值的结束字符，同{@link JSONTokener#nextValue()}
+	 */
+	private static final boolean[] UNQUOTED_END = new boolean[128];
+
+	static {
+		for (final char c : ",:]}/\\\"[{;=#".toCharArray()) {
+			UNQUOTED_END[c] = true;
+		}
+	}
+
+	/**
+	 * 创建JSONByteParser
+	 *
+	 * @param bytes  UTF-8编码的JSON
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONByteParser
+	 */
+	public static JSONByteParser of(byte[] bytes, JSONConfig config) {
+		return new JSONByteParser(bytes, config);
+	}
+
+	/**
+	 * 创建JSONByteParser，解析{@link ByteBuffer}中position到limit的内容，不修改其position<br>
+	 * 非堆内存的{@link ByteBuffer}会先复制为byte[]
+	 *
+	 * @param buffer UTF-8编码的JSON
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONByteParser
+	 */
+	public static JSONByteParser of(ByteBuffer buffer, JSONConfig config) {
+		if (buffer.hasArray()) {
+			return new JSONByteParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), config);
+		}
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return new JSONByteParser(bytes, config);
+	}
+
+	private final byte[] bytes;
+	/**
+	 * 以long读取bytes的视图，用于按8字节扫描
+	 */
+	private final ByteBuffer words;
+	private final int offset;
+	private final int limit;
+	private final JSONConfig config;
+	private int pos;
+	/**
+	 * 最后读取的无引号键或值的范围
+	 */
+	private int tokenStart;
+	private int tokenEnd;
+	private StringBuilder sb;
+
+	/**
+	 * 构造
+	 *
+	 * @param bytes  UTF-8编码的JSON
+	 * @param config JSON配置，{@code null}表示默认配置
+	 */
+	public JSONByteParser(byte[] bytes, JSONConfig config) {
+		this(bytes, 0, bytes.length, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bytes  UTF-8编码的JSON
+	 * @param offset 起始位置
+	 * @param length 长度
+	 * @param config JSON配置，{@code null}表示默认配置
+	 */
+	public JSONByteParser(byte[] bytes, int offset, int length, JSONConfig config) {
+		if (offset < 0 || length < 0 || offset + length > bytes.length) {
+			throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", bytes length: " + bytes.length);
+		}
+		this.bytes = bytes;
+		this.words = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+		this.offset = offset;
+		this.pos = offset;
+		this.limit = offset + length;
+		this.config = null == config ? JSONConfig.create() : config;
+		skipBom();
+	}
+
+	/**
+	 * 解析为JSON，以“[”开头解析为{@link JSONArray}，否则解析为{@link JSONObject}
+	 *
+	 * @return {@link JSONObject}或{@link JSONArray}
+	 * @throws JSONException 语法错误
+	 */
+	public JSON parse() throws JSONException {
+		final int c = nextClean();
+		back();
+		return '[' == c ? parseArray() : parseObj();
+	}
+
+	/**
+	 * 解析为{@link JSONObject}
+	 *
+	 * @return {@link JSONObject}
+	 * @throws JSONException 语法错误
+	 */
+	public JSONObject parseObj() throws JSONException {
+		final JSONObject jsonObject = new JSONObject(config);
+		parseTo(jsonObject, null);
+		return jsonObject;
+	}
+
+	/**
+	 * 解析为{@link JSONArray}
+	 *
+	 * @return {@link JSONArray}
+	 * @throws JSONException 语法错误
+	 */
+	public JSONArray parseArray() throws JSONException {
+		final JSONArray jsonArray = new JSONArray(config);
+		parseTo(jsonArray, null);
+		return jsonArray;
+	}
+
+	/**
+	 * 解析到目标的{@link JSONObject}中，规则同{@link JSONParser#parseTo(JSONObject, Filter)}
+	 *
+	 * @param jsonObject {@link JSONObject}
+	 * @param filter     键值对过滤编辑器，可以通过实现此接口，完成解析前对键值对的过滤和修改操作，{@code null}表示不过滤
+	 * @throws JSONException 语法错误
+	 */
+	public void parseTo(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter) throws JSONException {
+		if (nextClean() != '{') {
+			throw syntaxError("A JSONObject text must begin with '{'");
+		}
+
+		final boolean checkDuplicate = jsonObject.getConfig().isCheckDuplicate();
+		int c;
+		String key;
+		while (true) {
+			c = nextClean();
+			switch (c) {
+				case -1:
+				case 0:
+					throw syntaxError("A JSONObject text must end with '}'");
+				case '}':
+					return;
+				case '{':
+				case '[':
+					throw syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+				case '"':
+				case '\'':
+					key = readString((byte) c);
+					break;
+				default:
+					readUnquoted();
+					key = new String(bytes, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+			}
+
+			if (nextClean() != ':') {
+				throw syntaxError("Expected a ':' after a key");
+			}
+			jsonObject.set(key, readValue(), filter, checkDuplicate);
+
+			switch (nextClean()) {
+				case ';':
+				case ',':
+					if (nextClean() == '}') {
+						// issue#2380，尾后逗号
+						return;
+					}
+					back();
+					break;
+				case '}':
+					return;
+				default:
+					throw syntaxError("Expected a ',' or '}'");
+			}
+		}
+	}
+
+	/**
+	 * 解析到目标的{@link JSONArray}中，规则同{@link JSONParser#parseTo(JSONArray, Filter)}
+	 *
+	 * @param jsonArray {@link JSONArray}
+	 * @param filter    值过滤编辑器，可以通过实现此接口，完成解析前对值的过滤和修改操作，{@code null}表示不过滤
+	 * @throws JSONException 语法错误
+	 */
+	public void parseTo(JSONArray jsonArray, Filter<Mutable<Object>> filter) throws JSONException {
+		if (nextClean() != '[') {
+			throw syntaxError("A JSONArray text must start with '['");
+		}
+		if (nextClean() == ']') {
+			return;
+		}
+		back();
+		while (true) {
+			if (nextClean() == ',') {
+				back();
+				jsonArray.addRaw(JSONNull.NULL, filter);
+			} else {
+				back();
+				jsonArray.addRaw(readValue(), filter);
+			}
+			switch (nextClean()) {
+				case ',':
+					if (nextClean() == ']') {
+						return;
+					}
+					back();
+					break;
+				case ']':
+					return;
+				default:
+					throw syntaxError("Expected a ',' or ']'");
+			}
+		}
+	}
+
+	/**
+	 * 获取当前读取到的位置（相对于起始位置）
+	 *
+	 * @return 位置
+	 */
+	public int getPosition() {
+		return pos - offset;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 读取值，规则同{@link JSONTokener#nextValue()}
+	 *
+	 * @return 值
+	 */
+	private Object readValue() {
+		final int c = nextClean();
+		switch (c) {
+			case '"':
+			case '\'':
+				return readString((byte) c);
+			case '{':
+				back();
+				try {
+					return parseObj();
+				} catch (final StackOverflowError e) {
+					throw new JSONException("JSONObject depth too large to process.", e);
+				}
+			case '[':
+				back();
+				try {
+					return parseArray();
+				} catch (final StackOverflowError e) {
+					throw new JSONException("JSONArray depth too large to process.", e);
+				}
+			case -1:
+			case 0:
+				throw syntaxError("Missing value");
+		}
+
+		readUnquoted();
+		final Number number = parseNumber(tokenStart, tokenEnd);
+		if (null != number) {
+			return number;
+		}
+		return InternalJSONUtil.stringToValue(new String(bytes, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 读取引号包围的字符串，当前位置为开始引号之后
+	 *
+	 * @param quote 引号
+	 * @return 字符串
+	 */
+	private String readString(byte quote) {
+		final byte[] bytes = this.bytes;
+		final long quotes = '"' == quote ? QUOTES : SINGLE_QUOTES;
+		final int start = pos;
+		int i = start;
+		int end;
+		byte b;
+		while (true) {
+			// 每次检查8个字节，不含引号、反斜杠和控制字符时整体跳过
+			while (i + 8 <= limit && false == hasSpecial(words.getLong(i), quotes)) {
+				i += 8;
+			}
+			end = Math.min(i + 8, limit);
+			for (; i < end; i++) {
+				b = bytes[i];
+				if (b == quote) {
+					pos = i + 1;
+					return new String(bytes, start, i - start, StandardCharsets.UTF_8);
+				}
+				if ('\\' == b) {
+					return readEscapedString(start, i, quote);
+				}
+				if ('\n' == b || '\r' == b || 0 == b) {
+					pos = i;
+					throw syntaxError("Unterminated string");
+				}
+			}
+			if (i >= limit) {
+				pos = i;
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	/**
+	 * 读取包含转义符的字符串
+	 *
+	 * @param start 字符串开始位置
+	 * @param i     第一个转义符位置
+	 * @param quote 引号
+	 * @return 字符串
+	 */
+	private String readEscapedString(int start, int i, byte quote) {
+		if (null == sb) {
+			sb = new StringBuilder();
+		}
+		final StringBuilder sb = this.sb;
+		sb.setLength(0);
+
+		final byte[] bytes = this.bytes;
+		int runStart = start;
+		byte b;
+		for (; i < limit; i++) {
+			b = bytes[i];
+			if (b == quote) {
+				appendRun(runStart, i);
+				pos = i + 1;
+				return sb.toString();
+			}
+			if ('\\' == b) {
+				appendRun(runStart, i);
+				if (++i >= limit) {
+					break;
+				}
+				switch (bytes[i]) {
+					case 'b':
+						sb.append('\b');
+						break;
+					case 't':
+						sb.append('\t');
+						break;
+					case 'n':
+						sb.append('\n');
+						break;
+					case 'f':
+						sb.append('\f');
+						break;
+					case 'r':
+						sb.append('\r');
+						break;
+					case 'u':
+						sb.append(readUnicode(i + 1));
+						i += 4;
+						break;
+					case '"':
+					case '\'':
+					case '\\':
+					case '/':
+						sb.append((char) bytes[i]);
+						break;
+					default:
+						pos = i;
+						throw syntaxError("Illegal escape.");
+				}
+				runStart = i + 1;
+			} else if ('\n' == b || '\r' == b || 0 == b) {
+				break;
+			}
+		}
+		pos = i;
+		throw syntaxError("Unterminated string");
+	}
+
+	/**
+	 * 读取4位16进制表示的Unicode字符
+	 *
+	 * @param i 开始位置
+	 * @return 字符
+	 */
+	private char readUnicode(int i) {
+		if (i + 4 > limit) {
+			pos = limit;
+			throw syntaxError("Substring bounds error");
+		}
+		int value = 0;
+		int digit;
+		for (int j = i; j < i + 4; j++) {
+			digit = Character.digit(bytes[j], 16);
+			if (digit < 0) {
+				pos = j;
+				throw syntaxError("Illegal escape.");
+			}
+			value = (value << 4) | digit;
+		}
+		return (char) value;
+	}
+
+	/**
+	 * 追加无转义的部分
+	 *
+	 * @param start 开始位置
+	 * @param end   结束位置（不包括）
+	 */
+	private void appendRun(int start, int end) {
+		if (end > start) {
+			sb.append(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * 读取无引号的键或值，当前位置为其第一个字节之后，读取后{@link #tokenStart}和{@link #tokenEnd}为去除首尾空格后的范围
+	 */
+	private void readUnquoted() {
+		int start = pos - 1;
+		int end = start;
+		int b;
+		while (end < limit) {
+			b = bytes[end];
+			// 非ASCII字节（负数）视为普通字符
+			if (b >= 0 && (b < ' ' || UNQUOTED_END[b])) {
+				break;
+			}
+			end++;
+		}
+		pos = end;
+
+		while (start < end && ' ' == bytes[start]) {
+			start++;
+		}
+		while (end > start && ' ' == bytes[end - 1]) {
+			end--;
+		}
+		if (start == end) {
+			throw syntaxError("Missing value");
+		}
+		tokenStart = start;
+		tokenEnd = end;
+	}
+
+	/**
+	 * 直接从字节解析数字，结果与{@link InternalJSONUtil#stringToValue(String)}一致：
+	 * <ul>
+	 *     <li>无前导0的整数解析为Integer或Long</li>
+	 *     <li>不超过18位有效数字的小数解析为{@link BigDecimal}</li>
+	 * </ul>
+	 * 其它情况（超长、非规范格式等）返回{@code null}，由调用者回退处理
+	 *
+	 * @param start 开始位置
+	 * @param end   结束位置（不包括）
+	 * @return 数字或{@code null}
+	 */
+	private Number parseNumber(int start, int end) {
+		final byte[] bytes = this.bytes;
+		int i = start;
+		final boolean negative = '-' == bytes[i];
+		if (negative) {
+			i++;
+		}
+
+		long unscaled = 0;
+		final int intStart = i;
+		while (i < end && isDigit(bytes[i])) {
+			unscaled = unscaled * 10 + (bytes[i++] - '0');
+		}
+		final int intDigits = i - intStart;
+		if (0 == intDigits) {
+			return null;
+		}
+
+		if (i == end) {
+			// 整数，需与Long.toString结果一致，即无前导0且非-0
+			if (intDigits > 18 || ('0' == bytes[intStart] && (intDigits > 1 || negative))) {
+				return null;
+			}
+			final long value = negative ? -unscaled : unscaled;
+			if (value == (int) value) {
+				return (int) value;
+			}
+			return value;
+		}
+
+		int digits = intDigits;
+		int scale = 0;
+		if ('.' == bytes[i]) {
+			final int fractionStart = ++i;
+			while (i < end && isDigit(bytes[i])) {
+				unscaled = unscaled * 10 + (bytes[i++] - '0');
+			}
+			scale = i - fractionStart;
+			if (0 == scale) {
+				return null;
+			}
+			digits += scale;
+		}
+		if (i < end && ('e' == bytes[i] || 'E' == bytes[i])) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && ('-' == bytes[i] || '+' == bytes[i])) {
+				negativeExponent = '-' == bytes[i];
+				i++;
+			}
+			final int exponentStart = i;
+			int exponent = 0;
+			while (i < end && isDigit(bytes[i])) {
+				exponent = exponent * 10 + (bytes[i++] - '0');
+			}
+			if (exponentStart == i || i - exponentStart > 9) {
+				return null;
+			}
+			scale = negativeExponent ? scale + exponent : scale - exponent;
+		}
+		if (i != end || digits > 18) {
+			return null;
+		}
+		return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+	}
+
+	/**
+	 * 8个字节中是否包含指定引号、反斜杠或小于空格的控制字符
+	 *
+	 * @param word   8个字节
+	 * @param quotes 引号重复8次
+	 * @return 是否包含
+	 */
+	private static boolean hasSpecial(long word, long quotes) {
+		return 0 != (hasZeroByte(word ^ quotes) | hasZeroByte(word ^ BACKSLASHES) | ((word - SPACES) & ~word & HIGHS));
+	}
+
+	/**
+	 * 8个字节中是否有值为0的字节，非0即表示有
+	 *
+	 * @param word 8个字节
+	 * @return 非0表示有
+	 */
+	private static long hasZeroByte(long word) {
+		return (word - ONES) & ~word & HIGHS;
+	}
+
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	/**
+	 * 跳过UTF-8的BOM
+	 */
+	private void skipBom() {
+		if (pos + 3 <= limit && (byte) 0xEF == bytes[pos] && (byte) 0xBB == bytes[pos + 1] && (byte) 0xBF == bytes[pos + 2]) {
+			pos += 3;
+		}
+	}
+
+	/**
+	 * 读取下一个非空白字节，结束返回-1
+	 *
+	 * @return 字节
+	 */
+	private int nextClean() {
+		int b;
+		while (pos < limit) {
+			b = bytes[pos++];
+			if (b < 0 || b > ' ') {
+				return b;
+			}
+			if (0 == b) {
+				return 0;
+			}
+		}
+		// 结束时位置后移一位，便于back
+		pos = limit + 1;
+		return -1;
+	}
+
+	/**
+	 * 回退一个字节
+	 */
+	private void back() {
+		pos--;
+	}
+
+	/**
+	 * 创建语法错误
+	 *
+	 * @param message 错误信息
+	 * @return {@link JSONException}
+	 */
+	private JSONException syntaxError(String message) {
+		return new JSONException("{} at byte {}", message, Math.min(pos, limit) - offset);
+	}
+}
@@ -0,0 +1,356 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines（NDJSON）读取器，每行一个JSON值，按需逐条读取，不会将所有记录读入内存：
+ * <pre>
+ * try (JSONLinesReader reader = JSONLinesReader.of(file, null)) {
+ *     for (JSON record : reader) {
+ *         ...
+ *     }
+ * }
+ *
+ * try (Stream&lt;User&gt; users = JSONLinesReader.of(file, null).stream(User.class)) {
+ *     ...
+ * }
+ * </pre>
+ * 读取基于{@link JSONStreamReader}，空行被忽略，Bean类型的记录直接绑定，不构建中间的{@link JSONObject}。<br>
+ * 对于文件，可使用{@link #readParallel(File, JSONConfig, Type, ForkJoinPool)}将文件按行边界切分为多个块，在{@link ForkJoinPool}中并行解析。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONLinesReader implements Iterable<JSON>, Closeable {
+
+	/**
+	 * 并行读取时每块的最小字节数
+	 */
+	private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
+	private final JSONStreamReader reader;
+	private boolean iterated;
+
+	/**
+	 * 读取文件，使用UTF-8编码
+	 *
+	 * @param file   文件
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException 文件不存在或无法读取
+	 */
+	public static JSONLinesReader of(File file, JSONConfig config) throws IORuntimeException {
+		return new JSONLinesReader(FileUtil.getUtf8Reader(file), config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}，关闭时一并关闭
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesReader(Reader reader, JSONConfig config) {
+		this.reader = new JSONStreamReader(reader, config);
+	}
+
+	/**
+	 * 构造，使用UTF-8编码
+	 *
+	 * @param in     输入流，关闭时一并关闭
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesReader(InputStream in, JSONConfig config) {
+		this.reader = new JSONStreamReader(in, config);
+	}
+
+	/**
+	 * 逐条读取为{@link JSONObject}或{@link JSONArray}，只能迭代一次
+	 *
+	 * @return 记录迭代器
+	 * @throws JSONException 记录不是JSON对象或数组，或语法错误
+	 */
+	@Override
+	public Iterator<JSON> iterator() {
+		return iterator(null);
+	}
+
+	/**
+	 * 逐条读取并转换为指定类型，只能迭代一次
+	 *
+	 * @param <T>  记录类型
+	 * @param type 记录类型，{@code null}表示读取为{@link JSONObject}或{@link JSONArray}
+	 * @return 记录迭代器
+	 */
+	public <T> Iterator<T> iterator(Type type) {
+		Assert.isFalse(this.iterated, "JSONLinesReader can only be iterated once!");
+		this.iterated = true;
+		return new LineIter<>(type);
+	}
+
+	/**
+	 * 逐条读取为{@link JSONObject}或{@link JSONArray}的{@link Stream}，关闭Stream时关闭此读取器
+	 *
+	 * @return 记录Stream
+	 */
+	public Stream<JSON> stream() {
+		return stream(null);
+	}
+
+	/**
+	 * 逐条读取并转换为指定类型的{@link Stream}，关闭Stream时关闭此读取器
+	 *
+	 * @param <T>  记录类型
+	 * @param type 记录类型，{@code null}表示读取为{@link JSONObject}或{@link JSONArray}
+	 * @return 记录Stream
+	 */
+	public <T> Stream<T> stream(Type type) {
+		final Iterator<T> iterator = iterator(type);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		this.reader.close();
+	}
+
+	// ------------------------------------------------------------------------------------ parallel
+
+	/**
+	 * 使用{@link ForkJoinPool#commonPool()}并行读取文件中所有记录为{@link JSONObject}或{@link JSONArray}
+	 *
+	 * @param file   文件，UTF-8编码
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return 按行顺序排列的记录
+	 * @throws IORuntimeException IO异常
+	 * @throws JSONException      语法错误
+	 */
+	public static List<JSON> readParallel(File file, JSONConfig config) throws IORuntimeException, JSONException {
+		return readParallel(file, config, null, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 并行读取文件中所有记录<br>
+	 * 文件按行边界切分为多个块，每块在指定的{@link ForkJoinPool}中独立解析，结果按行顺序合并。
+	 *
+	 * @param <T>    记录类型
+	 * @param file   文件，UTF-8编码
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @param type   记录类型，{@code null}表示读取为{@link JSONObject}或{@link JSONArray}
+	 * @param pool   执行解析的{@link ForkJoinPool}
+	 * @return 按行顺序排列的记录
+	 * @throws IORuntimeException IO异常
+	 * @throws JSONException      语法错误
+	 */
+	public static <T> List<T> readParallel(File file, JSONConfig config, Type type, ForkJoinPool pool) throws IORuntimeException, JSONException {
+		Assert.notNull(pool, "ForkJoinPool must not be null!");
+		final long size = file.length();
+		final long chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4L) + 1);
+		return readParallel(file, config, type, pool, chunkSize);
+	}
+
+	/**
+	 * 并行读取文件中所有记录
+	 *
+	 * @param <T>       记录类型
+	 * @param file      文件，UTF-8编码
+	 * @param config    JSON配置，{@code null}使用默认配置
+	 * @param type      记录类型，{@code null}表示读取为{@link JSONObject}或{@link JSONArray}
+	 * @param pool      执行解析的{@link ForkJoinPool}
+	 * @param chunkSize 每块的期望字节数，实际块在此之后的第一个换行符处结束
+	 * @return 按行顺序排列的记录
+	 */
+	static <T> List<T> readParallel(File file, JSONConfig config, Type type, ForkJoinPool pool, long chunkSize) {
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			final List<ForkJoinTask<List<T>>> tasks = new ArrayList<>();
+			long start = 0;
+			while (start < size) {
+				final long end = nextLineStart(channel, Math.min(size, start + chunkSize), size);
+				final long chunkStart = start;
+				tasks.add(pool.submit(() -> decodeChunk(channel, chunkStart, end, config, type)));
+				start = end;
+			}
+
+			final List<T> result = new ArrayList<>();
+			try {
+				for (ForkJoinTask<List<T>> task : tasks) {
+					result.addAll(task.join());
+				}
+			} finally {
+				// 某块解析失败时，取消未开始的块
+				for (ForkJoinTask<List<T>> task : tasks) {
+					task.cancel(false);
+				}
+			}
+			return result;
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 查找from及之后的第一个换行符，返回下一行的开始位置
+	 *
+	 * @param channel 文件
+	 * @param from    开始查找的位置
+	 * @param size    文件大小
+	 * @return 下一行的开始位置，没有换行符返回文件大小
+	 * @throws IOException IO异常
+	 */
+	private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long pos = from;
+		while (pos < size) {
+			buffer.clear();
+			final int read = channel.read(buffer, pos);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				if ('\n' == buffer.get(i)) {
+					return pos + i + 1;
+				}
+			}
+			pos += read;
+		}
+		return size;
+	}
+
+	/**
+	 * 解析文件中的一块，块的开始和结束均在行边界
+	 */
+	private static <T> List<T> decodeChunk(FileChannel channel, long start, long end, JSONConfig config, Type type) throws IORuntimeException {
+		final long length = end - start;
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new JSONException("Line too long near byte {}", start);
+		}
+		final byte[] bytes = new byte[(int) length];
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		try {
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, start + buffer.position()) < 0) {
+					break;
+				}
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final List<T> result = new ArrayList<>();
+		int lineStart = 0;
+		if (0 == start && bytes.length >= 3 && (byte) 0xEF == bytes[0] && (byte) 0xBB == bytes[1] && (byte) 0xBF == bytes[2]) {
+			lineStart = 3;
+		}
+		while (lineStart < bytes.length) {
+			int lineEnd = lineStart;
+			while (lineEnd < bytes.length && '\n' != bytes[lineEnd]) {
+				lineEnd++;
+			}
+			if (false == isBlank(bytes, lineStart, lineEnd)) {
+				try {
+					result.add(decodeLine(bytes, lineStart, lineEnd - lineStart, config, type));
+				} catch (final JSONException e) {
+					throw new JSONException(e, "Bad JSON line at byte {}: {}", start + lineStart, e.getMessage());
+				}
+			}
+			lineStart = lineEnd + 1;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T decodeLine(byte[] bytes, int offset, int length, JSONConfig config, Type type) {
+		if (null == type) {
+			return (T) new JSONByteParser(bytes, offset, length, config).parse();
+		}
+		return JSONUtil.readBean(new String(bytes, offset, length, StandardCharsets.UTF_8), config, type);
+	}
+
+	private static boolean isBlank(byte[] bytes, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (bytes[i] > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 逐条读取记录的迭代器
+	 *
+	 * @param <T> 记录类型
+	 */
+	private class LineIter<T> implements Iterator<T> {
+		private final Type type;
+		private T next;
+		private boolean fetched;
+		private boolean end;
+
+		LineIter(Type type) {
+			this.type = type;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (false == fetched && false == end) {
+				if (null == reader.next()) {
+					end = true;
+				} else {
+					next = readRecord();
+					fetched = true;
+				}
+			}
+			return false == end;
+		}
+
+		@Override
+		public T next() {
+			if (false == hasNext()) {
+				throw new NoSuchElementException();
+			}
+			fetched = false;
+			final T result = this.next;
+			this.next = null;
+			return result;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T readRecord() {
+			if (null != type) {
+				return reader.readValueAs(type);
+			}
+			final Object value = reader.readValue();
+			if (false == value instanceof JSON) {
+				throw new JSONException("Record [{}] is not a JSON object or array{}", value, reader);
+			}
+			return (T) value;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.json.serialize.JSONBeanWriter;
+
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON Lines（NDJSON）写出器，每条记录写出为一行JSON：
+ * <pre>
+ * try (JSONLinesWriter writer = JSONLinesWriter.of(file, true, null)) {
+ *     for (User user : users) {
+ *         writer.write(user);
+ *     }
+ * }
+ * </pre>
+ * 记录先写入内存缓冲，每写出{@link #setBatchSize(int)}条记录才写入并刷新底层的{@link Writer}，避免每条记录都刷新。<br>
+ * Bean、Map、集合等直接序列化（见{@link JSONBeanWriter}），JSON字符串会重新解析后写出，保证每条记录只占一行。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+
+	/**
+	 * 缓冲超过此字符数时提前写入底层Writer（不刷新）
+	 */
+	private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+	private final Writer out;
+	private final CharArrayWriter buffer = new CharArrayWriter(8192);
+	private final JSONBeanWriter beanWriter;
+	private int batchSize = 1000;
+	/**
+	 * 当前批次中未刷新的记录数
+	 */
+	private int pending;
+	private long count;
+
+	/**
+	 * 写出到文件，使用UTF-8编码
+	 *
+	 * @param file     文件
+	 * @param isAppend 是否追加
+	 * @param config   JSON配置，{@code null}使用默认配置
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file, boolean isAppend, JSONConfig config) throws IORuntimeException {
+		return new JSONLinesWriter(FileUtil.getWriter(file, StandardCharsets.UTF_8, isAppend), config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out    {@link Writer}，关闭时一并关闭
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesWriter(Writer out, JSONConfig config) {
+		this.out = out;
+		this.beanWriter = JSONBeanWriter.of(buffer, 0, config);
+	}
+
+	/**
+	 * 构造，使用UTF-8编码
+	 *
+	 * @param out    输出流，关闭时一并关闭
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesWriter(OutputStream out, JSONConfig config) {
+		this(IoUtil.getUtf8Writer(out), config);
+	}
+
+	/**
+	 * 设置每批次的记录数，每写出此数量的记录刷新一次
+	 *
+	 * @param batchSize 每批次的记录数，1表示每条记录都刷新
+	 * @return this
+	 */
+	public JSONLinesWriter setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * 写出一条记录
+	 *
+	 * @param record Bean、Map、集合、JSON或JSON字符串，{@code null}写出为null
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter write(Object record) throws IORuntimeException {
+		if (null == record) {
+			buffer.write("null", 0, 4);
+		} else {
+			beanWriter.write(record);
+		}
+		buffer.write('\n');
+		count++;
+		if (++pending >= batchSize) {
+			flush();
+		} else if (buffer.size() >= MAX_BUFFER_SIZE) {
+			drain();
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多条记录
+	 *
+	 * @param records 记录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter writeAll(Iterable<?> records) throws IORuntimeException {
+		for (Object record : records) {
+			write(record);
+		}
+		return this;
+	}
+
+	/**
+	 * 获取已写出的记录数
+	 *
+	 * @return 记录数
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * 将缓冲的记录写入并刷新底层的{@link Writer}
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void flush() throws IORuntimeException {
+		drain();
+		try {
+			out.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		pending = 0;
+	}
+
+	@Override
+	public void close() throws IORuntimeException {
+		try {
+			flush();
+		} finally {
+			IoUtil.close(out);
+		}
+	}
+
+	/**
+	 * 将缓冲的内容写入底层Writer，不刷新
+	 */
+	private void drain() {
+		if (0 == buffer.size()) {
+			return;
+		}
+		try {
+			buffer.writeTo(out);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		buffer.reset();
+	}
+}
@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.TypeReference;
@@ -314,7 +313,7 @@ public class JSONObject extends MapWrapper<String, Object> implements JSON, JSON
 
 	@Override
 	public Object getByPath(String expression) {
-		return BeanPath.create(expression).get(this);
+		return InternalJSONUtil.getBeanPath(expression).get(this);
 	}
 
 	@Override
@@ -329,7 +328,7 @@ public class JSONObject extends MapWrapper<String, Object> implements JSON, JSON
 
 	@Override
 	public void putByPath(String expression, Object value) {
-		BeanPath.create(expression).set(this, value);
+		InternalJSONUtil.getBeanPath(expression).set(this, value);
 	}
 
 	/**
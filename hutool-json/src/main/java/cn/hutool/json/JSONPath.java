@@ -0,0 +1,1182 @@
+package cn.hutool.json;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 编译后的JSONPath表达式，表达式只解析一次，可重复用于多个JSON，线程安全。支持的语法：
+ * <pre>
+ * $                    根节点，可省略
+ * .name 或 ['name']     对象中的键
+ * [0]、[-1]             数组下标，负数表示倒数
+ * .* 或 [*]             所有子节点
+ * ['a','b']、[0,2]      多个键或下标
+ * [1:5:2]              数组切片[start:end:step]，各部分均可省略
+ * ..name、..*          递归查找所有后代节点
+ * [?(@.price &lt; 10 &amp;&amp; @.tag == 'a')]  过滤器，支持== != &lt; &lt;= &gt; &gt;= &amp;&amp; || ! 和括号，单独的@路径表示存在且非null
+ * </pre>
+ * 确定路径（只包含键和单个下标）的结果为单个值，不存在时返回{@code null}；其它路径的结果为按文档顺序排列的{@link List}。<br>
+ * 递归查找（..）按先序遍历：匹配到的节点先计算后续路径，再继续查找其后代；路径中有多个..时，同一节点可能经不同的匹配路线重复出现在结果中，如{@code $..a..b}。
+ * <p>
+ * 除了在已构建的{@link JSONObject}或{@link JSONArray}上查找（{@link #get(Object)}），还可以在{@link JSONStreamReader}上流式查找（{@link #extract(CharSequence)}），
+ * 流式查找只构建匹配到的值，不匹配的子树直接跳过，所有确定路径都找到后即停止读取，适用于从大JSON中提取少量字段：
+ * <pre>
+ * private static final JSONPath ID = JSONPath.of("$.id");
+ * private static final JSONPath NAME = JSONPath.of("$.user.name");
+ *
+ * Object[] values = JSONPath.extract(json, ID, NAME);
+ * </pre>
+ * 编译结果按表达式缓存，频繁使用的表达式建议保存为常量。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONPath {
+
+	private static final WeakKeyValueConcurrentMap<String, JSONPath> CACHE = new WeakKeyValueConcurrentMap<>();
+
+	/**
+	 * 表示值不存在
+	 */
+	private static final Object MISSING = new Object();
+
+	private final String expression;
+	private final Segment[] segments;
+	private final boolean definite;
+
+	/**
+	 * 获取表达式对应的JSONPath，先从缓存中查找，找不到则编译并加入缓存
+	 *
+	 * @param expression JSONPath表达式
+	 * @return JSONPath
+	 * @throws JSONException 表达式语法错误
+	 */
+	public static JSONPath of(String expression) throws JSONException {
+		Assert.notNull(expression, "JSONPath expression must not be null!");
+		return CACHE.computeIfAbsent(expression, JSONPath::new);
+	}
+
+	/**
+	 * 构造，编译表达式，不使用缓存
+	 *
+	 * @param expression JSONPath表达式
+	 * @throws JSONException 表达式语法错误
+	 */
+	public JSONPath(String expression) throws JSONException {
+		this.expression = expression;
+		this.segments = new Compiler(expression).compile();
+		boolean definite = true;
+		for (Segment segment : segments) {
+			if (false == segment.isDefinite()) {
+				definite = false;
+				break;
+			}
+		}
+		this.definite = definite;
+	}
+
+	/**
+	 * 获取表达式
+	 *
+	 * @return 表达式
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+
+	/**
+	 * 是否为确定路径，即只包含键和单个下标，结果最多只有一个值
+	 *
+	 * @return 是否为确定路径
+	 */
+	public boolean isDefinite() {
+		return this.definite;
+	}
+
+	/**
+	 * 在已构建的JSON（或Map、List）中查找
+	 *
+	 * @param json {@link JSONObject}、{@link JSONArray}、Map或List
+	 * @return 确定路径返回对应值，不存在返回{@code null}；其它路径返回匹配值列表
+	 */
+	public Object get(Object json) {
+		if (definite) {
+			final Object value = getDefinite(json, 0);
+			return MISSING == value ? null : value;
+		}
+		final List<Object> result = new ArrayList<>();
+		eval(json, 0, result::add);
+		return result;
+	}
+
+	/**
+	 * 从JSON字符串中流式查找，不构建整个JSON
+	 *
+	 * @param json JSON字符串
+	 * @return 确定路径返回对应值，不存在返回{@code null}；其它路径返回匹配值列表
+	 */
+	public Object extract(CharSequence json) {
+		return extract(json, this)[0];
+	}
+
+	/**
+	 * 从{@link JSONStreamReader}的当前值中流式查找，规则见{@link #extract(JSONStreamReader, JSONPath...)}
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @return 确定路径返回对应值，不存在返回{@code null}；其它路径返回匹配值列表
+	 */
+	public Object extract(JSONStreamReader reader) {
+		return extract(reader, this)[0];
+	}
+
+	/**
+	 * 从JSON字符串中一次流式读取多个路径，找到所有确定路径后即停止读取
+	 *
+	 * @param json  JSON字符串
+	 * @param paths 多个路径
+	 * @return 与paths一一对应的结果
+	 */
+	public static Object[] extract(CharSequence json, JSONPath... paths) {
+		return new StreamEvaluator(paths).run(new JSONStreamReader(json, null), false);
+	}
+
+	/**
+	 * 从{@link JSONStreamReader}中一次流式读取多个路径，以当前事件对应的值为根节点，当前事件为{@code null}（未开始读取）时先读取下一个事件。<br>
+	 * 读取后reader的当前事件为根节点值的最后一个事件，可继续读取下一个顶层值。
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param paths  多个路径
+	 * @return 与paths一一对应的结果
+	 */
+	public static Object[] extract(JSONStreamReader reader, JSONPath... paths) {
+		return new StreamEvaluator(paths).run(reader, true);
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 从第from段开始按确定路径查找
+	 *
+	 * @param node 节点
+	 * @param from 开始的段
+	 * @return 值，不存在返回{@link #MISSING}
+	 */
+	private Object getDefinite(Object node, int from) {
+		for (int i = from; i < segments.length && MISSING != node; i++) {
+			node = ((DefiniteSegment) segments[i]).getDefinite(node);
+		}
+		return null == node ? MISSING : node;
+	}
+
+	/**
+	 * 从第i段开始在节点上查找，匹配的值交给action处理
+	 *
+	 * @param node   节点
+	 * @param i      段
+	 * @param action 匹配值处理
+	 */
+	private void eval(Object node, int i, Consumer<Object> action) {
+		if (i == segments.length) {
+			action.accept(node);
+			return;
+		}
+		segments[i].select(node, child -> eval(child, i + 1, action));
+	}
+
+	// ------------------------------------------------------------------------------------ Segment
+
+	/**
+	 * 路径中的一段
+	 */
+	private static abstract class Segment {
+		/**
+		 * 是否只选择一个确定的子节点
+		 *
+		 * @return 是否确定
+		 */
+		boolean isDefinite() {
+			return false;
+		}
+
+		/**
+		 * 是否可以在流式读取中直接根据键或下标判断，否则需要构建节点后查找
+		 *
+		 * @return 是否可流式匹配
+		 */
+		boolean isStreamable() {
+			return true;
+		}
+
+		/**
+		 * 流式匹配子节点
+		 *
+		 * @param key   子节点的键，数组中的子节点为{@code null}
+		 * @param index 子节点在容器中的位置
+		 * @return 是否匹配
+		 */
+		abstract boolean matches(String key, int index);
+
+		/**
+		 * 在已构建的节点中匹配子节点，用于递归查找，默认按键和下标匹配
+		 *
+		 * @param key   子节点的键，数组中的子节点为{@code null}
+		 * @param index 子节点在容器中的位置
+		 * @param size  容器大小
+		 * @param value 子节点
+		 * @return 是否匹配
+		 */
+		boolean matches(String key, int index, int size, Object value) {
+			return matches(key, index);
+		}
+
+		/**
+		 * 选择节点中匹配的子节点
+		 *
+		 * @param node   节点
+		 * @param action 子节点处理
+		 */
+		abstract void select(Object node, Consumer<Object> action);
+	}
+
+	/**
+	 * 只选择一个确定子节点的段
+	 */
+	private static abstract class DefiniteSegment extends Segment {
+		@Override
+		boolean isDefinite() {
+			return true;
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			final Object value = getDefinite(node);
+			if (MISSING != value) {
+				action.accept(value);
+			}
+		}
+
+		/**
+		 * 直接获取子节点
+		 *
+		 * @param node 节点
+		 * @return 子节点，不存在返回{@link #MISSING}
+		 */
+		abstract Object getDefinite(Object node);
+	}
+
+	private static class Name extends DefiniteSegment {
+		private final String name;
+
+		Name(String name) {
+			this.name = name;
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			return name.equals(key);
+		}
+
+		@Override
+		Object getDefinite(Object node) {
+			if (node instanceof Map) {
+				final Object value = ((Map<?, ?>) node).get(name);
+				if (null != value || ((Map<?, ?>) node).containsKey(name)) {
+					return value;
+				}
+			}
+			return MISSING;
+		}
+	}
+
+	private static class Names extends Segment {
+		private final String[] names;
+
+		Names(String[] names) {
+			this.names = names;
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			if (null != key) {
+				for (String name : names) {
+					if (name.equals(key)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			if (node instanceof Map) {
+				final Map<?, ?> map = (Map<?, ?>) node;
+				for (String name : names) {
+					final Object value = map.get(name);
+					if (null != value || map.containsKey(name)) {
+						action.accept(value);
+					}
+				}
+			}
+		}
+	}
+
+	private static class Index extends DefiniteSegment {
+		private final int index;
+
+		Index(int index) {
+			this.index = index;
+		}
+
+		@Override
+		boolean isStreamable() {
+			// 负数下标需要知道数组长度
+			return index >= 0;
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			return null == key && this.index == index;
+		}
+
+		@Override
+		boolean matches(String key, int index, int size, Object value) {
+			return null == key && (this.index < 0 ? this.index + size : this.index) == index;
+		}
+
+		@Override
+		Object getDefinite(Object node) {
+			if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				final int index = this.index < 0 ? this.index + list.size() : this.index;
+				if (index >= 0 && index < list.size()) {
+					return list.get(index);
+				}
+			}
+			return MISSING;
+		}
+	}
+
+	private static class Indexes extends Segment {
+		private final int[] indexes;
+
+		Indexes(int[] indexes) {
+			this.indexes = indexes;
+		}
+
+		@Override
+		boolean isStreamable() {
+			for (int index : indexes) {
+				if (index < 0) {
+					// 负数下标需要知道数组长度
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			if (null == key) {
+				for (int i : indexes) {
+					if (i == index) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		boolean matches(String key, int index, int size, Object value) {
+			if (null == key) {
+				for (int i : indexes) {
+					if ((i < 0 ? i + size : i) == index) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				for (int index : indexes) {
+					if (index < 0) {
+						index += list.size();
+					}
+					if (index >= 0 && index < list.size()) {
+						action.accept(list.get(index));
+					}
+				}
+			}
+		}
+	}
+
+	private static class Slice extends Segment {
+		private final Integer start;
+		private final Integer end;
+		private final int step;
+
+		Slice(Integer start, Integer end, int step) {
+			this.start = start;
+			this.end = end;
+			this.step = step;
+		}
+
+		@Override
+		boolean isStreamable() {
+			return step > 0 && (null == start || start >= 0) && (null == end || end >= 0);
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			final int from = null == start ? 0 : start;
+			return null == key && index >= from && (null == end || index < end) && 0 == (index - from) % step;
+		}
+
+		@Override
+		boolean matches(String key, int index, int size, Object value) {
+			if (null != key) {
+				return false;
+			}
+			if (step > 0) {
+				final int from = null == start ? 0 : normalize(start, size, 0, size);
+				final int to = null == end ? size : normalize(end, size, 0, size);
+				return index >= from && index < to && 0 == (index - from) % step;
+			}
+			final int from = null == start ? size - 1 : normalize(start, size, -1, size - 1);
+			final int to = null == end ? -1 : normalize(end, size, -1, size - 1);
+			return index <= from && index > to && 0 == (from - index) % step;
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			if (false == node instanceof List) {
+				return;
+			}
+			final List<?> list = (List<?>) node;
+			final int size = list.size();
+			if (step > 0) {
+				final int from = null == start ? 0 : normalize(start, size, 0, size);
+				final int to = null == end ? size : normalize(end, size, 0, size);
+				for (int i = from; i < to; i += step) {
+					action.accept(list.get(i));
+				}
+			} else {
+				final int from = null == start ? size - 1 : normalize(start, size, -1, size - 1);
+				final int to = null == end ? -1 : normalize(end, size, -1, size - 1);
+				for (int i = from; i > to; i += step) {
+					action.accept(list.get(i));
+				}
+			}
+		}
+
+		private static int normalize(int index, int size, int min, int max) {
+			if (index < 0) {
+				index += size;
+			}
+			return Math.max(min, Math.min(max, index));
+		}
+	}
+
+	private static class Wildcard extends Segment {
+		static final Wildcard INSTANCE = new Wildcard();
+
+		@Override
+		boolean matches(String key, int index) {
+			return true;
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			if (node instanceof Map) {
+				((Map<?, ?>) node).values().forEach(action);
+			} else if (node instanceof List) {
+				((List<?>) node).forEach(action);
+			}
+		}
+	}
+
+	private static class Descendant extends Segment {
+		private final Segment inner;
+
+		Descendant(Segment inner) {
+			this.inner = inner;
+		}
+
+		@Override
+		boolean isStreamable() {
+			return inner.isStreamable();
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			return inner.matches(key, index);
+		}
+
+		/**
+		 * 按先序遍历选择所有匹配的后代节点
+		 */
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			if (node instanceof Map) {
+				final Map<?, ?> map = (Map<?, ?>) node;
+				int index = 0;
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					selectChild(String.valueOf(entry.getKey()), index++, map.size(), entry.getValue(), action);
+				}
+			} else if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				int index = 0;
+				for (Object child : list) {
+					selectChild(null, index++, list.size(), child, action);
+				}
+			}
+		}
+
+		private void selectChild(String key, int index, int size, Object child, Consumer<Object> action) {
+			if (inner.matches(key, index, size, child)) {
+				action.accept(child);
+			}
+			select(child, action);
+		}
+	}
+
+	private static class FilterSegment extends Segment {
+		private final Predicate<Object> predicate;
+
+		FilterSegment(Predicate<Object> predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		boolean isStreamable() {
+			return false;
+		}
+
+		@Override
+		boolean matches(String key, int index) {
+			return false;
+		}
+
+		@Override
+		boolean matches(String key, int index, int size, Object value) {
+			return predicate.test(value);
+		}
+
+		@Override
+		void select(Object node, Consumer<Object> action) {
+			Wildcard.INSTANCE.select(node, child -> {
+				if (predicate.test(child)) {
+					action.accept(child);
+				}
+			});
+		}
+	}
+
+	// ------------------------------------------------------------------------------------ Compiler
+
+	/**
+	 * 表达式编译器
+	 */
+	private static class Compiler {
+		private final String expression;
+		private int pos;
+
+		Compiler(String expression) {
+			this.expression = expression.trim();
+		}
+
+		Segment[] compile() {
+			final List<Segment> segments = new ArrayList<>();
+			final int length = expression.length();
+			if (length > 0 && '$' == expression.charAt(0)) {
+				pos = 1;
+			} else if (length > 0 && '.' != expression.charAt(0) && '[' != expression.charAt(0)) {
+				// 兼容省略$和开头.的写法，如a.b[0]
+				segments.add(readName());
+			}
+			while (pos < length) {
+				final char c = expression.charAt(pos);
+				if ('.' == c) {
+					pos++;
+					if (pos < length && '.' == expression.charAt(pos)) {
+						pos++;
+						if (pos >= length) {
+							throw error("Expected a name after '..'");
+						}
+						segments.add(new Descendant('[' == expression.charAt(pos) ? readBracket() : readName()));
+					} else {
+						segments.add(readName());
+					}
+				} else if ('[' == c) {
+					segments.add(readBracket());
+				} else {
+					throw error("Unexpected char '" + c + "'");
+				}
+			}
+			return segments.toArray(new Segment[0]);
+		}
+
+		/**
+		 * 读取.之后的键或*
+		 */
+		private Segment readName() {
+			final int start = pos;
+			while (pos < expression.length() && '.' != expression.charAt(pos) && '[' != expression.charAt(pos)) {
+				pos++;
+			}
+			final String name = expression.substring(start, pos).trim();
+			if (name.isEmpty()) {
+				throw error("Expected a name");
+			}
+			return "*".equals(name) ? Wildcard.INSTANCE : new Name(name);
+		}
+
+		/**
+		 * 读取[]中的内容
+		 */
+		private Segment readBracket() {
+			final int start = ++pos;
+			int depth = 0;
+			char quote = 0;
+			for (; pos < expression.length(); pos++) {
+				final char c = expression.charAt(pos);
+				if (0 != quote) {
+					if ('\\' == c) {
+						pos++;
+					} else if (quote == c) {
+						quote = 0;
+					}
+				} else if ('\'' == c || '"' == c) {
+					quote = c;
+				} else if ('[' == c || '(' == c) {
+					depth++;
+				} else if (')' == c) {
+					depth--;
+				} else if (']' == c && depth-- == 0) {
+					break;
+				}
+			}
+			if (pos >= expression.length()) {
+				throw error("Expected a ']'");
+			}
+			final String content = expression.substring(start, pos++).trim();
+			if (content.isEmpty()) {
+				throw error("Empty '[]'");
+			}
+			if ("*".equals(content)) {
+				return Wildcard.INSTANCE;
+			}
+			if ('?' == content.charAt(0)) {
+				final String filter = content.substring(1).trim();
+				if (filter.length() < 2 || '(' != filter.charAt(0) || ')' != filter.charAt(filter.length() - 1)) {
+					throw error("Filter must be in the form '?(...)'");
+				}
+				return new FilterSegment(new FilterCompiler(expression, filter.substring(1, filter.length() - 1)).compile());
+			}
+
+			final List<String> parts = splitTopLevel(content);
+			if (isQuoted(parts.get(0))) {
+				final String[] names = new String[parts.size()];
+				for (int i = 0; i < names.length; i++) {
+					if (false == isQuoted(parts.get(i))) {
+						throw error("Mixed quoted and unquoted names");
+					}
+					names[i] = unquote(parts.get(i));
+				}
+				return 1 == names.length ? new Name(names[0]) : new Names(names);
+			}
+			if (1 == parts.size() && content.indexOf(':') >= 0) {
+				return readSlice(content);
+			}
+			if (1 == parts.size() && false == NumberUtil.isInteger(content)) {
+				// 兼容[name]写法
+				return new Name(content);
+			}
+			final int[] indexes = new int[parts.size()];
+			for (int i = 0; i < indexes.length; i++) {
+				indexes[i] = parseInt(parts.get(i));
+			}
+			return 1 == indexes.length ? new Index(indexes[0]) : new Indexes(indexes);
+		}
+
+		private Segment readSlice(String content) {
+			final List<String> parts = StrUtil.split(content, ':', -1, true, false);
+			if (parts.size() > 3) {
+				throw error("Bad slice '" + content + "'");
+			}
+			final Integer start = parts.get(0).isEmpty() ? null : parseInt(parts.get(0));
+			final Integer end = parts.size() < 2 || parts.get(1).isEmpty() ? null : parseInt(parts.get(1));
+			final int step = parts.size() < 3 || parts.get(2).isEmpty() ? 1 : parseInt(parts.get(2));
+			if (0 == step) {
+				throw error("Slice step must not be 0");
+			}
+			return new Slice(start, end, step);
+		}
+
+		private int parseInt(String str) {
+			if (false == NumberUtil.isInteger(str)) {
+				throw error("Bad index '" + str + "'");
+			}
+			return Integer.parseInt(str);
+		}
+
+		private JSONException error(String msg) {
+			return new JSONException("Bad JSONPath '{}' at {}: {}", expression, pos, msg);
+		}
+	}
+
+	/**
+	 * 过滤器表达式编译器，语法：
+	 * <pre>
+	 * or         = and ('||' and)*
+	 * and        = unary ('&amp;&amp;' unary)*
+	 * unary      = '!' unary | '(' or ')' | operand (op operand)?
+	 * operand    = '@' 相对路径 | 数字 | 字符串 | true | false | null
+	 * </pre>
+	 */
+	private static class FilterCompiler {
+		private final String expression;
+		private final String filter;
+		private int pos;
+
+		FilterCompiler(String expression, String filter) {
+			this.expression = expression;
+			this.filter = filter;
+		}
+
+		Predicate<Object> compile() {
+			final Predicate<Object> predicate = readOr();
+			skipWhitespace();
+			if (pos < filter.length()) {
+				throw error("Unexpected '" + filter.substring(pos) + "'");
+			}
+			return predicate;
+		}
+
+		private Predicate<Object> readOr() {
+			Predicate<Object> predicate = readAnd();
+			while (consume("||")) {
+				predicate = predicate.or(readAnd());
+			}
+			return predicate;
+		}
+
+		private Predicate<Object> readAnd() {
+			Predicate<Object> predicate = readUnary();
+			while (consume("&&")) {
+				predicate = predicate.and(readUnary());
+			}
+			return predicate;
+		}
+
+		private Predicate<Object> readUnary() {
+			skipWhitespace();
+			if (consume("!")) {
+				return readUnary().negate();
+			}
+			if (consume("(")) {
+				final Predicate<Object> predicate = readOr();
+				if (false == consume(")")) {
+					throw error("Expected a ')'");
+				}
+				return predicate;
+			}
+			final Operand left = readOperand();
+			final String op = readOperator();
+			if (null == op) {
+				if (null == left.path) {
+					throw error("Expected a '@' path");
+				}
+				return node -> {
+					final Object value = left.eval(node);
+					return MISSING != value && null != value && false == JSONNull.NULL.equals(value);
+				};
+			}
+			final Operand right = readOperand();
+			return node -> compare(left.eval(node), op, right.eval(node));
+		}
+
+		private Operand readOperand() {
+			skipWhitespace();
+			if (pos >= filter.length()) {
+				throw error("Expected an operand");
+			}
+			final char c = filter.charAt(pos);
+			if ('@' == c) {
+				final int start = ++pos;
+				int depth = 0;
+				char quote = 0;
+				for (; pos < filter.length(); pos++) {
+					final char ch = filter.charAt(pos);
+					if (0 != quote) {
+						if ('\\' == ch) {
+							pos++;
+						} else if (quote == ch) {
+							quote = 0;
+						}
+					} else if ('\'' == ch || '"' == ch) {
+						quote = ch;
+					} else if ('[' == ch) {
+						depth++;
+					} else if (']' == ch) {
+						depth--;
+					} else if (0 == depth && (Character.isWhitespace(ch) || "=!<>&|)".indexOf(ch) >= 0)) {
+						break;
+					}
+				}
+				final JSONPath path = new JSONPath("$" + filter.substring(start, pos));
+				if (false == path.isDefinite()) {
+					throw error("Filter only supports definite path: @" + filter.substring(start, pos));
+				}
+				return new Operand(path, null);
+			}
+			if ('\'' == c || '"' == c) {
+				final int start = pos++;
+				while (pos < filter.length() && c != filter.charAt(pos)) {
+					if ('\\' == filter.charAt(pos)) {
+						pos++;
+					}
+					pos++;
+				}
+				if (pos >= filter.length()) {
+					throw error("Unterminated string");
+				}
+				return new Operand(null, unquote(filter.substring(start, ++pos)));
+			}
+			final int start = pos;
+			while (pos < filter.length() && false == Character.isWhitespace(filter.charAt(pos))
+					&& "=!<>&|()".indexOf(filter.charAt(pos)) < 0) {
+				pos++;
+			}
+			final String literal = filter.substring(start, pos);
+			switch (literal) {
+				case "true":
+					return new Operand(null, Boolean.TRUE);
+				case "false":
+					return new Operand(null, Boolean.FALSE);
+				case "null":
+					return new Operand(null, null);
+				default:
+					try {
+						return new Operand(null, new BigDecimal(literal));
+					} catch (NumberFormatException e) {
+						// 10L、0x1F等Java数字写法不是JSON数字
+						pos = start;
+						throw error("Bad literal '" + literal + "'");
+					}
+			}
+		}
+
+		private String readOperator() {
+			skipWhitespace();
+			for (String op : new String[]{"==", "!=", "<=", ">=", "<", ">"}) {
+				if (filter.startsWith(op, pos)) {
+					pos += op.length();
+					return op;
+				}
+			}
+			return null;
+		}
+
+		private boolean consume(String str) {
+			skipWhitespace();
+			if (filter.startsWith(str, pos)) {
+				pos += str.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (pos < filter.length() && Character.isWhitespace(filter.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private JSONException error(String msg) {
+			return new JSONException("Bad JSONPath filter '{}' in '{}' at {}: {}", filter, expression, pos, msg);
+		}
+	}
+
+	/**
+	 * 过滤器中的操作数，相对路径或字面量
+	 */
+	private static class Operand {
+		private final JSONPath path;
+		private final Object literal;
+
+		Operand(JSONPath path, Object literal) {
+			this.path = path;
+			this.literal = literal;
+		}
+
+		Object eval(Object node) {
+			return null == path ? literal : path.getDefinite(node, 0);
+		}
+	}
+
+	/**
+	 * 比较过滤器中的两个值，不存在的值与null相等，且不参与大小比较
+	 */
+	private static boolean compare(Object left, String op, Object right) {
+		final boolean ordering = '<' == op.charAt(0) || '>' == op.charAt(0);
+		if (ordering && (MISSING == left || MISSING == right)) {
+			return false;
+		}
+		left = (MISSING == left || JSONNull.NULL.equals(left)) ? null : left;
+		right = (MISSING == right || JSONNull.NULL.equals(right)) ? null : right;
+
+		final int compare;
+		if (left instanceof Number && right instanceof Number) {
+			compare = NumberUtil.toBigDecimal((Number) left).compareTo(NumberUtil.toBigDecimal((Number) right));
+		} else if (left instanceof CharSequence && right instanceof CharSequence) {
+			compare = left.toString().compareTo(right.toString());
+		} else {
+			// 类型不同或不可比较，只判断相等
+			if (ordering) {
+				return false;
+			}
+			final boolean equals = null == left ? null == right : left.equals(right);
+			return "==".equals(op) == equals;
+		}
+		switch (op) {
+			case "==":
+				return 0 == compare;
+			case "!=":
+				return 0 != compare;
+			case "<":
+				return compare < 0;
+			case "<=":
+				return compare <= 0;
+			case ">":
+				return compare > 0;
+			default:
+				return compare >= 0;
+		}
+	}
+
+	/**
+	 * 按顶层的逗号分隔，忽略引号中的逗号
+	 */
+	private static List<String> splitTopLevel(String content) {
+		final List<String> parts = new ArrayList<>();
+		char quote = 0;
+		int start = 0;
+		for (int i = 0; i < content.length(); i++) {
+			final char c = content.charAt(i);
+			if (0 != quote) {
+				if ('\\' == c) {
+					i++;
+				} else if (quote == c) {
+					quote = 0;
+				}
+			} else if ('\'' == c || '"' == c) {
+				quote = c;
+			} else if (',' == c) {
+				parts.add(content.substring(start, i).trim());
+				start = i + 1;
+			}
+		}
+		parts.add(content.substring(start).trim());
+		return parts;
+	}
+
+	private static boolean isQuoted(String str) {
+		return str.length() >= 2 && ('\'' == str.charAt(0) || '"' == str.charAt(0)) && str.charAt(0) == str.charAt(str.length() - 1);
+	}
+
+	/**
+	 * 去除引号并处理转义
+	 */
+	private static String unquote(String str) {
+		final StringBuilder sb = new StringBuilder(str.length());
+		for (int i = 1; i < str.length() - 1; i++) {
+			char c = str.charAt(i);
+			if ('\\' == c && i + 1 < str.length() - 1) {
+				c = str.charAt(++i);
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	// ------------------------------------------------------------------------------------ StreamEvaluator
+
+	/**
+	 * 在{@link JSONStreamReader}上同时计算多个路径<br>
+	 * 每个状态表示某个路径匹配到了第几段，编码为int：高16位为路径序号，低16位为段序号。
+	 * 子节点根据键和下标计算新的状态，没有状态的子树直接跳过；需要构建节点的段（过滤器、负数下标）或路径匹配完成时，构建此节点并在其上查找。
+	 */
+	private static class StreamEvaluator {
+		private final JSONPath[] paths;
+		private final Object[] results;
+		private final boolean[] found;
+		/**
+		 * 未找到的确定路径数，为0且没有非确定路径时可提前结束
+		 */
+		private int pending;
+		private boolean hasIndefinite;
+
+		StreamEvaluator(JSONPath[] paths) {
+			Assert.isTrue(paths.length > 0 && paths.length < 0x8000, "Paths count must be in [1, 32767]");
+			this.paths = paths;
+			this.results = new Object[paths.length];
+			this.found = new boolean[paths.length];
+			for (int i = 0; i < paths.length; i++) {
+				Assert.isTrue(paths[i].segments.length < 0xFFFF, "Too many segments in JSONPath: {}", paths[i]);
+				if (paths[i].definite) {
+					pending++;
+				} else {
+					hasIndefinite = true;
+					results[i] = new ArrayList<>();
+				}
+			}
+		}
+
+		Object[] run(JSONStreamReader reader, boolean skipRest) {
+			JSONToken token = reader.current();
+			if (null == token || JSONToken.FIELD_NAME == token) {
+				token = reader.next();
+			}
+			if (null != token) {
+				final int baseDepth = token.isStructStart() ? reader.getDepth() - 1 : reader.getDepth();
+				final int[] states = new int[paths.length];
+				for (int i = 0; i < states.length; i++) {
+					states[i] = i << 16;
+				}
+				if (visit(reader, token, states, states.length) && skipRest) {
+					reader.skipToDepth(baseDepth);
+				}
+			}
+			return results;
+		}
+
+		/**
+		 * 处理当前节点，reader当前事件为节点值的第一个事件
+		 *
+		 * @param reader {@link JSONStreamReader}
+		 * @param token  当前事件
+		 * @param states 作用于此节点的状态
+		 * @param count  状态数
+		 * @return 是否所有路径均已找到，可提前结束
+		 */
+		private boolean visit(JSONStreamReader reader, JSONToken token, int[] states, int count) {
+			for (int i = 0; i < count; i++) {
+				final JSONPath path = paths[states[i] >>> 16];
+				final int segment = states[i] & 0xFFFF;
+				if (path.definite && found[states[i] >>> 16]) {
+					continue;
+				}
+				// 同一路径有多个状态（递归查找匹配后仍需查找后代）时，构建节点按先序计算，与get的结果顺序一致
+				if (segment == path.segments.length || false == path.segments[segment].isStreamable()
+						|| hasSamePath(states, i)) {
+					materialize(reader.readValue(), states, count);
+					return isDone();
+				}
+			}
+			if (false == token.isStructStart()) {
+				return false;
+			}
+
+			final boolean isObject = JSONToken.START_OBJECT == token;
+			// 每个状态最多产生两个新状态（递归查找时保留自身）
+			final int[] next = new int[count * 2];
+			for (int index = 0; ; index++) {
+				JSONToken child = reader.next();
+				if (child.isStructEnd()) {
+					return false;
+				}
+				String key = null;
+				if (isObject) {
+					key = reader.getString();
+					child = reader.next();
+				}
+
+				int n = 0;
+				for (int i = 0; i < count; i++) {
+					final int state = states[i];
+					final JSONPath path = paths[state >>> 16];
+					if (path.definite && found[state >>> 16]) {
+						continue;
+					}
+					final Segment segment = path.segments[state & 0xFFFF];
+					// 先匹配自身再查找后代
+					if (segment.matches(key, index)) {
+						next[n++] = state + 1;
+					}
+					if (segment instanceof Descendant && child.isStructStart()) {
+						next[n++] = state;
+					}
+				}
+
+				if (n > 0) {
+					if (visit(reader, child, next, n)) {
+						return true;
+					}
+				} else if (child.isStructStart()) {
+					reader.skipChildren();
+				}
+			}
+		}
+
+		/**
+		 * 在构建好的节点上计算所有状态
+		 */
+		private void materialize(Object value, int[] states, int count) {
+			for (int i = 0; i < count; i++) {
+				final int p = states[i] >>> 16;
+				final JSONPath path = paths[p];
+				final int segment = states[i] & 0xFFFF;
+				if (path.definite) {
+					if (false == found[p]) {
+						final Object result = path.getDefinite(value, segment);
+						if (MISSING != result) {
+							results[p] = result;
+							found[p] = true;
+							pending--;
+						}
+					}
+				} else {
+					@SuppressWarnings("unchecked")
+					final List<Object> result = (List<Object>) results[p];
+					path.eval(value, segment, result::add);
+				}
+			}
+		}
+
+		/**
+		 * 第i个状态之前是否有同一路径的状态
+		 */
+		private static boolean hasSamePath(int[] states, int i) {
+			for (int j = 0; j < i; j++) {
+				if ((states[j] >>> 16) == (states[i] >>> 16)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isDone() {
+			return false == hasIndefinite && 0 == pending;
+		}
+	}
+}
@@ -0,0 +1,793 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * JSON流式（拉模式）解析器<br>
+ * 与{@link JSONParser}将整个JSON解析为{@link JSONObject}或{@link JSONArray}不同，此解析器每次调用{@link #next()}只读取一个事件（{@link JSONToken}），
+ * 调用者按需读取值、跳过子节点或将子树转换为对象，内存占用与JSON大小无关，适用于超大JSON的处理。
+ * <pre>
+ * try (JSONStreamReader reader = new JSONStreamReader(in, null)) {
+ *     JSONToken token;
+ *     while (null != (token = reader.next())) {
+ *         if (token == JSONToken.FIELD_NAME &amp;&amp; "items".equals(reader.getString())) {
+ *             reader.next(); // START_ARRAY
+ *             while (reader.next() == JSONToken.START_OBJECT) {
+ *                 Item item = reader.readValueAs(Item.class);
+ *             }
+ *         }
+ *     }
+ * }
+ * </pre>
+ * 与{@link JSONTokener}一致，兼容单引号字符串、无引号的键、尾后逗号等非标准格式。<br>
+ * 支持多个顶层值连续出现（如每行一个JSON），每个顶层值结束后继续调用{@link #next()}读取下一个值。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONStreamReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	// 容器状态
+	private static final int OBJECT_START = 1;
+	private static final int OBJECT_AFTER_KEY = 2;
+	private static final int OBJECT_AFTER_VALUE = 3;
+	private static final int ARRAY_START = 4;
+	private static final int ARRAY_AFTER_VALUE = 5;
+
+	private final Reader reader;
+	private final JSONConfig config;
+
+	private final char[] buf;
+	private int pos;
+	private int limit;
+	/**
+	 * 当前缓冲之前已读取的字符数
+	 */
+	private long offset;
+
+	/**
+	 * 容器状态栈
+	 */
+	private int[] stack = new int[16];
+	/**
+	 * 每层容器当前的键
+	 */
+	private String[] names = new String[16];
+	private int depth;
+
+	private JSONToken current;
+	private String text;
+	/**
+	 * 当前数字值，与树形解析使用相同的转换规则
+	 */
+	private Number number;
+	private final StringBuilder sb = new StringBuilder();
+	/**
+	 * 是否处于跳过模式，跳过模式下不构建字符串
+	 */
+	private boolean skipping;
+
+	// ------------------------------------------------------------------------------------ Constructor start
+
+	/**
+	 * 从Reader中构建
+	 *
+	 * @param reader Reader
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONStreamReader(Reader reader, JSONConfig config) {
+		this.reader = reader;
+		this.config = null == config ? JSONConfig.create() : config;
+		this.buf = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * 从InputStream中构建，使用UTF-8编码
+	 *
+	 * @param in     InputStream
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONStreamReader(InputStream in, JSONConfig config) {
+		this(IoUtil.getUtf8Reader(in), config);
+	}
+
+	/**
+	 * 从字符串中构建，直接使用字符串的字符数组，无需缓冲
+	 *
+	 * @param str    JSON字符串
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONStreamReader(CharSequence str, JSONConfig config) {
+		this.reader = null;
+		this.config = null == config ? JSONConfig.create() : config;
+		this.buf = StrUtil.str(str).toCharArray();
+		this.limit = buf.length;
+	}
+	// ------------------------------------------------------------------------------------ Constructor end
+
+	/**
+	 * 读取下一个事件
+	 *
+	 * @return 事件，{@code null}表示已经读取到结尾
+	 * @throws JSONException 语法错误或IO异常
+	 */
+	public JSONToken next() throws JSONException {
+		int c = nextClean();
+		if (0 == depth) {
+			if (c < 0) {
+				return current = null;
+			}
+			return current = readValueStart(c);
+		}
+
+		switch (stack[depth - 1]) {
+			case OBJECT_START:
+				if ('}' == c) {
+					return current = pop(JSONToken.END_OBJECT);
+				}
+				return current = readKey(c);
+			case OBJECT_AFTER_KEY:
+				if (':' != c) {
+					throw syntaxError("Expected a ':' after a key");
+				}
+				stack[depth - 1] = OBJECT_AFTER_VALUE;
+				return current = readValueStart(nextClean());
+			case OBJECT_AFTER_VALUE:
+				if ('}' == c) {
+					return current = pop(JSONToken.END_OBJECT);
+				}
+				if (',' == c || ';' == c) {
+					c = nextClean();
+					if ('}' == c) {
+						// 尾后逗号
+						return current = pop(JSONToken.END_OBJECT);
+					}
+					return current = readKey(c);
+				}
+				throw syntaxError("Expected a ',' or '}'");
+			case ARRAY_START:
+				if (']' == c) {
+					return current = pop(JSONToken.END_ARRAY);
+				}
+				stack[depth - 1] = ARRAY_AFTER_VALUE;
+				return current = readValueStart(c);
+			default:
+				// ARRAY_AFTER_VALUE
+				if (']' == c) {
+					return current = pop(JSONToken.END_ARRAY);
+				}
+				if (',' == c) {
+					c = nextClean();
+					if (']' == c) {
+						return current = pop(JSONToken.END_ARRAY);
+					}
+					return current = readValueStart(c);
+				}
+				throw syntaxError("Expected a ',' or ']'");
+		}
+	}
+
+	/**
+	 * 获取当前事件
+	 *
+	 * @return 当前事件，未开始或已结束返回{@code null}
+	 */
+	public JSONToken current() {
+		return this.current;
+	}
+
+	/**
+	 * 获取当前容器嵌套深度，顶层为0
+	 *
+	 * @return 嵌套深度
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * 获取当前值对应的键，当前事件为{@link JSONToken#FIELD_NAME}时返回此键，当前值在数组中或为顶层值时返回{@code null}
+	 *
+	 * @return 键
+	 */
+	public String getCurrentName() {
+		final int level = (null != current && current.isStructStart()) ? depth - 2 : depth - 1;
+		if (level >= 0 && stack[level] <= OBJECT_AFTER_VALUE) {
+			return names[level];
+		}
+		return null;
+	}
+
+	// ------------------------------------------------------------------------------------ value start
+
+	/**
+	 * 获取当前值的字符串形式，当前事件为{@link JSONToken#FIELD_NAME}时返回键，为{@link JSONToken#VALUE_NULL}时返回{@code null}
+	 *
+	 * @return 字符串
+	 */
+	public String getString() {
+		if (null == current) {
+			return null;
+		}
+		switch (current) {
+			case FIELD_NAME:
+			case VALUE_STRING:
+			case VALUE_NUMBER:
+				return text;
+			case VALUE_TRUE:
+				return "true";
+			case VALUE_FALSE:
+				return "false";
+			case VALUE_NULL:
+				return null;
+			default:
+				throw new JSONException("Current token [{}] is not a value", current);
+		}
+	}
+
+	/**
+	 * 获取当前数字值，小数返回{@link BigDecimal}，整数按大小返回{@link Integer}或{@link Long}<br>
+	 * 与树形解析使用相同的规则（{@link InternalJSONUtil#stringToValue(String)}），
+	 * 因此如"0123"、"-0"及超出long范围的整数等非规范形式的整数被识别为{@link JSONToken#VALUE_STRING}
+	 *
+	 * @return 数字
+	 */
+	public Number getNumber() {
+		checkToken(JSONToken.VALUE_NUMBER);
+		return this.number;
+	}
+
+	/**
+	 * 获取当前值的int形式
+	 *
+	 * @return int值
+	 */
+	public int getInt() {
+		checkToken(JSONToken.VALUE_NUMBER);
+		return isIntegral() && text.length() <= 9 ? Integer.parseInt(text) : getNumber().intValue();
+	}
+
+	/**
+	 * 获取当前值的long形式
+	 *
+	 * @return long值
+	 */
+	public long getLong() {
+		checkToken(JSONToken.VALUE_NUMBER);
+		return isIntegral() && text.length() <= 18 ? Long.parseLong(text) : getNumber().longValue();
+	}
+
+	/**
+	 * 获取当前值的double形式
+	 *
+	 * @return double值
+	 */
+	public double getDouble() {
+		checkToken(JSONToken.VALUE_NUMBER);
+		return Double.parseDouble(text);
+	}
+
+	/**
+	 * 获取当前值的BigDecimal形式
+	 *
+	 * @return BigDecimal值
+	 */
+	public BigDecimal getBigDecimal() {
+		checkToken(JSONToken.VALUE_NUMBER);
+		return new BigDecimal(text);
+	}
+
+	/**
+	 * 获取当前值的boolean形式
+	 *
+	 * @return boolean值
+	 */
+	public boolean getBoolean() {
+		if (JSONToken.VALUE_TRUE == current) {
+			return true;
+		}
+		if (JSONToken.VALUE_FALSE == current) {
+			return false;
+		}
+		throw new JSONException("Current token [{}] is not a boolean", current);
+	}
+	// ------------------------------------------------------------------------------------ value end
+
+	/**
+	 * 跳过当前容器的所有子节点，当前事件为{@link JSONToken#START_OBJECT}或{@link JSONToken#START_ARRAY}时，
+	 * 读取到对应的结束事件，跳过过程中不构建字符串；其它事件不做处理
+	 *
+	 * @return this
+	 */
+	public JSONStreamReader skipChildren() {
+		if (null == current || false == current.isStructStart()) {
+			return this;
+		}
+		skipToDepth(depth - 1);
+		return this;
+	}
+
+	/**
+	 * 读取当前值为JSON对象：
+	 * <ul>
+	 *     <li>{@link JSONToken#START_OBJECT}读取整个对象为{@link JSONObject}</li>
+	 *     <li>{@link JSONToken#START_ARRAY}读取整个数组为{@link JSONArray}</li>
+	 *     <li>{@link JSONToken#FIELD_NAME}读取此键对应的值</li>
+	 *     <li>其它值返回对应的String、Number、Boolean或{@link JSONNull#NULL}</li>
+	 * </ul>
+	 * 读取后当前事件为此值的最后一个事件。
+	 *
+	 * @return 值
+	 */
+	public Object readValue() {
+		if (JSONToken.FIELD_NAME == current) {
+			next();
+		}
+		if (null == current) {
+			throw new JSONException("No value to read, call next() first or reader is end");
+		}
+		try {
+			return readCurrentValue();
+		} catch (final StackOverflowError e) {
+			throw new JSONException("JSON depth too large to process.", e);
+		}
+	}
+
+	/**
+	 * 读取当前值并转换为指定类型，规则同{@link #readValue()}<br>
+	 * Bean、集合、Map等直接由事件绑定，不构建中间的{@link JSONObject}或{@link JSONArray}
+	 *
+	 * @param <T>  目标类型
+	 * @param type 目标类型
+	 * @return 转换后的值
+	 */
+	public <T> T readValueAs(Class<T> type) {
+		return readValueAs((Type) type);
+	}
+
+	/**
+	 * 读取当前值并转换为指定类型，规则同{@link #readValue()}<br>
+	 * Bean、集合、Map等直接由事件绑定，不构建中间的{@link JSONObject}或{@link JSONArray}
+	 *
+	 * @param <T>  目标类型
+	 * @param type 目标类型
+	 * @return 转换后的值
+	 */
+	public <T> T readValueAs(Type type) {
+		return JSONBeanBinder.read(this, type, config);
+	}
+
+	/**
+	 * 获取已读取的字符数
+	 *
+	 * @return 已读取的字符数
+	 */
+	public long getPosition() {
+		return offset + pos;
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.reader);
+	}
+
+	@Override
+	public String toString() {
+		return " at " + getPosition();
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 以跳过模式读取，直到嵌套深度回到指定深度，跳过过程中不构建字符串
+	 *
+	 * @param targetDepth 目标深度
+	 */
+	void skipToDepth(int targetDepth) {
+		skipping = true;
+		try {
+			while (depth > targetDepth) {
+				next();
+			}
+		} finally {
+			skipping = false;
+		}
+	}
+
+	/**
+	 * 递归读取当前值
+	 *
+	 * @return 值
+	 */
+	private Object readCurrentValue() {
+		switch (current) {
+			case START_OBJECT:
+				final JSONObject jsonObject = new JSONObject(config);
+				String key;
+				while (JSONToken.FIELD_NAME == next()) {
+					key = text;
+					next();
+					jsonObject.set(key, readCurrentValue(), null, config.isCheckDuplicate());
+				}
+				return jsonObject;
+			case START_ARRAY:
+				final JSONArray jsonArray = new JSONArray(config);
+				while (false == next().isStructEnd()) {
+					jsonArray.add(readCurrentValue());
+				}
+				return jsonArray;
+			case VALUE_STRING:
+				return text;
+			case VALUE_NUMBER:
+				return getNumber();
+			case VALUE_TRUE:
+				return Boolean.TRUE;
+			case VALUE_FALSE:
+				return Boolean.FALSE;
+			case VALUE_NULL:
+				return JSONNull.NULL;
+			default:
+				throw syntaxError("Unexpected token " + current);
+		}
+	}
+
+	/**
+	 * 读取值的开始，容器压栈，其它值读取完整
+	 *
+	 * @param c 值的第一个字符
+	 * @return 事件
+	 */
+	private JSONToken readValueStart(int c) {
+		switch (c) {
+			case '{':
+				push(OBJECT_START);
+				return JSONToken.START_OBJECT;
+			case '[':
+				push(ARRAY_START);
+				return JSONToken.START_ARRAY;
+			case '"':
+			case '\'':
+				text = readString((char) c);
+				return JSONToken.VALUE_STRING;
+			case -1:
+				throw syntaxError("Unexpected end of JSON");
+			default:
+				if (skipping) {
+					// 跳过模式下只定位到字面量结尾，不构建字符串，也不区分类型
+					if (false == skipUnquoted((char) c)) {
+						throw syntaxError("Missing value");
+					}
+					text = null;
+					return JSONToken.VALUE_STRING;
+				}
+				text = readUnquoted((char) c);
+				if (text.isEmpty()) {
+					throw syntaxError("Missing value");
+				}
+				if (StrUtil.NULL.equalsIgnoreCase(text)) {
+					return JSONToken.VALUE_NULL;
+				}
+				if ("true".equalsIgnoreCase(text)) {
+					return JSONToken.VALUE_TRUE;
+				}
+				if ("false".equalsIgnoreCase(text)) {
+					return JSONToken.VALUE_FALSE;
+				}
+				// 与树形解析使用相同的数字转换规则
+				final Object value = InternalJSONUtil.stringToValue(text);
+				if (value instanceof Number) {
+					this.number = (Number) value;
+					return JSONToken.VALUE_NUMBER;
+				}
+				return JSONToken.VALUE_STRING;
+		}
+	}
+
+	/**
+	 * 读取键
+	 *
+	 * @param c 键的第一个字符
+	 * @return {@link JSONToken#FIELD_NAME}
+	 */
+	private JSONToken readKey(int c) {
+		switch (c) {
+			case '"':
+			case '\'':
+				text = readString((char) c);
+				break;
+			case '{':
+			case '[':
+				throw syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+			case -1:
+				throw syntaxError("A JSONObject text must end with '}'");
+			default:
+				if (skipping) {
+					if (false == skipUnquoted((char) c)) {
+						throw syntaxError("Missing value");
+					}
+					text = null;
+					break;
+				}
+				text = readUnquoted((char) c);
+				if (text.isEmpty()) {
+					throw syntaxError("Missing value");
+				}
+		}
+		names[depth - 1] = text;
+		stack[depth - 1] = OBJECT_AFTER_KEY;
+		return JSONToken.FIELD_NAME;
+	}
+
+	/**
+	 * 读取引号包围的字符串，跳过模式下只定位到结束引号，返回{@code null}
+	 *
+	 * @param quote 引号
+	 * @return 字符串
+	 */
+	private String readString(char quote) {
+		sb.setLength(0);
+		int start;
+		char c;
+		while (true) {
+			if (pos >= limit && false == fill()) {
+				throw syntaxError("Unterminated string");
+			}
+			start = pos;
+			while (pos < limit) {
+				c = buf[pos];
+				if (c == quote || c == '\\' || c == '\n' || c == '\r') {
+					break;
+				}
+				pos++;
+			}
+			if (pos == limit) {
+				if (false == skipping) {
+					sb.append(buf, start, pos - start);
+				}
+				continue;
+			}
+
+			c = buf[pos++];
+			if (c == quote) {
+				if (skipping) {
+					return null;
+				}
+				if (0 == sb.length()) {
+					// 无转义且在同一个缓冲中，直接构建
+					return new String(buf, start, pos - 1 - start);
+				}
+				return sb.append(buf, start, pos - 1 - start).toString();
+			}
+			if (c == '\\') {
+				if (false == skipping) {
+					sb.append(buf, start, pos - 1 - start);
+				}
+				readEscape();
+			} else {
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	/**
+	 * 读取转义符后的字符
+	 */
+	private void readEscape() {
+		final int c = read();
+		switch (c) {
+			case 'b':
+				sb.append('\b');
+				break;
+			case 't':
+				sb.append('\t');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 'u':
+				int code = 0;
+				int h;
+				for (int i = 0; i < 4; i++) {
+					h = Character.digit(read(), 16);
+					if (h < 0) {
+						throw syntaxError("Illegal unicode escape.");
+					}
+					code = (code << 4) | h;
+				}
+				sb.append((char) code);
+				break;
+			case '"':
+			case '\'':
+			case '\\':
+			case '/':
+				sb.append((char) c);
+				break;
+			default:
+				throw syntaxError("Illegal escape.");
+		}
+	}
+
+	/**
+	 * 读取无引号的文本，规则同{@link JSONTokener#nextValue()}
+	 *
+	 * @param first 第一个字符
+	 * @return 去除首尾空白后的文本
+	 */
+	private String readUnquoted(char first) {
+		sb.setLength(0);
+		char c = first;
+		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+			sb.append(c);
+			if (pos >= limit && false == fill()) {
+				break;
+			}
+			c = buf[pos];
+			if (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+				pos++;
+			}
+		}
+		return sb.toString().trim();
+	}
+
+	/**
+	 * 跳过无引号的文本，规则同{@link #readUnquoted(char)}，不构建字符串
+	 *
+	 * @param first 第一个字符
+	 * @return 去除首尾空白后是否非空
+	 */
+	private boolean skipUnquoted(char first) {
+		boolean notEmpty = false;
+		char c = first;
+		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+			if (c > ' ') {
+				notEmpty = true;
+			}
+			if (pos >= limit && false == fill()) {
+				break;
+			}
+			c = buf[pos];
+			if (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+				pos++;
+			}
+		}
+		return notEmpty;
+	}
+
+	/**
+	 * 当前数字是否为整数形式
+	 *
+	 * @return 是否为整数
+	 */
+	private boolean isIntegral() {
+		for (int i = 0; i < text.length(); i++) {
+			switch (text.charAt(i)) {
+				case '.':
+				case 'e':
+				case 'E':
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 检查当前事件
+	 *
+	 * @param expected 期望的事件
+	 */
+	private void checkToken(JSONToken expected) {
+		if (expected != current) {
+			throw new JSONException("Current token is [{}], not [{}]", current, expected);
+		}
+	}
+
+	/**
+	 * 容器压栈
+	 *
+	 * @param state 容器初始状态
+	 */
+	private void push(int state) {
+		if (depth == stack.length) {
+			stack = Arrays.copyOf(stack, depth << 1);
+			names = Arrays.copyOf(names, depth << 1);
+		}
+		names[depth] = null;
+		stack[depth++] = state;
+	}
+
+	/**
+	 * 容器出栈
+	 *
+	 * @param token 结束事件
+	 * @return 结束事件
+	 */
+	private JSONToken pop(JSONToken token) {
+		names[--depth] = null;
+		return token;
+	}
+
+	/**
+	 * 读取下一个非空白字符
+	 *
+	 * @return 字符，-1表示结尾
+	 */
+	private int nextClean() {
+		char c;
+		while (true) {
+			if (pos >= limit && false == fill()) {
+				return -1;
+			}
+			c = buf[pos++];
+			if (c > ' ') {
+				return c;
+			}
+		}
+	}
+
+	/**
+	 * 读取下一个字符
+	 *
+	 * @return 字符，-1表示结尾
+	 */
+	private int read() {
+		if (pos >= limit && false == fill()) {
+			return -1;
+		}
+		return buf[pos++];
+	}
+
+	/**
+	 * 填充缓冲
+	 *
+	 * @return 是否读取到数据，{@code false}表示结尾
+	 */
+	private boolean fill() {
+		if (null == reader) {
+			return false;
+		}
+		try {
+			int n;
+			do {
+				n = reader.read(buf, 0, buf.length);
+			} while (0 == n);
+			if (n < 0) {
+				return false;
+			}
+			offset += limit;
+			pos = 0;
+			limit = n;
+			return true;
+		} catch (IOException e) {
+			throw new JSONException(e);
+		}
+	}
+
+	/**
+	 * 构建语法错误异常
+	 *
+	 * @param message 错误消息
+	 * @return JSONException
+	 */
+	private JSONException syntaxError(String message) {
+		return new JSONException(message + this);
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+}
@@ -0,0 +1,77 @@
+package cn.hutool.json;
+
+/**
+ * JSON流式解析的事件（Token）类型，见{@link JSONStreamReader}
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public enum JSONToken {
+	/**
+	 * 对象开始：{
+	 */
+	START_OBJECT,
+	/**
+	 * 对象结束：}
+	 */
+	END_OBJECT,
+	/**
+	 * 数组开始：[
+	 */
+	START_ARRAY,
+	/**
+	 * 数组结束：]
+	 */
+	END_ARRAY,
+	/**
+	 * 对象中的键
+	 */
+	FIELD_NAME,
+	/**
+	 * 字符串值
+	 */
+	VALUE_STRING,
+	/**
+	 * 数字值
+	 */
+	VALUE_NUMBER,
+	/**
+	 * true
+	 */
+	VALUE_TRUE,
+	/**
+	 * false
+	 */
+	VALUE_FALSE,
+	/**
+	 * null
+	 */
+	VALUE_NULL;
+
+	/**
+	 * 是否为值（非容器开始、结束和键）
+	 *
+	 * @return 是否为值
+	 */
+	public boolean isScalarValue() {
+		return ordinal() >= VALUE_STRING.ordinal();
+	}
+
+	/**
+	 * 是否为容器开始，即{@link #START_OBJECT}或{@link #START_ARRAY}
+	 *
+	 * @return 是否为容器开始
+	 */
+	public boolean isStructStart() {
+		return this == START_OBJECT || this == START_ARRAY;
+	}
+
+	/**
+	 * 是否为容器结束，即{@link #END_OBJECT}或{@link #END_ARRAY}
+	 *
+	 * @return 是否为容器结束
+	 */
+	public boolean isStructEnd() {
+		return this == END_OBJECT || this == END_ARRAY;
+	}
+}
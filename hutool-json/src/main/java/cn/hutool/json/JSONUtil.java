@@ -1,21 +1,27 @@
 package cn.hutool.json;
 
 import cn.hutool.core.convert.NumberWithFormat;
+import cn.hutool.core.io.FastStringWriter;
 import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.io.file.FileReader;
 import cn.hutool.core.lang.TypeReference;
 import cn.hutool.core.map.MapWrapper;
 import cn.hutool.core.util.*;
 import cn.hutool.json.serialize.GlobalSerializeMapping;
 import cn.hutool.json.serialize.JSONArraySerializer;
+import cn.hutool.json.serialize.JSONBeanWriter;
 import cn.hutool.json.serialize.JSONDeserializer;
 import cn.hutool.json.serialize.JSONObjectSerializer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.time.temporal.TemporalAccessor;
@@ -198,6 +204,7 @@ public class JSONUtil {
 	 * 支持的对象：
 	 * <ul>
 	 *     <li>String: 转换为相应的对象</li>
+	 *     <li>ByteBuffer、以“{”开头和“}”结尾的byte[]：按照UTF-8编码的JSON解析</li>
 	 *     <li>Array、Iterable、Iterator：转换为JSONArray</li>
 	 *     <li>Bean对象：转为JSONObject</li>
 	 * </ul>
@@ -220,6 +227,11 @@ public class JSONUtil {
 		} else if (obj instanceof MapWrapper) {
 			// MapWrapper实现了Iterable会被当作JSONArray，此处做修正
 			json = parseObj(obj, config);
+		} else if (obj instanceof ByteBuffer) {
+			json = JSONByteParser.of((ByteBuffer) obj, config).parse();
+		} else if (obj instanceof byte[] && isTypeJSONObject((byte[]) obj)) {
+			// 以“{”开头和“}”结尾的byte[]按照UTF-8的JSON对象解析，其它byte[]按照JSONArray规则处理
+			json = JSONByteParser.of((byte[]) obj, config).parseObj();
 		} else if (obj instanceof Iterable || obj instanceof Iterator || ArrayUtil.isArray(obj)) {// 列表
 			json = parseArray(obj, config);
 		} else {// 对象
@@ -388,6 +400,54 @@ public class JSONUtil {
 		return toJsonPrettyStr(parse(obj));
 	}
 
+	/**
+	 * 将Bean、Map、集合等对象直接转换为JSON字符串，不构建中间的{@link JSONObject}，结果与{@link #toJsonStr(Object, JSONConfig)}一致
+	 *
+	 * @param obj        被转为JSON的对象
+	 * @param jsonConfig JSON配置，{@code null}表示默认配置
+	 * @return JSON字符串
+	 * @see JSONBeanWriter
+	 * @since 5.8.42
+	 */
+	public static String writeBeanAsStr(Object obj, JSONConfig jsonConfig) {
+		if (null == obj) {
+			return null;
+		}
+		if (obj instanceof CharSequence) {
+			return StrUtil.str((CharSequence) obj);
+		}
+		final FastStringWriter writer = new FastStringWriter();
+		JSONBeanWriter.of(writer, 0, jsonConfig).write(obj);
+		return writer.toString();
+	}
+
+	/**
+	 * 将Bean、Map、集合等对象直接转换为JSON并写出到Writer，不构建中间的{@link JSONObject}，写出后不关闭Writer
+	 *
+	 * @param obj        被转为JSON的对象
+	 * @param writer     Writer
+	 * @param jsonConfig JSON配置，{@code null}表示默认配置
+	 * @see JSONBeanWriter
+	 * @since 5.8.42
+	 */
+	public static void writeBean(Object obj, Writer writer, JSONConfig jsonConfig) {
+		JSONBeanWriter.of(writer, 0, jsonConfig).write(obj);
+	}
+
+	/**
+	 * 将Bean、Map、集合等对象直接转换为JSON并写出到流，不构建中间的{@link JSONObject}，写出后不关闭流
+	 *
+	 * @param obj        被转为JSON的对象
+	 * @param out        输出流
+	 * @param charset    编码，{@code null}表示系统默认编码
+	 * @param jsonConfig JSON配置，{@code null}表示默认配置
+	 * @see JSONBeanWriter
+	 * @since 5.8.42
+	 */
+	public static void writeBean(Object obj, OutputStream out, Charset charset, JSONConfig jsonConfig) {
+		writeBean(obj, IoUtil.getWriter(out, charset), jsonConfig);
+	}
+
 	/**
 	 * 转换为XML字符串
 	 *
@@ -504,6 +564,51 @@ public class JSONUtil {
 		}
 		return json.toBean(beanType, ignoreError);
 	}
+
+	/**
+	 * JSON字符串直接绑定为实体类对象，不构建中间的{@link JSONObject}，转换异常将被抛出
+	 *
+	 * @param <T>       Bean类型
+	 * @param json      JSON字符串
+	 * @param beanClass 实体类对象
+	 * @return 实体类对象，JSON为空返回{@code null}
+	 * @since 5.8.42
+	 */
+	public static <T> T readBean(CharSequence json, Class<T> beanClass) {
+		return readBean(json, null, beanClass);
+	}
+
+	/**
+	 * JSON字符串直接绑定为实体类对象，不构建中间的{@link JSONObject}<br>
+	 * 通过{@link JSONConfig}可选是否忽略大小写、忽略null、日期格式等配置
+	 *
+	 * @param <T>      Bean类型
+	 * @param json     JSON字符串
+	 * @param config   JSON配置，{@code null}表示默认配置
+	 * @param beanType 实体类对象类型
+	 * @return 实体类对象，JSON为空返回{@code null}
+	 * @since 5.8.42
+	 */
+	public static <T> T readBean(CharSequence json, JSONConfig config, Type beanType) {
+		if (StrUtil.isBlank(json)) {
+			return null;
+		}
+		return readBean(new JSONStreamReader(json, config), beanType);
+	}
+
+	/**
+	 * 从{@link Reader}中读取JSON并直接绑定为实体类对象，不构建中间的{@link JSONObject}，读取结束后关闭Reader
+	 *
+	 * @param <T>      Bean类型
+	 * @param reader   {@link Reader}
+	 * @param config   JSON配置，{@code null}表示默认配置
+	 * @param beanType 实体类对象类型
+	 * @return 实体类对象，JSON为空返回{@code null}
+	 * @since 5.8.42
+	 */
+	public static <T> T readBean(Reader reader, JSONConfig config, Type beanType) {
+		return readBean(new JSONStreamReader(reader, config), beanType);
+	}
 	// -------------------------------------------------------------------- toBean end
 
 	/**
@@ -594,6 +699,25 @@ public class JSONUtil {
 		return (T) json.getByPath(expression);
 	}
 
+	/**
+	 * 通过JSONPath表达式从JSON字符串中流式提取值，不构建整个JSON，找到后即停止解析，表达式语法见{@link JSONPath}
+	 *
+	 * <pre>
+	 * $.store.book[0].title
+	 * $..author
+	 * $.store.book[?(@.price &lt; 10)]
+	 * </pre>
+	 *
+	 * @param json       JSON字符串
+	 * @param expression JSONPath表达式
+	 * @return 确定路径返回对应值，不存在返回{@code null}；其它路径返回匹配值列表
+	 * @see JSONPath#extract(CharSequence)
+	 * @since 5.8.42
+	 */
+	public static Object extractByPath(CharSequence json, String expression) {
+		return JSONPath.of(expression).extract(json);
+	}
+
 	/**
 	 * 设置表达式指定位置（或filed对应）的值<br>
 	 * 若表达式指向一个JSONArray则设置其坐标对应位置的值，若指向JSONObject则put对应key的值<br>
@@ -687,22 +811,27 @@ public class JSONUtil {
 		}
 
 		char c; // 当前字符
-		int len = str.length();
+		String escaped; // 转义后的字符
+		int start = 0; // 尚未写出的无需转义部分的起始位置
+		final int len = str.length();
 		if (isWrap) {
 			writer.write('"');
 		}
 		for (int i = 0; i < len; i++) {
 			c = str.charAt(i);
-			switch (c) {
-				case '\\':
-				case '"':
-					writer.write("\\");
-					writer.write(c);
-					break;
-				default:
-					writer.write(escape(c));
+			if ('\\' == c || '"' == c) {
+				writer.write(str, start, i - start);
+				writer.write('\\');
+				writer.write(c);
+				start = i + 1;
+			} else if (null != (escaped = escape(c))) {
+				writer.write(str, start, i - start);
+				writer.write(escaped);
+				start = i + 1;
 			}
 		}
+		// 无需转义的部分整段写出，避免逐字符写出
+		writer.write(str, start, len - start);
 		if (isWrap) {
 			writer.write('"');
 		}
@@ -723,9 +852,15 @@ public class JSONUtil {
 		final int len = str.length();
 		final StringBuilder builder = new StringBuilder(len);
 		char c;
+		String escaped;
 		for (int i = 0; i < len; i++) {
 			c = str.charAt(i);
-			builder.append(escape(c));
+			escaped = escape(c);
+			if (null == escaped) {
+				builder.append(c);
+			} else {
+				builder.append(escaped);
+			}
 		}
 		return builder.toString();
 	}
@@ -964,12 +1099,38 @@ public class JSONUtil {
 
 	// --------------------------------------------------------------------------------------------- Private method start
 
+	/**
+	 * byte[]是否为JSONObject，首尾字节为大括号判定为JSONObject
+	 *
+	 * @param bytes byte[]
+	 * @return 是否为JSONObject
+	 */
+	private static boolean isTypeJSONObject(byte[] bytes) {
+		return bytes.length > 1 && '{' == bytes[0] && '}' == bytes[bytes.length - 1];
+	}
+
+	/**
+	 * 读取第一个JSON值并绑定为指定类型，读取后关闭{@link JSONStreamReader}
+	 *
+	 * @param <T>      Bean类型
+	 * @param reader   {@link JSONStreamReader}
+	 * @param beanType 实体类对象类型
+	 * @return 实体类对象，无值返回{@code null}
+	 */
+	private static <T> T readBean(JSONStreamReader reader, Type beanType) {
+		try {
+			return null == reader.next() ? null : reader.readValueAs(beanType);
+		} finally {
+			reader.close();
+		}
+	}
+
 	/**
 	 * 转义不可见字符<br>
 	 * 见：<a href="https://en.wikibooks.org/wiki/Unicode/Character_reference/0000-0FFF">https://en.wikibooks.org/wiki/Unicode/Character_reference/0000-0FFF</a>
 	 *
 	 * @param c 字符
-	 * @return 转义后的字符串
+	 * @return 转义后的字符串，无需转义返回{@code null}
 	 */
 	private static String escape(char c) {
 		switch (c) {
@@ -992,7 +1153,7 @@ public class JSONUtil {
 				) {
 					return HexUtil.toUnicodeHex(c);
 				} else {
-					return Character.toString(c);
+					return null;
 				}
 		}
 	}
@@ -0,0 +1,570 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.bean.RecordUtil;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.NumberWithFormat;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.reflect.LookupFactory;
+import cn.hutool.core.map.MapWrapper;
+import cn.hutool.core.map.reference.WeakKeyConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONUtil;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bean直接序列化写出器<br>
+ * 将Bean、Map、集合等对象直接写出为JSON，不构建中间的{@link JSONObject}和{@link JSONArray}：
+ * <ul>
+ *     <li>每个Bean类预先计算可读属性表，包括转义后的键名和通过{@link LambdaMetafactory}生成的Getter函数，无法生成时使用反射</li>
+ *     <li>int、long、boolean类型的属性直接写出，不装箱</li>
+ *     <li>输出与{@link JSONUtil#toJsonStr(Object, JSONConfig)}一致，支持{@link JSONConfig}中的忽略null值、日期格式、transient、
+ *     去除末尾0、long写出为字符串等配置，{@link GlobalSerializeMapping}中的自定义序列化器依旧生效</li>
+ * </ul>
+ * 配置了忽略大小写或键排序时，键的顺序和大小写由{@link JSONObject}决定，此时构建{@link JSONObject}后写出。
+ *
+ * @author looly
+ * @since 5.8.42
+ */
+public class JSONBeanWriter {
+
+	/**
+	 * Bean属性写出器缓存
+	 */
+	private static final WeakKeyConcurrentMap<Class<?>, PropWriter[]> PROP_WRITERS = new WeakKeyConcurrentMap<>();
+
+	/**
+	 * Writer
+	 */
+	private final Writer writer;
+	/**
+	 * 缩进因子，定义每一级别增加的缩进量
+	 */
+	private final int indentFactor;
+	/**
+	 * JSON选项
+	 */
+	private final JSONConfig config;
+	/**
+	 * 整数写出缓存，避免数字转字符串
+	 */
+	private final char[] numberBuffer = new char[20];
+
+	/**
+	 * 创建JSONBeanWriter
+	 *
+	 * @param writer       {@link Writer}
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不格式化
+	 * @param config       JSON选项，{@code null}表示默认选项
+	 * @return JSONBeanWriter
+	 */
+	public static JSONBeanWriter of(Writer writer, int indentFactor, JSONConfig config) {
+		return new JSONBeanWriter(writer, indentFactor, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param writer       {@link Writer}
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不格式化
+	 * @param config       JSON选项，{@code null}表示默认选项
+	 */
+	public JSONBeanWriter(Writer writer, int indentFactor, JSONConfig config) {
+		this.writer = writer;
+		this.indentFactor = indentFactor;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 将对象写出为JSON，规则同{@link JSONUtil#toJsonStr(Object, JSONConfig)}，对象为{@code null}时不写出任何内容<br>
+	 * 写出后刷新但不关闭Writer
+	 *
+	 * @param obj Bean、Map、集合、数组或JSON等
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONBeanWriter write(Object obj) throws IORuntimeException {
+		if (null == obj) {
+			return this;
+		}
+		try {
+			if (obj instanceof Boolean || obj instanceof Number) {
+				writer.write(obj.toString());
+			} else if (obj instanceof JSON || obj instanceof CharSequence
+					|| config.isIgnoreCase() || null != config.getKeyComparator()) {
+				// JSON字符串需解析，忽略大小写或键排序需由JSONObject重组键值对
+				JSONUtil.parse(obj, config).write(writer, indentFactor, 0);
+			} else if (obj instanceof MapWrapper || obj instanceof Map || obj instanceof Map.Entry) {
+				writeObject(obj, 0);
+			} else if (obj instanceof Iterable || obj instanceof Iterator || ArrayUtil.isArray(obj)) {
+				writeArray(obj, 0);
+			} else if (RecordUtil.isRecord(obj.getClass()) || BeanUtil.isReadableBean(obj.getClass())) {
+				writeObject(obj, 0);
+			} else {
+				JSONUtil.parse(obj, config).write(writer, indentFactor, 0);
+			}
+			writer.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	// ------------------------------------------------------------------------------ Private methods
+
+	/**
+	 * 写出值，规则同{@link JSONUtil#wrap(Object, JSONConfig)}，值不为{@code null}
+	 *
+	 * @param value  值
+	 * @param indent 当前缩进量
+	 * @throws IOException IO异常
+	 */
+	private void writeValue(Object value, int indent) throws IOException {
+		if (value instanceof JSON) {
+			((JSON) value).write(writer, indentFactor, indent);
+		} else if (value instanceof JSONString) {
+			writeJSONString((JSONString) value);
+		} else if (value instanceof CharSequence) {
+			JSONUtil.quote(value.toString(), writer);
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else if (value instanceof Boolean) {
+			writer.write(value.toString());
+		} else if (ObjectUtil.isBasicType(value) || value instanceof SQLException) {
+			// Character等基本类型，SQLException保存其字符串形式（issue#1399@Github）
+			JSONUtil.quote(value.toString(), writer);
+		} else if (value instanceof Iterable || value instanceof Iterator || ArrayUtil.isArray(value)) {
+			writeArray(value, indent);
+		} else if (value instanceof Map || value instanceof Map.Entry) {
+			writeObject(value, indent);
+		} else if (value instanceof Date || value instanceof Calendar || value instanceof TemporalAccessor) {
+			if (value instanceof MonthDay) {
+				// issue#2572@Github
+				JSONUtil.quote(value.toString(), writer);
+			} else {
+				writer.write(JSONWriter.formatDate(value, config.getDateFormat()));
+			}
+		} else if (value instanceof Enum) {
+			JSONUtil.quote(value.toString(), writer);
+		} else if (value instanceof Class<?>) {
+			// pr#3507
+			JSONUtil.quote(((Class<?>) value).getName(), writer);
+		} else if (ClassUtil.isJdkClass(value.getClass())) {
+			JSONUtil.quote(value.toString(), writer);
+		} else {
+			writeObject(value, indent);
+		}
+	}
+
+	/**
+	 * 写出对象，包括Map、Map.Entry和Bean，对象有自定义序列化器时使用序列化器
+	 *
+	 * @param value  对象
+	 * @param indent 当前缩进量
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(Object value, int indent) throws IOException {
+		if (null != GlobalSerializeMapping.getSerializer(value.getClass())) {
+			new JSONObject(value, config).write(writer, indentFactor, indent);
+			return;
+		}
+
+		writer.write('{');
+		final int fieldIndent = indentFactor + indent;
+		boolean needSeparator = false;
+		if (value instanceof Map) {
+			for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				needSeparator |= writeEntry(entry, needSeparator, fieldIndent);
+			}
+		} else if (value instanceof Map.Entry) {
+			writeEntry((Map.Entry<?, ?>) value, false, fieldIndent);
+		} else {
+			for (final PropWriter prop : PROP_WRITERS.computeIfAbsent(value.getClass(), JSONBeanWriter::createPropWriters)) {
+				needSeparator |= writeProp(value, prop, needSeparator, fieldIndent);
+			}
+		}
+		writeLF();
+		writeSpace(indent);
+		writer.write('}');
+	}
+
+	/**
+	 * 写出Map中的键值对，键为{@code null}或值为{@code null}且忽略null值时跳过
+	 *
+	 * @param entry         键值对
+	 * @param needSeparator 是否需要分隔符
+	 * @param indent        键值对的缩进量
+	 * @return 是否写出
+	 * @throws IOException IO异常
+	 */
+	private boolean writeEntry(Map.Entry<?, ?> entry, boolean needSeparator, int indent) throws IOException {
+		final String key = Convert.toStr(entry.getKey());
+		if (null == key) {
+			return false;
+		}
+		final Object value = entry.getValue();
+		if (ObjectUtil.isNull(value) && config.isIgnoreNullValue()) {
+			return false;
+		}
+		writeKey(JSONUtil.quote(key), needSeparator, indent);
+		writeValueOrNull(value, indent);
+		return true;
+	}
+
+	/**
+	 * 写出Bean的属性，值为{@code null}且忽略null值时跳过
+	 *
+	 * @param bean          Bean
+	 * @param prop          属性写出器
+	 * @param needSeparator 是否需要分隔符
+	 * @param indent        键值对的缩进量
+	 * @return 是否写出
+	 * @throws IOException IO异常
+	 */
+	private boolean writeProp(Object bean, PropWriter prop, boolean needSeparator, int indent) throws IOException {
+		if (false == prop.prop.isReadable(config.isTransientSupport())) {
+			return false;
+		}
+
+		if (null != prop.intGetter) {
+			writeKey(prop.key, needSeparator, indent);
+			writeLong(prop.intGetter.applyAsInt(bean));
+		} else if (null != prop.longGetter) {
+			writeKey(prop.key, needSeparator, indent);
+			final long value = prop.longGetter.applyAsLong(bean);
+			if (config.isWriteLongAsString()) {
+				// issue#3541
+				writer.write('"');
+				writeLong(value);
+				writer.write('"');
+			} else {
+				writeLong(value);
+			}
+		} else if (null != prop.booleanGetter) {
+			writeKey(prop.key, needSeparator, indent);
+			writer.write(prop.booleanGetter.test(bean) ? "true" : "false");
+		} else {
+			final Object value = prop.getValue(bean, config.isIgnoreError());
+			if (ObjectUtil.isNull(value) && config.isIgnoreNullValue()) {
+				return false;
+			}
+			writeKey(prop.key, needSeparator, indent);
+			writeValueOrNull(value, indent);
+		}
+		return true;
+	}
+
+	/**
+	 * 写出数组或集合，元素为{@code null}且忽略null值时跳过
+	 *
+	 * @param value  数组、{@link Iterable}或{@link Iterator}
+	 * @param indent 当前缩进量
+	 * @throws IOException IO异常
+	 */
+	private void writeArray(Object value, int indent) throws IOException {
+		if (value instanceof byte[] || null != GlobalSerializeMapping.getSerializer(value.getClass())) {
+			// byte[]可能为JSON字符串的字节，按照JSONArray规则处理
+			new JSONArray(value, config).write(writer, indentFactor, indent);
+			return;
+		}
+
+		final Iterator<?> iter;
+		if (value instanceof Iterator) {
+			iter = (Iterator<?>) value;
+		} else if (value instanceof Iterable) {
+			iter = ((Iterable<?>) value).iterator();
+		} else {
+			iter = new ArrayIter<>(value);
+		}
+
+		writer.write('[');
+		final int elementIndent = indentFactor + indent;
+		boolean needSeparator = false;
+		Object element;
+		while (iter.hasNext()) {
+			element = iter.next();
+			// 跳过自身，避免循环引用
+			if (element == value || (ObjectUtil.isNull(element) && config.isIgnoreNullValue())) {
+				continue;
+			}
+			if (needSeparator) {
+				writer.write(',');
+			}
+			writeLF();
+			writeSpace(elementIndent);
+			writeValueOrNull(element, elementIndent);
+			needSeparator = true;
+		}
+		writeLF();
+		writeSpace(indent);
+		writer.write(']');
+	}
+
+	/**
+	 * 写出值，{@code null}或{@link cn.hutool.json.JSONNull}写出为null
+	 *
+	 * @param value  值
+	 * @param indent 当前缩进量
+	 * @throws IOException IO异常
+	 */
+	private void writeValueOrNull(Object value, int indent) throws IOException {
+		if (ObjectUtil.isNull(value)) {
+			writer.write("null");
+		} else {
+			writeValue(value, indent);
+		}
+	}
+
+	/**
+	 * 写出键，自动处理分隔符和缩进
+	 *
+	 * @param quotedKey     已转义并包装引号的键
+	 * @param needSeparator 是否需要分隔符
+	 * @param indent        键的缩进量
+	 * @throws IOException IO异常
+	 */
+	private void writeKey(String quotedKey, boolean needSeparator, int indent) throws IOException {
+		if (needSeparator) {
+			writer.write(',');
+		}
+		writeLF();
+		writeSpace(indent);
+		writer.write(quotedKey);
+		writer.write(':');
+		if (indentFactor > 0) {
+			writer.write(' ');
+		}
+	}
+
+	/**
+	 * 写出数字，规则同{@link JSONWriter}
+	 *
+	 * @param number 数字
+	 * @throws IOException IO异常
+	 */
+	private void writeNumber(Number number) throws IOException {
+		// issue#IALQ0N，避免设置日期格式后writeLongAsString失效
+		if (number instanceof NumberWithFormat) {
+			number = (Number) ((NumberWithFormat) number).getNumber();
+		}
+		if (false == ObjectUtil.isValidIfNumber(number)) {
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+
+		if (number instanceof Long && config.isWriteLongAsString()) {
+			writer.write('"');
+			writeLong(number.longValue());
+			writer.write('"');
+		} else if (number instanceof Integer || number instanceof Long
+				|| number instanceof Short || number instanceof Byte) {
+			writeLong(number.longValue());
+		} else {
+			writer.write(NumberUtil.toStr(number, config.isStripTrailingZeros()));
+		}
+	}
+
+	/**
+	 * 写出整数，使用缓存的字符数组，不创建字符串
+	 *
+	 * @param value 整数
+	 * @throws IOException IO异常
+	 */
+	private void writeLong(long value) throws IOException {
+		if (Long.MIN_VALUE == value) {
+			writer.write(Long.toString(value));
+			return;
+		}
+		final char[] buffer = this.numberBuffer;
+		final boolean negative = value < 0;
+		if (negative) {
+			value = -value;
+		}
+		int pos = buffer.length;
+		do {
+			buffer[--pos] = (char) ('0' + value % 10);
+			value /= 10;
+		} while (value != 0);
+		if (negative) {
+			buffer[--pos] = '-';
+		}
+		writer.write(buffer, pos, buffer.length - pos);
+	}
+
+	/**
+	 * 写出{@link JSONString}，规则同{@link JSONWriter}
+	 *
+	 * @param jsonString {@link JSONString}
+	 * @throws IOException IO异常
+	 */
+	private void writeJSONString(JSONString jsonString) throws IOException {
+		final String valueStr;
+		try {
+			valueStr = jsonString.toJSONString();
+		} catch (final Exception e) {
+			throw new JSONException(e);
+		}
+		if (null != valueStr) {
+			writer.write(valueStr);
+		} else {
+			JSONUtil.quote(jsonString.toString(), writer);
+		}
+	}
+
+	/**
+	 * 写出换行符
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeLF() throws IOException {
+		if (indentFactor > 0) {
+			writer.write('\n');
+		}
+	}
+
+	/**
+	 * 写出空格
+	 *
+	 * @param count 空格数
+	 * @throws IOException IO异常
+	 */
+	private void writeSpace(int count) throws IOException {
+		if (indentFactor > 0) {
+			for (int i = 0; i < count; i++) {
+				writer.write(' ');
+			}
+		}
+	}
+
+	/**
+	 * 创建Bean的属性写出器，非Bean返回空数组
+	 *
+	 * @param beanClass Bean类
+	 * @return 属性写出器
+	 */
+	private static PropWriter[] createPropWriters(Class<?> beanClass) {
+		if (false == RecordUtil.isRecord(beanClass) && false == BeanUtil.isReadableBean(beanClass)) {
+			return new PropWriter[0];
+		}
+		final List<PropWriter> writers = new ArrayList<>();
+		BeanUtil.getBeanDesc(beanClass).getPropMap(false).forEach((name, prop) -> {
+			if (null != name) {
+				writers.add(new PropWriter(name, prop));
+			}
+		});
+		return writers.toArray(new PropWriter[0]);
+	}
+
+	/**
+	 * Bean属性写出器，包括转义后的键名和Getter函数
+	 */
+	private static class PropWriter {
+		private final PropDesc prop;
+		/**
+		 * 已转义并包装引号的键
+		 */
+		private final String key;
+		private final Function<Object, Object> getter;
+		private final ToIntFunction<Object> intGetter;
+		private final ToLongFunction<Object> longGetter;
+		private final Predicate<Object> booleanGetter;
+
+		@SuppressWarnings("unchecked")
+		PropWriter(String name, PropDesc prop) {
+			this.prop = prop;
+			this.key = JSONUtil.quote(name);
+
+			final Method method = prop.getGetter();
+			final Class<?> returnType = null == method ? null : method.getReturnType();
+			if (int.class == returnType || short.class == returnType || byte.class == returnType) {
+				this.intGetter = (ToIntFunction<Object>) createGetter(method, ToIntFunction.class, "applyAsInt", int.class);
+			} else {
+				this.intGetter = null;
+			}
+			if (long.class == returnType) {
+				this.longGetter = (ToLongFunction<Object>) createGetter(method, ToLongFunction.class, "applyAsLong", long.class);
+			} else {
+				this.longGetter = null;
+			}
+			if (boolean.class == returnType) {
+				this.booleanGetter = (Predicate<Object>) createGetter(method, Predicate.class, "test", boolean.class);
+			} else {
+				this.booleanGetter = null;
+			}
+			if (null != method && null == intGetter && null == longGetter && null == booleanGetter) {
+				this.getter = (Function<Object, Object>) createGetter(method, Function.class, "apply", Object.class);
+			} else {
+				this.getter = null;
+			}
+		}
+
+		/**
+		 * 获取属性值，无Getter函数时使用反射
+		 *
+		 * @param bean        Bean
+		 * @param ignoreError 是否忽略错误，忽略时返回{@code null}
+		 * @return 属性值
+		 */
+		Object getValue(Object bean, boolean ignoreError) {
+			try {
+				return null == getter ? prop.getValue(bean) : getter.apply(bean);
+			} catch (final RuntimeException e) {
+				if (ignoreError) {
+					return null;
+				}
+				throw new JSONException(e, "Get value of [{}] error!", prop.getFieldName());
+			}
+		}
+
+		/**
+		 * 通过{@link LambdaMetafactory}创建Getter函数，失败返回{@code null}，此时使用反射获取值
+		 *
+		 * @param method       Getter方法
+		 * @param functionType 函数接口
+		 * @param functionName 函数接口方法名
+		 * @param returnType   函数接口方法返回类型
+		 * @return 函数对象或{@code null}
+		 */
+		private static Object createGetter(Method method, Class<?> functionType, String functionName, Class<?> returnType) {
+			try {
+				final MethodHandles.Lookup lookup = LookupFactory.lookup(method.getDeclaringClass());
+				final MethodHandle handle = lookup.unreflect(method);
+				final MethodType instantiatedType = Object.class == returnType ? handle.type().wrap() : handle.type();
+				return LambdaMetafactory.metafactory(lookup, functionName, MethodType.methodType(functionType),
+						MethodType.methodType(returnType, Object.class), handle, instantiatedType).getTarget().invoke();
+			} catch (final Throwable e) {
+				return null;
+			}
+		}
+	}
+}
@@ -408,7 +408,7 @@ public class JSONWriter extends Writer {
 	 * @param format  格式
 	 * @return 日期字符串
 	 */
-	private static String formatDate(Object dateObj, String format) {
+	static String formatDate(Object dateObj, String format) {
 		if (StrUtil.isNotBlank(format)) {
 			final String dateStr;
 			if (dateObj instanceof TemporalAccessor) {
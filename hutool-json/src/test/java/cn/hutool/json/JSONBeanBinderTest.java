@@ -0,0 +1,167 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.lang.TypeReference;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONBeanBinderTest {
+
+	private static final String ORDER_JSON = "{\"id\":12345678901,\"status\":\"PAID\",\"price\":12.5,\"paid\":true," +
+			"\"buyer\":{\"name\":\"looly\",\"age\":18},\"items\":[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2}]," +
+			"\"tags\":[\"x\",\"y\",\"x\"],\"extra\":{\"1\":[1,2],\"2\":[3]},\"scores\":[1,2,3],\"unknown\":{\"a\":[1,{\"b\":2}]}}";
+
+	@Test
+	public void readBeanTest() {
+		final Order order = JSONUtil.readBean(ORDER_JSON, Order.class);
+		assertEquals(12345678901L, order.getId());
+		assertEquals(Status.PAID, order.getStatus());
+		assertEquals(12.5D, order.getPrice());
+		assertTrue(order.isPaid());
+		assertEquals("looly", order.getBuyer().getName());
+		assertEquals(2, order.getItems().size());
+		assertEquals(2, order.getItems().get(1).getAge());
+		assertEquals(2, order.getTags().size());
+		assertEquals(2L, order.getExtra().get(1).get(1));
+		assertArrayEquals(new int[]{1, 2, 3}, order.getScores());
+
+		// 与构建JSONObject后转换的结果一致
+		assertEquals(JSONUtil.toBean(ORDER_JSON, Order.class), order);
+	}
+
+	@Test
+	public void readBeanFromReaderTest() {
+		final Order order = JSONUtil.readBean(new StringReader(ORDER_JSON), null, Order.class);
+		assertEquals(JSONUtil.toBean(ORDER_JSON, Order.class), order);
+	}
+
+	@Test
+	public void genericTest() {
+		final String json = "{\"code\":0,\"data\":[{\"name\":\"a\",\"age\":1}]}";
+		final Result<List<User>> result = JSONUtil.readBean(json, null, new TypeReference<Result<List<User>>>() {
+		});
+		assertEquals(0, result.getCode());
+		assertEquals("a", result.getData().get(0).getName());
+	}
+
+	@Test
+	public void keyMatchTest() {
+		// 下划线转驼峰
+		User user = JSONUtil.readBean("{\"user_name\":\"looly\",\"age\":\"18\"}", null, User.class);
+		assertEquals("looly", user.getUserName());
+		assertEquals(18, user.getAge());
+
+		// 忽略大小写
+		user = JSONUtil.readBean("{\"NAME\":\"looly\"}", JSONConfig.create().setIgnoreCase(true), User.class);
+		assertEquals("looly", user.getName());
+		user = JSONUtil.readBean("{\"NAME\":\"looly\"}", null, User.class);
+		assertNull(user.getName());
+	}
+
+	@Test
+	public void dateTest() {
+		final JSONConfig config = JSONConfig.create().setDateFormat("yyyy/MM/dd");
+		final DateBean bean = JSONUtil.readBean("{\"date\":\"2024/01/02\",\"localDate\":\"2024/03/04\"}", config, DateBean.class);
+		assertEquals(DateUtil.parseDate("2024-01-02"), bean.getDate());
+		assertEquals(LocalDate.of(2024, 3, 4), bean.getLocalDate());
+
+		final DateBean bean2 = JSONUtil.readBean("{\"date\":1704124800000}", null, DateBean.class);
+		assertEquals(1704124800000L, bean2.getDate().getTime());
+	}
+
+	@Test
+	public void nullValueTest() {
+		final User user = JSONUtil.readBean("{\"name\":null,\"age\":null}", null, User.class);
+		assertNull(user.getName());
+		assertEquals(0, user.getAge());
+		assertNull(JSONUtil.readBean(" ", User.class));
+	}
+
+	@Test
+	public void transientTest() {
+		final TransientBean bean = JSONUtil.readBean("{\"name\":\"a\",\"secret\":\"b\"}", null, TransientBean.class);
+		assertEquals("a", bean.getName());
+		assertNull(bean.getSecret());
+
+		final TransientBean bean2 = JSONUtil.readBean("{\"name\":\"a\",\"secret\":\"b\"}",
+				JSONConfig.create().setTransientSupport(false), TransientBean.class);
+		assertEquals("b", bean2.getSecret());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("JSONUtil.toBean " + round);
+			for (int i = 0; i < 100_000; i++) {
+				JSONUtil.toBean(ORDER_JSON, Order.class);
+			}
+			stopWatch.stop();
+
+			stopWatch.start("JSONUtil.readBean " + round);
+			for (int i = 0; i < 100_000; i++) {
+				JSONUtil.readBean(ORDER_JSON, Order.class);
+			}
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	public enum Status {
+		NEW, PAID
+	}
+
+	@Data
+	public static class User {
+		private String name;
+		private String userName;
+		private int age;
+	}
+
+	@Data
+	public static class Order {
+		private long id;
+		private Status status;
+		private Double price;
+		private boolean paid;
+		private User buyer;
+		private List<User> items;
+		private Set<String> tags;
+		private Map<Integer, List<Long>> extra;
+		private int[] scores;
+	}
+
+	@Data
+	public static class Result<T> {
+		private int code;
+		private T data;
+	}
+
+	@Data
+	public static class DateBean {
+		private Date date;
+		private LocalDate localDate;
+	}
+
+	@Data
+	public static class TransientBean {
+		private String name;
+		private transient String secret;
+	}
+}
@@ -0,0 +1,209 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FastStringWriter;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+import cn.hutool.json.serialize.JSONBeanWriter;
+import cn.hutool.json.serialize.JSONObjectSerializer;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JSONBeanWriterTest {
+
+	@Test
+	public void writeBeanTest() {
+		final Order order = newOrder();
+		assertEquals(JSONUtil.toJsonStr(order), JSONUtil.writeBeanAsStr(order, null));
+		assertEquals("{\"id\":12345678901,\"count\":3,\"paid\":true,\"price\":12.5,\"name\":\"a\\\"b\\n\\u2028\"," +
+						"\"status\":\"PAID\",\"buyer\":{\"name\":\"looly\",\"age\":18},\"items\":[{\"name\":\"a\",\"age\":1},{\"age\":0}]," +
+						"\"scores\":[1,2,3],\"extra\":{\"k\":\"v\"},\"date\":1704124800000,\"type\":\"java.lang.String\",\"monthDay\":\"--01-02\"}",
+				JSONUtil.writeBeanAsStr(order, null));
+	}
+
+	@Test
+	public void configTest() {
+		final Order order = newOrder();
+		final JSONConfig config = JSONConfig.create()
+				.setIgnoreNullValue(false)
+				.setDateFormat("yyyy-MM-dd")
+				.setWriteLongAsString(true)
+				.setStripTrailingZeros(false);
+		assertEquals(JSONUtil.toJsonStr(order, config), JSONUtil.writeBeanAsStr(order, config));
+
+		// transient
+		order.setSecret("s");
+		assertEquals(JSONUtil.toJsonStr(order, config.setTransientSupport(false)), JSONUtil.writeBeanAsStr(order, config));
+
+		// 忽略大小写和键排序时由JSONObject处理
+		config.setKeyComparator(String::compareTo);
+		assertEquals(JSONUtil.toJsonStr(order, config), JSONUtil.writeBeanAsStr(order, config));
+	}
+
+	@Test
+	public void prettyTest() {
+		final Order order = newOrder();
+		final FastStringWriter writer = new FastStringWriter();
+		JSONBeanWriter.of(writer, 4, null).write(order);
+		assertEquals(JSONUtil.toJsonPrettyStr(order), writer.toString());
+	}
+
+	@Test
+	public void iteratorTest() {
+		// Iterator值与JSONWriter一致写出为数组
+		assertEquals("[1,\"a\"]", JSONUtil.writeBeanAsStr(Arrays.asList(1, "a", null).iterator(), null));
+		assertEquals("{\"iter\":[1,\"a\"]}", JSONUtil.writeBeanAsStr(MapUtil.of("iter", Arrays.asList(1, "a", null).iterator()), null));
+
+		final IterBean bean = new IterBean();
+		bean.setIter(Arrays.asList("x", "y").iterator());
+		assertEquals("{\"iter\":[\"x\",\"y\"]}", JSONUtil.writeBeanAsStr(bean, null));
+	}
+
+	@Test
+	public void collectionTest() {
+		final List<Object> list = Arrays.asList(newOrder(), null, MapUtil.of("a", new BigDecimal("1.50")), JSONUtil.createObj().set("b", 2));
+		assertEquals(JSONUtil.toJsonStr(list), JSONUtil.writeBeanAsStr(list, null));
+
+		final Map<Object, Object> map = MapUtil.builder().put(1, list).put("n", null).put(null, 1).build();
+		assertEquals(JSONUtil.toJsonStr(map), JSONUtil.writeBeanAsStr(map, null));
+		assertEquals(JSONUtil.toJsonStr(map, JSONConfig.create()), JSONUtil.writeBeanAsStr(map, null));
+
+		assertEquals("{\"a\":1}", JSONUtil.writeBeanAsStr("{\"a\":1}", null));
+		assertEquals("12", JSONUtil.writeBeanAsStr(12, null));
+		assertNull(JSONUtil.writeBeanAsStr(null, null));
+	}
+
+	@Test
+	public void outputStreamTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JSONUtil.writeBean(newOrder(), out, StandardCharsets.UTF_8, null);
+		assertEquals(JSONUtil.toJsonStr(newOrder()), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void customSerializerTest() {
+		GlobalSerializeMapping.put(CustomBean.class, (JSONObjectSerializer<CustomBean>) (json, bean) -> json.set("customName", bean.getName()));
+		final CustomBean bean = new CustomBean();
+		bean.setName("looly");
+		final List<Object> list = Arrays.asList(bean, MapUtil.of("bean", bean));
+		assertEquals("[{\"customName\":\"looly\"},{\"bean\":{\"customName\":\"looly\"}}]", JSONUtil.writeBeanAsStr(list, null));
+		assertEquals(JSONUtil.toJsonStr(list), JSONUtil.writeBeanAsStr(list, null));
+	}
+
+	@Test
+	public void nonFiniteTest() {
+		final Order order = newOrder();
+		order.setPrice(Double.NaN);
+		assertThrows(JSONException.class, () -> JSONUtil.writeBeanAsStr(order, null));
+	}
+
+	@Test
+	public void localDateTimeTest() {
+		final Map<String, Object> map = MapUtil.of("time", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+		assertEquals(JSONUtil.toJsonStr(map), JSONUtil.writeBeanAsStr(map, null));
+		final JSONConfig config = JSONConfig.create().setDateFormat("yyyy-MM-dd HH:mm:ss");
+		assertEquals(JSONUtil.toJsonStr(map, config), JSONUtil.writeBeanAsStr(map, config));
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final Order order = newOrder();
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("JSONUtil.toJsonStr " + round);
+			for (int i = 0; i < 200_000; i++) {
+				JSONUtil.toJsonStr(order);
+			}
+			stopWatch.stop();
+
+			stopWatch.start("JSONUtil.writeBeanAsStr " + round);
+			for (int i = 0; i < 200_000; i++) {
+				JSONUtil.writeBeanAsStr(order, null);
+			}
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static Order newOrder() {
+		final Order order = new Order();
+		order.setId(12345678901L);
+		order.setCount(3);
+		order.setPaid(true);
+		order.setPrice(12.5D);
+		order.setName("a\"b\n\u2028");
+		order.setStatus(Status.PAID);
+		final Buyer buyer = new Buyer();
+		buyer.setName("looly");
+		buyer.setAge(18);
+		order.setBuyer(buyer);
+		final Buyer item = new Buyer();
+		item.setName("a");
+		item.setAge(1);
+		order.setItems(Arrays.asList(item, new Buyer()));
+		order.setScores(new int[]{1, 2, 3});
+		order.setExtra(MapUtil.of("k", "v"));
+		order.setDate(DateUtil.date(1704124800000L));
+		order.setType(String.class);
+		order.setMonthDay(MonthDay.of(1, 2));
+		return order;
+	}
+
+	public enum Status {
+		NEW, PAID
+	}
+
+	@Data
+	public static class Buyer {
+		private String name;
+		private int age;
+	}
+
+	@Data
+	public static class CustomBean {
+		private String name;
+	}
+
+	@Data
+	public static class Order {
+		private long id;
+		private int count;
+		private boolean paid;
+		private Double price;
+		private String name;
+		private Status status;
+		private Buyer buyer;
+		private List<Buyer> items;
+		private int[] scores;
+		private Map<String, String> extra;
+		private Date date;
+		private Class<?> type;
+		private MonthDay monthDay;
+		private transient String secret;
+		private String remark;
+	}
+
+	@Data
+	public static class IterBean {
+		private Iterator<String> iter;
+	}
+}
@@ -0,0 +1,153 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONByteParserTest {
+
+	private static JSON parseBytes(String json, JSONConfig config) {
+		return JSONByteParser.of(json.getBytes(StandardCharsets.UTF_8), config).parse();
+	}
+
+	private static void assertSameAsTokener(String json) {
+		assertSameAsTokener(json, null);
+	}
+
+	private static void assertSameAsTokener(String json, JSONConfig config) {
+		final JSON expected = JSONUtil.parse(json, config);
+		final JSON actual = parseBytes(json, config);
+		assertEquals(expected, actual);
+		assertEquals(expected.toString(), actual.toString());
+	}
+
+	@Test
+	public void parseTest() {
+		assertSameAsTokener("{\"a\":1,\"b\":\"中文\",\"c\":[true,false,null,1.5],\"d\":{\"e\":-12345678901}}");
+		assertSameAsTokener("[1, \"2\", {\"a\": []}, [], {}]");
+		assertSameAsTokener("[1,null,2]", JSONConfig.create().setIgnoreNullValue(false));
+		assertSameAsTokener("{\"a\":null}", JSONConfig.create().setIgnoreNullValue(false));
+	}
+
+	@Test
+	public void lenientTest() {
+		// 单引号、无引号的键和值、尾后逗号、分号分隔，与JSONTokener一致
+		assertSameAsTokener("{'a': 'b', c : d e , f: TRUE; g: Null, h: 中文,}");
+		assertSameAsTokener("[a, 'b',, 1,]", JSONConfig.create().setIgnoreNullValue(false));
+		assertSameAsTokener("[1 2, a b]");
+		assertSameAsTokener("﻿{\"a\":1}".substring(1));
+		assertEquals(1, ((JSONObject) JSONByteParser.of(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '{', 'a', ':', '1', '}'}, null).parse()).getInt("a"));
+	}
+
+	@Test
+	public void numberTest() {
+		final String[] numbers = {"0", "-0", "01", "12", "-12", "2147483647", "2147483648", "-2147483649", "123456789012345678",
+				"1234567890123456789", "9223372036854775807", "9223372036854775808", "1.5", "-0.0", "1.50", "00.5", "1.", "-",
+				"1e5", "1E+5", "1.5e-3", "-1.5E3", "123456789.123456789", "1.2.3", "1e", "12abc", "0x10", "1e1234567890"};
+		for (final String number : numbers) {
+			final String json = "{\"n\":" + number + "}";
+			final Object expected = JSONUtil.parseObj(json).get("n");
+			final Object actual = ((JSONObject) parseBytes(json, null)).get("n");
+			assertEquals(expected, actual, number);
+			assertEquals(expected.getClass(), actual.getClass(), number);
+		}
+		assertEquals(new BigDecimal("1.5e-3"), ((JSONObject) parseBytes("{\"n\":1.5e-3}", null)).get("n"));
+	}
+
+	@Test
+	public void escapeTest() {
+		assertSameAsTokener("{\"a\":\"x\\\"y\\\\z\\/\\b\\f\\n\\r\\t\\u4e2d\\u6587\", 'b':'it\\'s'}");
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":\"x\\q\"}", null));
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":\"x\ny\"}", null));
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":\"xy", null));
+	}
+
+	@Test
+	public void swarBoundaryTest() {
+		// 引号、转义符和多字节字符出现在8字节分组的不同位置
+		for (int i = 0; i < 40; i++) {
+			final String prefix = StrUtil.repeat('a', i);
+			assertSameAsTokener("{\"k\":\"" + prefix + "\"}");
+			assertSameAsTokener("{\"k\":\"" + prefix + "\\\"" + prefix + "\"}");
+			assertSameAsTokener("{\"k\":\"" + prefix + "中\\n" + prefix + "\"}");
+			assertSameAsTokener("{\"k\":\"" + prefix + "\t" + prefix + "'\"}");
+			assertSameAsTokener("{'k':'" + prefix + "\"" + prefix + "'}");
+		}
+	}
+
+	@Test
+	public void errorTest() {
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\" 1}", null));
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":1", null));
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":}", null));
+		assertThrows(JSONException.class, () -> parseBytes("{\"a\":", null));
+		assertThrows(JSONException.class, () -> parseBytes("[1:2]", null));
+		assertThrows(JSONException.class, () -> parseBytes("{{}}", null));
+		assertThrows(JSONException.class, () -> parseBytes("", null));
+	}
+
+	@Test
+	public void byteBufferTest() {
+		final byte[] bytes = "xx{\"a\":[1,2]}yy".getBytes(StandardCharsets.UTF_8);
+		final JSONObject expected = JSONUtil.parseObj("{\"a\":[1,2]}");
+		assertEquals(expected, new JSONByteParser(bytes, 2, bytes.length - 4, null).parse());
+
+		final ByteBuffer heap = ByteBuffer.wrap(bytes, 2, bytes.length - 4);
+		assertEquals(expected, JSONUtil.parse(heap, null));
+		assertEquals(2, heap.position());
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip().position(2).limit(bytes.length - 2);
+		assertEquals(expected, JSONUtil.parse(direct, null));
+	}
+
+	@Test
+	public void jsonUtilTest() {
+		final byte[] bytes = "{\"a\":1,\"b\":[1,2]}".getBytes(StandardCharsets.UTF_8);
+		assertEquals(JSONUtil.parseObj("{\"a\":1,\"b\":[1,2]}"), JSONUtil.parse(bytes));
+		assertEquals(JSONUtil.parseObj("{\"a\":1,\"b\":[1,2]}"), JSONUtil.parseObj(bytes));
+		assertEquals(JSONUtil.parseArray("[1,2]"), JSONUtil.parse("[1,2]".getBytes(StandardCharsets.UTF_8)));
+
+		// 非JSON的byte[]仍按照数组处理
+		final JSON json = JSONUtil.parse(new byte[]{1, 2});
+		assertTrue(json instanceof JSONArray);
+		assertEquals(2, ((JSONArray) json).size());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100_000; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"id\":").append(i).append(",\"name\":\"name-").append(i).append("-中文\",\"score\":").append(i * 0.5)
+					.append(",\"desc\":\"").append(StrUtil.repeat("abcdefgh", 8)).append("\",\"active\":true}");
+		}
+		final byte[] bytes = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("JSONTokener(InputStream) " + round);
+			JSONUtil.parseArray(new JSONTokener(IoUtil.toStream(bytes), null));
+			stopWatch.stop();
+
+			stopWatch.start("JSONByteParser " + round);
+			JSONByteParser.of(bytes, null).parseArray();
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+}
@@ -0,0 +1,199 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONLinesTest {
+
+	private File file;
+
+	@BeforeEach
+	public void init() {
+		file = FileUtil.createTempFile("lines", ".ndjson", true);
+	}
+
+	@AfterEach
+	public void clean() {
+		FileUtil.del(file);
+	}
+
+	@Test
+	public void writeAndReadTest() {
+		final List<User> users = newUsers(100);
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(file, false, null)) {
+			writer.writeAll(users);
+			assertEquals(100, writer.getCount());
+		}
+		final List<String> lines = FileUtil.readUtf8Lines(file);
+		assertEquals(100, lines.size());
+		assertEquals("{\"id\":0,\"name\":\"user\\n0\",\"tags\":[\"a\",\"b\"]}", lines.get(0));
+
+		// 逐条读取
+		final List<JSON> records = new ArrayList<>();
+		try (final JSONLinesReader reader = JSONLinesReader.of(file, null)) {
+			for (JSON record : reader) {
+				records.add(record);
+			}
+		}
+		assertEquals(100, records.size());
+		assertEquals("user\n99", ((JSONObject) records.get(99)).getStr("name"));
+
+		// Stream绑定Bean
+		try (final Stream<User> stream = JSONLinesReader.of(file, null).stream(User.class)) {
+			assertEquals(users, stream.collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void appendTest() {
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(file, false, null)) {
+			writer.write(MapUtil.of("a", 1));
+		}
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(file, true, null)) {
+			// JSON字符串重新解析，保证只占一行
+			writer.write("{\"b\":\n2}").write(JSONUtil.createArray().set(1)).write(null);
+		}
+		assertEquals(ListUtil.of("{\"a\":1}", "{\"b\":2}", "[1]", "null"), FileUtil.readUtf8Lines(file));
+	}
+
+	@Test
+	public void batchFlushTest() {
+		final int[] flushCount = {0};
+		final StringWriter out = new StringWriter() {
+			@Override
+			public void flush() {
+				flushCount[0]++;
+			}
+		};
+		final JSONLinesWriter writer = new JSONLinesWriter(out, null).setBatchSize(4);
+		for (int i = 0; i < 10; i++) {
+			writer.write(MapUtil.of("i", i));
+		}
+		assertEquals(2, flushCount[0]);
+		assertEquals(8, StrUtil.count(out.toString(), '\n'));
+		writer.close();
+		assertEquals(10, StrUtil.count(out.toString(), '\n'));
+	}
+
+	@Test
+	public void readLenientTest() {
+		final String lines = "\n{\"a\":1}\r\n\r\n  [1,2]\n{\"a\":2}";
+		final JSONLinesReader reader = new JSONLinesReader(new StringReader(lines), null);
+		final Iterator<JSON> iterator = reader.iterator();
+		assertEquals(ListUtil.of(JSONUtil.parseObj("{\"a\":1}"), JSONUtil.parseArray("[1,2]"), JSONUtil.parseObj("{\"a\":2}")),
+				CollUtil.newArrayList(iterator));
+		assertThrows(IllegalArgumentException.class, reader::iterator);
+
+		final JSONLinesReader scalarReader = new JSONLinesReader(new StringReader("{\"a\":1}\n123"), null);
+		assertThrows(JSONException.class, () -> CollUtil.newArrayList(scalarReader.iterator()));
+	}
+
+	@Test
+	public void readParallelTest() {
+		final List<User> users = newUsers(1000);
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(file, false, null)) {
+			writer.writeAll(users);
+		}
+
+		final List<JSON> expected = new ArrayList<>();
+		JSONLinesReader.of(file, null).forEach(expected::add);
+		assertEquals(expected, JSONLinesReader.readParallel(file, null));
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			// 小块，保证块的边界落在行中间
+			assertEquals(expected, JSONLinesReader.readParallel(file, null, null, pool, 100));
+			assertEquals(users, JSONLinesReader.readParallel(file, null, User.class, pool, 333));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void readParallelLenientTest() {
+		FileUtil.writeUtf8String("﻿{\"id\":1}\r\n\n  \n{\"id\":2}\n{\"id\":3}", file);
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		final List<User> users = JSONLinesReader.readParallel(file, null, User.class, pool, 4);
+		assertEquals(3, users.size());
+		assertEquals(3, users.get(2).getId());
+
+		FileUtil.writeUtf8String("{\"id\":1}\n{\"id\":\n{\"id\":3}\n", file);
+		final JSONException e = assertThrows(JSONException.class, () -> JSONLinesReader.readParallel(file, null, null, pool, 4));
+		assertTrue(e.getMessage().contains("at byte 9"), e.getMessage());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(file, false, null)) {
+			writer.writeAll(newUsers(500_000));
+		}
+		Console.log("File size: {}", FileUtil.readableFileSize(file));
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("readLines + parseObj " + round);
+			final List<JSONObject> list = FileUtil.readUtf8Lines(file).stream().map(JSONUtil::parseObj).collect(Collectors.toList());
+			stopWatch.stop();
+
+			stopWatch.start("JSONLinesReader " + round);
+			int count = 0;
+			try (final JSONLinesReader reader = JSONLinesReader.of(file, null)) {
+				for (JSON ignored : reader) {
+					count++;
+				}
+			}
+			stopWatch.stop();
+
+			stopWatch.start("JSONLinesReader.readParallel " + round);
+			final List<JSON> parallel = JSONLinesReader.readParallel(file, null);
+			stopWatch.stop();
+			assertEquals(list.size(), count);
+			assertEquals(list.size(), parallel.size());
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static List<User> newUsers(int count) {
+		final List<User> users = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			users.add(new User(i, "user\n" + i, ListUtil.of("a", "b")));
+		}
+		return users;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class User {
+		private int id;
+		private String name;
+		private List<String> tags;
+	}
+}
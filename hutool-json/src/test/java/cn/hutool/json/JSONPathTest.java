@@ -2,9 +2,15 @@ package cn.hutool.json;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
 import cn.hutool.core.lang.TypeReference;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -15,6 +21,13 @@ import java.util.List;
  */
 public class JSONPathTest {
 
+	private static final String STORE = "{\"store\":{\"book\":[" +
+			"{\"category\":\"reference\",\"author\":\"Nigel Rees\",\"title\":\"Sayings of the Century\",\"price\":8.95}," +
+			"{\"category\":\"fiction\",\"author\":\"Evelyn Waugh\",\"title\":\"Sword of Honour\",\"price\":12.99}," +
+			"{\"category\":\"fiction\",\"author\":\"Herman Melville\",\"title\":\"Moby Dick\",\"isbn\":\"0-553-21311-3\",\"price\":8.99}," +
+			"{\"category\":\"fiction\",\"author\":\"J. R. R. Tolkien\",\"title\":\"The Lord of the Rings\",\"isbn\":\"0-395-19395-8\",\"price\":22.99}]," +
+			"\"bicycle\":{\"color\":\"red\",\"price\":19.95}},\"expensive\":10}";
+
 	@Test
 	public void getByPathTest() {
 		String json = "[{\"id\":\"1\",\"name\":\"xingming\"},{\"id\":\"2\",\"name\":\"mingzi\"}]";
@@ -50,4 +63,188 @@ public class JSONPathTest {
 		assertNotNull(accountIds);
 		assertArrayEquals(new Long[]{1L, 2L, 3L}, accountIds.toArray());
 	}
+
+	/**
+	 * 流式查找与在JSONObject上查找的结果一致
+	 */
+	private static Object assertSameResult(String expression) {
+		final JSONPath path = JSONPath.of(expression);
+		final Object expected = path.get(JSONUtil.parseObj(STORE));
+		assertEquals(expected, path.extract(STORE), expression);
+		return expected;
+	}
+
+	@Test
+	public void definiteTest() {
+		assertEquals("Nigel Rees", assertSameResult("$.store.book[0].author"));
+		assertEquals("Nigel Rees", assertSameResult("store.book[0]['author']"));
+		assertEquals("J. R. R. Tolkien", assertSameResult("$['store']['book'][-1]['author']"));
+		assertEquals(10, assertSameResult("$.expensive"));
+		assertEquals("red", assertSameResult("$.store.bicycle.color"));
+		assertNull(assertSameResult("$.store.book[10].author"));
+		assertNull(assertSameResult("$.store.none"));
+		assertNull(assertSameResult("$.store.book.author"));
+		assertTrue(JSONPath.of("$.store.book[0]").isDefinite());
+		assertEquals(JSONUtil.parseObj(STORE), assertSameResult("$"));
+	}
+
+	@Test
+	public void wildcardTest() {
+		assertEquals(ListUtil.of("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien"),
+				assertSameResult("$.store.book[*].author"));
+		assertEquals(ListUtil.of("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien"),
+				assertSameResult("$..author"));
+		assertEquals(ListUtil.of(new BigDecimal("8.95"), new BigDecimal("12.99"), new BigDecimal("8.99"), new BigDecimal("22.99"), new BigDecimal("19.95")),
+				assertSameResult("$.store..price"));
+		assertEquals(2, ((List<?>) assertSameResult("$.store.*")).size());
+		assertEquals(ListUtil.of("red", new BigDecimal("19.95")), assertSameResult("$.store.bicycle.*"));
+		assertEquals(ListUtil.of("Sayings of the Century", "Moby Dick"), assertSameResult("$.store.book[0,2].title"));
+		assertEquals(ListUtil.of("reference", "Nigel Rees"), assertSameResult("$.store.book[0]['category','author']"));
+		assertFalse(JSONPath.of("$..author").isDefinite());
+	}
+
+	@Test
+	public void sliceTest() {
+		assertEquals(ListUtil.of("Nigel Rees", "Evelyn Waugh"), assertSameResult("$.store.book[:2].author"));
+		assertEquals(ListUtil.of("Evelyn Waugh", "J. R. R. Tolkien"), assertSameResult("$.store.book[1::2].author"));
+		assertEquals(ListUtil.of("Herman Melville", "J. R. R. Tolkien"), assertSameResult("$.store.book[-2:].author"));
+		assertEquals(ListUtil.of("J. R. R. Tolkien", "Herman Melville", "Evelyn Waugh", "Nigel Rees"), assertSameResult("$.store.book[::-1].author"));
+		assertEquals(ListUtil.of("Evelyn Waugh"), assertSameResult("$..book[1:2].author"));
+		assertEquals(ListUtil.of(), assertSameResult("$.store.book[5:].author"));
+	}
+
+	@Test
+	public void filterTest() {
+		assertEquals(ListUtil.of("Sayings of the Century", "Moby Dick"), assertSameResult("$.store.book[?(@.price < 10)].title"));
+		assertEquals(ListUtil.of("Moby Dick", "The Lord of the Rings"), assertSameResult("$..book[?(@.isbn)].title"));
+		assertEquals(ListUtil.of("Sayings of the Century", "Sword of Honour"), assertSameResult("$..book[?(!@.isbn)].title"));
+		assertEquals(ListUtil.of("Moby Dick"),
+				assertSameResult("$.store.book[?(@.category == 'fiction' && (@.price <= 8.99 || @.author == \"Nobody\"))].title"));
+		assertEquals(ListUtil.of("Sword of Honour", "The Lord of the Rings"),
+				assertSameResult("$.store.book[?(@.price > 10 && @['category'] != 'reference')].title"));
+		assertEquals(ListUtil.of(), assertSameResult("$.store.book[?(@.none > 1)]"));
+		assertEquals(4, ((List<?>) assertSameResult("$.store.book[?(@.none == null)]")).size());
+
+		final Object numbers = JSONPath.of("$[?(@ >= 2)]").get(JSONUtil.parseArray("[1,2,3,\"4\"]"));
+		assertEquals(ListUtil.of(2, 3), numbers);
+	}
+
+	@Test
+	public void descendantOrderTest() {
+		final String json = "{\"a\":{\"b\":1},\"c\":2}";
+		// 先序：匹配的节点在其后代之前
+		final List<Object> expected = ListUtil.of(JSONUtil.parseObj("{\"b\":1}"), 1, 2);
+		assertEquals(expected, JSONPath.of("$..*").get(JSONUtil.parseObj(json)));
+		assertEquals(expected, JSONPath.of("$..*").extract(json));
+
+		final String nested = "{\"a\":{\"a\":{\"y\":2,\"b\":[3]},\"y\":1,\"b\":4},\"x\":[{\"y\":5},[{\"y\":6}]]}";
+		for (String expression : new String[]{"$..*", "$..a.y", "$..a..b", "$..a..b[0]", "$..y", "$..[0].y", "$..[-1]", "$..x[::-1]..y", "$..[?(@.y)].y"}) {
+			final JSONPath path = JSONPath.of(expression);
+			assertEquals(path.get(JSONUtil.parseObj(nested)), path.extract(nested), expression);
+		}
+		// 匹配到外层a后先计算后续路径
+		assertEquals(ListUtil.of(1, 2), JSONPath.of("$..a.y").extract(nested));
+		// 多个..时同一节点可经不同路线重复匹配
+		assertEquals(ListUtil.of(JSONUtil.parseArray("[3]"), 4, JSONUtil.parseArray("[3]")), JSONPath.of("$..a..b").extract(nested));
+	}
+
+	@Test
+	public void multiPathTest() {
+		final Object[] values = JSONPath.extract(STORE, JSONPath.of("$.expensive"), JSONPath.of("$.store.bicycle.color"),
+				JSONPath.of("$.store.book[1].title"), JSONPath.of("$..isbn"), JSONPath.of("$.none"));
+		assertArrayEquals(new Object[]{10, "red", "Sword of Honour", ListUtil.of("0-553-21311-3", "0-395-19395-8"), null}, values);
+	}
+
+	@Test
+	public void earlyStopTest() {
+		// 确定路径找到后不再解析后面的内容
+		final String json = "{\"id\":1,\"user\":{\"name\":\"looly\"},\"rest\":[1,2,";
+		final Object[] values = JSONPath.extract(json, JSONPath.of("$.id"), JSONPath.of("$.user.name"));
+		assertArrayEquals(new Object[]{1, "looly"}, values);
+		assertThrows(JSONException.class, () -> JSONPath.extract(json, JSONPath.of("$.id"), JSONPath.of("$.none")));
+	}
+
+	@Test
+	public void streamReaderTest() {
+		final JSONPath id = JSONPath.of("$.id");
+		final JSONPath name = JSONPath.of("$.user.name");
+		try (final JSONStreamReader reader = new JSONStreamReader("{\"id\":1,\"user\":{\"name\":\"a\"},\"x\":[[1]]}\n{\"id\":2}\n{\"user\":{\"name\":\"c\"}}", null)) {
+			assertArrayEquals(new Object[]{1, "a"}, JSONPath.extract(reader, id, name));
+			// 提前找到后跳过剩余部分，reader停留在第一个值的结尾
+			assertEquals(JSONToken.END_OBJECT, reader.current());
+			assertEquals(0, reader.getDepth());
+
+			reader.next();
+			assertArrayEquals(new Object[]{2, null}, JSONPath.extract(reader, id, name));
+			reader.next();
+			assertArrayEquals(new Object[]{null, "c"}, JSONPath.extract(reader, id, name));
+			assertNull(reader.next());
+		}
+	}
+
+	@Test
+	public void cacheTest() {
+		final JSONPath path = JSONPath.of("$.store.book[0]");
+		assertSame(path, JSONPath.of("$.store.book[0]"));
+		assertEquals("$.store.book[0]", path.toString());
+		assertEquals("Nigel Rees", JSONUtil.extractByPath(STORE, "$.store.book[0].author"));
+
+		// getByPath使用缓存的BeanPath，结果不变
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		assertEquals("Nigel Rees", json.getByPath("store.book[0].author"));
+		assertEquals("Nigel Rees", json.getByPath("store.book[0].author"));
+	}
+
+	@Test
+	public void badExpressionTest() {
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[0"));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a."));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.."));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[]"));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[::0]"));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[?(@.b ==)]"));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[?(@..b > 1)]"));
+		assertThrows(JSONException.class, () -> JSONPath.of("$.a[?@.b]"));
+		// Java数字写法不是合法的JSON数字
+		for (String literal : new String[]{"10L", "1.5d", "0x1F", "1.2.3"}) {
+			final JSONException e = assertThrows(JSONException.class, () -> JSONPath.of("$.a[?(@.b == " + literal + ")]"));
+			assertTrue(e.getMessage().contains("Bad literal"), e.getMessage());
+		}
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StringBuilder sb = new StringBuilder("{\"id\":12345,\"meta\":{\"level\":\"INFO\",\"host\":\"web-01\"},\"events\":[");
+		for (int i = 0; i < 400; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"seq\":").append(i).append(",\"msg\":\"").append(StrUtil.repeat("x", 80)).append("\",\"tags\":[\"a\",\"b\"]}");
+		}
+		final String json = sb.append("],\"trace\":\"abc\"}").toString();
+		Console.log("JSON size: {}", json.length());
+
+		final JSONPath id = JSONPath.of("$.id");
+		final JSONPath host = JSONPath.of("$.meta.host");
+		final JSONPath trace = JSONPath.of("$.trace");
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("parseObj + getByPath " + round);
+			for (int i = 0; i < 5_000; i++) {
+				final JSONObject obj = JSONUtil.parseObj(json);
+				obj.getByPath("id");
+				obj.getByPath("meta.host");
+				obj.getByPath("trace");
+			}
+			stopWatch.stop();
+
+			stopWatch.start("JSONPath.extract " + round);
+			for (int i = 0; i < 5_000; i++) {
+				JSONPath.extract(json, id, host, trace);
+			}
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
 }
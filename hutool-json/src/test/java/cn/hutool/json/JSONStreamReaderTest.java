@@ -0,0 +1,222 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.StrUtil;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONStreamReaderTest {
+
+	@Test
+	public void tokenTest() {
+		final String json = "{\"a\":1,\"b\":[true,false,null],\"c\":{\"d\":\"x\\ty\"},\"e\":-1.5e3}";
+		final List<JSONToken> tokens = new ArrayList<>();
+		try (JSONStreamReader reader = new JSONStreamReader(json, null)) {
+			JSONToken token;
+			while (null != (token = reader.next())) {
+				tokens.add(token);
+				if (JSONToken.VALUE_STRING == token) {
+					assertEquals("x\ty", reader.getString());
+					assertEquals("d", reader.getCurrentName());
+				} else if (JSONToken.VALUE_NUMBER == token && "e".equals(reader.getCurrentName())) {
+					assertEquals(new BigDecimal("-1.5e3"), reader.getNumber());
+					assertEquals(-1500D, reader.getDouble());
+				}
+			}
+		}
+
+		assertEquals("[START_OBJECT, FIELD_NAME, VALUE_NUMBER, FIELD_NAME, START_ARRAY, VALUE_TRUE, VALUE_FALSE, VALUE_NULL, END_ARRAY, " +
+				"FIELD_NAME, START_OBJECT, FIELD_NAME, VALUE_STRING, END_OBJECT, FIELD_NAME, VALUE_NUMBER, END_OBJECT]", tokens.toString());
+	}
+
+	@Test
+	public void numberSameAsTreeTest() {
+		// 非规范数字与树形解析结果一致
+		final String[] literals = {"0", "-0", "0123", "-0123", "1", "-1", "2147483648", "-9223372036854775808",
+				"9223372036854775808", "12345678901234567890", "1.50", "-0.0", "1e5", "1E-2", "00.5", "1.5.3", "1-2"};
+		for (final String literal : literals) {
+			final String json = "[" + literal + "]";
+			final Object expected = JSONUtil.parseArray(json).get(0);
+
+			final JSONStreamReader reader = new JSONStreamReader(json, null);
+			reader.next();
+			final JSONToken token = reader.next();
+			final Object actual = (JSONToken.VALUE_NUMBER == token) ? reader.getNumber() : reader.getString();
+			assertEquals(expected, actual, literal);
+			assertEquals(expected.getClass(), actual.getClass(), literal);
+
+			final JSONStreamReader valueReader = new JSONStreamReader(json, null);
+			valueReader.next();
+			assertEquals(expected, ((JSONArray) valueReader.readValue()).get(0), literal);
+		}
+	}
+
+	@Test
+	public void lenientTest() {
+		// 单引号、无引号的键、尾后逗号，与JSONTokener一致
+		final JSONStreamReader reader = new JSONStreamReader("{'a': 'b', c: 12,}", null);
+		reader.next();
+		final JSONObject jsonObject = (JSONObject) reader.readValue();
+		assertEquals("b", jsonObject.getStr("a"));
+		assertEquals(12, jsonObject.getInt("c"));
+		assertNull(reader.next());
+	}
+
+	@Test
+	public void skipChildrenTest() {
+		final String json = "{\"skip\":{\"a\":[1,2,{\"b\":\"\\\"}\"}]},\"keep\":\"value\"}";
+		final JSONStreamReader reader = new JSONStreamReader(new StringReader(json), null);
+		assertEquals(JSONToken.START_OBJECT, reader.next());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals(JSONToken.START_OBJECT, reader.next());
+		reader.skipChildren();
+		assertEquals(JSONToken.END_OBJECT, reader.current());
+		assertEquals(1, reader.getDepth());
+
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("keep", reader.getString());
+		assertEquals(JSONToken.VALUE_STRING, reader.next());
+		assertEquals("value", reader.getString());
+	}
+
+	@Test
+	public void skipLiteralTest() {
+		// 跳过的字面量和无引号键不构建字符串，但仍检查语法
+		final String json = "{\"skip\":[1, -2.5e3, true, NULL, abc, {k:v}],\"keep\":12}";
+		final JSONStreamReader reader = new JSONStreamReader(json, null);
+		assertEquals(JSONToken.START_OBJECT, reader.next());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals(JSONToken.START_ARRAY, reader.next());
+		reader.skipChildren();
+		assertEquals(JSONToken.END_ARRAY, reader.current());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("keep", reader.getString());
+		assertEquals(JSONToken.VALUE_NUMBER, reader.next());
+		assertEquals(12, reader.getNumber());
+
+		final JSONStreamReader bad = new JSONStreamReader("[[1,,2]]", null);
+		bad.next();
+		bad.next();
+		assertThrows(JSONException.class, bad::skipChildren);
+	}
+
+	@Test
+	public void readValueAsTest() {
+		final String json = "{\"total\":2,\"items\":[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2}]}";
+		final JSONStreamReader reader = new JSONStreamReader(json, null);
+		final List<User> users = new ArrayList<>();
+		JSONToken token;
+		while (null != (token = reader.next())) {
+			if (JSONToken.FIELD_NAME == token && "items".equals(reader.getString())) {
+				reader.next();
+				while (JSONToken.START_OBJECT == reader.next()) {
+					users.add(reader.readValueAs(User.class));
+				}
+			}
+		}
+		assertEquals(2, users.size());
+		assertEquals("b", users.get(1).getName());
+		assertEquals(2, users.get(1).getAge());
+	}
+
+	@Test
+	public void readValueTest() {
+		final String json = "{\"a\":{\"b\":[1,2,3]},\"c\":12345678901}";
+		final JSONStreamReader reader = new JSONStreamReader(json, null);
+		reader.next();
+		assertEquals(JSONUtil.parseObj(json), reader.readValue());
+		assertEquals(JSONToken.END_OBJECT, reader.current());
+	}
+
+	@Test
+	public void multiRootTest() {
+		final JSONStreamReader reader = new JSONStreamReader("{\"a\":1}\n{\"a\":2}\n[3]", null);
+		int count = 0;
+		while (null != reader.next()) {
+			reader.readValue();
+			count++;
+		}
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void largeStringTest() {
+		// 字符串跨越多个缓冲
+		final String value = StrUtil.repeat("abc\\n", 10000);
+		final JSONStreamReader reader = new JSONStreamReader(new StringReader("[\"" + value + "\"]"), null);
+		reader.next();
+		assertEquals(JSONToken.VALUE_STRING, reader.next());
+		assertEquals(StrUtil.repeat("abc\n", 10000), reader.getString());
+	}
+
+	@Test
+	public void errorTest() {
+		assertThrows(JSONException.class, () -> {
+			final JSONStreamReader reader = new JSONStreamReader("{\"a\" 1}", null);
+			while (null != reader.next()) {
+				// do nothing
+			}
+		});
+		assertThrows(JSONException.class, () -> {
+			final JSONStreamReader reader = new JSONStreamReader("[1,2", null);
+			while (null != reader.next()) {
+				// do nothing
+			}
+		});
+		assertFalse(JSONToken.START_ARRAY.isScalarValue());
+		assertTrue(JSONToken.VALUE_NULL.isScalarValue());
+	}
+
+	@Test
+	@Disabled
+	public void benchmarkTest() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 200_000; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"id\":").append(i).append(",\"name\":\"name-").append(i).append("\",\"score\":").append(i * 0.5)
+					.append(",\"tags\":[\"a\",\"b\"],\"active\":true}");
+		}
+		final String json = sb.append(']').toString();
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("JSONUtil.parseArray " + round);
+			JSONUtil.parseArray(json);
+			stopWatch.stop();
+
+			stopWatch.start("JSONStreamReader " + round);
+			final JSONStreamReader reader = new JSONStreamReader(new StringReader(json), null);
+			long sum = 0;
+			JSONToken token;
+			while (null != (token = reader.next())) {
+				if (JSONToken.VALUE_NUMBER == token && "id".equals(reader.getCurrentName())) {
+					sum += reader.getLong();
+				}
+			}
+			stopWatch.stop();
+			Console.log(sum);
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	@Data
+	public static class User {
+		private String name;
+		private int age;
+	}
+}